@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.AnimationSampler;
+import de.ralleytn.simple.vecmath.AnimationTrack;
+import de.ralleytn.simple.vecmath.AnimationTrack.Interpolation;
+import de.ralleytn.simple.vecmath.Quaternion;
+
+/**
+ * Samples many rotation tracks at one time that moves forward with every invocation, like a playing animation.
+ * The {@code objects} benchmark is the way it was done before {@linkplain AnimationSampler} existed:
+ * a binary search for every track and {@linkplain Quaternion#interpolate(Quaternion, double)}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimationBenchmark {
+
+	private static final int KEYFRAMES = 64;
+	private static final float STEP = 1.0F / 60.0F;
+
+	@Param({"1000"})
+	private int tracks;
+
+	private float[] times;
+	private Quaternion[][] objects;
+	private Quaternion[] objectResults;
+	private AnimationSampler nlerp;
+	private AnimationSampler slerp;
+	private float[] values;
+	private float time;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		AnimationTrack[] nlerpTracks = new AnimationTrack[this.tracks];
+		AnimationTrack[] slerpTracks = new AnimationTrack[this.tracks];
+		this.times = new float[KEYFRAMES];
+		this.objects = new Quaternion[this.tracks][KEYFRAMES];
+		this.objectResults = new Quaternion[this.tracks];
+		this.values = new float[this.tracks * 4];
+
+		for(int key = 0; key < KEYFRAMES; key++) {
+
+			this.times[key] = key * 0.25F;
+		}
+
+		for(int track = 0; track < this.tracks; track++) {
+
+			float[] values = new float[KEYFRAMES * 4];
+
+			for(int key = 0; key < KEYFRAMES; key++) {
+
+				Quaternion rotation = new Quaternion(random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, random.nextFloat() - 0.5F).normalize();
+				this.objects[track][key] = rotation;
+				System.arraycopy(rotation.toArray(), 0, values, key * 4, 4);
+			}
+
+			this.objectResults[track] = new Quaternion();
+			nlerpTracks[track] = new AnimationTrack(this.times, values, 4, Interpolation.NLERP);
+			slerpTracks[track] = new AnimationTrack(this.times, values, 4, Interpolation.SLERP);
+		}
+
+		this.nlerp = new AnimationSampler(nlerpTracks);
+		this.slerp = new AnimationSampler(slerpTracks);
+	}
+
+	private final float advance() {
+
+		this.time += STEP;
+
+		if(this.time >= this.times[KEYFRAMES - 1]) {
+
+			this.time = 0.0F;
+		}
+
+		return this.time;
+	}
+
+	@Benchmark
+	public Quaternion[] objects() {
+
+		float time = this.advance();
+		int found = Arrays.binarySearch(this.times, time);
+		int key = found >= 0 ? found : -found - 2;
+		double alpha = (time - this.times[key]) / (this.times[key + 1] - this.times[key]);
+
+		for(int track = 0; track < this.tracks; track++) {
+
+			Quaternion result = this.objectResults[track];
+			result.set(this.objects[track][key]);
+			result.interpolate(this.objects[track][key + 1], alpha);
+		}
+
+		return this.objectResults;
+	}
+
+	@Benchmark
+	public float[] nlerp() {
+
+		this.nlerp.sampleAll(this.advance(), this.values, 0);
+		return this.values;
+	}
+
+	@Benchmark
+	public float[] slerp() {
+
+		this.slerp.sampleAll(this.advance(), this.values, 0);
+		return this.values;
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.BVH;
+import de.ralleytn.simple.vecmath.Ray;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Casts 4096 rays against a height field with 131072 triangles.
+ * The {@code bruteForce} benchmark is the way it was done before {@linkplain BVH} existed:
+ * every ray is tested against every triangle as {@linkplain Vector3}s, it only casts the first 16 rays because it is so slow.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BVHBenchmark {
+
+	private static final int BRUTE_FORCE_RAYS = 16;
+
+	@Param({"256"})
+	private int size;
+
+	@Param({"4096"})
+	private int rays;
+
+	private ForkJoinPool pool;
+	private float[] positions;
+	private int[] indices;
+	private Vector3[] corners;
+	private BVH bvh;
+	private float[] packedRays;
+	private Ray[] rayObjects;
+	private float[] hits;
+	private int[] triangles;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		this.positions = new float[(this.size + 1) * (this.size + 1) * 3];
+		this.indices = new int[this.size * this.size * 6];
+
+		for(int z = 0, vertex = 0; z <= this.size; z++) {
+
+			for(int x = 0; x <= this.size; x++, vertex++) {
+
+				this.positions[vertex * 3]     = x;
+				this.positions[vertex * 3 + 1] = (float)(Math.sin(x * 0.1) * Math.cos(z * 0.1) * 10.0) + random.nextFloat();
+				this.positions[vertex * 3 + 2] = z;
+			}
+		}
+
+		for(int z = 0, index = 0; z < this.size; z++) {
+
+			for(int x = 0; x < this.size; x++) {
+
+				int corner = z * (this.size + 1) + x;
+				this.indices[index++] = corner;
+				this.indices[index++] = corner + this.size + 1;
+				this.indices[index++] = corner + 1;
+				this.indices[index++] = corner + 1;
+				this.indices[index++] = corner + this.size + 1;
+				this.indices[index++] = corner + this.size + 2;
+			}
+		}
+
+		this.corners = new Vector3[this.indices.length];
+
+		for(int index = 0; index < this.indices.length; index++) {
+
+			int vertex = this.indices[index] * 3;
+			this.corners[index] = new Vector3(this.positions[vertex], this.positions[vertex + 1], this.positions[vertex + 2]);
+		}
+
+		this.bvh = new BVH(this.positions, this.indices);
+		this.packedRays = new float[this.rays * 6];
+		this.rayObjects = new Ray[this.rays];
+		this.hits = new float[this.rays * 3];
+		this.triangles = new int[this.rays];
+
+		// rays from above the terrain that look down at an angle
+		for(int ray = 0; ray < this.rays; ray++) {
+
+			Vector3 origin = new Vector3(random.nextFloat() * this.size, 30.0F, random.nextFloat() * this.size);
+			Vector3 direction = new Vector3(random.nextFloat() - 0.5F, -1.0F, random.nextFloat() - 0.5F);
+			this.rayObjects[ray] = new Ray(origin, direction);
+			this.packedRays[ray * 6]     = origin.x;
+			this.packedRays[ray * 6 + 1] = origin.y;
+			this.packedRays[ray * 6 + 2] = origin.z;
+			this.packedRays[ray * 6 + 3] = direction.x;
+			this.packedRays[ray * 6 + 4] = direction.y;
+			this.packedRays[ray * 6 + 5] = direction.z;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		this.pool.shutdown();
+	}
+
+	@Benchmark
+	public int[] bruteForce() {
+
+		for(int ray = 0; ray < BRUTE_FORCE_RAYS; ray++) {
+
+			float closest = Float.POSITIVE_INFINITY;
+			int hit = -1;
+
+			for(int corner = 0; corner < this.corners.length; corner += 3) {
+
+				float distance = this.rayObjects[ray].intersect(this.corners[corner], this.corners[corner + 1], this.corners[corner + 2]);
+
+				if(distance < closest) {
+
+					closest = distance;
+					hit = corner / 3;
+				}
+			}
+
+			this.triangles[ray] = hit;
+		}
+
+		return this.triangles;
+	}
+
+	@Benchmark
+	public int[] bvh() {
+
+		this.bvh.raycast(this.packedRays, 0, this.hits, 0, this.triangles, 0, this.rays);
+		return this.triangles;
+	}
+
+	@Benchmark
+	public int[] bvhParallel() {
+
+		this.bvh.raycast(this.packedRays, 0, this.hits, 0, this.triangles, 0, this.rays, this.pool);
+		return this.triangles;
+	}
+
+	@Benchmark
+	public float[] bvhRays() {
+
+		for(int ray = 0; ray < this.rays; ray++) {
+
+			this.triangles[ray] = this.bvh.raycast(this.rayObjects[ray], this.hits);
+		}
+
+		return this.hits;
+	}
+
+	@Benchmark
+	public BVH build() {
+
+		return new BVH(this.positions, this.indices);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Entry point of the benchmark JAR.
+ * Accepts the same arguments as {@linkplain Main} and attaches the GC profiler unless another profiler was requested.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {}
+
+	/**
+	 * Runs the benchmarks.
+	 * @param args JMH command line arguments, for example a regular expression that selects the benchmarks
+	 * @throws Exception if JMH failed
+	 * @since 1.1.0
+	 */
+	public static final void main(String[] args) throws Exception {
+
+		if(Arrays.asList(args).contains("-prof")) {
+
+			Main.main(args);
+
+		} else {
+
+			// the command line is kept intact, only the GC profiler is added so that every run reports gc.alloc.rate.norm
+			String[] arguments = Arrays.copyOf(args, args.length + 2);
+			arguments[args.length] = "-prof";
+			arguments[args.length + 1] = "gc";
+			Main.main(arguments);
+		}
+	}
+}
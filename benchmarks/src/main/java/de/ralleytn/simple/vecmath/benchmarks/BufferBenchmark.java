@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Writes 1024 matrices into a direct buffer with the native byte order, the way they would be uploaded to the GPU.
+ * The {@code toArray} benchmark is the way it was done before the buffer methods existed.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferBenchmark {
+
+	private static final int MATRICES = 1024;
+
+	private Matrix4[] matrices;
+	private ByteBuffer bytes;
+	private FloatBuffer floats;
+
+	@Setup
+	public void setup() {
+
+		this.matrices = new Matrix4[MATRICES];
+		this.bytes = ByteBuffer.allocateDirect(MATRICES * 64).order(ByteOrder.nativeOrder());
+		this.floats = this.bytes.asFloatBuffer();
+
+		for(int index = 0; index < MATRICES; index++) {
+
+			this.matrices[index] = new Matrix4().translate(new Vector3(index, 1, 2)).rotate(index * 0.01F, Axis.Y);
+		}
+	}
+
+	@Benchmark
+	public FloatBuffer toArray() {
+
+		this.floats.clear();
+
+		for(Matrix4 matrix : this.matrices) {
+
+			this.floats.put(matrix.toArray());
+		}
+
+		return this.floats;
+	}
+
+	@Benchmark
+	public FloatBuffer getFloatBuffer() {
+
+		for(int index = 0; index < MATRICES; index++) {
+
+			this.floats.position(index * 16);
+			this.matrices[index].get(this.floats);
+		}
+
+		return this.floats;
+	}
+
+	@Benchmark
+	public ByteBuffer getByteBuffer() {
+
+		for(int index = 0; index < MATRICES; index++) {
+
+			this.matrices[index].get(this.bytes, index * 64);
+		}
+
+		return this.bytes;
+	}
+}
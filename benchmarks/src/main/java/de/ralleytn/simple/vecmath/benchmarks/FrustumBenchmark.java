@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.Frustum;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Culls 500000 bounding boxes against the frustum of a camera.
+ * The {@code corners} benchmark is the way it was done before {@linkplain Frustum} existed:
+ * the 8 corners of every box are transformed into clip space with {@linkplain Matrix4#transform(Vector4)}, which allocates a {@linkplain Vector4} per corner,
+ * and a box is invisible if all of its corners are outside of the same plane.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrustumBenchmark {
+
+	@Param({"500000"})
+	private int objects;
+
+	private ForkJoinPool pool;
+	private Matrix4 viewProjection;
+	private Frustum frustum;
+	private float[] x;
+	private float[] y;
+	private float[] z;
+	private float[] radii;
+	private float[] maxX;
+	private float[] maxY;
+	private float[] maxZ;
+	private long[] visible;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		float near = 0.1F;
+		float far = 500.0F;
+		Matrix4 projection = new Matrix4(new float[] {
+			1.0F / 1.78F, 0, 0, 0,
+			0, 1, 0, 0,
+			0, 0, (far + near) / (near - far), -1,
+			0, 0, 2.0F * far * near / (near - far), 0
+		});
+
+		this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		this.viewProjection = projection.multiply(new Matrix4().rotate(0.7F, Axis.Y).translate(new Vector3(-10, -2, 30)));
+		this.frustum = new Frustum(this.viewProjection);
+		this.x = new float[this.objects];
+		this.y = new float[this.objects];
+		this.z = new float[this.objects];
+		this.radii = new float[this.objects];
+		this.maxX = new float[this.objects];
+		this.maxY = new float[this.objects];
+		this.maxZ = new float[this.objects];
+		this.visible = new long[(this.objects + 63) / 64];
+
+		for(int index = 0; index < this.objects; index++) {
+
+			float size = random.nextFloat() * 4.0F;
+			this.x[index] = random.nextFloat() * 1000.0F - 500.0F;
+			this.y[index] = random.nextFloat() * 100.0F - 50.0F;
+			this.z[index] = random.nextFloat() * 1000.0F - 500.0F;
+			this.radii[index] = size;
+			this.maxX[index] = this.x[index] + size;
+			this.maxY[index] = this.y[index] + size;
+			this.maxZ[index] = this.z[index] + size;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		this.pool.shutdown();
+	}
+
+	@Benchmark
+	public long[] corners() {
+
+		for(int index = 0; index < this.objects; index++) {
+
+			// one bit per plane, a plane is cleared as soon as one corner is inside of it
+			int outside = 0x3F;
+
+			for(int corner = 0; corner < 8; corner++) {
+
+				Vector4 clip = this.viewProjection.transform(new Vector4((corner & 1) == 0 ? this.x[index] : this.maxX[index],
+																		 (corner & 2) == 0 ? this.y[index] : this.maxY[index],
+																		 (corner & 4) == 0 ? this.z[index] : this.maxZ[index], 1.0F));
+				outside &= (clip.x < -clip.w ? 1 : 0) | (clip.x > clip.w ? 2 : 0) | (clip.y < -clip.w ? 4 : 0) |
+						   (clip.y > clip.w ? 8 : 0) | (clip.z < -clip.w ? 16 : 0) | (clip.z > clip.w ? 32 : 0);
+			}
+
+			if(outside == 0) {
+
+				this.visible[index >>> 6] |= 1L << index;
+
+			} else {
+
+				this.visible[index >>> 6] &= ~(1L << index);
+			}
+		}
+
+		return this.visible;
+	}
+
+	@Benchmark
+	public long[] boxes() {
+
+		this.frustum.cullBoxes(this.x, this.y, this.z, this.maxX, this.maxY, this.maxZ, 0, this.visible, this.objects);
+		return this.visible;
+	}
+
+	@Benchmark
+	public long[] boxesParallel() {
+
+		this.frustum.cullBoxes(this.x, this.y, this.z, this.maxX, this.maxY, this.maxZ, 0, this.visible, this.objects, this.pool);
+		return this.visible;
+	}
+
+	@Benchmark
+	public long[] spheres() {
+
+		this.frustum.cullSpheres(this.x, this.y, this.z, this.radii, 0, this.visible, this.objects);
+		return this.visible;
+	}
+
+	@Benchmark
+	public long[] spheresParallel() {
+
+		this.frustum.cullSpheres(this.x, this.y, this.z, this.radii, 0, this.visible, this.objects, this.pool);
+		return this.visible;
+	}
+
+	@Benchmark
+	public Frustum extract() {
+
+		return this.frustum.set(this.viewProjection);
+	}
+}
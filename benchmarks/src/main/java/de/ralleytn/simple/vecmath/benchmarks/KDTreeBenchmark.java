@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.KDTree;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Searches the 8 nearest neighbors of 3D points.
+ * The {@code bruteForce} benchmark is the way it was done before {@linkplain KDTree} existed:
+ * the distance to every {@linkplain Vector3} is computed and the 8 smallest are kept.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KDTreeBenchmark {
+
+	private static final int K = 8;
+
+	@Param({"100000"})
+	private int points;
+
+	private ForkJoinPool pool;
+	private float[] coordinates;
+	private Vector3[] vectors;
+	private KDTree tree;
+	private Vector3 query;
+	private int[] indices;
+	private float[] distances;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		this.coordinates = new float[this.points * 3];
+		this.vectors = new Vector3[this.points];
+
+		for(int index = 0; index < this.points; index++) {
+
+			this.vectors[index] = new Vector3(random.nextFloat() * 100.0F, random.nextFloat() * 100.0F, random.nextFloat() * 100.0F);
+			this.coordinates[index * 3]     = this.vectors[index].x;
+			this.coordinates[index * 3 + 1] = this.vectors[index].y;
+			this.coordinates[index * 3 + 2] = this.vectors[index].z;
+		}
+
+		this.tree = new KDTree(this.coordinates, 0, this.points, 3);
+		this.query = new Vector3(50, 50, 50);
+		this.indices = new int[K];
+		this.distances = new float[K];
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		this.pool.shutdown();
+	}
+
+	@Benchmark
+	public int[] bruteForce() {
+
+		Arrays.fill(this.distances, Float.POSITIVE_INFINITY);
+
+		for(int index = 0; index < this.points; index++) {
+
+			float distance = this.vectors[index].distanceSquared(this.query);
+
+			if(distance < this.distances[K - 1]) {
+
+				int position = K - 1;
+
+				while(position > 0 && this.distances[position - 1] > distance) {
+
+					this.distances[position] = this.distances[position - 1];
+					this.indices[position] = this.indices[position - 1];
+					position--;
+				}
+
+				this.distances[position] = distance;
+				this.indices[position] = index;
+			}
+		}
+
+		return this.indices;
+	}
+
+	@Benchmark
+	public int[] tree() {
+
+		this.tree.nearest(this.query, K, this.indices, this.distances);
+		return this.indices;
+	}
+
+	@Benchmark
+	public int nearest() {
+
+		return this.tree.nearest(this.query);
+	}
+
+	@Benchmark
+	public KDTree build() {
+
+		return new KDTree(this.coordinates, 0, this.points, 3);
+	}
+
+	@Benchmark
+	public KDTree buildParallel() {
+
+		return new KDTree(this.coordinates, 0, this.points, 3, this.pool);
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.MathArena;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Calculates a chain of temporary values once with {@code copy()} and once with a {@linkplain MathArena}.
+ * The results are stored in fields, so that the JIT cannot remove the copies by escape analysis.
+ * Should be run with {@code -prof gc} to see the allocation rates.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MathArenaBenchmark {
+
+	private Vector3 position = new Vector3(1, 2, 3);
+	private Vector3 target = new Vector3(4, -5, 6);
+	private Matrix4 transform = new Matrix4().rotate(0.5F, Axis.Y);
+	private Matrix4 result = new Matrix4();
+	private Vector3 direction;
+	private Matrix4 translation;
+
+	@Benchmark
+	public Matrix4 copies() {
+
+		this.direction = this.target.copy().subtract(this.position).normalize();
+		this.translation = new Matrix4().translate(this.direction);
+		this.result.set(this.transform.copy().multiply(this.translation));
+		return this.result;
+	}
+
+	@Benchmark
+	public Matrix4 arena() {
+
+		try(MathArena arena = MathArena.open()) {
+
+			this.direction = arena.vector3(this.target).subtract(this.position).normalize();
+			this.translation = arena.matrix4().translate(this.direction);
+			this.result.set(arena.matrix4(this.transform).multiply(this.translation));
+		}
+
+		return this.result;
+	}
+}
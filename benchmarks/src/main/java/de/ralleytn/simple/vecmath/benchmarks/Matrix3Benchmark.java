@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Benchmarks the methods of the {@linkplain Matrix3} class.
+ * Methods that manipulate the instance reset it first so that the values cannot drift into denormals.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix3Benchmark {
+
+	private final Matrix3 a = new Matrix3(new float[] {2.0F, 0.5F, 0.0F, -1.0F, 3.0F, 0.25F, 0.0F, 1.0F, 1.5F});
+	private final Matrix3 b = new Matrix3(new float[] {1.0F, 0.0F, 2.0F, 0.5F, 1.0F, 0.0F, 0.0F, -0.5F, 1.0F});
+	private final Matrix3 result = new Matrix3();
+	private final Vector3 vector = new Vector3(1.5F, -2.0F, 0.5F);
+
+	@Benchmark public float determinant() { return this.a.determinant(); }
+	@Benchmark public Vector3 transform() { return this.a.transform(this.vector); }
+	@Benchmark public Matrix3 copy() { return this.a.copy(); }
+	@Benchmark public Matrix4 toMatrix4() { return this.a.toMatrix4(); }
+	@Benchmark public float[] toArray() { return this.a.toArray(); }
+	@Benchmark public Matrix3 identity() { return this.result.identity(); }
+	@Benchmark public Matrix3 zero() { return this.result.zero(); }
+
+	@Benchmark
+	public Matrix3 add() {
+
+		this.result.set(this.a);
+		return this.result.add(this.b);
+	}
+
+	@Benchmark
+	public Matrix3 subtract() {
+
+		this.result.set(this.a);
+		return this.result.subtract(this.b);
+	}
+
+	@Benchmark
+	public Matrix3 multiply() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.b);
+	}
+
+	@Benchmark
+	public Matrix3 invert() {
+
+		this.result.set(this.a);
+		return this.result.invert();
+	}
+
+	@Benchmark
+	public Matrix3 negate() {
+
+		this.result.set(this.a);
+		return this.result.negate();
+	}
+
+	@Benchmark
+	public Matrix3 transpose() {
+
+		this.result.set(this.a);
+		return this.result.transpose();
+	}
+}
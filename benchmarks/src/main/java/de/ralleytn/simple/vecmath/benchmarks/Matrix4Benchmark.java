@@ -0,0 +1,288 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Benchmarks the methods of the {@linkplain Matrix4} class.
+ * Methods that manipulate the instance reset it first so that the values cannot drift into denormals.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4Benchmark {
+
+	private final Matrix4 a = new Matrix4();
+	private final Matrix4 b = new Matrix4();
+	private final Matrix4 projective = new Matrix4();
+	private final Matrix4 translation = new Matrix4();
+	private final Matrix4 general = new Matrix4();
+	private final Matrix4 result = new Matrix4();
+	private final Vector3 vector3 = new Vector3(1.5F, -2.0F, 0.5F);
+	private final Vector4 vector4 = new Vector4(1.5F, -2.0F, 0.5F, 1.0F);
+	private final Vector3 scale = new Vector3(2.0F, 1.0F, 0.5F);
+	private final Quaternion rotation = new Quaternion();
+	private final Vector3 decomposedTranslation = new Vector3();
+	private final Vector3 decomposedScale = new Vector3();
+	private final Quaternion decomposedRotation = new Quaternion();
+	private final float[] translations = new float[3 * 1024];
+	private final float[] rotations = new float[4 * 1024];
+	private final float[] scales = new float[3 * 1024];
+	private final float[] matrices = new float[16 * 1024];
+	private final float[] points = new float[3 * 1024];
+	private final float[] transformedPoints = new float[3 * 1024];
+
+	@Setup
+	public void setup() {
+
+		this.a.translate(new Vector3(1.0F, 2.0F, 3.0F)).rotate(0.5F, Axis.Y).scale(2.0F);
+		this.b.rotate(new Vector3(0.25F, 0.5F, 0.75F)).translate(new Vector3(-4.0F, 0.0F, 1.0F));
+		this.projective.set(this.a);
+		this.projective.m03 = 0.25F;
+		this.projective.m23 = -1.0F;
+		this.projective.invalidate();
+		this.translation.translate(this.vector3);
+		this.general.set(this.a);
+		this.general.invalidate();
+
+		for(int index = 0; index < this.points.length; index++) {
+
+			this.points[index] = index % 7 - 3.0F;
+		}
+
+		this.rotation.fromMatrix(new Matrix4().rotate(this.vector3));
+
+		for(int index = 0; index < 1024; index++) {
+
+			System.arraycopy(this.points, index * 3, this.translations, index * 3, 3);
+			System.arraycopy(this.rotation.toArray(), 0, this.rotations, index * 4, 4);
+			System.arraycopy(this.scale.toArray(), 0, this.scales, index * 3, 3);
+		}
+
+		Matrix4.fromTranslationRotationScale(this.translations, 0, this.rotations, 0, this.scales, 0, this.matrices, 0, 1024);
+	}
+
+	@Benchmark public float determinant() { return this.a.determinant(); }
+	@Benchmark public Vector4 transform() { return this.a.transform(this.vector4); }
+	@Benchmark public Matrix4 copy() { return this.a.copy(); }
+	@Benchmark public Matrix3 toMatrix3() { return this.a.toMatrix3(); }
+	@Benchmark public float[] toArray() { return this.a.toArray(); }
+	@Benchmark public Matrix4 identity() { return this.result.identity(); }
+	@Benchmark public Matrix4 zero() { return this.result.zero(); }
+
+	@Benchmark
+	public Matrix4 add() {
+
+		this.result.set(this.a);
+		return this.result.add(this.b);
+	}
+
+	@Benchmark
+	public Matrix4 subtract() {
+
+		this.result.set(this.a);
+		return this.result.subtract(this.b);
+	}
+
+	@Benchmark
+	public Matrix4 multiply() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.b);
+	}
+
+	// the same product as multiply() without the knowledge that both matrices are affine
+	@Benchmark
+	public Matrix4 multiplyGeneral() {
+
+		this.result.set(this.general);
+		return this.result.multiply(this.b);
+	}
+
+	@Benchmark
+	public Matrix4 multiplyTranslation() {
+
+		this.result.set(this.translation);
+		return this.result.multiply(this.translation);
+	}
+
+	@Benchmark
+	public Matrix4 multiplyIdentity() {
+
+		this.result.identity();
+		return this.result.multiply(this.a);
+	}
+
+	// a is affine, so invert() takes the affine path, the projective matrix forces the general path
+	@Benchmark
+	public Matrix4 invert() {
+
+		this.result.set(this.a);
+		return this.result.invert();
+	}
+
+	@Benchmark
+	public Matrix4 invertGeneral() {
+
+		this.result.set(this.projective);
+		return this.result.invert();
+	}
+
+	@Benchmark
+	public Matrix4 invertAffine() {
+
+		this.result.set(this.a);
+		return this.result.invertAffine();
+	}
+
+	// b only consists of rotations and a translation
+	@Benchmark
+	public Matrix4 invertRigid() {
+
+		this.result.set(this.b);
+		return this.result.invertRigid();
+	}
+
+	@Benchmark
+	public Matrix4 negate() {
+
+		this.result.set(this.a);
+		return this.result.negate();
+	}
+
+	@Benchmark
+	public Matrix4 transpose() {
+
+		this.result.set(this.a);
+		return this.result.transpose();
+	}
+
+	@Benchmark
+	public Matrix4 translate() {
+
+		this.result.set(this.a);
+		return this.result.translate(this.vector3);
+	}
+
+	@Benchmark
+	public Matrix4 rotateAxis() {
+
+		this.result.set(this.a);
+		return this.result.rotate(0.5F, Axis.Z);
+	}
+
+	@Benchmark
+	public Matrix4 rotateEuler() {
+
+		this.result.set(this.a);
+		return this.result.rotate(this.vector3);
+	}
+
+	@Benchmark
+	public Matrix4 scaleVector() {
+
+		this.result.set(this.a);
+		return this.result.scale(this.vector3);
+	}
+
+	@Benchmark
+	public Matrix4 scaleUniform() {
+
+		this.result.set(this.a);
+		return this.result.scale(1.5F);
+	}
+
+	// the usual way to build a model matrix without quaternions
+	@Benchmark
+	public Matrix4 composeEuler() {
+
+		return this.result.identity().translate(this.vector3).rotate(this.vector3).scale(this.scale);
+	}
+
+	@Benchmark
+	public Matrix4 fromTranslationRotationScale() {
+
+		return this.result.fromTranslationRotationScale(this.vector3, this.rotation, this.scale);
+	}
+
+	@Benchmark
+	public float[] fromTranslationRotationScale1024() {
+
+		Matrix4.fromTranslationRotationScale(this.translations, 0, this.rotations, 0, this.scales, 0, this.matrices, 0, 1024);
+		return this.matrices;
+	}
+
+	@Benchmark
+	public Quaternion decompose() {
+
+		this.a.decompose(this.decomposedTranslation, this.decomposedRotation, this.decomposedScale);
+		return this.decomposedRotation;
+	}
+
+	@Benchmark
+	public float[] decompose1024() {
+
+		Matrix4.decompose(this.matrices, 0, this.translations, 0, this.rotations, 0, this.scales, 0, 1024);
+		return this.rotations;
+	}
+
+	@Benchmark
+	public float[] transformPoints1024() {
+
+		this.a.transformPoints(this.points, 0, 3, this.transformedPoints, 0, 3, 1024);
+		return this.transformedPoints;
+	}
+
+	@Benchmark
+	public float[] transformDirections1024() {
+
+		this.a.transformDirections(this.points, 0, 3, this.transformedPoints, 0, 3, 1024);
+		return this.transformedPoints;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.LUDecomposition;
+import de.ralleytn.simple.vecmath.MatrixN;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Benchmarks the methods of the {@linkplain MatrixN} class.
+ * {@code multiply} works on a copy so that the values stay bounded, the copy is cheap compared to the multiplication.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixNBenchmark {
+
+	@Param({"8", "128", "512", "2000"})
+	private int size;
+
+	private MatrixN matrix;
+	private MatrixN a;
+	private MatrixN b;
+	private VectorN vector;
+	private VectorN result;
+	private LUDecomposition decomposition;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		this.matrix = new MatrixN(this.size, this.size);
+		this.a = new MatrixN(this.size, this.size);
+		this.b = new MatrixN(this.size, this.size);
+		this.vector = new VectorN(this.size);
+		this.result = new VectorN(this.size);
+
+		for(int row = 0; row < this.size; row++) {
+
+			this.vector.set(row, random.nextFloat());
+
+			for(int column = 0; column < this.size; column++) {
+
+				this.a.set(row, column, random.nextFloat());
+				this.b.set(row, column, random.nextFloat());
+			}
+		}
+
+		this.decomposition = new LUDecomposition(this.a);
+	}
+
+	@Benchmark public MatrixN negate() { return this.matrix.negate(); }
+	@Benchmark public MatrixN zero() { return this.matrix.zero(); }
+	@Benchmark public float[] toArray() { return this.matrix.toArray(); }
+	@Benchmark public MatrixN multiply() { return this.a.copy().multiply(this.b); }
+	@Benchmark public VectorN transform() { return this.a.transform(this.vector, this.result); }
+	@Benchmark public LUDecomposition decompose() { return this.decomposition.decompose(this.a); }
+	@Benchmark public VectorN solve() { return this.decomposition.solve(this.vector, this.result); }
+}
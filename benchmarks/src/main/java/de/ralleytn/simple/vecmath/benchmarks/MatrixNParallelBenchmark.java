@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.MatrixN;
+
+/**
+ * Measures how {@linkplain MatrixN#multiply(MatrixN, ForkJoinPool)} scales with the number of threads.
+ * The thread counts should be adjusted to the machine, for example {@code -p threads=1,2,4,8,16,32}.
+ * {@code threads=0} uses all available processors.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatrixNParallelBenchmark {
+
+	@Param({"512", "2000"})
+	private int size;
+
+	@Param({"1", "2", "4", "0"})
+	private int threads;
+
+	private ForkJoinPool pool;
+	private MatrixN a;
+	private MatrixN b;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		this.pool = new ForkJoinPool(this.threads > 0 ? this.threads : Runtime.getRuntime().availableProcessors());
+		this.a = new MatrixN(this.size, this.size);
+		this.b = new MatrixN(this.size, this.size);
+
+		for(int row = 0; row < this.size; row++) {
+
+			for(int column = 0; column < this.size; column++) {
+
+				this.a.set(row, column, random.nextFloat());
+				this.b.set(row, column, random.nextFloat());
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		this.pool.shutdown();
+	}
+
+	@Benchmark
+	public MatrixN multiplySingleThreaded() {
+
+		return this.a.copy().multiply(this.b);
+	}
+
+	@Benchmark
+	public MatrixN multiplyParallel() {
+
+		return this.a.copy().multiply(this.b, this.pool);
+	}
+}
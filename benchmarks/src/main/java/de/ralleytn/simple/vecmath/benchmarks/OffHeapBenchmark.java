@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.MatrixN;
+import de.ralleytn.simple.vecmath.OffHeapMemory;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Compares the operations of {@linkplain VectorN} and {@linkplain MatrixN} on the heap with the same operations on off-heap memory.
+ * The {@code transform} benchmarks score a query against 4096 embeddings, one per row of the matrix.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapBenchmark {
+
+	private static final int ROWS = 4096;
+
+	@Param({"128", "1024"})
+	private int size;
+
+	private OffHeapMemory memory;
+	private VectorN heapA;
+	private VectorN heapB;
+	private VectorN directA;
+	private VectorN directB;
+	private MatrixN heapMatrix;
+	private MatrixN directMatrix;
+	private VectorN heapScores;
+	private VectorN directScores;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(1);
+		this.memory = new OffHeapMemory();
+		this.heapA = new VectorN(this.size);
+		this.heapB = new VectorN(this.size);
+		this.directA = this.memory.allocateVector(this.size);
+		this.directB = this.memory.allocateVector(this.size);
+		this.heapMatrix = new MatrixN(this.size, ROWS);
+		this.directMatrix = this.memory.allocateMatrix(this.size, ROWS);
+		this.heapScores = new VectorN(ROWS);
+		this.directScores = this.memory.allocateVector(ROWS);
+
+		for(int index = 0; index < this.size; index++) {
+
+			float a = random.nextFloat();
+			float b = random.nextFloat();
+			this.heapA.set(index, a);
+			this.heapB.set(index, b);
+			this.directA.set(index, a);
+			this.directB.set(index, b);
+		}
+
+		for(int row = 0; row < ROWS; row++) {
+
+			for(int column = 0; column < this.size; column++) {
+
+				float value = random.nextFloat();
+				this.heapMatrix.set(row, column, value);
+				this.directMatrix.set(row, column, value);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		this.memory.close();
+	}
+
+	@Benchmark
+	public float dotHeap() {
+
+		return this.heapA.dot(this.heapB);
+	}
+
+	@Benchmark
+	public float dotOffHeap() {
+
+		return this.directA.dot(this.directB);
+	}
+
+	@Benchmark
+	public VectorN axpyHeap() {
+
+		return this.heapA.axpy(1.0E-6F, this.heapB);
+	}
+
+	@Benchmark
+	public VectorN axpyOffHeap() {
+
+		return this.directA.axpy(1.0E-6F, this.directB);
+	}
+
+	@Benchmark
+	public VectorN transformHeap() {
+
+		return this.heapMatrix.transform(this.heapA, this.heapScores);
+	}
+
+	@Benchmark
+	public VectorN transformOffHeap() {
+
+		return this.directMatrix.transform(this.directA, this.directScores);
+	}
+}
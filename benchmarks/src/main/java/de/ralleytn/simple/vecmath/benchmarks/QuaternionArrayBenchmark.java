@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.QuaternionArray;
+
+/**
+ * Compares the interpolations of the {@linkplain QuaternionArray} class with loops over {@linkplain Quaternion} instances.
+ * Every benchmark first copies the start rotations into the result, so that the input stays the same.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuaternionArrayBenchmark {
+
+	@Param({"1024", "65536"})
+	private int size;
+
+	private QuaternionArray a;
+	private QuaternionArray b;
+	private QuaternionArray result;
+	private Quaternion[] objectsA;
+	private Quaternion[] objectsB;
+	private Quaternion[] objectsResult;
+	private float[] alpha;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		this.a = new QuaternionArray(this.size);
+		this.b = new QuaternionArray(this.size);
+		this.result = new QuaternionArray(this.size);
+		this.objectsA = new Quaternion[this.size];
+		this.objectsB = new Quaternion[this.size];
+		this.objectsResult = new Quaternion[this.size];
+		this.alpha = new float[this.size];
+
+		for(int index = 0; index < this.size; index++) {
+
+			this.objectsA[index] = new Quaternion(random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, random.nextFloat() - 0.5F).normalize();
+			this.objectsB[index] = new Quaternion(random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, random.nextFloat() - 0.5F).normalize();
+			this.objectsResult[index] = new Quaternion();
+			this.alpha[index] = random.nextFloat();
+			this.a.set(index, this.objectsA[index]);
+			this.b.set(index, this.objectsB[index]);
+		}
+	}
+
+	private final void reset() {
+
+		System.arraycopy(this.a.x, 0, this.result.x, 0, this.size);
+		System.arraycopy(this.a.y, 0, this.result.y, 0, this.size);
+		System.arraycopy(this.a.z, 0, this.result.z, 0, this.size);
+		System.arraycopy(this.a.w, 0, this.result.w, 0, this.size);
+	}
+
+	@Benchmark
+	public Quaternion[] interpolateObjects() {
+
+		for(int index = 0; index < this.size; index++) {
+
+			Quaternion result = this.objectsResult[index];
+			result.set(this.objectsA[index]);
+			result.interpolate(this.objectsB[index], this.alpha[index]);
+		}
+
+		return this.objectsResult;
+	}
+
+	@Benchmark
+	public Quaternion[] fastSlerpObjects() {
+
+		for(int index = 0; index < this.size; index++) {
+
+			Quaternion result = this.objectsResult[index];
+			result.set(this.objectsA[index]);
+			result.fastSlerp(this.objectsB[index], this.alpha[index]);
+		}
+
+		return this.objectsResult;
+	}
+
+	@Benchmark
+	public QuaternionArray nlerpArray() {
+
+		this.reset();
+		return this.result.nlerp(this.b, this.alpha);
+	}
+
+	@Benchmark
+	public QuaternionArray fastSlerpArray() {
+
+		this.reset();
+		return this.result.fastSlerp(this.b, this.alpha);
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector2;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Benchmarks the methods of the {@linkplain Quaternion} class.
+ * Methods that manipulate the instance reset it first so that the values cannot drift into denormals.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuaternionBenchmark {
+
+	private final Quaternion a = new Quaternion(0.0F, 0.38268343F, 0.0F, 0.9238795F);
+	private final Quaternion b = new Quaternion(0.5F, 0.5F, 0.5F, 0.5F);
+	private final Quaternion result = new Quaternion();
+	private final Vector4 axisAngle = new Vector4(0.0F, 1.0F, 0.0F, 0.75F);
+	private final Matrix3 matrix3 = new Matrix3();
+	private final Matrix4 matrix4 = new Matrix4();
+	private final Vector3 vector3 = new Vector3(1.5F, -2.0F, 0.5F);
+	private final Vector3 transformed = new Vector3();
+	private final float[] vectors = new float[3 * 1024];
+	private final float[] transformedVectors = new float[3 * 1024];
+	private final float[] rotations = new float[4 * 1024];
+	private final float[] palette = new float[16 * 1024];
+	private final FloatBuffer paletteBuffer = ByteBuffer.allocateDirect(16 * 1024 * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+
+	@Setup
+	public void setup() {
+
+		for(int index = 0; index < this.vectors.length; index++) {
+
+			this.vectors[index] = index % 7 - 3.0F;
+		}
+
+		for(int index = 0; index < 1024; index++) {
+
+			System.arraycopy((index & 1) == 0 ? this.a.toArray() : this.b.toArray(), 0, this.rotations, index * 4, 4);
+		}
+	}
+
+	@Benchmark public float dot() { return this.a.dot(this.b); }
+	@Benchmark public float lengthSquared() { return this.a.lengthSquared(); }
+	@Benchmark public float length() { return this.a.length(); }
+	@Benchmark public Quaternion copy() { return this.a.copy(); }
+	@Benchmark public float[] toArray() { return this.a.toArray(); }
+	@Benchmark public Vector2 toVector2() { return this.a.toVector2(); }
+	@Benchmark public Vector3 toVector3() { return this.a.toVector3(); }
+	@Benchmark public Vector4 toVector4() { return this.a.toVector4(); }
+	@Benchmark public Quaternion identity() { return this.result.identity(); }
+	@Benchmark public Quaternion fromAxisAngle() { return this.result.fromAxisAngle(this.axisAngle); }
+	@Benchmark public Quaternion fromMatrix3() { return this.result.fromMatrix(this.matrix3); }
+	@Benchmark public Quaternion fromMatrix4() { return this.result.fromMatrix(this.matrix4); }
+
+	@Benchmark public Vector3 transform() { return this.a.transform(this.vector3, this.transformed); }
+
+	@Benchmark
+	public float[] transform1024() {
+
+		this.a.transform(this.vectors, 0, 3, this.transformedVectors, 0, 3, 1024);
+		return this.transformedVectors;
+	}
+
+	@Benchmark
+	public float[] transformEach1024() {
+
+		Quaternion.transform(this.rotations, 0, this.vectors, 0, this.transformedVectors, 0, 1024);
+		return this.transformedVectors;
+	}
+
+	@Benchmark public Matrix3 toMatrix3() { return this.a.toMatrix3(this.matrix3); }
+	@Benchmark public Matrix4 toMatrix4() { return this.a.toMatrix4(this.matrix4); }
+
+	// the translations are taken from the vectors
+	@Benchmark
+	public float[] toMatrices1024() {
+
+		Quaternion.toMatrices(this.rotations, 0, this.vectors, 0, this.palette, 0, 1024);
+		return this.palette;
+	}
+
+	@Benchmark
+	public FloatBuffer toMatricesBuffer1024() {
+
+		Quaternion.toMatrices(this.rotations, 0, this.vectors, 0, this.paletteBuffer, 0, 1024);
+		return this.paletteBuffer;
+	}
+
+	@Benchmark
+	public Quaternion multiply() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.b);
+	}
+
+	@Benchmark
+	public Quaternion multiplyInverse() {
+
+		this.result.set(this.a);
+		return this.result.multiplyInverse(this.b);
+	}
+
+	@Benchmark
+	public Quaternion conjugate() {
+
+		this.result.set(this.a);
+		return this.result.conjugate();
+	}
+
+	@Benchmark
+	public Quaternion inverse() {
+
+		this.result.set(this.a);
+		return this.result.inverse();
+	}
+
+	@Benchmark
+	public Quaternion interpolate() {
+
+		this.result.set(this.a);
+		return this.result.interpolate(this.b, 0.25D);
+	}
+
+	@Benchmark
+	public Quaternion nlerp() {
+
+		this.result.set(this.a);
+		return this.result.nlerp(this.b, 0.25F);
+	}
+
+	@Benchmark
+	public Quaternion fastSlerp() {
+
+		this.result.set(this.a);
+		return this.result.fastSlerp(this.b, 0.25F);
+	}
+
+	@Benchmark
+	public Quaternion scale() {
+
+		this.result.set(this.a);
+		return this.result.scale(1.5F);
+	}
+
+	@Benchmark
+	public Quaternion normalize() {
+
+		this.result.set(this.a);
+		return this.result.normalize();
+	}
+
+	@Benchmark
+	public Quaternion absolute() {
+
+		this.result.set(this.a);
+		return this.result.absolute();
+	}
+
+	@Benchmark
+	public Quaternion clamp() {
+
+		this.result.set(this.a);
+		return this.result.clamp(-0.5F, 0.5F);
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Skinning;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Skins a mesh with 4 bones per vertex and 64 bones.
+ * The {@code vectors} benchmark is the way it was done before {@linkplain Skinning} existed:
+ * a {@linkplain Vector4} per vertex and bone which is multiplied with the bone matrix.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkinningBenchmark {
+
+	private static final int BONES = 64;
+	private static final int INFLUENCES = 4;
+
+	@Param({"65536"})
+	private int vertices;
+
+	private ForkJoinPool pool;
+	private Matrix4[] palette;
+	private float[] matrices;
+	private float[] positions;
+	private int[] indices;
+	private float[] weights;
+	private float[] destPositions;
+	private float[] destNormals;
+	private Skinning linearBlend;
+	private Skinning dualQuaternion;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		this.palette = new Matrix4[BONES];
+		this.matrices = new float[BONES * 16];
+		this.positions = new float[this.vertices * 3];
+		this.indices = new int[this.vertices * INFLUENCES];
+		this.weights = new float[this.vertices * INFLUENCES];
+		this.destPositions = new float[this.vertices * 3];
+		this.destNormals = new float[this.vertices * 3];
+		float[] normals = new float[this.vertices * 3];
+
+		for(int bone = 0; bone < BONES; bone++) {
+
+			Quaternion rotation = new Quaternion(random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, random.nextFloat() - 0.5F, 1.0F).normalize();
+			this.palette[bone] = new Matrix4().fromTranslationRotationScale(new Vector3(random.nextFloat(), random.nextFloat(), random.nextFloat()), rotation, new Vector3(1, 1, 1));
+			System.arraycopy(this.palette[bone].toArray(), 0, this.matrices, bone * 16, 16);
+		}
+
+		for(int index = 0; index < this.positions.length; index++) {
+
+			this.positions[index] = random.nextFloat();
+			normals[index] = random.nextFloat();
+		}
+
+		for(int index = 0; index < this.indices.length; index++) {
+
+			this.indices[index] = random.nextInt(BONES);
+			this.weights[index] = 1.0F / INFLUENCES;
+		}
+
+		this.linearBlend = new Skinning(this.positions, normals, this.indices, this.weights, INFLUENCES, BONES, Skinning.Mode.LINEAR_BLEND);
+		this.dualQuaternion = new Skinning(this.positions, normals, this.indices, this.weights, INFLUENCES, BONES, Skinning.Mode.DUAL_QUATERNION);
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		this.pool.shutdown();
+	}
+
+	@Benchmark
+	public float[] vectors() {
+
+		for(int vertex = 0; vertex < this.vertices; vertex++) {
+
+			Vector4 result = new Vector4(0, 0, 0, 0);
+
+			for(int influence = 0; influence < INFLUENCES; influence++) {
+
+				Vector4 position = new Vector4(this.positions[vertex * 3], this.positions[vertex * 3 + 1], this.positions[vertex * 3 + 2], 1.0F);
+				position.multiply(this.palette[this.indices[vertex * INFLUENCES + influence]]);
+				result.add(position.scale(this.weights[vertex * INFLUENCES + influence]));
+			}
+
+			this.destPositions[vertex * 3]     = result.x;
+			this.destPositions[vertex * 3 + 1] = result.y;
+			this.destPositions[vertex * 3 + 2] = result.z;
+		}
+
+		return this.destPositions;
+	}
+
+	@Benchmark
+	public float[] linearBlend() {
+
+		this.linearBlend.skin(this.matrices, 0, this.destPositions, this.destNormals);
+		return this.destPositions;
+	}
+
+	@Benchmark
+	public float[] linearBlendPositions() {
+
+		this.linearBlend.skin(this.matrices, 0, this.destPositions, null);
+		return this.destPositions;
+	}
+
+	@Benchmark
+	public float[] linearBlendParallel() {
+
+		this.linearBlend.skin(this.matrices, 0, this.destPositions, this.destNormals, this.pool);
+		return this.destPositions;
+	}
+
+	@Benchmark
+	public float[] dualQuaternion() {
+
+		this.dualQuaternion.skin(this.matrices, 0, this.destPositions, this.destNormals);
+		return this.destPositions;
+	}
+
+	@Benchmark
+	public float[] dualQuaternionParallel() {
+
+		this.dualQuaternion.skin(this.matrices, 0, this.destPositions, this.destNormals, this.pool);
+		return this.destPositions;
+	}
+}
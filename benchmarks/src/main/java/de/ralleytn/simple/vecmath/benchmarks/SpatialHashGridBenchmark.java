@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.SpatialHashGrid;
+import de.ralleytn.simple.vecmath.Vector2;
+
+/**
+ * Counts the neighbors of every agent of a crowd within a radius of 1 and rebuilds a grid of 1M agents.
+ * The {@code bruteForce} benchmark is the way it was done before {@linkplain SpatialHashGrid} existed:
+ * the distance between every pair of {@linkplain Vector2} agents is computed.
+ * The {@code grid} benchmark includes the rebuild of the grid, which has to be done every tick.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpatialHashGridBenchmark {
+
+	private static final float RADIUS = 1.0F;
+	private static final int LARGE_CROWD = 1000000;
+
+	@Param({"10000"})
+	private int agents;
+
+	private ForkJoinPool pool;
+	private Vector2[] vectors;
+	private float[] positions;
+	private float[] largeCrowd;
+	private SpatialHashGrid grid;
+	private SpatialHashGrid largeGrid;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		this.vectors = new Vector2[this.agents];
+		this.positions = new float[this.agents * 2];
+
+		// about 10 agents within the radius of every agent
+		float size = (float)Math.sqrt(this.agents * Math.PI * RADIUS * RADIUS / 10.0);
+
+		for(int index = 0; index < this.agents; index++) {
+
+			this.vectors[index] = new Vector2(random.nextFloat() * size, random.nextFloat() * size);
+			this.positions[index * 2]     = this.vectors[index].x;
+			this.positions[index * 2 + 1] = this.vectors[index].y;
+		}
+
+		this.largeCrowd = new float[LARGE_CROWD * 2];
+		float largeSize = (float)Math.sqrt(LARGE_CROWD * Math.PI * RADIUS * RADIUS / 10.0);
+
+		for(int index = 0; index < this.largeCrowd.length; index++) {
+
+			this.largeCrowd[index] = random.nextFloat() * largeSize;
+		}
+
+		this.grid = new SpatialHashGrid(RADIUS, 2);
+		this.largeGrid = new SpatialHashGrid(RADIUS, 2);
+		this.largeGrid.rebuild(this.largeCrowd, 0, LARGE_CROWD);
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		this.pool.shutdown();
+	}
+
+	@Benchmark
+	public int bruteForce() {
+
+		float radiusSquared = RADIUS * RADIUS;
+		int pairs = 0;
+
+		for(int agent = 0; agent < this.agents; agent++) {
+
+			for(int other = 0; other < this.agents; other++) {
+
+				if(agent != other && this.vectors[agent].distanceSquared(this.vectors[other]) <= radiusSquared) {
+
+					pairs++;
+				}
+			}
+		}
+
+		return pairs;
+	}
+
+	@Benchmark
+	public int grid() {
+
+		this.grid.rebuild(this.positions, 0, this.agents);
+		int pairs = 0;
+
+		for(int agent = 0; agent < this.agents; agent++) {
+
+			pairs += this.grid.neighbors(agent, RADIUS, null);
+		}
+
+		return pairs;
+	}
+
+	@Benchmark
+	public SpatialHashGrid rebuild() {
+
+		this.largeGrid.rebuild(this.largeCrowd, 0, LARGE_CROWD);
+		return this.largeGrid;
+	}
+
+	@Benchmark
+	public SpatialHashGrid rebuildParallel() {
+
+		this.largeGrid.rebuild(this.largeCrowd, 0, LARGE_CROWD, this.pool);
+		return this.largeGrid;
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector2;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Benchmarks the methods of the {@linkplain Vector2} class.
+ * Methods that manipulate the instance reset it first so that the values cannot drift into denormals.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector2Benchmark {
+
+	private final Vector2 a = new Vector2(1.5F, -2.25F);
+	private final Vector2 b = new Vector2(-0.75F, 3.0F);
+	private final Vector2 result = new Vector2();
+	private final Matrix3 matrix3 = new Matrix3();
+	private final Matrix4 matrix4 = new Matrix4();
+
+	@Benchmark public float dot() { return this.a.dot(this.b); }
+	@Benchmark public float angle() { return this.a.angle(this.b); }
+	@Benchmark public float cross() { return this.a.cross(this.b); }
+	@Benchmark public float lengthSquared() { return this.a.lengthSquared(); }
+	@Benchmark public float length() { return this.a.length(); }
+	@Benchmark public float distanceSquared() { return this.a.distanceSquared(this.b); }
+	@Benchmark public float distance() { return this.a.distance(this.b); }
+	@Benchmark public float distanceL1() { return this.a.distanceL1(this.b); }
+	@Benchmark public float distanceLinf() { return this.a.distanceLinf(this.b); }
+	@Benchmark public boolean epsilonEquals() { return this.a.epsilonEquals(this.b, 0.001F); }
+	@Benchmark public Vector2 copy() { return this.a.copy(); }
+	@Benchmark public float[] toArray() { return this.a.toArray(); }
+	@Benchmark public Vector3 toVector3() { return this.a.toVector3(); }
+	@Benchmark public Vector4 toVector4() { return this.a.toVector4(); }
+	@Benchmark public Quaternion toQuaternion() { return this.a.toQuaternion(); }
+
+	@Benchmark
+	public Vector2 add() {
+
+		this.result.set(this.a);
+		return this.result.add(this.b);
+	}
+
+	@Benchmark
+	public Vector2 subtract() {
+
+		this.result.set(this.a);
+		return this.result.subtract(this.b);
+	}
+
+	@Benchmark
+	public Vector2 multiply() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.b);
+	}
+
+	@Benchmark
+	public Vector2 multiplyMatrix3() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.matrix3);
+	}
+
+	@Benchmark
+	public Vector2 multiplyMatrix4() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.matrix4);
+	}
+
+	@Benchmark
+	public Vector2 scale() {
+
+		this.result.set(this.a);
+		return this.result.scale(1.5F);
+	}
+
+	@Benchmark
+	public Vector2 normalize() {
+
+		this.result.set(this.a);
+		return this.result.normalize();
+	}
+
+	@Benchmark
+	public Vector2 rotate() {
+
+		this.result.set(this.a);
+		return this.result.rotate(0.5F);
+	}
+
+	@Benchmark
+	public Vector2 turnLeft() {
+
+		this.result.set(this.a);
+		return this.result.turnLeft();
+	}
+
+	@Benchmark
+	public Vector2 turnRight() {
+
+		this.result.set(this.a);
+		return this.result.turnRight();
+	}
+
+	@Benchmark
+	public Vector2 interpolate() {
+
+		this.result.set(this.a);
+		return this.result.interpolate(this.b, 0.25F);
+	}
+
+	@Benchmark
+	public Vector2 negate() {
+
+		this.result.set(this.a);
+		return this.result.negate();
+	}
+
+	@Benchmark
+	public Vector2 absolute() {
+
+		this.result.set(this.a);
+		return this.result.absolute();
+	}
+
+	@Benchmark
+	public Vector2 clamp() {
+
+		this.result.set(this.a);
+		return this.result.clamp(-1.0F, 1.0F);
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector3Array;
+
+/**
+ * Compares the batch operations of the {@linkplain Vector3Array} class with loops over {@linkplain Vector3} instances.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector3ArrayBenchmark {
+
+	@Param({"1024", "1048576"})
+	private int size;
+
+	private Vector3Array a;
+	private Vector3Array b;
+	private Vector3[] objectsA;
+	private Vector3[] objectsB;
+	private float[] result;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		this.a = new Vector3Array(this.size);
+		this.b = new Vector3Array(this.size);
+		this.objectsA = new Vector3[this.size];
+		this.objectsB = new Vector3[this.size];
+		this.result = new float[this.size];
+
+		for(int index = 0; index < this.size; index++) {
+
+			this.objectsA[index] = new Vector3(random.nextFloat(), random.nextFloat(), random.nextFloat());
+			this.objectsB[index] = new Vector3(random.nextFloat(), random.nextFloat(), random.nextFloat());
+			this.a.set(index, this.objectsA[index]);
+			this.b.set(index, this.objectsB[index]);
+		}
+	}
+
+	@Benchmark
+	public float[] dotArray() {
+
+		return this.a.dot(this.b, this.result);
+	}
+
+	@Benchmark
+	public float[] dotObjects() {
+
+		for(int index = 0; index < this.size; index++) {
+
+			this.result[index] = this.objectsA[index].dot(this.objectsB[index]);
+		}
+
+		return this.result;
+	}
+
+	@Benchmark
+	public Vector3Array scaleArray() {
+
+		return this.a.scale(-1.0F);
+	}
+
+	@Benchmark
+	public Vector3[] scaleObjects() {
+
+		for(int index = 0; index < this.size; index++) {
+
+			this.objectsA[index].scale(-1.0F);
+		}
+
+		return this.objectsA;
+	}
+
+	@Benchmark
+	public float[] distanceArray() {
+
+		return this.a.distance(this.b, this.result);
+	}
+
+	@Benchmark
+	public float[] distanceObjects() {
+
+		for(int index = 0; index < this.size; index++) {
+
+			this.result[index] = this.objectsA[index].distance(this.objectsB[index]);
+		}
+
+		return this.result;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Benchmarks the methods of the {@linkplain Vector4} class.
+ * Methods that manipulate the instance reset it first so that the values cannot drift into denormals.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector4Benchmark {
+
+	private final Vector4 a = new Vector4(1.5F, -2.25F, 0.5F, 1.0F);
+	private final Vector4 b = new Vector4(-0.75F, 3.0F, 1.25F, 2.0F);
+	private final Vector4 result = new Vector4();
+	private final Matrix3 matrix3 = new Matrix3();
+	private final Matrix4 matrix4 = new Matrix4();
+	private final Quaternion quaternion = new Quaternion(0.0F, 0.70710677F, 0.0F, 0.70710677F);
+
+	@Benchmark public float dot() { return this.a.dot(this.b); }
+	@Benchmark public float angle() { return this.a.angle(this.b); }
+	@Benchmark public float lengthSquared() { return this.a.lengthSquared(); }
+	@Benchmark public float length() { return this.a.length(); }
+	@Benchmark public float distanceSquared() { return this.a.distanceSquared(this.b); }
+	@Benchmark public float distance() { return this.a.distance(this.b); }
+	@Benchmark public float distanceL1() { return this.a.distanceL1(this.b); }
+	@Benchmark public float distanceLinf() { return this.a.distanceLinf(this.b); }
+	@Benchmark public boolean epsilonEquals() { return this.a.epsilonEquals(this.b, 0.001F); }
+	@Benchmark public Vector4 copy() { return this.a.copy(); }
+	@Benchmark public float[] toArray() { return this.a.toArray(); }
+	@Benchmark public Quaternion toQuaternion() { return this.a.toQuaternion(); }
+
+	@Benchmark
+	public Vector4 add() {
+
+		this.result.set(this.a);
+		return this.result.add(this.b);
+	}
+
+	@Benchmark
+	public Vector4 subtract() {
+
+		this.result.set(this.a);
+		return this.result.subtract(this.b);
+	}
+
+	@Benchmark
+	public Vector4 multiply() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.b);
+	}
+
+	@Benchmark
+	public Vector4 multiplyMatrix3() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.matrix3);
+	}
+
+	@Benchmark
+	public Vector4 multiplyMatrix4() {
+
+		this.result.set(this.a);
+		return this.result.multiply(this.matrix4);
+	}
+
+	@Benchmark
+	public Vector4 fromMatrix() {
+
+		return this.result.fromMatrix(this.matrix4);
+	}
+
+	@Benchmark
+	public Vector4 fromQuaternion() {
+
+		return this.result.fromQuaternion(this.quaternion);
+	}
+
+	@Benchmark
+	public Vector4 project() {
+
+		return this.result.project(this.b);
+	}
+
+	@Benchmark
+	public Vector4 scale() {
+
+		this.result.set(this.a);
+		return this.result.scale(1.5F);
+	}
+
+	@Benchmark
+	public Vector4 normalize() {
+
+		this.result.set(this.a);
+		return this.result.normalize();
+	}
+
+	@Benchmark
+	public Vector4 interpolate() {
+
+		this.result.set(this.a);
+		return this.result.interpolate(this.b, 0.25F);
+	}
+
+	@Benchmark
+	public Vector4 negate() {
+
+		this.result.set(this.a);
+		return this.result.negate();
+	}
+
+	@Benchmark
+	public Vector4 absolute() {
+
+		this.result.set(this.a);
+		return this.result.absolute();
+	}
+
+	@Benchmark
+	public Vector4 clamp() {
+
+		this.result.set(this.a);
+		return this.result.clamp(-1.0F, 1.0F);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.VectorDataset;
+import de.ralleytn.simple.vecmath.VectorDatasetWriter;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Compares loading a dataset of 100000 vectors with 128 elements by parsing it into {@linkplain VectorN}s,
+ * the way it was done before {@linkplain VectorDataset} existed, with mapping it.
+ * Both benchmarks end with the dot product of two vectors, so that the mapped dataset has to load at least a few pages.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorDatasetBenchmark {
+
+	private static final int DIMENSION = 128;
+	private static final int COUNT = 100_000;
+
+	private Path path;
+
+	@Setup
+	public void setup() throws IOException {
+
+		Random random = new Random(1);
+		float[] vector = new float[DIMENSION];
+		this.path = Files.createTempFile("benchmark", ".svmd");
+
+		try(VectorDatasetWriter writer = new VectorDatasetWriter(this.path, DIMENSION)) {
+
+			for(int index = 0; index < COUNT; index++) {
+
+				for(int element = 0; element < DIMENSION; element++) {
+
+					vector[element] = random.nextFloat();
+				}
+
+				writer.write(vector, 0, 1);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+
+		Files.delete(this.path);
+	}
+
+	@Benchmark
+	public float parse() throws IOException {
+
+		VectorN[] vectors = new VectorN[COUNT];
+
+		try(FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+
+			ByteBuffer buffer = ByteBuffer.allocate(DIMENSION * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			channel.position(VectorDataset.HEADER_SIZE);
+
+			for(int index = 0; index < COUNT; index++) {
+
+				buffer.clear();
+
+				while(buffer.hasRemaining()) {
+
+					channel.read(buffer);
+				}
+
+				vectors[index] = new VectorN(DIMENSION);
+				vectors[index].set(buffer, 0);
+			}
+		}
+
+		return vectors[42].dot(vectors[COUNT - 1]);
+	}
+
+	@Benchmark
+	public float map() throws IOException {
+
+		try(VectorDataset dataset = VectorDataset.open(this.path)) {
+
+			return dataset.get(42).dot(dataset.get(COUNT - 1));
+		}
+	}
+}
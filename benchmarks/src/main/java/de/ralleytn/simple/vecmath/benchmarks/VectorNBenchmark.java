@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Benchmarks the methods of the {@linkplain VectorN} class for small vectors and typical embedding sizes.
+ * The manipulating methods are chosen so that repeated calls keep the values bounded.
+ * Run with {@code -jvmArgsAppend --add-modules=jdk.incubator.vector} on Java 17+ to measure the vector API backend.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorNBenchmark {
+
+	@Param({"16", "768", "1536"})
+	private int size;
+
+	private VectorN a;
+	private VectorN b;
+
+	@Setup
+	public void setup() {
+
+		Random random = new Random(42);
+		float[] dataA = new float[this.size];
+		float[] dataB = new float[this.size];
+
+		for(int index = 0; index < this.size; index++) {
+
+			dataA[index] = random.nextFloat() * 2.0F - 1.0F;
+			dataB[index] = random.nextFloat() * 2.0F - 1.0F;
+		}
+
+		this.a = new VectorN(dataA);
+		this.b = new VectorN(dataB);
+	}
+
+	@Benchmark public float lengthSquared() { return this.a.lengthSquared(); }
+	@Benchmark public float length() { return this.a.length(); }
+	@Benchmark public float dot() { return this.a.dot(this.b); }
+	@Benchmark public VectorN add() { return this.b.add(this.a).subtract(this.a); }
+	@Benchmark public VectorN axpy() { return this.b.axpy(0.5F, this.a).axpy(-0.5F, this.a); }
+	@Benchmark public VectorN scale() { return this.b.scale(-1.0F); }
+	@Benchmark public VectorN negate() { return this.b.negate(); }
+	@Benchmark public VectorN normalize() { return this.b.normalize(); }
+	@Benchmark public VectorN absolute() { return this.b.absolute(); }
+	@Benchmark public VectorN clampMin() { return this.b.clampMin(-0.5F); }
+	@Benchmark public VectorN clampMax() { return this.b.clampMax(0.5F); }
+	@Benchmark public VectorN clamp() { return this.b.clamp(-0.5F, 0.5F); }
+	@Benchmark public VectorN copy() { return this.a.copy(); }
+	@Benchmark public float[] toArray() { return this.a.toArray(); }
+	@Benchmark public int hash() { return this.a.hashCode(); }
+	@Benchmark public boolean equality() { return this.a.equals(this.b); }
+}
@@ -0,0 +1,326 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+/**
+ * Represents an axis-aligned bounding box, the smallest box with edges parallel to the axes that contains a set of points.
+ * A box whose minimum is larger than its maximum on any axis contains nothing, the default constructor and {@linkplain #empty()}
+ * create such a box so that points and other boxes can be added to it with {@code include}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class AABB {
+
+	/**
+	 * The corner with the smallest coordinates
+	 * @since 1.1.0
+	 */
+	public final Vector3 min;
+	
+	/**
+	 * The corner with the largest coordinates
+	 * @since 1.1.0
+	 */
+	public final Vector3 max;
+	
+	/**
+	 * Constructs an empty box.
+	 * @since 1.1.0
+	 */
+	public AABB() {
+		
+		this.min = new Vector3();
+		this.max = new Vector3();
+		this.empty();
+	}
+	
+	/**
+	 * Constructs a box from its corners.
+	 * @param min the corner with the smallest coordinates
+	 * @param max the corner with the largest coordinates
+	 * @since 1.1.0
+	 */
+	public AABB(Vector3 min, Vector3 max) {
+		
+		this.min = new Vector3(min);
+		this.max = new Vector3(max);
+	}
+	
+	/**
+	 * Copy constructor.
+	 * @param box the box that should be copied
+	 * @since 1.1.0
+	 */
+	public AABB(AABB box) {
+		
+		this(box.min, box.max);
+	}
+	
+	/**
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param box the box whose corners should be copied
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final AABB set(AABB box) {
+		
+		return this.set(box.min, box.max);
+	}
+	
+	/**
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param min the corner with the smallest coordinates
+	 * @param max the corner with the largest coordinates
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final AABB set(Vector3 min, Vector3 max) {
+		
+		this.min.set(min);
+		this.max.set(max);
+		
+		return this;
+	}
+	
+	/**
+	 * Makes this box empty.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final AABB empty() {
+		
+		this.min.set(Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY);
+		this.max.set(Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY);
+		
+		return this;
+	}
+	
+	/**
+	 * Grows this box so that it contains a point.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param point the point
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final AABB include(Vector3 point) {
+		
+		this.include(point.x, point.y, point.z);
+		return this;
+	}
+	
+	/**
+	 * Grows this box so that it contains another box. Including an empty box has no effect.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param box the other box
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final AABB include(AABB box) {
+		
+		this.min.set(Math.min(this.min.x, box.min.x), Math.min(this.min.y, box.min.y), Math.min(this.min.z, box.min.z));
+		this.max.set(Math.max(this.max.x, box.max.x), Math.max(this.max.y, box.max.y), Math.max(this.max.z, box.max.z));
+		
+		return this;
+	}
+	
+	/**
+	 * Grows this box so that it contains multiple points that are packed into a {@code float} array as x, y, z.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param points the array containing the points
+	 * @param offset index of the first element of the first point
+	 * @param count the number of points
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final AABB include(float[] points, int offset, int count) {
+		
+		for(int index = offset, end = offset + count * 3; index < end; index += 3) {
+			
+			this.include(points[index], points[index + 1], points[index + 2]);
+		}
+		
+		return this;
+	}
+	
+	private final void include(float x, float y, float z) {
+		
+		this.min.set(Math.min(this.min.x, x), Math.min(this.min.y, y), Math.min(this.min.z, z));
+		this.max.set(Math.max(this.max.x, x), Math.max(this.max.y, y), Math.max(this.max.z, z));
+	}
+	
+	/**
+	 * Replaces this box with the box that contains it after it was transformed by a matrix.
+	 * The result contains the transformed box, but is larger than it if the matrix rotates.
+	 * The matrix has to be affine. Transforming an empty box has no effect.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param matrix the matrix
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final AABB transform(Matrix4 matrix) {
+		
+		if(!this.isEmpty()) {
+			
+			// every element of the matrix moves either the minimum or the maximum, depending on its sign
+			Vector3 min = this.min;
+			Vector3 max = this.max;
+			float minX = matrix.m30 + lower(matrix.m00, min.x, max.x) + lower(matrix.m10, min.y, max.y) + lower(matrix.m20, min.z, max.z);
+			float minY = matrix.m31 + lower(matrix.m01, min.x, max.x) + lower(matrix.m11, min.y, max.y) + lower(matrix.m21, min.z, max.z);
+			float minZ = matrix.m32 + lower(matrix.m02, min.x, max.x) + lower(matrix.m12, min.y, max.y) + lower(matrix.m22, min.z, max.z);
+			float maxX = matrix.m30 + upper(matrix.m00, min.x, max.x) + upper(matrix.m10, min.y, max.y) + upper(matrix.m20, min.z, max.z);
+			float maxY = matrix.m31 + upper(matrix.m01, min.x, max.x) + upper(matrix.m11, min.y, max.y) + upper(matrix.m21, min.z, max.z);
+			float maxZ = matrix.m32 + upper(matrix.m02, min.x, max.x) + upper(matrix.m12, min.y, max.y) + upper(matrix.m22, min.z, max.z);
+			
+			this.min.set(minX, minY, minZ);
+			this.max.set(maxX, maxY, maxZ);
+		}
+		
+		return this;
+	}
+	
+	private static final float lower(float element, float min, float max) {
+		
+		return Math.min(element * min, element * max);
+	}
+	
+	private static final float upper(float element, float min, float max) {
+		
+		return Math.max(element * min, element * max);
+	}
+	
+	/**
+	 * 
+	 * @return {@code true} if this box contains nothing, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean isEmpty() {
+		
+		return !(this.min.x <= this.max.x && this.min.y <= this.max.y && this.min.z <= this.max.z);
+	}
+	
+	/**
+	 * 
+	 * @param point the point
+	 * @return {@code true} if the point is inside of this box or on its surface, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean contains(Vector3 point) {
+		
+		return point.x >= this.min.x && point.x <= this.max.x &&
+			   point.y >= this.min.y && point.y <= this.max.y &&
+			   point.z >= this.min.z && point.z <= this.max.z;
+	}
+	
+	/**
+	 * 
+	 * @param box the other box
+	 * @return {@code true} if the boxes overlap or touch, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean intersects(AABB box) {
+		
+		return this.min.x <= box.max.x && this.max.x >= box.min.x &&
+			   this.min.y <= box.max.y && this.max.y >= box.min.y &&
+			   this.min.z <= box.max.z && this.max.z >= box.min.z;
+	}
+	
+	/**
+	 * 
+	 * @param dest the vector that will receive the center
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 getCenter(Vector3 dest) {
+		
+		dest.set((this.min.x + this.max.x) * 0.5F, (this.min.y + this.max.y) * 0.5F, (this.min.z + this.max.z) * 0.5F);
+		return dest;
+	}
+	
+	/**
+	 * 
+	 * @param dest the vector that will receive the size along every axis
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 getSize(Vector3 dest) {
+		
+		dest.set(this.max.x - this.min.x, this.max.y - this.min.y, this.max.z - this.min.z);
+		return dest;
+	}
+	
+	/**
+	 * 
+	 * @return the area of the surface of this box, {@code 0.0F} if it is empty
+	 * @since 1.1.0
+	 */
+	public final float getSurfaceArea() {
+		
+		if(this.isEmpty()) {
+			
+			return 0.0F;
+		}
+		
+		float x = this.max.x - this.min.x;
+		float y = this.max.y - this.min.y;
+		float z = this.max.z - this.min.z;
+		
+		return 2.0F * (x * y + y * z + z * x);
+	}
+	
+	/**
+	 * 
+	 * @return a copy of this box
+	 * @since 1.1.0
+	 */
+	public final AABB copy() {
+		
+		return new AABB(this);
+	}
+	
+	@Override
+	public final String toString() {
+		
+		return String.format("(%s,%s)", this.min, this.max);
+	}
+	
+	@Override
+	public final boolean equals(Object object) {
+		
+		if(object != null && object instanceof AABB) {
+			
+			AABB box = (AABB)object;
+			return this.min.equals(box.min) && this.max.equals(box.max);
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public final int hashCode() {
+		
+		return this.min.hashCode() * 31 + this.max.hashCode();
+	}
+}
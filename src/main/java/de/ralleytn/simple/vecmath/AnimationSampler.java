@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+/**
+ * Plays a fixed set of {@linkplain AnimationTrack}s. For every track the keyframe of the last sample is remembered,
+ * so playing the tracks forward costs O(1) per sample instead of a binary search.
+ * Jumps in time, for example when an animation loops, are handled with a single binary search.
+ * A sampler is not thread-safe, but many samplers can share the same tracks.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class AnimationSampler {
+
+	private final AnimationTrack[] tracks;
+	private final int[] cursors;
+	private final int[] offsets;
+	private final int components;
+	private final float[] scratch;
+
+	/**
+	 * Creates a sampler for the given tracks. The array is copied.
+	 * @param tracks the tracks
+	 * @since 1.1.0
+	 */
+	public AnimationSampler(AnimationTrack... tracks) {
+
+		this.tracks = tracks.clone();
+		this.cursors = new int[tracks.length];
+		this.offsets = new int[tracks.length];
+
+		int components = 0;
+		int maxComponents = 4;
+
+		for(int index = 0; index < tracks.length; index++) {
+
+			this.offsets[index] = components;
+			components += tracks[index].getComponents();
+			maxComponents = Math.max(maxComponents, tracks[index].getComponents());
+		}
+
+		this.components = components;
+		this.scratch = new float[maxComponents];
+	}
+
+	/**
+	 * Samples a single track.
+	 * @param track the index of the track
+	 * @param time the time
+	 * @param dest the array that will receive the value
+	 * @param destOffset index of the first element of the value in {@code dest}
+	 * @since 1.1.0
+	 */
+	public final void sample(int track, float time, float[] dest, int destOffset) {
+
+		AnimationTrack animationTrack = this.tracks[track];
+		int key = animationTrack.seek(time, this.cursors[track]);
+		this.cursors[track] = key;
+		animationTrack.sample(time, key, dest, destOffset);
+	}
+
+	/**
+	 * Samples a track with at least three elements per value, for example a position or a scale.
+	 * The value is written without a temporary array.
+	 * @param track the index of the track
+	 * @param time the time
+	 * @param dest the vector that will receive the first three elements of the value
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 sample(int track, float time, Vector3 dest) {
+
+		float[] scratch = this.scratch;
+		this.sample(track, time, scratch, 0);
+		dest.set(scratch[0], scratch[1], scratch[2]);
+		return dest;
+	}
+
+	/**
+	 * Samples a rotation track.
+	 * @param track the index of the track
+	 * @param time the time
+	 * @param dest the quaternion that will receive the value
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Quaternion sample(int track, float time, Quaternion dest) {
+
+		float[] scratch = this.scratch;
+		this.sample(track, time, scratch, 0);
+		dest.set(scratch[0], scratch[1], scratch[2], scratch[3]);
+		return dest;
+	}
+
+	/**
+	 * Samples all tracks at the same time in a single pass. The values are written one after another in the order of the tracks,
+	 * the value of a track starts at {@code destOffset + }{@linkplain #getOffset(int)}.
+	 * @param time the time
+	 * @param dest the array that will receive the values, {@linkplain #getComponents()} {@code float}s are written
+	 * @param destOffset index of the first element of the first value in {@code dest}
+	 * @since 1.1.0
+	 */
+	public final void sampleAll(float time, float[] dest, int destOffset) {
+
+		AnimationTrack[] tracks = this.tracks;
+		int[] cursors = this.cursors;
+		int[] offsets = this.offsets;
+
+		for(int index = 0; index < tracks.length; index++) {
+
+			AnimationTrack track = tracks[index];
+			int key = track.seek(time, cursors[index]);
+			cursors[index] = key;
+			track.sample(time, key, dest, destOffset + offsets[index]);
+		}
+	}
+
+	/**
+	 * Moves all cursors back to the first keyframe.
+	 * This is never necessary for correct results, it only saves the binary search after the animation was restarted.
+	 * @since 1.1.0
+	 */
+	public final void reset() {
+
+		for(int index = 0; index < this.cursors.length; index++) {
+
+			this.cursors[index] = 0;
+		}
+	}
+
+	/**
+	 * 
+	 * @param track the index of the track
+	 * @return the index of the value of the given track in the output of {@linkplain #sampleAll(float, float[], int)}
+	 * @since 1.1.0
+	 */
+	public final int getOffset(int track) {
+
+		return this.offsets[track];
+	}
+
+	/**
+	 * 
+	 * @return the number of {@code float}s that are written by {@linkplain #sampleAll(float, float[], int)}
+	 * @since 1.1.0
+	 */
+	public final int getComponents() {
+
+		return this.components;
+	}
+
+	/**
+	 * 
+	 * @return the number of tracks
+	 * @since 1.1.0
+	 */
+	public final int size() {
+
+		return this.tracks.length;
+	}
+}
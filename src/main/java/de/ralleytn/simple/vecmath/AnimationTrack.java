@@ -0,0 +1,280 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+/**
+ * A sequence of keyframes with one value each. The times and the values are stored in packed primitive arrays,
+ * every value consists of the same number of {@code float}s, for example 3 for positions and 4 for rotations.
+ * A track has no state, the position of the last lookup is kept by an {@linkplain AnimationSampler},
+ * so the same track can be played by many samplers at once.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class AnimationTrack {
+
+	/**
+	 * Defines how the values between two keyframes are calculated.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	public static enum Interpolation {
+
+		/**
+		 * The value of the previous keyframe is held until the next one.
+		 * @since 1.1.0
+		 */
+		STEP,
+
+		/**
+		 * Every element is interpolated linearly.
+		 * @since 1.1.0
+		 */
+		LINEAR,
+
+		/**
+		 * The values are quaternions that are interpolated like {@linkplain Quaternion#nlerp(Quaternion, float)}.
+		 * @since 1.1.0
+		 */
+		NLERP,
+
+		/**
+		 * The values are quaternions that are interpolated like {@linkplain Quaternion#fastSlerp(Quaternion, float)}.
+		 * @since 1.1.0
+		 */
+		SLERP
+	}
+
+	private final float[] times;
+	private final float[] values;
+	private final int components;
+	private final Interpolation interpolation;
+
+	/**
+	 * Creates a track that is backed by the given arrays. The arrays are not copied.
+	 * @param times the times of the keyframes in ascending order
+	 * @param values the values of the keyframes, {@code components} {@code float}s per keyframe
+	 * @param components the number of {@code float}s per value, must be 4 for {@linkplain Interpolation#NLERP} and {@linkplain Interpolation#SLERP}
+	 * @param interpolation the interpolation between the keyframes
+	 * @throws IllegalArgumentException if there are no keyframes, the times are not ascending, the number of values doesn't match
+	 * or a quaternion interpolation is used for values that don't have 4 elements
+	 * @since 1.1.0
+	 */
+	public AnimationTrack(float[] times, float[] values, int components, Interpolation interpolation) {
+
+		if(times.length == 0 || components < 1 || values.length != times.length * components) {
+
+			throw new IllegalArgumentException("A track needs at least one keyframe and " + components + " values per keyframe!");
+		}
+
+		if(interpolation != Interpolation.STEP && interpolation != Interpolation.LINEAR && components != 4) {
+
+			throw new IllegalArgumentException("The interpolation " + interpolation + " only works with quaternions!");
+		}
+
+		for(int index = 1; index < times.length; index++) {
+
+			if(times[index] < times[index - 1]) {
+
+				throw new IllegalArgumentException("The times of the keyframes must be ascending!");
+			}
+		}
+
+		this.times = times;
+		this.values = values;
+		this.components = components;
+		this.interpolation = interpolation;
+	}
+
+	/**
+	 * Finds the keyframe that is active at the given time, which is the last one that doesn't start after it.
+	 * The search starts at the given keyframe. If the time is still inside of it or inside of the next one,
+	 * which is always the case when the track is played forward with small steps, the result is found immediately.
+	 * Only if the time jumped, a binary search is done.
+	 * @param time the time
+	 * @param cursor the keyframe that was returned by the last search
+	 * @return the index of the keyframe, 0 if the time is before the first keyframe
+	 * @since 1.1.0
+	 */
+	public final int seek(float time, int cursor) {
+
+		float[] times = this.times;
+		int last = times.length - 1;
+
+		if(cursor >= 0 && cursor <= last && times[cursor] <= time) {
+
+			if(cursor == last || time < times[cursor + 1]) {
+
+				return cursor;
+			}
+
+			if(cursor + 1 == last || time < times[cursor + 2]) {
+
+				return cursor + 1;
+			}
+		}
+
+		if(time < times[0]) {
+
+			return 0;
+		}
+
+		// binary search for the last keyframe that doesn't start after the given time
+		int low = 0;
+		int high = last;
+
+		while(low < high) {
+
+			int middle = (low + high + 1) >>> 1;
+
+			if(times[middle] <= time) {
+
+				low = middle;
+
+			} else {
+
+				high = middle - 1;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Calculates the value at the given time.
+	 * Before the first keyframe the first value and after the last keyframe the last value is used.
+	 * @param time the time
+	 * @param key the active keyframe as returned by {@linkplain #seek(float, int)}
+	 * @param dest the array that will receive the value
+	 * @param destOffset index of the first element of the value in {@code dest}
+	 * @since 1.1.0
+	 */
+	public final void sample(float time, int key, float[] dest, int destOffset) {
+
+		float[] times = this.times;
+		float[] values = this.values;
+		int components = this.components;
+		int a = key * components;
+
+		if(key == times.length - 1 || time <= times[key] || this.interpolation == Interpolation.STEP) {
+
+			System.arraycopy(values, a, dest, destOffset, components);
+			return;
+		}
+
+		int b = a + components;
+		float alpha = (time - times[key]) / (times[key + 1] - times[key]);
+
+		if(this.interpolation == Interpolation.LINEAR) {
+
+			for(int index = 0; index < components; index++) {
+
+				float value = values[a + index];
+				dest[destOffset + index] = value + (values[b + index] - value) * alpha;
+			}
+
+			return;
+		}
+
+		float ax = values[a], ay = values[a + 1], az = values[a + 2], aw = values[a + 3];
+		float bx = values[b], by = values[b + 1], bz = values[b + 2], bw = values[b + 3];
+		float dot = ax * bx + ay * by + az * bz + aw * bw;
+		float weightA;
+		float weightB;
+
+		if(this.interpolation == Interpolation.NLERP) {
+
+			weightA = 1.0F - alpha;
+			weightB = dot < 0.0F ? -alpha : alpha;
+
+		} else {
+
+			float cosMinusOne = Math.abs(dot) - 1.0F;
+			weightA = Quaternion.slerpWeight(1.0F - alpha, cosMinusOne);
+			weightB = Math.copySign(Quaternion.slerpWeight(alpha, cosMinusOne), dot);
+		}
+
+		float x = weightA * ax + weightB * bx;
+		float y = weightA * ay + weightB * by;
+		float z = weightA * az + weightB * bz;
+		float w = weightA * aw + weightB * bw;
+		float scale = this.interpolation == Interpolation.NLERP ? 1.0F / (float)Math.sqrt(x * x + y * y + z * z + w * w) : 1.0F;
+
+		dest[destOffset]     = x * scale;
+		dest[destOffset + 1] = y * scale;
+		dest[destOffset + 2] = z * scale;
+		dest[destOffset + 3] = w * scale;
+	}
+
+	/**
+	 * 
+	 * @return the number of keyframes
+	 * @since 1.1.0
+	 */
+	public final int size() {
+
+		return this.times.length;
+	}
+
+	/**
+	 * 
+	 * @return the number of {@code float}s per value
+	 * @since 1.1.0
+	 */
+	public final int getComponents() {
+
+		return this.components;
+	}
+
+	/**
+	 * 
+	 * @return the interpolation between the keyframes
+	 * @since 1.1.0
+	 */
+	public final Interpolation getInterpolation() {
+
+		return this.interpolation;
+	}
+
+	/**
+	 * 
+	 * @return the time of the first keyframe
+	 * @since 1.1.0
+	 */
+	public final float getStartTime() {
+
+		return this.times[0];
+	}
+
+	/**
+	 * 
+	 * @return the time of the last keyframe
+	 * @since 1.1.0
+	 */
+	public final float getEndTime() {
+
+		return this.times[this.times.length - 1];
+	}
+}
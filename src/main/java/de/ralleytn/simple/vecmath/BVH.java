@@ -0,0 +1,667 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A bounding volume hierarchy over the triangles of a mesh for casting rays against it.
+ * The mesh is given as packed positions ({@code x, y, z} per vertex) and 3 vertex indices per triangle.
+ * Its triangles are copied into the hierarchy, so the arrays can be changed afterwards without affecting it.
+ * <p>
+ * The hierarchy is built top-down with the surface area heuristic: every node is split where the expected cost of
+ * the rays that pass through its children is the lowest, measured on up to {@code 16} bins per axis. A node becomes a leaf
+ * if splitting it would be more expensive than testing its triangles, but not if it has more than {@value #MAX_LEAF_SIZE} triangles.
+ * The hierarchy is stored in flat arrays in depth-first order, the left child of a node is always the next node, and the triangles
+ * are stored in the order of the leaves as one corner and two edges, so a ray touches as little memory as possible.
+ * </p>
+ * A ray returns the closest hit, with its distance, the index of the triangle and the barycentric coordinates of the hit point.
+ * Casting rays doesn't allocate, except for the tasks of the parallel variant, and can run on multiple threads at once.
+ * A hierarchy cannot be changed, a mesh that moves needs a new one or rays that are transformed into its space.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class BVH {
+
+	/**
+	 * Number of triangles above which a node is always split. Only triangles whose centers are at the same point
+	 * or that are deeper than {@value #MAX_DEPTH} levels can end up in larger leaves.
+	 * @since 1.1.0
+	 */
+	public static final int MAX_LEAF_SIZE = 8;
+	
+	/**
+	 * Maximum number of levels of the hierarchy.
+	 * @since 1.1.0
+	 */
+	public static final int MAX_DEPTH = 64;
+	
+	/**
+	 * Minimum number of rays for which the parallel variant actually uses the pool.
+	 * @since 1.1.0
+	 */
+	public static final int PARALLEL_THRESHOLD = 1024;
+	
+	/**
+	 * Maximum number of rays that are cast by one task of the parallel variant.
+	 * @since 1.1.0
+	 */
+	public static final int BATCH_SIZE = 256;
+	
+	private static final int BINS = 16;
+	private static final ThreadLocal<Traversal> TRAVERSALS = ThreadLocal.withInitial(Traversal::new);
+	
+	private final int triangleCount;
+	private final int nodeCount;
+	
+	// 6 floats per node, the minimum and the maximum of its box
+	private final float[] bounds;
+	
+	// 2 ints per node, a leaf has its first triangle and the number of its triangles, any other node the index of its right child and 0
+	private final int[] nodes;
+	
+	// 9 floats per triangle in the order of the leaves, the first corner and the edges to the second and the third corner
+	private final float[] triangles;
+	private final int[] ids;
+	
+	/**
+	 * Builds a hierarchy on the calling thread.
+	 * @param positions the positions, x, y, z per vertex
+	 * @param indices the indices of the vertices, 3 per triangle
+	 * @throws IllegalArgumentException if the lengths of the arrays are not multiples of 3 or if a vertex index is out of range
+	 * @since 1.1.0
+	 */
+	public BVH(float[] positions, int[] indices) {
+		
+		if(positions.length % 3 != 0 || indices.length % 3 != 0) {
+			
+			throw new IllegalArgumentException("There must be 3 floats per position and 3 indices per triangle!");
+		}
+		
+		int vertexCount = positions.length / 3;
+		
+		for(int index = 0; index < indices.length; index++) {
+			
+			if(indices[index] < 0 || indices[index] >= vertexCount) {
+				
+				throw new IllegalArgumentException("The vertex index " + indices[index] + " of triangle " + (index / 3) + " is out of range!");
+			}
+		}
+		
+		this.triangleCount = indices.length / 3;
+		Builder builder = new Builder(positions, indices, this.triangleCount);
+		
+		if(this.triangleCount > 0) {
+			
+			builder.build(0, this.triangleCount, 0);
+		}
+		
+		this.nodeCount = builder.nodeCount;
+		this.bounds = Arrays.copyOf(builder.bounds, this.nodeCount * 6);
+		this.nodes = Arrays.copyOf(builder.nodes, this.nodeCount * 2);
+		this.ids = builder.order;
+		this.triangles = new float[this.triangleCount * 9];
+		
+		for(int triangle = 0; triangle < this.triangleCount; triangle++) {
+			
+			int a = indices[this.ids[triangle] * 3] * 3;
+			int b = indices[this.ids[triangle] * 3 + 1] * 3;
+			int c = indices[this.ids[triangle] * 3 + 2] * 3;
+			int t = triangle * 9;
+			
+			for(int axis = 0; axis < 3; axis++) {
+				
+				this.triangles[t + axis]     = positions[a + axis];
+				this.triangles[t + axis + 3] = positions[b + axis] - positions[a + axis];
+				this.triangles[t + axis + 6] = positions[c + axis] - positions[a + axis];
+			}
+		}
+	}
+	
+	/**
+	 * Casts a ray against the mesh.
+	 * The hit array receives the distance to the closest hit and its barycentric coordinates {@code u} and {@code v},
+	 * which are the weights of the second and the third corner of the triangle. The weight of the first corner is {@code 1 - u - v}.
+	 * If the ray misses the mesh, the distance is {@linkplain Float#POSITIVE_INFINITY} and the barycentric coordinates are {@code 0.0F}.
+	 * @param ray the ray
+	 * @param hit the array that will receive distance, u and v, at least 3 elements long
+	 * @return the index of the triangle that was hit or {@code -1} if the ray misses the mesh
+	 * @since 1.1.0
+	 */
+	public final int raycast(Ray ray, float[] hit) {
+		
+		return this.trace(ray.origin.x, ray.origin.y, ray.origin.z, ray.direction.x, ray.direction.y, ray.direction.z, hit, 0, TRAVERSALS.get());
+	}
+	
+	/**
+	 * Casts multiple rays that are packed into a {@code float} array as origin x, y, z and direction x, y, z on the calling thread.
+	 * Every ray receives the same results as from {@linkplain #raycast(Ray, float[])}.
+	 * @param rays the array containing the rays, 6 {@code float}s per ray
+	 * @param rayOffset index of the first element of the first ray
+	 * @param hits the array that will receive distance, u and v of every ray
+	 * @param hitOffset index of the first element of the first hit
+	 * @param triangles the array that will receive the index of the triangle that was hit by every ray, or {@code -1}
+	 * @param triangleOffset index of the first triangle index
+	 * @param count the number of rays
+	 * @since 1.1.0
+	 */
+	public final void raycast(float[] rays, int rayOffset, float[] hits, int hitOffset, int[] triangles, int triangleOffset, int count) {
+		
+		this.raycast(rays, rayOffset, hits, hitOffset, triangles, triangleOffset, 0, count);
+	}
+	
+	/**
+	 * Casts multiple rays like {@linkplain #raycast(float[], int, float[], int, int[], int, int)}, but splits them into batches
+	 * of at most {@value #BATCH_SIZE} rays which are cast in parallel on the given pool.
+	 * Less than {@value #PARALLEL_THRESHOLD} rays are cast on the calling thread.
+	 * @param rays the array containing the rays, 6 {@code float}s per ray
+	 * @param rayOffset index of the first element of the first ray
+	 * @param hits the array that will receive distance, u and v of every ray
+	 * @param hitOffset index of the first element of the first hit
+	 * @param triangles the array that will receive the index of the triangle that was hit by every ray, or {@code -1}
+	 * @param triangleOffset index of the first triangle index
+	 * @param count the number of rays
+	 * @param pool the pool that casts the batches, for example {@linkplain ForkJoinPool#commonPool()}
+	 * @since 1.1.0
+	 */
+	public final void raycast(float[] rays, int rayOffset, float[] hits, int hitOffset, int[] triangles, int triangleOffset, int count, ForkJoinPool pool) {
+		
+		if(count < PARALLEL_THRESHOLD) {
+			
+			this.raycast(rays, rayOffset, hits, hitOffset, triangles, triangleOffset, 0, count);
+			
+		} else {
+			
+			pool.invoke(new Batch(this, rays, rayOffset, hits, hitOffset, triangles, triangleOffset, 0, count));
+		}
+	}
+	
+	private final void raycast(float[] rays, int rayOffset, float[] hits, int hitOffset, int[] triangles, int triangleOffset, int start, int end) {
+		
+		Traversal traversal = TRAVERSALS.get();
+		
+		for(int ray = start; ray < end; ray++) {
+			
+			int r = rayOffset + ray * 6;
+			triangles[triangleOffset + ray] = this.trace(rays[r], rays[r + 1], rays[r + 2], rays[r + 3], rays[r + 4], rays[r + 5], hits, hitOffset + ray * 3, traversal);
+		}
+	}
+	
+	private final int trace(float ox, float oy, float oz, float dx, float dy, float dz, float[] hits, int hitOffset, Traversal traversal) {
+		
+		float ix = Ray.inverse(dx);
+		float iy = Ray.inverse(dy);
+		float iz = Ray.inverse(dz);
+		float[] bounds = this.bounds;
+		int[] nodes = this.nodes;
+		float[] triangles = this.triangles;
+		int[] stack = traversal.nodes;
+		float[] distances = traversal.distances;
+		float closest = Float.POSITIVE_INFINITY;
+		int hit = -1;
+		int size = 0;
+		int node = this.triangleCount > 0 && Ray.intersectBox(ox, oy, oz, ix, iy, iz, bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5], closest) != Float.POSITIVE_INFINITY ? 0 : -1;
+		
+		while(node >= 0) {
+			
+			int count = nodes[node * 2 + 1];
+			
+			if(count > 0) {
+				
+				for(int triangle = nodes[node * 2], end = triangle + count; triangle < end; triangle++) {
+					
+					int t = triangle * 9;
+					float distance = Ray.intersectTriangle(ox, oy, oz, dx, dy, dz,
+														   triangles[t],     triangles[t + 1], triangles[t + 2],
+														   triangles[t + 3], triangles[t + 4], triangles[t + 5],
+														   triangles[t + 6], triangles[t + 7], triangles[t + 8],
+														   closest, hits, hitOffset + 1);
+					
+					if(distance < closest) {
+						
+						closest = distance;
+						hit = triangle;
+					}
+				}
+				
+				node = -1;
+				
+			} else {
+				
+				// the closer child is visited first, the other one is only visited if nothing closer was hit in the meantime
+				int left = node + 1;
+				int right = nodes[node * 2];
+				int l = left * 6;
+				int r = right * 6;
+				float near = Ray.intersectBox(ox, oy, oz, ix, iy, iz, bounds[l], bounds[l + 1], bounds[l + 2], bounds[l + 3], bounds[l + 4], bounds[l + 5], closest);
+				float far = Ray.intersectBox(ox, oy, oz, ix, iy, iz, bounds[r], bounds[r + 1], bounds[r + 2], bounds[r + 3], bounds[r + 4], bounds[r + 5], closest);
+				
+				if(far < near) {
+					
+					float distance = near;
+					near = far;
+					far = distance;
+					left = right;
+					right = node + 1;
+				}
+				
+				if(near == Float.POSITIVE_INFINITY) {
+					
+					node = -1;
+					
+				} else {
+					
+					node = left;
+					
+					if(far != Float.POSITIVE_INFINITY) {
+						
+						stack[size] = right;
+						distances[size++] = far;
+					}
+				}
+			}
+			
+			while(node < 0 && size > 0) {
+				
+				size--;
+				
+				if(distances[size] < closest) {
+					
+					node = stack[size];
+				}
+			}
+		}
+		
+		hits[hitOffset] = closest;
+		
+		if(hit < 0) {
+			
+			hits[hitOffset + 1] = 0.0F;
+			hits[hitOffset + 2] = 0.0F;
+			return -1;
+		}
+		
+		return this.ids[hit];
+	}
+	
+	/**
+	 * 
+	 * @param dest the box that will receive the box of the whole mesh, which is empty if the mesh has no triangles
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final AABB getBounds(AABB dest) {
+		
+		if(this.triangleCount == 0) {
+			
+			return dest.empty();
+		}
+		
+		dest.min.set(this.bounds[0], this.bounds[1], this.bounds[2]);
+		dest.max.set(this.bounds[3], this.bounds[4], this.bounds[5]);
+		return dest;
+	}
+	
+	/**
+	 * 
+	 * @return the number of triangles
+	 * @since 1.1.0
+	 */
+	public final int getTriangleCount() {
+		
+		return this.triangleCount;
+	}
+	
+	/**
+	 * 
+	 * @return the number of nodes, including the leaves
+	 * @since 1.1.0
+	 */
+	public final int getNodeCount() {
+		
+		return this.nodeCount;
+	}
+	
+	/**
+	 * The stack of the nodes that still have to be visited by a ray. Every thread has its own.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	private static final class Traversal {
+		
+		// at most one node per level is waiting
+		private final int[] nodes = new int[MAX_DEPTH];
+		private final float[] distances = new float[MAX_DEPTH];
+	}
+	
+	/**
+	 * Builds the nodes in depth-first order and sorts the triangles into the leaves.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	private static final class Builder {
+		
+		// the boxes (6 floats) and their centers (3 floats) are moved together with the triangles,
+		// so that every node reads the ones of its triangles sequentially
+		private final float[] boxes;
+		private final float[] centers;
+		
+		// the triangles in the order of the leaves
+		private final int[] order;
+		
+		// the bins of all 3 axes, they are filled at the same time
+		private final float[] binBounds = new float[3 * BINS * 6];
+		private final int[] binCounts = new int[3 * BINS];
+		private final float[] rightCosts = new float[BINS];
+		private final float[] centerBounds = new float[6];
+		private final float[] sweep = new float[6];
+		private float[] bounds;
+		private int[] nodes;
+		private int nodeCount;
+		private int splitAxis;
+		private int splitBin;
+		
+		private Builder(float[] positions, int[] indices, int triangleCount) {
+			
+			this.boxes = new float[triangleCount * 6];
+			this.centers = new float[triangleCount * 3];
+			this.order = new int[triangleCount];
+			
+			for(int triangle = 0; triangle < triangleCount; triangle++) {
+				
+				int a = indices[triangle * 3] * 3;
+				int b = indices[triangle * 3 + 1] * 3;
+				int c = indices[triangle * 3 + 2] * 3;
+				
+				for(int axis = 0; axis < 3; axis++) {
+					
+					float min = Math.min(positions[a + axis], Math.min(positions[b + axis], positions[c + axis]));
+					float max = Math.max(positions[a + axis], Math.max(positions[b + axis], positions[c + axis]));
+					this.boxes[triangle * 6 + axis] = min;
+					this.boxes[triangle * 6 + axis + 3] = max;
+					this.centers[triangle * 3 + axis] = (min + max) * 0.5F;
+				}
+				
+				this.order[triangle] = triangle;
+			}
+			
+			// a hierarchy has at most 2n - 1 nodes, usually a lot less because the leaves contain multiple triangles
+			int capacity = Math.max(1, triangleCount / 2);
+			this.bounds = new float[capacity * 6];
+			this.nodes = new int[capacity * 2];
+		}
+		
+		private final int build(int start, int end, int depth) {
+			
+			int node = this.nodeCount++;
+			
+			if(node * 2 == this.nodes.length) {
+				
+				this.nodes = Arrays.copyOf(this.nodes, this.nodes.length * 2);
+				this.bounds = Arrays.copyOf(this.bounds, this.bounds.length * 2);
+			}
+			
+			// the bounds of the centers are only needed until the triangles are partitioned, so the children can reuse the array
+			int b = node * 6;
+			float[] centerBounds = empty(this.centerBounds, 0);
+			empty(this.bounds, b);
+			
+			for(int index = start; index < end; index++) {
+				
+				include(this.bounds, b, this.boxes, index * 6);
+				
+				for(int axis = 0; axis < 3; axis++) {
+					
+					float center = this.centers[index * 3 + axis];
+					centerBounds[axis] = Math.min(centerBounds[axis], center);
+					centerBounds[axis + 3] = Math.max(centerBounds[axis + 3], center);
+				}
+			}
+			
+			int count = end - start;
+			int bins = Math.min(count, BINS);
+			
+			// costs relative to the area of the node, testing a box costs as much as testing a triangle
+			float area = area(this.bounds, b);
+			float splitCost = count > 1 && depth < MAX_DEPTH - 1 ? this.bin(start, end, bins) : Float.POSITIVE_INFINITY;
+			
+			if(splitCost != Float.POSITIVE_INFINITY && (count > MAX_LEAF_SIZE || area + splitCost < area * count)) {
+				
+				int axis = this.splitAxis;
+				float min = centerBounds[axis];
+				float scale = bins / (centerBounds[axis + 3] - min);
+				int middle = start;
+				
+				for(int last = end - 1; middle <= last;) {
+					
+					if(bin(this.centers[middle * 3 + axis], min, scale, bins) <= this.splitBin) {
+						
+						middle++;
+						
+					} else {
+						
+						this.swap(middle, last--);
+					}
+				}
+				
+				// the children may grow the arrays, so they have to be built before anything is written into them
+				this.build(start, middle, depth + 1);
+				int right = this.build(middle, end, depth + 1);
+				this.nodes[node * 2] = right;
+				this.nodes[node * 2 + 1] = 0;
+				
+			} else {
+				
+				this.nodes[node * 2] = start;
+				this.nodes[node * 2 + 1] = count;
+			}
+			
+			return node;
+		}
+		
+		// returns the lowest cost of all splits between the bins and stores the axis and the bin left of that split,
+		// small nodes use less bins, because the bins would be mostly empty anyway
+		private final float bin(int start, int end, int bins) {
+			
+			float[] centerBounds = this.centerBounds;
+			float[] binBounds = this.binBounds;
+			int[] binCounts = this.binCounts;
+			float scaleX = bins / (centerBounds[3] - centerBounds[0]);
+			float scaleY = bins / (centerBounds[4] - centerBounds[1]);
+			float scaleZ = bins / (centerBounds[5] - centerBounds[2]);
+			
+			for(int axis = 0; axis < 3; axis++) {
+				
+				for(int bin = axis * BINS, last = bin + bins; bin < last; bin++) {
+					
+					empty(binBounds, bin * 6);
+					binCounts[bin] = 0;
+				}
+			}
+			
+			// an axis on which all centers are equal has an infinite scale, all its triangles end up in the same bin
+			for(int index = start; index < end; index++) {
+				
+				int x = bin(this.centers[index * 3], centerBounds[0], scaleX, bins);
+				int y = BINS + bin(this.centers[index * 3 + 1], centerBounds[1], scaleY, bins);
+				int z = 2 * BINS + bin(this.centers[index * 3 + 2], centerBounds[2], scaleZ, bins);
+				include(binBounds, x * 6, this.boxes, index * 6);
+				include(binBounds, y * 6, this.boxes, index * 6);
+				include(binBounds, z * 6, this.boxes, index * 6);
+				binCounts[x]++;
+				binCounts[y]++;
+				binCounts[z]++;
+			}
+			
+			float lowest = Float.POSITIVE_INFINITY;
+			
+			for(int axis = 0; axis < 3; axis++) {
+				
+				int first = axis * BINS;
+				float[] box = empty(this.sweep, 0);
+				int count = 0;
+				
+				for(int bin = bins - 1; bin > 0; bin--) {
+					
+					include(box, 0, binBounds, (first + bin) * 6);
+					count += binCounts[first + bin];
+					this.rightCosts[bin] = area(box, 0) * count;
+				}
+				
+				empty(box, 0);
+				count = 0;
+				
+				for(int bin = 0; bin < bins - 1; bin++) {
+					
+					include(box, 0, binBounds, (first + bin) * 6);
+					count += binCounts[first + bin];
+					float cost = area(box, 0) * count + this.rightCosts[bin + 1];
+					
+					if(count > 0 && count < end - start && cost < lowest) {
+						
+						lowest = cost;
+						this.splitAxis = axis;
+						this.splitBin = bin;
+					}
+				}
+			}
+			
+			return lowest;
+		}
+		
+		private final void swap(int a, int b) {
+			
+			int triangle = this.order[a];
+			this.order[a] = this.order[b];
+			this.order[b] = triangle;
+			
+			for(int element = 0; element < 6; element++) {
+				
+				float value = this.boxes[a * 6 + element];
+				this.boxes[a * 6 + element] = this.boxes[b * 6 + element];
+				this.boxes[b * 6 + element] = value;
+			}
+			
+			for(int element = 0; element < 3; element++) {
+				
+				float value = this.centers[a * 3 + element];
+				this.centers[a * 3 + element] = this.centers[b * 3 + element];
+				this.centers[b * 3 + element] = value;
+			}
+		}
+		
+		private static final int bin(float center, float min, float scale, int bins) {
+			
+			return Math.min((int)((center - min) * scale), bins - 1);
+		}
+		
+		private static final float[] empty(float[] box, int offset) {
+			
+			box[offset]     = Float.POSITIVE_INFINITY;
+			box[offset + 1] = Float.POSITIVE_INFINITY;
+			box[offset + 2] = Float.POSITIVE_INFINITY;
+			box[offset + 3] = Float.NEGATIVE_INFINITY;
+			box[offset + 4] = Float.NEGATIVE_INFINITY;
+			box[offset + 5] = Float.NEGATIVE_INFINITY;
+			return box;
+		}
+		
+		private static final void include(float[] box, int offset, float[] other, int otherOffset) {
+			
+			for(int axis = 0; axis < 3; axis++) {
+				
+				box[offset + axis] = Math.min(box[offset + axis], other[otherOffset + axis]);
+				box[offset + axis + 3] = Math.max(box[offset + axis + 3], other[otherOffset + axis + 3]);
+			}
+		}
+		
+		private static final float area(float[] box, int offset) {
+			
+			float x = box[offset + 3] - box[offset];
+			float y = box[offset + 4] - box[offset + 1];
+			float z = box[offset + 5] - box[offset + 2];
+			
+			return x < 0.0F ? 0.0F : 2.0F * (x * y + y * z + z * x);
+		}
+	}
+	
+	/**
+	 * Splits the ray range it is responsible for in halves until it is not larger than {@value BVH#BATCH_SIZE}.
+	 * The batches write to disjoint regions of the destination arrays, so no synchronization is needed.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	private static final class Batch extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		
+		private final BVH bvh;
+		private final float[] rays;
+		private final int rayOffset;
+		private final float[] hits;
+		private final int hitOffset;
+		private final int[] triangles;
+		private final int triangleOffset;
+		private final int start;
+		private final int end;
+		
+		private Batch(BVH bvh, float[] rays, int rayOffset, float[] hits, int hitOffset, int[] triangles, int triangleOffset, int start, int end) {
+			
+			this.bvh = bvh;
+			this.rays = rays;
+			this.rayOffset = rayOffset;
+			this.hits = hits;
+			this.hitOffset = hitOffset;
+			this.triangles = triangles;
+			this.triangleOffset = triangleOffset;
+			this.start = start;
+			this.end = end;
+		}
+		
+		private final Batch range(int start, int end) {
+			
+			return new Batch(this.bvh, this.rays, this.rayOffset, this.hits, this.hitOffset, this.triangles, this.triangleOffset, start, end);
+		}
+		
+		@Override
+		protected final void compute() {
+			
+			if(this.end - this.start > BATCH_SIZE) {
+				
+				int middle = (this.start + this.end) >>> 1;
+				RecursiveAction.invokeAll(this.range(this.start, middle), this.range(middle, this.end));
+				
+			} else {
+				
+				this.bvh.raycast(this.rays, this.rayOffset, this.hits, this.hitOffset, this.triangles, this.triangleOffset, this.start, this.end);
+			}
+		}
+	}
+}
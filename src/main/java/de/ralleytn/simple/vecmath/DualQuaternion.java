@@ -0,0 +1,393 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+/**
+ * Represents a rigid transformation, a rotation followed by a translation, as a dual quaternion {@code real + e * dual}.
+ * The real part is the rotation and the dual part is {@code 0.5 * t * real}, with {@code t} being the translation as a pure quaternion.
+ * Unlike matrices, dual quaternions can be blended linearly without shrinking the result, which makes them the base of
+ * the volume-preserving mode of {@linkplain Skinning}. Scale and shear cannot be expressed.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class DualQuaternion {
+
+	/**
+	 * The real part, which is the rotation
+	 * @since 1.1.0
+	 */
+	public final Quaternion real;
+	
+	/**
+	 * The dual part, which encodes the translation
+	 * @since 1.1.0
+	 */
+	public final Quaternion dual;
+	
+	/**
+	 * Constructs the identity transformation.
+	 * @since 1.1.0
+	 */
+	public DualQuaternion() {
+		
+		this.real = new Quaternion();
+		this.dual = new Quaternion(0.0F, 0.0F, 0.0F, 0.0F);
+	}
+	
+	/**
+	 * Constructs a transformation that first rotates and then translates.
+	 * @param rotation the normalized rotation
+	 * @param translation the translation
+	 * @since 1.1.0
+	 */
+	public DualQuaternion(Quaternion rotation, Vector3 translation) {
+		
+		this();
+		this.set(rotation, translation);
+	}
+	
+	/**
+	 * Copy constructor.
+	 * @param dualQuaternion the dual quaternion that should be copied
+	 * @since 1.1.0
+	 */
+	public DualQuaternion(DualQuaternion dualQuaternion) {
+		
+		this.real = new Quaternion(dualQuaternion.real);
+		this.dual = new Quaternion(dualQuaternion.dual);
+	}
+	
+	/**
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param dualQuaternion the dual quaternion whose values should be copied
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion set(DualQuaternion dualQuaternion) {
+		
+		this.real.set(dualQuaternion.real);
+		this.dual.set(dualQuaternion.dual);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets this dual quaternion to a transformation that first rotates and then translates.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param rotation the normalized rotation
+	 * @param translation the translation
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion set(Quaternion rotation, Vector3 translation) {
+		
+		this.set(rotation.x, rotation.y, rotation.z, rotation.w, translation.x, translation.y, translation.z);
+		return this;
+	}
+	
+	private final void set(float x, float y, float z, float w, float tx, float ty, float tz) {
+		
+		this.real.set(x, y, z, w);
+		this.dual.set(0.5F * ( tx * w + ty * z - tz * y),
+					  0.5F * ( ty * w + tz * x - tx * z),
+					  0.5F * ( tz * w + tx * y - ty * x),
+					  0.5F * (-tx * x - ty * y - tz * z));
+	}
+	
+	/**
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion identity() {
+		
+		this.real.identity();
+		this.dual.set(0.0F, 0.0F, 0.0F, 0.0F);
+		
+		return this;
+	}
+	
+	/**
+	 * Extracts the rotation and the translation of a matrix. The matrix has to be affine, any scale is removed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param matrix the matrix
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion fromMatrix(Matrix4 matrix) {
+		
+		float inverseX = 1.0F / (float)Math.sqrt(matrix.m00 * matrix.m00 + matrix.m01 * matrix.m01 + matrix.m02 * matrix.m02);
+		float inverseY = 1.0F / (float)Math.sqrt(matrix.m10 * matrix.m10 + matrix.m11 * matrix.m11 + matrix.m12 * matrix.m12);
+		float inverseZ = 1.0F / (float)Math.sqrt(matrix.m20 * matrix.m20 + matrix.m21 * matrix.m21 + matrix.m22 * matrix.m22);
+		
+		// Quaternion.fromMatrix expects the rotation row by row
+		Quaternion r = this.real.fromMatrix(matrix.m00 * inverseX, matrix.m10 * inverseY, matrix.m20 * inverseZ,
+											matrix.m01 * inverseX, matrix.m11 * inverseY, matrix.m21 * inverseZ,
+											matrix.m02 * inverseX, matrix.m12 * inverseY, matrix.m22 * inverseZ);
+		
+		this.set(r.x, r.y, r.z, r.w, matrix.m30, matrix.m31, matrix.m32);
+		
+		return this;
+	}
+	
+	/**
+	 * Converts many matrices at once like {@linkplain #fromMatrix(Matrix4)}.
+	 * The matrices are read as 16 {@code float}s in the order of {@linkplain Matrix4#toArray()} and every dual quaternion
+	 * is written as 8 {@code float}s, first x, y, z, w of the real part and then x, y, z, w of the dual part.
+	 * @param matrices the array containing the matrices
+	 * @param matrixOffset index of the first element of the first matrix
+	 * @param dest the array that will receive the dual quaternions
+	 * @param destOffset index of the first element of the first dual quaternion
+	 * @param count the number of matrices
+	 * @since 1.1.0
+	 */
+	public static final void fromMatrices(float[] matrices, int matrixOffset, float[] dest, int destOffset, int count) {
+		
+		for(int index = 0, m = matrixOffset, d = destOffset; index < count; index++, m += 16, d += 8) {
+			
+			DualQuaternion.toRotation(matrices[m],     matrices[m + 1], matrices[m + 2],
+									  matrices[m + 4], matrices[m + 5], matrices[m + 6],
+									  matrices[m + 8], matrices[m + 9], matrices[m + 10],
+									  dest, d);
+			
+			float x = dest[d];
+			float y = dest[d + 1];
+			float z = dest[d + 2];
+			float w = dest[d + 3];
+			float tx = matrices[m + 12];
+			float ty = matrices[m + 13];
+			float tz = matrices[m + 14];
+			
+			dest[d + 4] = 0.5F * ( tx * w + ty * z - tz * y);
+			dest[d + 5] = 0.5F * ( ty * w + tz * x - tx * z);
+			dest[d + 6] = 0.5F * ( tz * w + tx * y - ty * x);
+			dest[d + 7] = 0.5F * (-tx * x - ty * y - tz * z);
+		}
+	}
+	
+	// normalizes the columns before the conversion so that a scaled matrix still results in a unit quaternion
+	private static final void toRotation(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float[] dest, int offset) {
+		
+		float inverseX = 1.0F / (float)Math.sqrt(m00 * m00 + m01 * m01 + m02 * m02);
+		float inverseY = 1.0F / (float)Math.sqrt(m10 * m10 + m11 * m11 + m12 * m12);
+		float inverseZ = 1.0F / (float)Math.sqrt(m20 * m20 + m21 * m21 + m22 * m22);
+		
+		Matrix4.toQuaternion(m00 * inverseX, m01 * inverseX, m02 * inverseX,
+							 m10 * inverseY, m11 * inverseY, m12 * inverseY,
+							 m20 * inverseZ, m21 * inverseZ, m22 * inverseZ,
+							 dest, offset);
+	}
+	
+	/**
+	 * Writes this transformation into a matrix.
+	 * @param dest the matrix that will receive the transformation
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Matrix4 toMatrix4(Matrix4 dest) {
+		
+		Quaternion r = this.real;
+		float scale = 1.0F / r.lengthSquared();
+		float tx = this.translationX() * scale;
+		float ty = this.translationY() * scale;
+		float tz = this.translationZ() * scale;
+		
+		return dest.fromTranslationRotationScale(tx, ty, tz, r.x, r.y, r.z, r.w, 1.0F, 1.0F, 1.0F);
+	}
+	
+	/**
+	 * Concatenates this transformation with another one ({@code this = this * b}), so that {@code b} is applied first.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the transformation on the right side of the multiplication
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion multiply(DualQuaternion b) {
+		
+		Quaternion ra = this.real, da = this.dual;
+		Quaternion rb = b.real, db = b.dual;
+		
+		// dual = ra * db + da * rb
+		float x = ra.x * db.w + ra.w * db.x + ra.y * db.z - ra.z * db.y + da.x * rb.w + da.w * rb.x + da.y * rb.z - da.z * rb.y;
+		float y = ra.y * db.w + ra.w * db.y + ra.z * db.x - ra.x * db.z + da.y * rb.w + da.w * rb.y + da.z * rb.x - da.x * rb.z;
+		float z = ra.z * db.w + ra.w * db.z + ra.x * db.y - ra.y * db.x + da.z * rb.w + da.w * rb.z + da.x * rb.y - da.y * rb.x;
+		float w = ra.w * db.w - ra.x * db.x - ra.y * db.y - ra.z * db.z + da.w * rb.w - da.x * rb.x - da.y * rb.y - da.z * rb.z;
+		
+		da.set(x, y, z, w);
+		ra.multiply(rb);
+		
+		return this;
+	}
+	
+	/**
+	 * Conjugates both parts. For a normalized dual quaternion this is the inverse transformation.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion conjugate() {
+		
+		this.real.conjugate();
+		this.dual.conjugate();
+		
+		return this;
+	}
+	
+	/**
+	 * Divides both parts by the length of the real part, so that it is a rigid transformation again.
+	 * Blended dual quaternions have to be normalized before they can be used.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion normalize() {
+		
+		float scale = 1.0F / this.real.length();
+		this.real.scale(scale);
+		this.dual.scale(scale);
+		
+		return this;
+	}
+	
+	/**
+	 * Adds another dual quaternion multiplied by a weight to this one. If the real parts are in different hemispheres,
+	 * the weight is negated, so that the blend takes the shorter way. Call {@linkplain #normalize()} after the last one.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the dual quaternion that should be added
+	 * @param weight the weight of {@code b}
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion blend(DualQuaternion b, float weight) {
+		
+		Quaternion ra = this.real, da = this.dual;
+		Quaternion rb = b.real, db = b.dual;
+		
+		if(ra.dot(rb) < 0.0F) {
+			
+			weight = -weight;
+		}
+		
+		ra.set(ra.x + rb.x * weight, ra.y + rb.y * weight, ra.z + rb.z * weight, ra.w + rb.w * weight);
+		da.set(da.x + db.x * weight, da.y + db.y * weight, da.z + db.z * weight, da.w + db.w * weight);
+		
+		return this;
+	}
+	
+	/**
+	 * 
+	 * @param dest the quaternion that will receive the rotation
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Quaternion getRotation(Quaternion dest) {
+		
+		dest.set(this.real);
+		return dest;
+	}
+	
+	/**
+	 * Calculates the translation ({@code 2 * dual * conjugate(real)}), the dual quaternion has to be normalized.
+	 * @param dest the vector that will receive the translation
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 getTranslation(Vector3 dest) {
+		
+		dest.set(this.translationX(), this.translationY(), this.translationZ());
+		return dest;
+	}
+	
+	private final float translationX() {
+		
+		Quaternion r = this.real, d = this.dual;
+		return 2.0F * (r.w * d.x - d.w * r.x + r.y * d.z - r.z * d.y);
+	}
+	
+	private final float translationY() {
+		
+		Quaternion r = this.real, d = this.dual;
+		return 2.0F * (r.w * d.y - d.w * r.y + r.z * d.x - r.x * d.z);
+	}
+	
+	private final float translationZ() {
+		
+		Quaternion r = this.real, d = this.dual;
+		return 2.0F * (r.w * d.z - d.w * r.z + r.x * d.y - r.y * d.x);
+	}
+	
+	/**
+	 * Transforms a point, the dual quaternion has to be normalized.
+	 * @param src the point that should be transformed
+	 * @param dest the vector that will receive the result, may be {@code src}
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 transform(Vector3 src, Vector3 dest) {
+		
+		float tx = this.translationX();
+		float ty = this.translationY();
+		float tz = this.translationZ();
+		
+		this.real.transform(src, dest);
+		dest.set(dest.x + tx, dest.y + ty, dest.z + tz);
+		
+		return dest;
+	}
+	
+	/**
+	 * 
+	 * @return a copy of this dual quaternion
+	 * @since 1.1.0
+	 */
+	public final DualQuaternion copy() {
+		
+		return new DualQuaternion(this);
+	}
+	
+	@Override
+	public final String toString() {
+		
+		return String.format("(%s,%s)", this.real, this.dual);
+	}
+	
+	@Override
+	public final boolean equals(Object object) {
+		
+		if(object != null && object instanceof DualQuaternion) {
+			
+			DualQuaternion dualQuaternion = (DualQuaternion)object;
+			return this.real.equals(dualQuaternion.real) && this.dual.equals(dualQuaternion.dual);
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public final int hashCode() {
+		
+		return this.real.hashCode() * 31 + this.dual.hashCode();
+	}
+}
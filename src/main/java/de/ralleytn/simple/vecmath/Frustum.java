@@ -0,0 +1,501 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Represents the view frustum of a camera as six planes whose normals point inwards.
+ * The planes are extracted from a view-projection matrix in the convention of {@linkplain Matrix4#transform(Vector4, Vector4)},
+ * with a depth range of {@code -1} to {@code 1} in clip space like in OpenGL, and are normalized so that
+ * inserting a point into a plane gives its distance to it.
+ * <p>
+ * The tests of bounding spheres and boxes are conservative, an object is only reported as invisible if it is completely outside of
+ * at least one plane. Objects near the corners of the frustum can be reported as visible even though they are outside of it.
+ * The batch variants read the bounding volumes from separate arrays for every component and write one bit per object into a {@code long} array,
+ * which is the cheapest way to cull hundreds of thousands of objects per frame. They don't allocate, except for the tasks of the parallel variants.
+ * </p>
+ * A frustum that was not set yet contains everything.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class Frustum {
+
+	/**
+	 * Index of the left plane.
+	 * @since 1.1.0
+	 */
+	public static final int LEFT = 0;
+	
+	/**
+	 * Index of the right plane.
+	 * @since 1.1.0
+	 */
+	public static final int RIGHT = 1;
+	
+	/**
+	 * Index of the bottom plane.
+	 * @since 1.1.0
+	 */
+	public static final int BOTTOM = 2;
+	
+	/**
+	 * Index of the top plane.
+	 * @since 1.1.0
+	 */
+	public static final int TOP = 3;
+	
+	/**
+	 * Index of the near plane.
+	 * @since 1.1.0
+	 */
+	public static final int NEAR = 4;
+	
+	/**
+	 * Index of the far plane.
+	 * @since 1.1.0
+	 */
+	public static final int FAR = 5;
+	
+	/**
+	 * Minimum number of objects for which the parallel variants actually use the pool.
+	 * @since 1.1.0
+	 */
+	public static final int PARALLEL_THRESHOLD = 16384;
+	
+	/**
+	 * Maximum number of objects that are tested by one task of the parallel variants. It is a multiple of 64,
+	 * so that no two tasks write into the same element of the bit set.
+	 * @since 1.1.0
+	 */
+	public static final int BATCH_SIZE = 4096;
+	
+	// a, b, c, d per plane, a point is inside of a plane if a * x + b * y + c * z + d >= 0
+	private final float[] planes = new float[24];
+	
+	/**
+	 * Constructs a frustum that contains everything.
+	 * @since 1.1.0
+	 */
+	public Frustum() {}
+	
+	/**
+	 * Constructs the frustum of a view-projection matrix.
+	 * @param viewProjection the view-projection matrix
+	 * @since 1.1.0
+	 */
+	public Frustum(Matrix4 viewProjection) {
+		
+		this.set(viewProjection);
+	}
+	
+	/**
+	 * Copy constructor.
+	 * @param frustum the frustum that should be copied
+	 * @since 1.1.0
+	 */
+	public Frustum(Frustum frustum) {
+		
+		this.set(frustum);
+	}
+	
+	/**
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param frustum the frustum whose planes should be copied
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Frustum set(Frustum frustum) {
+		
+		System.arraycopy(frustum.planes, 0, this.planes, 0, 24);
+		return this;
+	}
+	
+	/**
+	 * Extracts the planes of a view-projection matrix.
+	 * A point is inside of the frustum if its clip coordinates satisfy {@code -w <= x, y, z <= w}.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param viewProjection the view-projection matrix
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Frustum set(Matrix4 viewProjection) {
+		
+		Matrix4 m = viewProjection;
+		
+		// clip.w + clip.x >= 0 for the left plane, clip.w - clip.x >= 0 for the right one and so on
+		this.setPlane(LEFT,   m.m03 + m.m00, m.m13 + m.m10, m.m23 + m.m20, m.m33 + m.m30);
+		this.setPlane(RIGHT,  m.m03 - m.m00, m.m13 - m.m10, m.m23 - m.m20, m.m33 - m.m30);
+		this.setPlane(BOTTOM, m.m03 + m.m01, m.m13 + m.m11, m.m23 + m.m21, m.m33 + m.m31);
+		this.setPlane(TOP,    m.m03 - m.m01, m.m13 - m.m11, m.m23 - m.m21, m.m33 - m.m31);
+		this.setPlane(NEAR,   m.m03 + m.m02, m.m13 + m.m12, m.m23 + m.m22, m.m33 + m.m32);
+		this.setPlane(FAR,    m.m03 - m.m02, m.m13 - m.m12, m.m23 - m.m22, m.m33 - m.m32);
+		
+		return this;
+	}
+	
+	private final void setPlane(int plane, float a, float b, float c, float d) {
+		
+		float length = (float)Math.sqrt(a * a + b * b + c * c);
+		float scale = length > 0.0F ? 1.0F / length : 0.0F;
+		
+		this.planes[plane * 4]     = a * scale;
+		this.planes[plane * 4 + 1] = b * scale;
+		this.planes[plane * 4 + 2] = c * scale;
+		this.planes[plane * 4 + 3] = d * scale;
+	}
+	
+	/**
+	 * 
+	 * @param plane the index of the plane, {@linkplain #LEFT}, {@linkplain #RIGHT}, {@linkplain #BOTTOM}, {@linkplain #TOP}, {@linkplain #NEAR} or {@linkplain #FAR}
+	 * @param dest the vector that will receive the normal of the plane as x, y, z and its distance from the origin as w
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector4 getPlane(int plane, Vector4 dest) {
+		
+		dest.set(this.planes[plane * 4], this.planes[plane * 4 + 1], this.planes[plane * 4 + 2], this.planes[plane * 4 + 3]);
+		return dest;
+	}
+	
+	/**
+	 * 
+	 * @param point the point
+	 * @return {@code true} if the point is inside of the frustum or on one of its planes, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean contains(Vector3 point) {
+		
+		return this.intersects(point.x, point.y, point.z, 0.0F);
+	}
+	
+	/**
+	 * 
+	 * @param center the center of the sphere
+	 * @param radius the radius of the sphere
+	 * @return {@code true} if the sphere may be visible, {@code false} if it is completely outside of one of the planes
+	 * @since 1.1.0
+	 */
+	public final boolean intersects(Vector3 center, float radius) {
+		
+		return this.intersects(center.x, center.y, center.z, radius);
+	}
+	
+	private final boolean intersects(float x, float y, float z, float radius) {
+		
+		for(int plane = 0; plane < 24; plane += 4) {
+			
+			if(this.planes[plane] * x + this.planes[plane + 1] * y + this.planes[plane + 2] * z + this.planes[plane + 3] < -radius) {
+				
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * 
+	 * @param box the box
+	 * @return {@code true} if the box may be visible, {@code false} if it is completely outside of one of the planes or empty
+	 * @since 1.1.0
+	 */
+	public final boolean intersects(AABB box) {
+		
+		if(box.isEmpty()) {
+			
+			return false;
+		}
+		
+		// only the corner that is the farthest in the direction of the normal has to be tested
+		for(int plane = 0; plane < 24; plane += 4) {
+			
+			float a = this.planes[plane];
+			float b = this.planes[plane + 1];
+			float c = this.planes[plane + 2];
+			
+			if(a * (a < 0.0F ? box.min.x : box.max.x) + b * (b < 0.0F ? box.min.y : box.max.y) + c * (c < 0.0F ? box.min.z : box.max.z) + this.planes[plane + 3] < 0.0F) {
+				
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Tests multiple bounding spheres whose components are stored in separate arrays on the calling thread.
+	 * Bit {@code i % 64} of element {@code i / 64} of the bit set is set if the sphere at {@code offset + i} may be visible and cleared if it is not.
+	 * The bits after the last sphere in the last element are cleared.
+	 * @param x the x coordinates of the centers
+	 * @param y the y coordinates of the centers
+	 * @param z the z coordinates of the centers
+	 * @param radii the radii
+	 * @param offset index of the first sphere
+	 * @param visible the bit set that will receive the visibility, at least {@code (count + 63) / 64} elements long
+	 * @param count the number of spheres
+	 * @since 1.1.0
+	 */
+	public final void cullSpheres(float[] x, float[] y, float[] z, float[] radii, int offset, long[] visible, int count) {
+		
+		this.cullSpheres(x, y, z, radii, offset, visible, 0, count);
+	}
+	
+	/**
+	 * Tests multiple bounding spheres like {@linkplain #cullSpheres(float[], float[], float[], float[], int, long[], int)}, but splits them
+	 * into batches of at most {@value #BATCH_SIZE} spheres which are tested in parallel on the given pool.
+	 * Less than {@value #PARALLEL_THRESHOLD} spheres are tested on the calling thread.
+	 * @param x the x coordinates of the centers
+	 * @param y the y coordinates of the centers
+	 * @param z the z coordinates of the centers
+	 * @param radii the radii
+	 * @param offset index of the first sphere
+	 * @param visible the bit set that will receive the visibility, at least {@code (count + 63) / 64} elements long
+	 * @param count the number of spheres
+	 * @param pool the pool that tests the batches, for example {@linkplain ForkJoinPool#commonPool()}
+	 * @since 1.1.0
+	 */
+	public final void cullSpheres(float[] x, float[] y, float[] z, float[] radii, int offset, long[] visible, int count, ForkJoinPool pool) {
+		
+		if(count < PARALLEL_THRESHOLD) {
+			
+			this.cullSpheres(x, y, z, radii, offset, visible, 0, count);
+			
+		} else {
+			
+			pool.invoke(new Batch(this, new float[][] {x, y, z, radii}, offset, visible, 0, count));
+		}
+	}
+	
+	/**
+	 * Tests multiple axis-aligned bounding boxes whose components are stored in separate arrays on the calling thread.
+	 * Bit {@code i % 64} of element {@code i / 64} of the bit set is set if the box at {@code offset + i} may be visible and cleared if it is not.
+	 * The bits after the last box in the last element are cleared.
+	 * @param minX the smallest x coordinates
+	 * @param minY the smallest y coordinates
+	 * @param minZ the smallest z coordinates
+	 * @param maxX the largest x coordinates
+	 * @param maxY the largest y coordinates
+	 * @param maxZ the largest z coordinates
+	 * @param offset index of the first box
+	 * @param visible the bit set that will receive the visibility, at least {@code (count + 63) / 64} elements long
+	 * @param count the number of boxes
+	 * @since 1.1.0
+	 */
+	public final void cullBoxes(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, long[] visible, int count) {
+		
+		this.cullBoxes(minX, minY, minZ, maxX, maxY, maxZ, offset, visible, 0, count);
+	}
+	
+	/**
+	 * Tests multiple axis-aligned bounding boxes like {@linkplain #cullBoxes(float[], float[], float[], float[], float[], float[], int, long[], int)},
+	 * but splits them into batches of at most {@value #BATCH_SIZE} boxes which are tested in parallel on the given pool.
+	 * Less than {@value #PARALLEL_THRESHOLD} boxes are tested on the calling thread.
+	 * @param minX the smallest x coordinates
+	 * @param minY the smallest y coordinates
+	 * @param minZ the smallest z coordinates
+	 * @param maxX the largest x coordinates
+	 * @param maxY the largest y coordinates
+	 * @param maxZ the largest z coordinates
+	 * @param offset index of the first box
+	 * @param visible the bit set that will receive the visibility, at least {@code (count + 63) / 64} elements long
+	 * @param count the number of boxes
+	 * @param pool the pool that tests the batches, for example {@linkplain ForkJoinPool#commonPool()}
+	 * @since 1.1.0
+	 */
+	public final void cullBoxes(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, long[] visible, int count, ForkJoinPool pool) {
+		
+		if(count < PARALLEL_THRESHOLD) {
+			
+			this.cullBoxes(minX, minY, minZ, maxX, maxY, maxZ, offset, visible, 0, count);
+			
+		} else {
+			
+			pool.invoke(new Batch(this, new float[][] {minX, minY, minZ, maxX, maxY, maxZ}, offset, visible, 0, count));
+		}
+	}
+	
+	// start is a multiple of 64, every element of the bit set is written at once
+	private final void cullSpheres(float[] x, float[] y, float[] z, float[] radii, int offset, long[] visible, int start, int end) {
+		
+		float[] p = this.planes;
+		float a0 = p[0],  b0 = p[1],  c0 = p[2],  d0 = p[3];
+		float a1 = p[4],  b1 = p[5],  c1 = p[6],  d1 = p[7];
+		float a2 = p[8],  b2 = p[9],  c2 = p[10], d2 = p[11];
+		float a3 = p[12], b3 = p[13], c3 = p[14], d3 = p[15];
+		float a4 = p[16], b4 = p[17], c4 = p[18], d4 = p[19];
+		float a5 = p[20], b5 = p[21], c5 = p[22], d5 = p[23];
+		
+		for(int word = start; word < end; word += 64) {
+			
+			long bits = 0L;
+			
+			for(int index = word, last = Math.min(word + 64, end); index < last; index++) {
+				
+				int o = offset + index;
+				float sx = x[o];
+				float sy = y[o];
+				float sz = z[o];
+				float r = -radii[o];
+				
+				// no short circuit, the branches would be mispredicted all the time at the edges of the frustum
+				boolean inside = (a0 * sx + b0 * sy + c0 * sz + d0 >= r) &
+								 (a1 * sx + b1 * sy + c1 * sz + d1 >= r) &
+								 (a2 * sx + b2 * sy + c2 * sz + d2 >= r) &
+								 (a3 * sx + b3 * sy + c3 * sz + d3 >= r) &
+								 (a4 * sx + b4 * sy + c4 * sz + d4 >= r) &
+								 (a5 * sx + b5 * sy + c5 * sz + d5 >= r);
+				
+				bits |= (inside ? 1L : 0L) << index;
+			}
+			
+			visible[word >>> 6] = bits;
+		}
+	}
+	
+	// start is a multiple of 64, every element of the bit set is written at once
+	private final void cullBoxes(float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, long[] visible, int start, int end) {
+		
+		// the corner that is tested against a plane depends only on the signs of its normal, so it is chosen once per plane
+		float[] p = this.planes;
+		float[] x0 = p[0]  < 0.0F ? minX : maxX, y0 = p[1]  < 0.0F ? minY : maxY, z0 = p[2]  < 0.0F ? minZ : maxZ;
+		float[] x1 = p[4]  < 0.0F ? minX : maxX, y1 = p[5]  < 0.0F ? minY : maxY, z1 = p[6]  < 0.0F ? minZ : maxZ;
+		float[] x2 = p[8]  < 0.0F ? minX : maxX, y2 = p[9]  < 0.0F ? minY : maxY, z2 = p[10] < 0.0F ? minZ : maxZ;
+		float[] x3 = p[12] < 0.0F ? minX : maxX, y3 = p[13] < 0.0F ? minY : maxY, z3 = p[14] < 0.0F ? minZ : maxZ;
+		float[] x4 = p[16] < 0.0F ? minX : maxX, y4 = p[17] < 0.0F ? minY : maxY, z4 = p[18] < 0.0F ? minZ : maxZ;
+		float[] x5 = p[20] < 0.0F ? minX : maxX, y5 = p[21] < 0.0F ? minY : maxY, z5 = p[22] < 0.0F ? minZ : maxZ;
+		float a0 = p[0],  b0 = p[1],  c0 = p[2],  d0 = p[3];
+		float a1 = p[4],  b1 = p[5],  c1 = p[6],  d1 = p[7];
+		float a2 = p[8],  b2 = p[9],  c2 = p[10], d2 = p[11];
+		float a3 = p[12], b3 = p[13], c3 = p[14], d3 = p[15];
+		float a4 = p[16], b4 = p[17], c4 = p[18], d4 = p[19];
+		float a5 = p[20], b5 = p[21], c5 = p[22], d5 = p[23];
+		
+		for(int word = start; word < end; word += 64) {
+			
+			long bits = 0L;
+			
+			for(int index = word, last = Math.min(word + 64, end); index < last; index++) {
+				
+				int o = offset + index;
+				boolean inside = (a0 * x0[o] + b0 * y0[o] + c0 * z0[o] + d0 >= 0.0F) &
+								 (a1 * x1[o] + b1 * y1[o] + c1 * z1[o] + d1 >= 0.0F) &
+								 (a2 * x2[o] + b2 * y2[o] + c2 * z2[o] + d2 >= 0.0F) &
+								 (a3 * x3[o] + b3 * y3[o] + c3 * z3[o] + d3 >= 0.0F) &
+								 (a4 * x4[o] + b4 * y4[o] + c4 * z4[o] + d4 >= 0.0F) &
+								 (a5 * x5[o] + b5 * y5[o] + c5 * z5[o] + d5 >= 0.0F);
+				
+				bits |= (inside ? 1L : 0L) << index;
+			}
+			
+			visible[word >>> 6] = bits;
+		}
+	}
+	
+	/**
+	 * 
+	 * @return a copy of this frustum
+	 * @since 1.1.0
+	 */
+	public final Frustum copy() {
+		
+		return new Frustum(this);
+	}
+	
+	@Override
+	public final String toString() {
+		
+		return Arrays.toString(this.planes);
+	}
+	
+	@Override
+	public final boolean equals(Object object) {
+		
+		if(object != null && object instanceof Frustum) {
+			
+			return Arrays.equals(this.planes, ((Frustum)object).planes);
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public final int hashCode() {
+		
+		return Arrays.hashCode(this.planes);
+	}
+	
+	/**
+	 * Splits the object range it is responsible for in halves at multiples of 64 until it is not larger than {@value Frustum#BATCH_SIZE}.
+	 * The batches write to disjoint elements of the bit set, so no synchronization is needed.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	private static final class Batch extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		
+		private final Frustum frustum;
+		
+		// x, y, z and the radii of spheres or the minimum and the maximum of boxes
+		private final float[][] arrays;
+		private final int offset;
+		private final long[] visible;
+		private final int start;
+		private final int end;
+		
+		private Batch(Frustum frustum, float[][] arrays, int offset, long[] visible, int start, int end) {
+			
+			this.frustum = frustum;
+			this.arrays = arrays;
+			this.offset = offset;
+			this.visible = visible;
+			this.start = start;
+			this.end = end;
+		}
+		
+		@Override
+		protected final void compute() {
+			
+			if(this.end - this.start > BATCH_SIZE) {
+				
+				int middle = ((this.start + this.end) >>> 1) & ~63;
+				RecursiveAction.invokeAll(new Batch(this.frustum, this.arrays, this.offset, this.visible, this.start, middle),
+										  new Batch(this.frustum, this.arrays, this.offset, this.visible, middle, this.end));
+				
+			} else if(this.arrays.length == 4) {
+				
+				this.frustum.cullSpheres(this.arrays[0], this.arrays[1], this.arrays[2], this.arrays[3], this.offset, this.visible, this.start, this.end);
+				
+			} else {
+				
+				this.frustum.cullBoxes(this.arrays[0], this.arrays[1], this.arrays[2], this.arrays[3], this.arrays[4], this.arrays[5], this.offset, this.visible, this.start, this.end);
+			}
+		}
+	}
+}
@@ -0,0 +1,678 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A k-d tree over two or three dimensional points for nearest neighbor, k-nearest neighbor and radius queries.
+ * The points are given as one packed {@code float} array ({@code x, y} or {@code x, y, z} per point) and are copied into the tree,
+ * so the array can be changed afterwards without affecting the tree. Queries return the indices the points had in that array.
+ * <p>
+ * The tree is balanced. Every node splits its points at the median along the axis in which they are spread the most,
+ * the median point is stored at the node itself. Ranges of up to {@value #LEAF_SIZE} points are not split anymore
+ * and are searched linearly. The tree is stored implicitly in the order of its points, so there are no node objects.
+ * Building a tree takes O(n log n), a query about O(log n) for evenly spread points.
+ * </p>
+ * Queries don't allocate and can run on multiple threads at once. A tree cannot be changed, moved points need a new tree.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class KDTree {
+
+	/**
+	 * Maximum number of points that are searched linearly instead of being split.
+	 * @since 1.1.0
+	 */
+	public static final int LEAF_SIZE = 8;
+
+	/**
+	 * Minimum number of points in a subtree before its halves are built in parallel.
+	 * @since 1.1.0
+	 */
+	public static final int PARALLEL_THRESHOLD = 16384;
+
+	private final int dimension;
+	private final int size;
+
+	// the points in the order of the tree, the node that covers [lo, hi) stores its median at (lo + hi) >>> 1
+	private final float[] coordinates;
+	private final int[] indices;
+	private final byte[] axes;
+
+	/**
+	 * Builds a tree on the calling thread.
+	 * @param points the packed points
+	 * @param offset index of the first element
+	 * @param count number of points
+	 * @param dimension {@code 2} or {@code 3}
+	 * @throws IllegalArgumentException if the dimension is not {@code 2} or {@code 3} or the array doesn't contain enough points
+	 * @since 1.1.0
+	 */
+	public KDTree(float[] points, int offset, int count, int dimension) {
+
+		this(points, offset, count, dimension, null);
+	}
+
+	/**
+	 * Builds a tree using multiple threads. The two halves of every subtree with at least
+	 * {@value #PARALLEL_THRESHOLD} points are built in parallel on the given pool.
+	 * @param points the packed points
+	 * @param offset index of the first element
+	 * @param count number of points
+	 * @param dimension {@code 2} or {@code 3}
+	 * @param pool the pool that builds the subtrees, for example {@linkplain ForkJoinPool#commonPool()}
+	 * @throws IllegalArgumentException if the dimension is not {@code 2} or {@code 3} or the array doesn't contain enough points
+	 * @since 1.1.0
+	 */
+	public KDTree(float[] points, int offset, int count, int dimension, ForkJoinPool pool) {
+
+		if(dimension != 2 && dimension != 3) {
+
+			throw new IllegalArgumentException("Only 2 and 3 dimensional points are supported! (" + dimension + ")");
+		}
+
+		if(count < 0 || offset < 0 || offset + (long)count * dimension > points.length) {
+
+			throw new IllegalArgumentException("The array doesn't contain " + count + " points at the offset " + offset + "!");
+		}
+
+		this.dimension = dimension;
+		this.size = count;
+		this.coordinates = new float[count * dimension];
+		this.indices = new int[count];
+		this.axes = new byte[count];
+
+		for(int index = 0; index < count; index++) {
+
+			this.indices[index] = index;
+		}
+
+		// the points are sorted through the indices and only copied in the final order
+		if(pool != null && count >= PARALLEL_THRESHOLD) {
+
+			pool.invoke(new Build(this, points, offset, 0, count));
+
+		} else {
+
+			this.build(points, offset, 0, count);
+		}
+
+		for(int index = 0; index < count; index++) {
+
+			System.arraycopy(points, offset + this.indices[index] * dimension, this.coordinates, index * dimension, dimension);
+		}
+	}
+
+	private final void build(float[] points, int offset, int lo, int hi) {
+
+		while(hi - lo > LEAF_SIZE) {
+
+			int median = this.split(points, offset, lo, hi);
+			this.build(points, offset, lo, median);
+			lo = median + 1;
+		}
+	}
+
+	private final int split(float[] points, int offset, int lo, int hi) {
+
+		int axis = this.widestAxis(points, offset, lo, hi);
+		int median = (lo + hi) >>> 1;
+		this.select(points, offset + axis, lo, hi - 1, median);
+		this.axes[median] = (byte)axis;
+		return median;
+	}
+
+	private final int widestAxis(float[] points, int offset, int lo, int hi) {
+
+		int axis = 0;
+		float widest = -1.0F;
+
+		for(int current = 0; current < this.dimension; current++) {
+
+			float min = Float.POSITIVE_INFINITY;
+			float max = Float.NEGATIVE_INFINITY;
+
+			for(int index = lo; index < hi; index++) {
+
+				float value = points[offset + this.indices[index] * this.dimension + current];
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+			}
+
+			if(max - min > widest) {
+
+				widest = max - min;
+				axis = current;
+			}
+		}
+
+		return axis;
+	}
+
+	// quickselect, afterwards the index at k belongs to the k-th smallest coordinate and is the boundary between the smaller and larger ones
+	private final void select(float[] points, int offset, int left, int right, int k) {
+
+		int[] indices = this.indices;
+		int dimension = this.dimension;
+
+		while(right > left) {
+
+			// median of three, which also puts a sentinel at both ends
+			int middle = (left + right) >>> 1;
+
+			if(points[offset + indices[middle] * dimension] < points[offset + indices[left] * dimension]) swap(indices, left, middle);
+			if(points[offset + indices[right] * dimension] < points[offset + indices[left] * dimension]) swap(indices, left, right);
+			if(points[offset + indices[right] * dimension] < points[offset + indices[middle] * dimension]) swap(indices, middle, right);
+
+			float pivot = points[offset + indices[middle] * dimension];
+			int i = left;
+			int j = right;
+
+			while(i <= j) {
+
+				while(points[offset + indices[i] * dimension] < pivot) i++;
+				while(points[offset + indices[j] * dimension] > pivot) j--;
+
+				if(i <= j) {
+
+					swap(indices, i++, j--);
+				}
+			}
+
+			if(k <= j) {
+
+				right = j;
+
+			} else if(k >= i) {
+
+				left = i;
+
+			} else {
+
+				return;
+			}
+		}
+	}
+
+	private static final void swap(int[] array, int a, int b) {
+
+		int value = array[a];
+		array[a] = array[b];
+		array[b] = value;
+	}
+
+	/**
+	 *
+	 * @return {@code 2} or {@code 3}
+	 * @since 1.1.0
+	 */
+	public final int getDimension() {
+
+		return this.dimension;
+	}
+
+	/**
+	 *
+	 * @return the number of points
+	 * @since 1.1.0
+	 */
+	public final int size() {
+
+		return this.size;
+	}
+
+	/**
+	 * Finds the point that is the closest to the given one in a two dimensional tree.
+	 * @param point the point
+	 * @return the index of the closest point, {@code -1} if the tree is empty
+	 * @throws IllegalStateException if the tree is not two dimensional
+	 * @since 1.1.0
+	 */
+	public final int nearest(Vector2 point) {
+
+		this.checkDimension(2);
+		return this.nearest(point.x, point.y, 0.0F);
+	}
+
+	/**
+	 * Finds the point that is the closest to the given one in a three dimensional tree.
+	 * @param point the point
+	 * @return the index of the closest point, {@code -1} if the tree is empty
+	 * @throws IllegalStateException if the tree is not three dimensional
+	 * @since 1.1.0
+	 */
+	public final int nearest(Vector3 point) {
+
+		this.checkDimension(3);
+		return this.nearest(point.x, point.y, point.z);
+	}
+
+	/**
+	 * Finds the {@code k} points that are the closest to the given one in a two dimensional tree.
+	 * @param point the point
+	 * @param k the number of points
+	 * @param indices the array that will receive the indices of the points, sorted from the closest to the farthest
+	 * @param distancesSquared the array that will receive the squared distances of the points, may be {@code null}
+	 * @return the number of points that were found, the smaller one of {@code k} and {@linkplain #size()}
+	 * @throws IllegalStateException if the tree is not two dimensional
+	 * @throws IllegalArgumentException if one of the arrays is smaller than {@code k}
+	 * @since 1.1.0
+	 */
+	public final int nearest(Vector2 point, int k, int[] indices, float[] distancesSquared) {
+
+		this.checkDimension(2);
+		return this.nearest(point.x, point.y, 0.0F, k, indices, distancesSquared);
+	}
+
+	/**
+	 * Finds the {@code k} points that are the closest to the given one in a three dimensional tree.
+	 * @param point the point
+	 * @param k the number of points
+	 * @param indices the array that will receive the indices of the points, sorted from the closest to the farthest
+	 * @param distancesSquared the array that will receive the squared distances of the points, may be {@code null}
+	 * @return the number of points that were found, the smaller one of {@code k} and {@linkplain #size()}
+	 * @throws IllegalStateException if the tree is not three dimensional
+	 * @throws IllegalArgumentException if one of the arrays is smaller than {@code k}
+	 * @since 1.1.0
+	 */
+	public final int nearest(Vector3 point, int k, int[] indices, float[] distancesSquared) {
+
+		this.checkDimension(3);
+		return this.nearest(point.x, point.y, point.z, k, indices, distancesSquared);
+	}
+
+	/**
+	 * Finds all points within a radius around the given one in a two dimensional tree.
+	 * The points are not sorted. If there are more points than the array can hold, the remaining ones are counted, but not stored.
+	 * @param point the center
+	 * @param radius the radius, points at exactly this distance are included
+	 * @param indices the array that will receive the indices of the points
+	 * @return the number of points within the radius, which may be larger than the length of the array
+	 * @throws IllegalStateException if the tree is not two dimensional
+	 * @since 1.1.0
+	 */
+	public final int radius(Vector2 point, float radius, int[] indices) {
+
+		this.checkDimension(2);
+		return this.radius(0, this.size, point.x, point.y, 0.0F, radius * radius, indices, 0);
+	}
+
+	/**
+	 * Finds all points within a radius around the given one in a three dimensional tree.
+	 * The points are not sorted. If there are more points than the array can hold, the remaining ones are counted, but not stored.
+	 * @param point the center
+	 * @param radius the radius, points at exactly this distance are included
+	 * @param indices the array that will receive the indices of the points
+	 * @return the number of points within the radius, which may be larger than the length of the array
+	 * @throws IllegalStateException if the tree is not three dimensional
+	 * @since 1.1.0
+	 */
+	public final int radius(Vector3 point, float radius, int[] indices) {
+
+		this.checkDimension(3);
+		return this.radius(0, this.size, point.x, point.y, point.z, radius * radius, indices, 0);
+	}
+
+	private final void checkDimension(int dimension) {
+
+		if(this.dimension != dimension) {
+
+			throw new IllegalStateException("Cannot query a " + this.dimension + " dimensional tree with a " + dimension + " dimensional point!");
+		}
+	}
+
+	// the query point is always passed as three floats, z is zero for two dimensional trees and never read
+	private final float distanceSquared(int position, float x, float y, float z) {
+
+		int index = position * this.dimension;
+		float dx = this.coordinates[index] - x;
+		float dy = this.coordinates[index + 1] - y;
+
+		if(this.dimension == 2) {
+
+			return dx * dx + dy * dy;
+		}
+
+		float dz = this.coordinates[index + 2] - z;
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	// signed distance of the query point to the splitting plane of the node with the median at the given position
+	private final float planeDistance(int median, float x, float y, float z) {
+
+		int axis = this.axes[median];
+		float query = axis == 0 ? x : axis == 1 ? y : z;
+		return query - this.coordinates[median * this.dimension + axis];
+	}
+
+	private final int nearest(float x, float y, float z) {
+
+		return this.size == 0 ? -1 : this.indices[this.nearest(0, this.size, x, y, z, -1)];
+	}
+
+	// returns the position of the closest point found so far, the recursion depth is only log2(n / LEAF_SIZE)
+	private final int nearest(int lo, int hi, float x, float y, float z, int best) {
+
+		float bestDistance = best < 0 ? Float.POSITIVE_INFINITY : this.distanceSquared(best, x, y, z);
+
+		if(hi - lo <= LEAF_SIZE) {
+
+			for(int position = lo; position < hi; position++) {
+
+				float distance = this.distanceSquared(position, x, y, z);
+
+				if(distance < bestDistance) {
+
+					bestDistance = distance;
+					best = position;
+				}
+			}
+
+			return best;
+		}
+
+		int median = (lo + hi) >>> 1;
+		float distance = this.distanceSquared(median, x, y, z);
+
+		if(distance < bestDistance) {
+
+			bestDistance = distance;
+			best = median;
+		}
+
+		float plane = this.planeDistance(median, x, y, z);
+
+		// the side of the query point first, the other side only if the sphere around the best point crosses the plane
+		if(plane < 0.0F) {
+
+			best = this.nearest(lo, median, x, y, z, best);
+
+			if(plane * plane < this.distanceSquared(best, x, y, z)) {
+
+				best = this.nearest(median + 1, hi, x, y, z, best);
+			}
+
+		} else {
+
+			best = this.nearest(median + 1, hi, x, y, z, best);
+
+			if(plane * plane < this.distanceSquared(best, x, y, z)) {
+
+				best = this.nearest(lo, median, x, y, z, best);
+			}
+		}
+
+		return best;
+	}
+
+	private final int nearest(float x, float y, float z, int k, int[] indices, float[] distancesSquared) {
+
+		if(indices.length < k || (distancesSquared != null && distancesSquared.length < k)) {
+
+			throw new IllegalArgumentException("The arrays must be able to hold " + k + " points!");
+		}
+
+		k = Math.min(k, this.size);
+
+		if(k <= 0) {
+
+			return 0;
+		}
+
+		// the arrays are used as a max-heap of the tree positions of the k closest points found so far
+		int found = this.nearest(0, this.size, x, y, z, k, indices, distancesSquared, 0);
+
+		// heap sort, every step moves the farthest remaining point behind the heap
+		for(int end = found - 1; end > 0; end--) {
+
+			swap(indices, distancesSquared, 0, end);
+			this.siftDown(indices, distancesSquared, 0, end, x, y, z);
+		}
+
+		for(int index = 0; index < found; index++) {
+
+			if(distancesSquared != null) {
+
+				distancesSquared[index] = this.distanceSquared(indices[index], x, y, z);
+			}
+
+			indices[index] = this.indices[indices[index]];
+		}
+
+		return found;
+	}
+
+	private final int nearest(int lo, int hi, float x, float y, float z, int k, int[] heap, float[] distances, int found) {
+
+		if(hi - lo <= LEAF_SIZE) {
+
+			for(int position = lo; position < hi; position++) {
+
+				found = this.offer(position, x, y, z, k, heap, distances, found);
+			}
+
+			return found;
+		}
+
+		int median = (lo + hi) >>> 1;
+		found = this.offer(median, x, y, z, k, heap, distances, found);
+		float plane = this.planeDistance(median, x, y, z);
+		int nearLo = plane < 0.0F ? lo : median + 1;
+		int nearHi = plane < 0.0F ? median : hi;
+		found = this.nearest(nearLo, nearHi, x, y, z, k, heap, distances, found);
+
+		if(found < k || plane * plane < this.heapDistance(heap, distances, 0, x, y, z)) {
+
+			found = plane < 0.0F ? this.nearest(median + 1, hi, x, y, z, k, heap, distances, found) : this.nearest(lo, median, x, y, z, k, heap, distances, found);
+		}
+
+		return found;
+	}
+
+	// adds a point to the heap if it is not full yet or if the point is closer than the farthest one in it
+	private final int offer(int position, float x, float y, float z, int k, int[] heap, float[] distances, int found) {
+
+		float distance = this.distanceSquared(position, x, y, z);
+
+		if(found < k) {
+
+			// sift up
+			int child = found;
+
+			while(child > 0) {
+
+				int parent = (child - 1) >>> 1;
+				float parentDistance = this.heapDistance(heap, distances, parent, x, y, z);
+
+				if(parentDistance >= distance) {
+
+					break;
+				}
+
+				heap[child] = heap[parent];
+
+				if(distances != null) {
+
+					distances[child] = parentDistance;
+				}
+
+				child = parent;
+			}
+
+			heap[child] = position;
+
+			if(distances != null) {
+
+				distances[child] = distance;
+			}
+
+			return found + 1;
+		}
+
+		if(distance < this.heapDistance(heap, distances, 0, x, y, z)) {
+
+			heap[0] = position;
+
+			if(distances != null) {
+
+				distances[0] = distance;
+			}
+
+			this.siftDown(heap, distances, 0, found, x, y, z);
+		}
+
+		return found;
+	}
+
+	private final void siftDown(int[] heap, float[] distances, int parent, int size, float x, float y, float z) {
+
+		while(true) {
+
+			int largest = parent;
+			int left = parent * 2 + 1;
+			int right = left + 1;
+
+			if(left < size && this.heapDistance(heap, distances, left, x, y, z) > this.heapDistance(heap, distances, largest, x, y, z)) {
+
+				largest = left;
+			}
+
+			if(right < size && this.heapDistance(heap, distances, right, x, y, z) > this.heapDistance(heap, distances, largest, x, y, z)) {
+
+				largest = right;
+			}
+
+			if(largest == parent) {
+
+				return;
+			}
+
+			swap(heap, distances, parent, largest);
+			parent = largest;
+		}
+	}
+
+	// without an array for the distances they are calculated again whenever they are needed
+	private final float heapDistance(int[] heap, float[] distances, int index, float x, float y, float z) {
+
+		return distances != null ? distances[index] : this.distanceSquared(heap[index], x, y, z);
+	}
+
+	private static final void swap(int[] heap, float[] distances, int a, int b) {
+
+		swap(heap, a, b);
+
+		if(distances != null) {
+
+			float distance = distances[a];
+			distances[a] = distances[b];
+			distances[b] = distance;
+		}
+	}
+
+	private final int radius(int lo, int hi, float x, float y, float z, float radiusSquared, int[] result, int found) {
+
+		if(hi - lo <= LEAF_SIZE) {
+
+			for(int position = lo; position < hi; position++) {
+
+				if(this.distanceSquared(position, x, y, z) <= radiusSquared) {
+
+					if(found < result.length) {
+
+						result[found] = this.indices[position];
+					}
+
+					found++;
+				}
+			}
+
+			return found;
+		}
+
+		int median = (lo + hi) >>> 1;
+		float plane = this.planeDistance(median, x, y, z);
+
+		if(this.distanceSquared(median, x, y, z) <= radiusSquared) {
+
+			if(found < result.length) {
+
+				result[found] = this.indices[median];
+			}
+
+			found++;
+		}
+
+		// the points below the median are not larger than it on the splitting axis and the points above are not smaller
+		if(plane <= 0.0F || plane * plane <= radiusSquared) {
+
+			found = this.radius(lo, median, x, y, z, radiusSquared, result, found);
+		}
+
+		if(plane >= 0.0F || plane * plane <= radiusSquared) {
+
+			found = this.radius(median + 1, hi, x, y, z, radiusSquared, result, found);
+		}
+
+		return found;
+	}
+
+	private static final class Build extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final KDTree tree;
+		private final float[] points;
+		private final int offset;
+		private final int lo;
+		private final int hi;
+
+		private Build(KDTree tree, float[] points, int offset, int lo, int hi) {
+
+			this.tree = tree;
+			this.points = points;
+			this.offset = offset;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected final void compute() {
+
+			if(this.hi - this.lo < PARALLEL_THRESHOLD) {
+
+				this.tree.build(this.points, this.offset, this.lo, this.hi);
+
+			} else {
+
+				// both halves only touch their own range of the indices
+				int median = this.tree.split(this.points, this.offset, this.lo, this.hi);
+				invokeAll(new Build(this.tree, this.points, this.offset, this.lo, median), new Build(this.tree, this.points, this.offset, median + 1, this.hi));
+			}
+		}
+	}
+}
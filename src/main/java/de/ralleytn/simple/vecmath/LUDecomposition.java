@@ -0,0 +1,417 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import de.ralleytn.simple.vecmath.internal.FloatKernels;
+
+/**
+ * LU decomposition with partial pivoting of a square {@linkplain MatrixN} ({@code P * A = L * U}).
+ * The factorization costs about {@code n^3 / 3} multiply-add operations, every following call of one of the
+ * {@code solve} methods only {@code n^2} per right-hand side, so linear systems can be solved without ever forming the inverse.
+ * L (without its unit diagonal) and U are stored together in one flat row-major buffer which is reused
+ * when another matrix of the same size is decomposed.
+ * A matrix is treated as singular if one of the pivots is exactly zero.
+ * A decomposition is not thread-safe. Even the {@code solve} methods, which leave the factorization untouched,
+ * share one work buffer of the instance, so every thread needs its own decomposition.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class LUDecomposition {
+
+	private int size;
+	private float[] lu;
+	private int[] pivots;
+	// work buffer of solve(VectorN, VectorN), the reason why an instance can't be shared between threads
+	private float[] scratch;
+	private boolean evenPermutation;
+	private boolean singular;
+
+	/**
+	 * Creates an empty decomposition for matrices with the given size.
+	 * @param size the number of rows and columns
+	 * @since 1.1.0
+	 */
+	public LUDecomposition(int size) {
+
+		this.allocate(size);
+	}
+
+	/**
+	 * Decomposes a matrix. The matrix itself is not changed.
+	 * @param matrix the square matrix
+	 * @throws IllegalArgumentException if the matrix is not square
+	 * @since 1.1.0
+	 */
+	public LUDecomposition(MatrixN matrix) {
+
+		this(matrix.getHeight());
+		this.decompose(matrix);
+	}
+
+	private final void allocate(int size) {
+
+		this.size = size;
+		this.lu = new float[size * size];
+		this.pivots = new int[size];
+		this.scratch = new float[size];
+	}
+
+	/**
+	 * Decomposes another matrix. The buffers are only reallocated if the size changed.
+	 * The matrix itself is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param matrix the square matrix
+	 * @return this instance
+	 * @throws IllegalArgumentException if the matrix is not square
+	 * @since 1.1.0
+	 */
+	public final LUDecomposition decompose(MatrixN matrix) {
+
+		if(matrix.width != matrix.height) {
+
+			throw new IllegalArgumentException("Only square matrices can be decomposed! (" + matrix.height + "x" + matrix.width + ")");
+		}
+
+		if(matrix.height != this.size) {
+
+			this.allocate(matrix.height);
+		}
+
+		int n = this.size;
+		float[] lu = this.lu;
+
+		for(int row = 0; row < n; row++) {
+
+			matrix.readRow(row, lu, row * n);
+			this.pivots[row] = row;
+		}
+
+		this.evenPermutation = true;
+		this.singular = false;
+
+		for(int k = 0; k < n; k++) {
+
+			int pivot = k;
+			float max = Math.abs(lu[k * n + k]);
+
+			for(int row = k + 1; row < n; row++) {
+
+				float value = Math.abs(lu[row * n + k]);
+
+				if(value > max) {
+
+					max = value;
+					pivot = row;
+				}
+			}
+
+			if(pivot != k) {
+
+				this.swapRows(k, pivot);
+			}
+
+			float diagonal = lu[k * n + k];
+
+			if(diagonal == 0.0F) {
+
+				// the whole column below the diagonal is zero, there is nothing to eliminate
+				this.singular = true;
+				continue;
+			}
+
+			int pivotRow = k * n;
+
+			for(int row = k + 1; row < n; row++) {
+
+				int current = row * n;
+				float factor = lu[current + k] / diagonal;
+				lu[current + k] = factor;
+
+				if(factor != 0.0F) {
+
+					FloatKernels.axpy(-factor, lu, pivotRow + k + 1, lu, current + k + 1, n - k - 1);
+				}
+			}
+		}
+
+		return this;
+	}
+
+	private final void swapRows(int a, int b) {
+
+		int n = this.size;
+		float[] lu = this.lu;
+
+		for(int column = 0, rowA = a * n, rowB = b * n; column < n; column++) {
+
+			float value = lu[rowA + column];
+			lu[rowA + column] = lu[rowB + column];
+			lu[rowB + column] = value;
+		}
+
+		int pivot = this.pivots[a];
+		this.pivots[a] = this.pivots[b];
+		this.pivots[b] = pivot;
+		this.evenPermutation = !this.evenPermutation;
+	}
+
+	/**
+	 *
+	 * @return the number of rows and columns of the decomposed matrix
+	 * @since 1.1.0
+	 */
+	public final int size() {
+
+		return this.size;
+	}
+
+	/**
+	 *
+	 * @return {@code true} if one of the pivots is zero, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean isSingular() {
+
+		return this.singular;
+	}
+
+	/**
+	 * Calculates the determinant of the decomposed matrix from the diagonal of U.
+	 * @return the determinant
+	 * @since 1.1.0
+	 */
+	public final float determinant() {
+
+		float determinant = this.evenPermutation ? 1.0F : -1.0F;
+
+		for(int index = 0; index < this.size; index++) {
+
+			determinant *= this.lu[index * this.size + index];
+		}
+
+		return determinant;
+	}
+
+	/**
+	 * Solves {@code A * x = b}.
+	 * @param b the right-hand side
+	 * @return a new vector containing {@code x}
+	 * @throws IllegalArgumentException if the size of {@code b} doesn't match
+	 * @throws ArithmeticException if the matrix is singular
+	 * @since 1.1.0
+	 */
+	public final VectorN solve(VectorN b) {
+
+		return this.solve(b, new VectorN(this.size));
+	}
+
+	/**
+	 * Solves {@code A * x = b} without allocating.
+	 * @param b the right-hand side
+	 * @param dest the vector that will receive {@code x}, may be {@code b}
+	 * @return {@code dest}
+	 * @throws IllegalArgumentException if the size of one of the vectors doesn't match
+	 * @throws ArithmeticException if the matrix is singular
+	 * @since 1.1.0
+	 */
+	public final VectorN solve(VectorN b, VectorN dest) {
+
+		if(b.size != this.size || dest.size != this.size) {
+
+			throw new IllegalArgumentException("The vectors must have the size " + this.size + "!");
+		}
+
+		this.checkSingular();
+
+		int n = this.size;
+		float[] lu = this.lu;
+		float[] x = this.scratch;
+
+		for(int row = 0; row < n; row++) {
+
+			x[row] = b.get(this.pivots[row]);
+		}
+
+		// forward substitution with the unit lower triangle
+		for(int row = 1; row < n; row++) {
+
+			x[row] -= FloatKernels.dot(lu, row * n, x, 0, row);
+		}
+
+		// back substitution with the upper triangle
+		for(int row = n - 1; row >= 0; row--) {
+
+			int diagonal = row * n + row;
+			x[row] = (x[row] - FloatKernels.dot(lu, diagonal + 1, x, row + 1, n - row - 1)) / lu[diagonal];
+		}
+
+		if(dest.buffer != null) {
+
+			dest.view().duplicate().put(x, 0, n);
+
+		} else {
+
+			System.arraycopy(x, 0, dest.data, 0, n);
+		}
+
+		return dest;
+	}
+
+	/**
+	 * Solves {@code A * X = B} for all columns of B at once.
+	 * @param b the right-hand sides
+	 * @return a new matrix containing {@code X}
+	 * @throws IllegalArgumentException if the height of {@code b} doesn't match
+	 * @throws ArithmeticException if the matrix is singular
+	 * @since 1.1.0
+	 */
+	public final MatrixN solve(MatrixN b) {
+
+		return this.solve(b, new MatrixN(b.width, this.size));
+	}
+
+	/**
+	 * Solves {@code A * X = B} for all columns of B at once without allocating.
+	 * @param b the right-hand sides
+	 * @param dest the matrix that will receive {@code X}, must have the same dimensions as {@code b} and must not be {@code b}
+	 * @return {@code dest}
+	 * @throws IllegalArgumentException if the dimensions of one of the matrices don't match or {@code dest} is {@code b}
+	 * @throws ArithmeticException if the matrix is singular
+	 * @since 1.1.0
+	 */
+	public final MatrixN solve(MatrixN b, MatrixN dest) {
+
+		if(b.height != this.size || dest.height != this.size || dest.width != b.width || dest == b) {
+
+			throw new IllegalArgumentException("Both matrices must have " + this.size + " rows and the same width and they must be different instances!");
+		}
+
+		this.checkSingular();
+
+		if(dest.buffer != null) {
+
+			return this.copy(this.solve(b, new MatrixN(b.width, this.size)), dest);
+		}
+
+		for(int row = 0; row < this.size; row++) {
+
+			b.readRow(this.pivots[row], dest.data, row * dest.stride);
+		}
+
+		this.substitute(dest);
+		return dest;
+	}
+
+	/**
+	 * Calculates the inverse of the decomposed matrix.
+	 * @param dest the matrix that will receive the inverse, may be the decomposed matrix itself
+	 * @return {@code dest}
+	 * @throws IllegalArgumentException if {@code dest} doesn't have the size of the decomposed matrix
+	 * @throws ArithmeticException if the matrix is singular
+	 * @since 1.1.0
+	 */
+	public final MatrixN inverse(MatrixN dest) {
+
+		if(dest.width != this.size || dest.height != this.size) {
+
+			throw new IllegalArgumentException("The matrix must have the size " + this.size + "x" + this.size + "!");
+		}
+
+		this.checkSingular();
+
+		if(dest.buffer != null) {
+
+			return this.copy(this.inverse(new MatrixN(this.size, this.size)), dest);
+		}
+
+		dest.zero();
+
+		// P * I
+		for(int row = 0; row < this.size; row++) {
+
+			dest.data[row * dest.stride + this.pivots[row]] = 1.0F;
+		}
+
+		this.substitute(dest);
+		return dest;
+	}
+
+	// the substitution only works on arrays, so the result for a matrix in a buffer is calculated on the heap and then copied
+	private final MatrixN copy(MatrixN source, MatrixN dest) {
+
+		for(int row = 0; row < source.height; row++) {
+
+			dest.writeRow(row, source.data, row * source.stride);
+		}
+
+		return dest;
+	}
+
+	// solves L * U * X = X in place, row by row so that every step works on contiguous rows of X
+	private final void substitute(MatrixN x) {
+
+		int n = this.size;
+		int width = x.width;
+		int stride = x.stride;
+		float[] lu = this.lu;
+		float[] data = x.data;
+
+		for(int row = 1; row < n; row++) {
+
+			for(int k = 0; k < row; k++) {
+
+				float factor = lu[row * n + k];
+
+				if(factor != 0.0F) {
+
+					FloatKernels.axpy(-factor, data, k * stride, data, row * stride, width);
+				}
+			}
+		}
+
+		for(int row = n - 1; row >= 0; row--) {
+
+			for(int k = row + 1; k < n; k++) {
+
+				float factor = lu[row * n + k];
+
+				if(factor != 0.0F) {
+
+					FloatKernels.axpy(-factor, data, k * stride, data, row * stride, width);
+				}
+			}
+
+			FloatKernels.scale(data, row * stride, width, 1.0F / lu[row * n + row]);
+		}
+	}
+
+	private final void checkSingular() {
+
+		if(this.singular) {
+
+			throw new ArithmeticException("The matrix is singular!");
+		}
+	}
+}
@@ -0,0 +1,503 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A stack of reusable vectors, quaternions and matrices for temporary values.
+ * Because every operation manipulates the instance it is called on, code that chains operations has to copy its inputs first,
+ * which creates a lot of short-lived objects. An arena hands out pooled instances instead:
+ * <pre>
+ * try(MathArena arena = MathArena.open()) {
+ * 
+ *     Vector3 direction = arena.vector3(target).subtract(position).normalize();
+ *     ...
+ * }
+ * </pre>
+ * Every instance that was acquired in a scope belongs to the arena again once the scope is closed, no matter how many there were,
+ * so closing a scope is O(1). Scopes can be nested. The pools only grow until they hold as many instances as the deepest
+ * use needed, after that nothing is allocated anymore.
+ * <p>
+ * Every thread has its own arena ({@linkplain #get()}), so no locking is needed. An arena itself is not thread-safe
+ * and instances of it must not be handed to other threads.
+ * </p>
+ * In debug mode every released instance is filled with {@code NaN},
+ * so that reading it after the release poisons every result, and an {@linkplain IllegalStateException} is thrown when an instance
+ * that was changed after its release is acquired again. In this mode closing a scope is O(n).
+ * The arenas of the threads are in debug mode if the system property {@code de.ralleytn.simple.vecmath.arena.debug} is {@code true}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class MathArena implements AutoCloseable {
+
+	private static final boolean DEBUG = Boolean.getBoolean("de.ralleytn.simple.vecmath.arena.debug");
+	private static final ThreadLocal<MathArena> ARENAS = ThreadLocal.withInitial(MathArena::new);
+	private static final int POOLS = 6;
+	private static final float[] POISON = new float[16];
+	
+	static {
+		
+		Arrays.fill(POISON, Float.NaN);
+	}
+	
+	private final Pool<Vector2> vector2s;
+	private final Pool<Vector3> vector3s;
+	private final Pool<Vector4> vector4s;
+	private final Pool<Quaternion> quaternions;
+	private final Pool<Matrix3> matrix3s;
+	private final Pool<Matrix4> matrix4s;
+	private final boolean debug;
+	
+	// the tops of all pools when the scopes were opened, POOLS ints per scope
+	private int[] marks = new int[POOLS * 8];
+	private int depth;
+	
+	/**
+	 * Creates an arena that is independent of the one of the current thread.
+	 * Usually {@linkplain #get()} or {@linkplain #open()} should be used instead.
+	 * The arena is in debug mode if the system property {@code de.ralleytn.simple.vecmath.arena.debug} is {@code true}.
+	 * @since 1.1.0
+	 */
+	public MathArena() {
+		
+		this(DEBUG);
+	}
+	
+	/**
+	 * Creates an arena that is independent of the one of the current thread.
+	 * Usually {@linkplain #get()} or {@linkplain #open()} should be used instead.
+	 * @param debug {@code true} if released instances should be poisoned and checked
+	 * @since 1.1.0
+	 */
+	public MathArena(boolean debug) {
+		
+		this.debug = debug;
+		this.vector2s = new Pool<>(debug, Vector2::new, vector -> vector.set(POISON), vector -> MathArena.isPoisoned(vector.x, vector.y));
+		this.vector3s = new Pool<>(debug, Vector3::new, vector -> vector.set(POISON), vector -> MathArena.isPoisoned(vector.x, vector.y, vector.z));
+		this.vector4s = new Pool<>(debug, Vector4::new, vector -> vector.set(POISON), vector -> MathArena.isPoisoned(vector.x, vector.y, vector.z, vector.w));
+		this.quaternions = new Pool<>(debug, Quaternion::new, quaternion -> quaternion.set(POISON), quaternion -> MathArena.isPoisoned(quaternion.x, quaternion.y, quaternion.z, quaternion.w));
+		this.matrix3s = new Pool<>(debug, Matrix3::new, matrix -> matrix.set(POISON), matrix -> MathArena.isPoisoned(matrix.toArray()));
+		this.matrix4s = new Pool<>(debug, Matrix4::new, matrix -> matrix.set(POISON), matrix -> MathArena.isPoisoned(matrix.toArray()));
+	}
+	
+	/**
+	 * 
+	 * @return the arena of the current thread
+	 * @since 1.1.0
+	 */
+	public static final MathArena get() {
+		
+		return ARENAS.get();
+	}
+	
+	/**
+	 * Opens a new scope on the arena of the current thread. Should be used with try-with-resources.
+	 * @return the arena of the current thread
+	 * @since 1.1.0
+	 */
+	public static final MathArena open() {
+		
+		return ARENAS.get().push();
+	}
+	
+	/**
+	 * Opens a new scope. Every instance that is acquired until the scope is closed belongs to it.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final MathArena push() {
+		
+		int mark = this.depth * POOLS;
+		
+		if(mark == this.marks.length) {
+			
+			this.marks = Arrays.copyOf(this.marks, mark * 2);
+		}
+		
+		this.marks[mark]     = this.vector2s.top;
+		this.marks[mark + 1] = this.vector3s.top;
+		this.marks[mark + 2] = this.vector4s.top;
+		this.marks[mark + 3] = this.quaternions.top;
+		this.marks[mark + 4] = this.matrix3s.top;
+		this.marks[mark + 5] = this.matrix4s.top;
+		this.depth++;
+		
+		return this;
+	}
+	
+	/**
+	 * Closes the innermost scope. All instances that were acquired in it must not be used anymore.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final void pop() {
+		
+		this.checkScope();
+		this.depth--;
+		
+		int mark = this.depth * POOLS;
+		this.vector2s.release(this.marks[mark]);
+		this.vector3s.release(this.marks[mark + 1]);
+		this.vector4s.release(this.marks[mark + 2]);
+		this.quaternions.release(this.marks[mark + 3]);
+		this.matrix3s.release(this.marks[mark + 4]);
+		this.matrix4s.release(this.marks[mark + 5]);
+	}
+	
+	/**
+	 * Does the same as {@linkplain #pop()}, so that a scope can be used with try-with-resources.
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	@Override
+	public final void close() {
+		
+		this.pop();
+	}
+	
+	/**
+	 * 
+	 * @return {@code true} if released instances are poisoned and checked
+	 * @since 1.1.0
+	 */
+	public final boolean isDebug() {
+		
+		return this.debug;
+	}
+	
+	/**
+	 * 
+	 * @return the number of open scopes
+	 * @since 1.1.0
+	 */
+	public final int getDepth() {
+		
+		return this.depth;
+	}
+	
+	private final void checkScope() {
+		
+		if(this.depth == 0) {
+			
+			throw new IllegalStateException("No scope is open!");
+		}
+	}
+	
+	/**
+	 * 
+	 * @return a zero vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector2 vector2() {
+		
+		return this.vector2(0.0F, 0.0F);
+	}
+	
+	/**
+	 * 
+	 * @param x the x value
+	 * @param y the y value
+	 * @return a vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector2 vector2(float x, float y) {
+		
+		this.checkScope();
+		Vector2 vector = this.vector2s.acquire();
+		vector.set(x, y);
+		return vector;
+	}
+	
+	/**
+	 * 
+	 * @param vector the vector that should be copied
+	 * @return a copy of the vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector2 vector2(Vector2 vector) {
+		
+		return this.vector2(vector.x, vector.y);
+	}
+	
+	/**
+	 * 
+	 * @return a zero vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector3 vector3() {
+		
+		return this.vector3(0.0F, 0.0F, 0.0F);
+	}
+	
+	/**
+	 * 
+	 * @param x the x value
+	 * @param y the y value
+	 * @param z the z value
+	 * @return a vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector3 vector3(float x, float y, float z) {
+		
+		this.checkScope();
+		Vector3 vector = this.vector3s.acquire();
+		vector.set(x, y, z);
+		return vector;
+	}
+	
+	/**
+	 * 
+	 * @param vector the vector that should be copied
+	 * @return a copy of the vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector3 vector3(Vector3 vector) {
+		
+		return this.vector3(vector.x, vector.y, vector.z);
+	}
+	
+	/**
+	 * 
+	 * @return a zero vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector4 vector4() {
+		
+		return this.vector4(0.0F, 0.0F, 0.0F, 0.0F);
+	}
+	
+	/**
+	 * 
+	 * @param x the x value
+	 * @param y the y value
+	 * @param z the z value
+	 * @param w the w value
+	 * @return a vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector4 vector4(float x, float y, float z, float w) {
+		
+		this.checkScope();
+		Vector4 vector = this.vector4s.acquire();
+		vector.set(x, y, z, w);
+		return vector;
+	}
+	
+	/**
+	 * 
+	 * @param vector the vector that should be copied
+	 * @return a copy of the vector that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Vector4 vector4(Vector4 vector) {
+		
+		return this.vector4(vector.x, vector.y, vector.z, vector.w);
+	}
+	
+	/**
+	 * 
+	 * @return an identity quaternion that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Quaternion quaternion() {
+		
+		return this.quaternion(0.0F, 0.0F, 0.0F, 1.0F);
+	}
+	
+	/**
+	 * 
+	 * @param x the x value
+	 * @param y the y value
+	 * @param z the z value
+	 * @param w the w value
+	 * @return a quaternion that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Quaternion quaternion(float x, float y, float z, float w) {
+		
+		this.checkScope();
+		Quaternion quaternion = this.quaternions.acquire();
+		quaternion.set(x, y, z, w);
+		return quaternion;
+	}
+	
+	/**
+	 * 
+	 * @param quaternion the quaternion that should be copied
+	 * @return a copy of the quaternion that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Quaternion quaternion(Quaternion quaternion) {
+		
+		return this.quaternion(quaternion.x, quaternion.y, quaternion.z, quaternion.w);
+	}
+	
+	/**
+	 * 
+	 * @return an identity matrix that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Matrix3 matrix3() {
+		
+		this.checkScope();
+		return this.matrix3s.acquire().identity();
+	}
+	
+	/**
+	 * 
+	 * @param matrix the matrix that should be copied
+	 * @return a copy of the matrix that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Matrix3 matrix3(Matrix3 matrix) {
+		
+		this.checkScope();
+		Matrix3 copy = this.matrix3s.acquire();
+		copy.set(matrix);
+		return copy;
+	}
+	
+	/**
+	 * 
+	 * @return an identity matrix that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Matrix4 matrix4() {
+		
+		this.checkScope();
+		return this.matrix4s.acquire().identity();
+	}
+	
+	/**
+	 * 
+	 * @param matrix the matrix that should be copied
+	 * @return a copy of the matrix that belongs to the innermost scope
+	 * @throws IllegalStateException if no scope is open
+	 * @since 1.1.0
+	 */
+	public final Matrix4 matrix4(Matrix4 matrix) {
+		
+		this.checkScope();
+		Matrix4 copy = this.matrix4s.acquire();
+		copy.set(matrix);
+		return copy;
+	}
+	
+	private static final boolean isPoisoned(float... values) {
+		
+		for(float value : values) {
+			
+			if(!Float.isNaN(value)) {
+				
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * A growing stack of instances of one type. Only the instances below {@code top} are in use.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	private static final class Pool<T> {
+		
+		private final boolean debug;
+		private final Supplier<T> factory;
+		private final Consumer<T> poison;
+		private final Predicate<T> poisoned;
+		private Object[] instances = new Object[16];
+		private int top;
+		
+		private Pool(boolean debug, Supplier<T> factory, Consumer<T> poison, Predicate<T> poisoned) {
+			
+			this.debug = debug;
+			this.factory = factory;
+			this.poison = poison;
+			this.poisoned = poisoned;
+		}
+		
+		@SuppressWarnings("unchecked")
+		private final T acquire() {
+			
+			if(this.top == this.instances.length) {
+				
+				this.instances = Arrays.copyOf(this.instances, this.top * 2);
+			}
+			
+			T instance = (T)this.instances[this.top];
+			
+			if(instance == null) {
+				
+				instance = this.factory.get();
+				this.instances[this.top] = instance;
+				
+			} else if(this.debug && !this.poisoned.test(instance)) {
+				
+				throw new IllegalStateException("A " + instance.getClass().getSimpleName() + " was changed after the scope it belonged to was closed!");
+			}
+			
+			this.top++;
+			return instance;
+		}
+		
+		@SuppressWarnings("unchecked")
+		private final void release(int mark) {
+			
+			if(this.debug) {
+				
+				for(int index = mark; index < this.top; index++) {
+					
+					this.poison.accept((T)this.instances[index]);
+				}
+			}
+			
+			this.top = mark;
+		}
+	}
+}
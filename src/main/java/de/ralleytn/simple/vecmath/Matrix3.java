@@ -23,6 +23,9 @@
  */
 package de.ralleytn.simple.vecmath;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * 
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
@@ -73,7 +76,7 @@ public final class Matrix3 extends Matrix<Matrix3> {
 		this.set(matrix);
 	}
 	
-	private final void set(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22) {
+	final void set(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22) {
 		
 		this.m00 = m00;
 		this.m01 = m01;
@@ -124,6 +127,158 @@ public final class Matrix3 extends Matrix<Matrix3> {
 				 matrix.m20, matrix.m21, matrix.m22);
 	}
 	
+	/**
+	 * Writes this matrix into a buffer in column-major order like {@linkplain #toArray()}, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 9 elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer get(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		buffer.put(position, this.m00);
+		buffer.put(position + 1, this.m01);
+		buffer.put(position + 2, this.m02);
+		buffer.put(position + 3, this.m10);
+		buffer.put(position + 4, this.m11);
+		buffer.put(position + 5, this.m12);
+		buffer.put(position + 6, this.m20);
+		buffer.put(position + 7, this.m21);
+		buffer.put(position + 8, this.m22);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this matrix into a buffer in column-major order like {@linkplain #toArray()}, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 9 elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer get(ByteBuffer buffer, int offset) {
+		
+		buffer.putFloat(offset, this.m00);
+		buffer.putFloat(offset + 4, this.m01);
+		buffer.putFloat(offset + 8, this.m02);
+		buffer.putFloat(offset + 12, this.m10);
+		buffer.putFloat(offset + 16, this.m11);
+		buffer.putFloat(offset + 20, this.m12);
+		buffer.putFloat(offset + 24, this.m20);
+		buffer.putFloat(offset + 28, this.m21);
+		buffer.putFloat(offset + 32, this.m22);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this matrix from a buffer in column-major order like {@linkplain #toArray()}, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 9 elements
+	 * @since 1.1.0
+	 */
+	public final void set(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		this.set(buffer.get(position), buffer.get(position + 1), buffer.get(position + 2),
+				 buffer.get(position + 3), buffer.get(position + 4), buffer.get(position + 5),
+				 buffer.get(position + 6), buffer.get(position + 7), buffer.get(position + 8));
+	}
+	
+	/**
+	 * Reads this matrix from a buffer in column-major order like {@linkplain #toArray()}, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 9 elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void set(ByteBuffer buffer, int offset) {
+		
+		this.set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8),
+				 buffer.getFloat(offset + 12), buffer.getFloat(offset + 16), buffer.getFloat(offset + 20),
+				 buffer.getFloat(offset + 24), buffer.getFloat(offset + 28), buffer.getFloat(offset + 32));
+	}
+	
+	/**
+	 * Writes this matrix into a buffer in row-major order, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 9 elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer getRowMajor(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		buffer.put(position, this.m00);
+		buffer.put(position + 1, this.m10);
+		buffer.put(position + 2, this.m20);
+		buffer.put(position + 3, this.m01);
+		buffer.put(position + 4, this.m11);
+		buffer.put(position + 5, this.m21);
+		buffer.put(position + 6, this.m02);
+		buffer.put(position + 7, this.m12);
+		buffer.put(position + 8, this.m22);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this matrix into a buffer in row-major order, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 9 elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer getRowMajor(ByteBuffer buffer, int offset) {
+		
+		buffer.putFloat(offset, this.m00);
+		buffer.putFloat(offset + 4, this.m10);
+		buffer.putFloat(offset + 8, this.m20);
+		buffer.putFloat(offset + 12, this.m01);
+		buffer.putFloat(offset + 16, this.m11);
+		buffer.putFloat(offset + 20, this.m21);
+		buffer.putFloat(offset + 24, this.m02);
+		buffer.putFloat(offset + 28, this.m12);
+		buffer.putFloat(offset + 32, this.m22);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this matrix from a buffer in row-major order, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 9 elements
+	 * @since 1.1.0
+	 */
+	public final void setRowMajor(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		this.set(buffer.get(position), buffer.get(position + 3), buffer.get(position + 6),
+				 buffer.get(position + 1), buffer.get(position + 4), buffer.get(position + 7),
+				 buffer.get(position + 2), buffer.get(position + 5), buffer.get(position + 8));
+	}
+	
+	/**
+	 * Reads this matrix from a buffer in row-major order, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 9 elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void setRowMajor(ByteBuffer buffer, int offset) {
+		
+		this.set(buffer.getFloat(offset), buffer.getFloat(offset + 12), buffer.getFloat(offset + 24),
+				 buffer.getFloat(offset + 4), buffer.getFloat(offset + 16), buffer.getFloat(offset + 28),
+				 buffer.getFloat(offset + 8), buffer.getFloat(offset + 20), buffer.getFloat(offset + 32));
+	}
+	
 	/**
 	 * 
 	 * @return
@@ -193,9 +348,372 @@ public final class Matrix3 extends Matrix<Matrix3> {
 	 */
 	public final Vector3 transform(Vector3 vector) {
 
-		return new Vector3(this.m00 * vector.x + this.m10 * vector.y + this.m20 * vector.z,
-						   this.m01 * vector.x + this.m11 * vector.y + this.m21 * vector.z,
-						   this.m02 * vector.x + this.m12 * vector.y + this.m22 * vector.z);
+		return this.transform(vector, new Vector3());
+	}
+
+	/**
+	 * Transforms a vector without allocating a new one.
+	 * @param src the vector that should be transformed
+	 * @param dest the vector that will receive the result, may be {@code src}
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 transform(Vector3 src, Vector3 dest) {
+
+		float x = src.x;
+		float y = src.y;
+		float z = src.z;
+
+		dest.set(this.m00 * x + this.m10 * y + this.m20 * z,
+				 this.m01 * x + this.m11 * y + this.m21 * z,
+				 this.m02 * x + this.m12 * y + this.m22 * z);
+
+		return dest;
+	}
+
+	/**
+	 * Transforms multiple three dimensional vectors that are packed into a {@code float} array.
+	 * The source and the destination may be the same array, but only if the offsets and the strides of both are equal.
+	 * @param src the array containing the vectors
+	 * @param srcOffset index of the first element of the first source vector
+	 * @param srcStride number of {@code float}s between the starts of two source vectors (at least 3)
+	 * @param dest the array that will receive the transformed vectors
+	 * @param destOffset index of the first element of the first destination vector
+	 * @param destStride number of {@code float}s between the starts of two destination vectors (at least 3)
+	 * @param count the number of vectors
+	 * @since 1.1.0
+	 */
+	public final void transform(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		// four vectors per iteration, the loads of all four happen before the first store, so an
+		// in-place transformation is only correct with the same offset and stride on both sides
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src[s], y0 = src[s + 1], z0 = src[s + 2];
+			float x1 = src[s1], y1 = src[s1 + 1], z1 = src[s1 + 2];
+			float x2 = src[s2], y2 = src[s2 + 1], z2 = src[s2 + 2];
+			float x3 = src[s3], y3 = src[s3 + 1], z3 = src[s3 + 2];
+
+			dest[d]     = m00 * x0 + m10 * y0 + m20 * z0;
+			dest[d + 1] = m01 * x0 + m11 * y0 + m21 * z0;
+			dest[d + 2] = m02 * x0 + m12 * y0 + m22 * z0;
+
+			dest[d1]     = m00 * x1 + m10 * y1 + m20 * z1;
+			dest[d1 + 1] = m01 * x1 + m11 * y1 + m21 * z1;
+			dest[d1 + 2] = m02 * x1 + m12 * y1 + m22 * z1;
+
+			dest[d2]     = m00 * x2 + m10 * y2 + m20 * z2;
+			dest[d2 + 1] = m01 * x2 + m11 * y2 + m21 * z2;
+			dest[d2 + 2] = m02 * x2 + m12 * y2 + m22 * z2;
+
+			dest[d3]     = m00 * x3 + m10 * y3 + m20 * z3;
+			dest[d3 + 1] = m01 * x3 + m11 * y3 + m21 * z3;
+			dest[d3 + 2] = m02 * x3 + m12 * y3 + m22 * z3;
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src[s];
+			float y = src[s + 1];
+			float z = src[s + 2];
+
+			dest[d]     = m00 * x + m10 * y + m20 * z;
+			dest[d + 1] = m01 * x + m11 * y + m21 * z;
+			dest[d + 2] = m02 * x + m12 * y + m22 * z;
+		}
+	}
+
+	/**
+	 * Transforms multiple two dimensional points that are packed into a {@code float} array as x, y.
+	 * The missing 3rd element is assumed to be {@code 1.0F}, so the translation is applied.
+	 * The 3rd element of the result is dropped.
+	 * The source and the destination may be the same array, but only if the offsets and the strides of both are equal.
+	 * @param src the array containing the points
+	 * @param srcOffset index of the first element of the first source point
+	 * @param srcStride number of {@code float}s between the starts of two source points (at least 2)
+	 * @param dest the array that will receive the transformed points
+	 * @param destOffset index of the first element of the first destination point
+	 * @param destStride number of {@code float}s between the starts of two destination points (at least 2)
+	 * @param count the number of points
+	 * @since 1.1.0
+	 */
+	public final void transformPoints(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01;
+		float m10 = this.m10, m11 = this.m11;
+		float m20 = this.m20, m21 = this.m21;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src[s], y0 = src[s + 1];
+			float x1 = src[s1], y1 = src[s1 + 1];
+			float x2 = src[s2], y2 = src[s2 + 1];
+			float x3 = src[s3], y3 = src[s3 + 1];
+
+			dest[d]     = m00 * x0 + m10 * y0 + m20;
+			dest[d + 1] = m01 * x0 + m11 * y0 + m21;
+
+			dest[d1]     = m00 * x1 + m10 * y1 + m20;
+			dest[d1 + 1] = m01 * x1 + m11 * y1 + m21;
+
+			dest[d2]     = m00 * x2 + m10 * y2 + m20;
+			dest[d2 + 1] = m01 * x2 + m11 * y2 + m21;
+
+			dest[d3]     = m00 * x3 + m10 * y3 + m20;
+			dest[d3 + 1] = m01 * x3 + m11 * y3 + m21;
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src[s];
+			float y = src[s + 1];
+
+			dest[d]     = m00 * x + m10 * y + m20;
+			dest[d + 1] = m01 * x + m11 * y + m21;
+		}
+	}
+
+	/**
+	 * Transforms multiple two dimensional directions that are packed into a {@code float} array as x, y.
+	 * The missing 3rd element is assumed to be {@code 0.0F}, so the translation is ignored.
+	 * The source and the destination may be the same array, but only if the offsets and the strides of both are equal.
+	 * @param src the array containing the directions
+	 * @param srcOffset index of the first element of the first source direction
+	 * @param srcStride number of {@code float}s between the starts of two source directions (at least 2)
+	 * @param dest the array that will receive the transformed directions
+	 * @param destOffset index of the first element of the first destination direction
+	 * @param destStride number of {@code float}s between the starts of two destination directions (at least 2)
+	 * @param count the number of directions
+	 * @since 1.1.0
+	 */
+	public final void transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01;
+		float m10 = this.m10, m11 = this.m11;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src[s], y0 = src[s + 1];
+			float x1 = src[s1], y1 = src[s1 + 1];
+			float x2 = src[s2], y2 = src[s2 + 1];
+			float x3 = src[s3], y3 = src[s3 + 1];
+
+			dest[d]     = m00 * x0 + m10 * y0;
+			dest[d + 1] = m01 * x0 + m11 * y0;
+
+			dest[d1]     = m00 * x1 + m10 * y1;
+			dest[d1 + 1] = m01 * x1 + m11 * y1;
+
+			dest[d2]     = m00 * x2 + m10 * y2;
+			dest[d2 + 1] = m01 * x2 + m11 * y2;
+
+			dest[d3]     = m00 * x3 + m10 * y3;
+			dest[d3 + 1] = m01 * x3 + m11 * y3;
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src[s];
+			float y = src[s + 1];
+
+			dest[d]     = m00 * x + m10 * y;
+			dest[d + 1] = m01 * x + m11 * y;
+		}
+	}
+
+	/**
+	 * Transforms multiple three dimensional vectors that are packed into a {@linkplain FloatBuffer}.
+	 * Only absolute indices are used, the positions of the buffers stay untouched.
+	 * The source and the destination may be the same buffer, but only if the offsets and the strides of both are equal.
+	 * @param src the buffer containing the vectors
+	 * @param srcOffset index of the first element of the first source vector
+	 * @param srcStride number of {@code float}s between the starts of two source vectors (at least 3)
+	 * @param dest the buffer that will receive the transformed vectors
+	 * @param destOffset index of the first element of the first destination vector
+	 * @param destStride number of {@code float}s between the starts of two destination vectors (at least 3)
+	 * @param count the number of vectors
+	 * @since 1.1.0
+	 */
+	public final void transform(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src.get(s), y0 = src.get(s + 1), z0 = src.get(s + 2);
+			float x1 = src.get(s1), y1 = src.get(s1 + 1), z1 = src.get(s1 + 2);
+			float x2 = src.get(s2), y2 = src.get(s2 + 1), z2 = src.get(s2 + 2);
+			float x3 = src.get(s3), y3 = src.get(s3 + 1), z3 = src.get(s3 + 2);
+
+			dest.put(d,     m00 * x0 + m10 * y0 + m20 * z0);
+			dest.put(d + 1, m01 * x0 + m11 * y0 + m21 * z0);
+			dest.put(d + 2, m02 * x0 + m12 * y0 + m22 * z0);
+
+			dest.put(d1,     m00 * x1 + m10 * y1 + m20 * z1);
+			dest.put(d1 + 1, m01 * x1 + m11 * y1 + m21 * z1);
+			dest.put(d1 + 2, m02 * x1 + m12 * y1 + m22 * z1);
+
+			dest.put(d2,     m00 * x2 + m10 * y2 + m20 * z2);
+			dest.put(d2 + 1, m01 * x2 + m11 * y2 + m21 * z2);
+			dest.put(d2 + 2, m02 * x2 + m12 * y2 + m22 * z2);
+
+			dest.put(d3,     m00 * x3 + m10 * y3 + m20 * z3);
+			dest.put(d3 + 1, m01 * x3 + m11 * y3 + m21 * z3);
+			dest.put(d3 + 2, m02 * x3 + m12 * y3 + m22 * z3);
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src.get(s);
+			float y = src.get(s + 1);
+			float z = src.get(s + 2);
+
+			dest.put(d,     m00 * x + m10 * y + m20 * z);
+			dest.put(d + 1, m01 * x + m11 * y + m21 * z);
+			dest.put(d + 2, m02 * x + m12 * y + m22 * z);
+		}
+	}
+
+	/**
+	 * Transforms multiple two dimensional points that are packed into a {@linkplain FloatBuffer} as x, y.
+	 * The missing 3rd element is assumed to be {@code 1.0F}, so the translation is applied.
+	 * The 3rd element of the result is dropped.
+	 * Only absolute indices are used, the positions of the buffers stay untouched.
+	 * The source and the destination may be the same buffer, but only if the offsets and the strides of both are equal.
+	 * @param src the buffer containing the points
+	 * @param srcOffset index of the first element of the first source point
+	 * @param srcStride number of {@code float}s between the starts of two source points (at least 2)
+	 * @param dest the buffer that will receive the transformed points
+	 * @param destOffset index of the first element of the first destination point
+	 * @param destStride number of {@code float}s between the starts of two destination points (at least 2)
+	 * @param count the number of points
+	 * @since 1.1.0
+	 */
+	public final void transformPoints(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01;
+		float m10 = this.m10, m11 = this.m11;
+		float m20 = this.m20, m21 = this.m21;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src.get(s), y0 = src.get(s + 1);
+			float x1 = src.get(s1), y1 = src.get(s1 + 1);
+			float x2 = src.get(s2), y2 = src.get(s2 + 1);
+			float x3 = src.get(s3), y3 = src.get(s3 + 1);
+
+			dest.put(d,     m00 * x0 + m10 * y0 + m20);
+			dest.put(d + 1, m01 * x0 + m11 * y0 + m21);
+
+			dest.put(d1,     m00 * x1 + m10 * y1 + m20);
+			dest.put(d1 + 1, m01 * x1 + m11 * y1 + m21);
+
+			dest.put(d2,     m00 * x2 + m10 * y2 + m20);
+			dest.put(d2 + 1, m01 * x2 + m11 * y2 + m21);
+
+			dest.put(d3,     m00 * x3 + m10 * y3 + m20);
+			dest.put(d3 + 1, m01 * x3 + m11 * y3 + m21);
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src.get(s);
+			float y = src.get(s + 1);
+
+			dest.put(d,     m00 * x + m10 * y + m20);
+			dest.put(d + 1, m01 * x + m11 * y + m21);
+		}
+	}
+
+	/**
+	 * Transforms multiple two dimensional directions that are packed into a {@linkplain FloatBuffer} as x, y.
+	 * The missing 3rd element is assumed to be {@code 0.0F}, so the translation is ignored.
+	 * Only absolute indices are used, the positions of the buffers stay untouched.
+	 * The source and the destination may be the same buffer, but only if the offsets and the strides of both are equal.
+	 * @param src the buffer containing the directions
+	 * @param srcOffset index of the first element of the first source direction
+	 * @param srcStride number of {@code float}s between the starts of two source directions (at least 2)
+	 * @param dest the buffer that will receive the transformed directions
+	 * @param destOffset index of the first element of the first destination direction
+	 * @param destStride number of {@code float}s between the starts of two destination directions (at least 2)
+	 * @param count the number of directions
+	 * @since 1.1.0
+	 */
+	public final void transformDirections(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01;
+		float m10 = this.m10, m11 = this.m11;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src.get(s), y0 = src.get(s + 1);
+			float x1 = src.get(s1), y1 = src.get(s1 + 1);
+			float x2 = src.get(s2), y2 = src.get(s2 + 1);
+			float x3 = src.get(s3), y3 = src.get(s3 + 1);
+
+			dest.put(d,     m00 * x0 + m10 * y0);
+			dest.put(d + 1, m01 * x0 + m11 * y0);
+
+			dest.put(d1,     m00 * x1 + m10 * y1);
+			dest.put(d1 + 1, m01 * x1 + m11 * y1);
+
+			dest.put(d2,     m00 * x2 + m10 * y2);
+			dest.put(d2 + 1, m01 * x2 + m11 * y2);
+
+			dest.put(d3,     m00 * x3 + m10 * y3);
+			dest.put(d3 + 1, m01 * x3 + m11 * y3);
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src.get(s);
+			float y = src.get(s + 1);
+
+			dest.put(d,     m00 * x + m10 * y);
+			dest.put(d + 1, m01 * x + m11 * y);
+		}
 	}
 	
 	/**
@@ -207,6 +725,19 @@ public final class Matrix3 extends Matrix<Matrix3> {
 		
 		return new Matrix4(this);
 	}
+
+	/**
+	 * Writes this matrix into an existing {@linkplain Matrix4}.
+	 * All elements of the destination are overwritten the same way as by {@linkplain #toMatrix4()}.
+	 * @param dest the matrix that will receive the result
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Matrix4 toMatrix4(Matrix4 dest) {
+
+		dest.set(this);
+		return dest;
+	}
 	
 	@Override
 	public final Matrix3 identity() {
@@ -23,19 +23,60 @@
  */
 package de.ralleytn.simple.vecmath;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
- * 
+ * A 4x4 matrix.
+ * <p>Every instance remembers what is known about its structure as a bit mask of the {@code PROPERTY_...} constants.
+ * The methods of this class keep the mask up to date and use it to skip work, for example multiplying two translations
+ * only adds them. The mask cannot see the public fields being written directly, so after doing that
+ * {@linkplain #invalidate()} or {@linkplain #determineProperties()} has to be called.</p>
+ * <p><b>This changed in 1.1.0:</b> code written for 1.0.0 that writes the fields {@code m00} to {@code m33} directly and doesn't
+ * call {@linkplain #invalidate()} afterwards gets wrong results from {@linkplain #multiply(Matrix4)}, {@code transform},
+ * {@linkplain #invert()} and {@linkplain #determinant()}, because they still use the properties of the previous values.</p>
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
  * @version 1.0.0
  * @since 1.0.0
  */
 public final class Matrix4 extends Matrix<Matrix4> {
 
+	/**
+	 * The matrix is the identity matrix.
+	 * @since 1.1.0
+	 */
+	public static final int PROPERTY_IDENTITY = 0x1;
+	
+	/**
+	 * The matrix does nothing but translating. The upper left 3x3 block is the identity and the last row is 0, 0, 0, 1.
+	 * @since 1.1.0
+	 */
+	public static final int PROPERTY_TRANSLATION = 0x2;
+	
+	/**
+	 * The last row of the matrix is 0, 0, 0, 1.
+	 * @since 1.1.0
+	 */
+	public static final int PROPERTY_AFFINE = 0x4;
+	
+	/**
+	 * The matrix is affine and its upper left 3x3 block is orthonormal, so it only rotates and translates.
+	 * @since 1.1.0
+	 */
+	public static final int PROPERTY_ORTHONORMAL = 0x8;
+	
+	private static final int PROPERTIES_TRANSLATION = PROPERTY_TRANSLATION | PROPERTY_AFFINE | PROPERTY_ORTHONORMAL;
+	private static final int PROPERTIES_IDENTITY = PROPERTY_IDENTITY | PROPERTIES_TRANSLATION;
+	
 	public float m00, m01, m02, m03;
 	public float m10, m11, m12, m13;
 	public float m20, m21, m22, m23;
 	public float m30, m31, m32, m33;
 	
+	// every property survives a multiplication and the identity has all of them,
+	// so the intersection of the masks of two matrices is also a valid mask for their product
+	private int properties;
+	
 	/**
 	 * @since 1.0.0
 	 */
@@ -115,6 +156,8 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 data[4],  data[5],  data[6],  data[7],
 				 data[8],  data[9],  data[10], data[11],
 				 data[12], data[13], data[14], data[15]);
+		
+		this.determineProperties();
 	}
 	
 	/**
@@ -128,6 +171,8 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 matrix.m10, matrix.m11, matrix.m12, matrix.m13,
 				 matrix.m20, matrix.m21, matrix.m22, matrix.m23,
 				 matrix.m30, matrix.m31, matrix.m32, matrix.m33);
+		
+		this.properties = matrix.properties;
 	}
 	
 	/**
@@ -141,6 +186,248 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 matrix.m10, matrix.m11, matrix.m12, 0.0F,
 				 matrix.m20, matrix.m21, matrix.m22, 0.0F,
 				 0.0F,       0.0F,       0.0F,       0.0F);
+		
+		// the last row is zero, so not even the affine property applies
+		this.properties = 0;
+	}
+	
+	/**
+	 * Writes this matrix into a buffer in column-major order like {@linkplain #toArray()}, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 16 elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer get(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		buffer.put(position, this.m00);
+		buffer.put(position + 1, this.m01);
+		buffer.put(position + 2, this.m02);
+		buffer.put(position + 3, this.m03);
+		buffer.put(position + 4, this.m10);
+		buffer.put(position + 5, this.m11);
+		buffer.put(position + 6, this.m12);
+		buffer.put(position + 7, this.m13);
+		buffer.put(position + 8, this.m20);
+		buffer.put(position + 9, this.m21);
+		buffer.put(position + 10, this.m22);
+		buffer.put(position + 11, this.m23);
+		buffer.put(position + 12, this.m30);
+		buffer.put(position + 13, this.m31);
+		buffer.put(position + 14, this.m32);
+		buffer.put(position + 15, this.m33);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this matrix into a buffer in column-major order like {@linkplain #toArray()}, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 16 elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer get(ByteBuffer buffer, int offset) {
+		
+		buffer.putFloat(offset, this.m00);
+		buffer.putFloat(offset + 4, this.m01);
+		buffer.putFloat(offset + 8, this.m02);
+		buffer.putFloat(offset + 12, this.m03);
+		buffer.putFloat(offset + 16, this.m10);
+		buffer.putFloat(offset + 20, this.m11);
+		buffer.putFloat(offset + 24, this.m12);
+		buffer.putFloat(offset + 28, this.m13);
+		buffer.putFloat(offset + 32, this.m20);
+		buffer.putFloat(offset + 36, this.m21);
+		buffer.putFloat(offset + 40, this.m22);
+		buffer.putFloat(offset + 44, this.m23);
+		buffer.putFloat(offset + 48, this.m30);
+		buffer.putFloat(offset + 52, this.m31);
+		buffer.putFloat(offset + 56, this.m32);
+		buffer.putFloat(offset + 60, this.m33);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this matrix from a buffer in column-major order like {@linkplain #toArray()}, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 16 elements
+	 * @since 1.1.0
+	 */
+	public final void set(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		this.set(buffer.get(position), buffer.get(position + 1), buffer.get(position + 2), buffer.get(position + 3),
+				 buffer.get(position + 4), buffer.get(position + 5), buffer.get(position + 6), buffer.get(position + 7),
+				 buffer.get(position + 8), buffer.get(position + 9), buffer.get(position + 10), buffer.get(position + 11),
+				 buffer.get(position + 12), buffer.get(position + 13), buffer.get(position + 14), buffer.get(position + 15));
+		this.determineProperties();
+	}
+	
+	/**
+	 * Reads this matrix from a buffer in column-major order like {@linkplain #toArray()}, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 16 elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void set(ByteBuffer buffer, int offset) {
+		
+		this.set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8), buffer.getFloat(offset + 12),
+				 buffer.getFloat(offset + 16), buffer.getFloat(offset + 20), buffer.getFloat(offset + 24), buffer.getFloat(offset + 28),
+				 buffer.getFloat(offset + 32), buffer.getFloat(offset + 36), buffer.getFloat(offset + 40), buffer.getFloat(offset + 44),
+				 buffer.getFloat(offset + 48), buffer.getFloat(offset + 52), buffer.getFloat(offset + 56), buffer.getFloat(offset + 60));
+		this.determineProperties();
+	}
+	
+	/**
+	 * Writes this matrix into a buffer in row-major order, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 16 elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer getRowMajor(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		buffer.put(position, this.m00);
+		buffer.put(position + 1, this.m10);
+		buffer.put(position + 2, this.m20);
+		buffer.put(position + 3, this.m30);
+		buffer.put(position + 4, this.m01);
+		buffer.put(position + 5, this.m11);
+		buffer.put(position + 6, this.m21);
+		buffer.put(position + 7, this.m31);
+		buffer.put(position + 8, this.m02);
+		buffer.put(position + 9, this.m12);
+		buffer.put(position + 10, this.m22);
+		buffer.put(position + 11, this.m32);
+		buffer.put(position + 12, this.m03);
+		buffer.put(position + 13, this.m13);
+		buffer.put(position + 14, this.m23);
+		buffer.put(position + 15, this.m33);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this matrix into a buffer in row-major order, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 16 elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer getRowMajor(ByteBuffer buffer, int offset) {
+		
+		buffer.putFloat(offset, this.m00);
+		buffer.putFloat(offset + 4, this.m10);
+		buffer.putFloat(offset + 8, this.m20);
+		buffer.putFloat(offset + 12, this.m30);
+		buffer.putFloat(offset + 16, this.m01);
+		buffer.putFloat(offset + 20, this.m11);
+		buffer.putFloat(offset + 24, this.m21);
+		buffer.putFloat(offset + 28, this.m31);
+		buffer.putFloat(offset + 32, this.m02);
+		buffer.putFloat(offset + 36, this.m12);
+		buffer.putFloat(offset + 40, this.m22);
+		buffer.putFloat(offset + 44, this.m32);
+		buffer.putFloat(offset + 48, this.m03);
+		buffer.putFloat(offset + 52, this.m13);
+		buffer.putFloat(offset + 56, this.m23);
+		buffer.putFloat(offset + 60, this.m33);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this matrix from a buffer in row-major order, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 16 elements
+	 * @since 1.1.0
+	 */
+	public final void setRowMajor(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		this.set(buffer.get(position), buffer.get(position + 4), buffer.get(position + 8), buffer.get(position + 12),
+				 buffer.get(position + 1), buffer.get(position + 5), buffer.get(position + 9), buffer.get(position + 13),
+				 buffer.get(position + 2), buffer.get(position + 6), buffer.get(position + 10), buffer.get(position + 14),
+				 buffer.get(position + 3), buffer.get(position + 7), buffer.get(position + 11), buffer.get(position + 15));
+		this.determineProperties();
+	}
+	
+	/**
+	 * Reads this matrix from a buffer in row-major order, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 16 elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void setRowMajor(ByteBuffer buffer, int offset) {
+		
+		this.set(buffer.getFloat(offset), buffer.getFloat(offset + 16), buffer.getFloat(offset + 32), buffer.getFloat(offset + 48),
+				 buffer.getFloat(offset + 4), buffer.getFloat(offset + 20), buffer.getFloat(offset + 36), buffer.getFloat(offset + 52),
+				 buffer.getFloat(offset + 8), buffer.getFloat(offset + 24), buffer.getFloat(offset + 40), buffer.getFloat(offset + 56),
+				 buffer.getFloat(offset + 12), buffer.getFloat(offset + 28), buffer.getFloat(offset + 44), buffer.getFloat(offset + 60));
+		this.determineProperties();
+	}
+	
+	/**
+	 * Forgets everything that is known about the structure of this matrix, so that all following operations take the general path.
+	 * Has to be called after the public fields were written directly.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Matrix4 invalidate() {
+		
+		this.properties = 0;
+		return this;
+	}
+	
+	/**
+	 * Determines the properties of this matrix from its current elements. Only exact values are recognized and
+	 * {@linkplain #PROPERTY_ORTHONORMAL} is only set if the upper left 3x3 block is exactly the identity.
+	 * May be called instead of {@linkplain #invalidate()} after the public fields were written directly.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Matrix4 determineProperties() {
+		
+		int properties = 0;
+		
+		if(this.m03 == 0.0F && this.m13 == 0.0F && this.m23 == 0.0F && this.m33 == 1.0F) {
+			
+			properties = PROPERTY_AFFINE;
+			
+			if(this.m00 == 1.0F && this.m01 == 0.0F && this.m02 == 0.0F &&
+			   this.m10 == 0.0F && this.m11 == 1.0F && this.m12 == 0.0F &&
+			   this.m20 == 0.0F && this.m21 == 0.0F && this.m22 == 1.0F) {
+				
+				properties = this.m30 == 0.0F && this.m31 == 0.0F && this.m32 == 0.0F ? PROPERTIES_IDENTITY : PROPERTIES_TRANSLATION;
+			}
+		}
+		
+		this.properties = properties;
+		return this;
+	}
+	
+	/**
+	 * 
+	 * @return the bit mask of the {@code PROPERTY_...} constants that are known to apply to this matrix
+	 * @since 1.1.0
+	 */
+	public final int getProperties() {
+		
+		return this.properties;
 	}
 
 	/**
@@ -166,6 +453,7 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 this.m20 + b.m20, this.m21 + b.m21, this.m22 + b.m22, this.m23 + b.m23,
 				 this.m30 + b.m30, this.m31 + b.m31, this.m32 + b.m32, this.m33 + b.m33);
 		
+		this.properties = 0;
 		return this;
 	}
 	
@@ -182,17 +470,73 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 this.m20 - b.m20, this.m21 - b.m21, this.m22 - b.m22, this.m23 - b.m23,
 				 this.m30 - b.m30, this.m31 - b.m31, this.m32 - b.m32, this.m33 - b.m33);
 		
+		this.properties = 0;
 		return this;
 	}
 	
 	/**
-	 * 
-	 * @param b
-	 * @return
+	 * Multiplies this matrix with another one ({@code this = this * b}).
+	 * If the properties of the matrices are known, identities are skipped, translations are just added
+	 * and affine matrices are multiplied without their last row.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the matrix on the right side of the multiplication
+	 * @return this instance
 	 * @since 1.0.0
 	 */
 	public final Matrix4 multiply(Matrix4 b) {
 		
+		int properties = this.properties & b.properties;
+		
+		if((b.properties & PROPERTY_IDENTITY) != 0) {
+			
+			return this;
+			
+		} else if((this.properties & PROPERTY_IDENTITY) != 0) {
+			
+			this.set(b);
+			return this;
+			
+		} else if((properties & PROPERTY_TRANSLATION) != 0) {
+			
+			this.m30 += b.m30;
+			this.m31 += b.m31;
+			this.m32 += b.m32;
+			
+		} else if((properties & PROPERTY_AFFINE) != 0) {
+			
+			this.multiplyAffine(b);
+			
+		} else {
+			
+			this.multiplyGeneral(b);
+		}
+		
+		this.properties = properties;
+		return this;
+	}
+	
+	private final void multiplyAffine(Matrix4 b) {
+		
+		this.set(this.m00 * b.m00 + this.m10 * b.m01 + this.m20 * b.m02,
+				 this.m01 * b.m00 + this.m11 * b.m01 + this.m21 * b.m02,
+				 this.m02 * b.m00 + this.m12 * b.m01 + this.m22 * b.m02,
+				 0.0F,
+				 this.m00 * b.m10 + this.m10 * b.m11 + this.m20 * b.m12,
+				 this.m01 * b.m10 + this.m11 * b.m11 + this.m21 * b.m12,
+				 this.m02 * b.m10 + this.m12 * b.m11 + this.m22 * b.m12,
+				 0.0F,
+				 this.m00 * b.m20 + this.m10 * b.m21 + this.m20 * b.m22,
+				 this.m01 * b.m20 + this.m11 * b.m21 + this.m21 * b.m22,
+				 this.m02 * b.m20 + this.m12 * b.m21 + this.m22 * b.m22,
+				 0.0F,
+				 this.m00 * b.m30 + this.m10 * b.m31 + this.m20 * b.m32 + this.m30,
+				 this.m01 * b.m30 + this.m11 * b.m31 + this.m21 * b.m32 + this.m31,
+				 this.m02 * b.m30 + this.m12 * b.m31 + this.m22 * b.m32 + this.m32,
+				 1.0F);
+	}
+	
+	private final void multiplyGeneral(Matrix4 b) {
+		
 		this.set(this.m00 * b.m00 + this.m10 * b.m01 + this.m20 * b.m02 + this.m30 * b.m03,
 				 this.m01 * b.m00 + this.m11 * b.m01 + this.m21 * b.m02 + this.m31 * b.m03,
 				 this.m02 * b.m00 + this.m12 * b.m01 + this.m22 * b.m02 + this.m32 * b.m03,
@@ -209,8 +553,6 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 this.m01 * b.m30 + this.m11 * b.m31 + this.m21 * b.m32 + this.m31 * b.m33,
 				 this.m02 * b.m30 + this.m12 * b.m31 + this.m22 * b.m32 + this.m32 * b.m33,
 				 this.m03 * b.m30 + this.m13 * b.m31 + this.m23 * b.m32 + this.m33 * b.m33);
-
-		return this;
 	}
 	
 	/**
@@ -221,10 +563,439 @@ public final class Matrix4 extends Matrix<Matrix4> {
 	 */
 	public final Vector4 transform(Vector4 vector) {
 
-		return new Vector4(this.m00 * vector.x + this.m10 * vector.y + this.m20 * vector.z + this.m30 * vector.w,
-						   this.m01 * vector.x + this.m11 * vector.y + this.m21 * vector.z + this.m31 * vector.w,
-						   this.m02 * vector.x + this.m12 * vector.y + this.m22 * vector.z + this.m32 * vector.w,
-						   this.m03 * vector.x + this.m13 * vector.y + this.m23 * vector.z + this.m33 * vector.w);
+		return this.transform(vector, new Vector4());
+	}
+
+	/**
+	 * Transforms a vector and writes the result into another one instead of allocating a new vector.
+	 * @param src the vector that should be transformed
+	 * @param dest the vector that will receive the result, may be {@code src}
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector4 transform(Vector4 src, Vector4 dest) {
+
+		float x = src.x;
+		float y = src.y;
+		float z = src.z;
+		float w = src.w;
+
+		if((this.properties & PROPERTY_IDENTITY) != 0) {
+			
+			dest.set(x, y, z, w);
+			
+		} else if((this.properties & PROPERTY_TRANSLATION) != 0) {
+			
+			dest.set(x + this.m30 * w, y + this.m31 * w, z + this.m32 * w, w);
+			
+		} else if((this.properties & PROPERTY_AFFINE) != 0) {
+			
+			dest.set(this.m00 * x + this.m10 * y + this.m20 * z + this.m30 * w,
+					 this.m01 * x + this.m11 * y + this.m21 * z + this.m31 * w,
+					 this.m02 * x + this.m12 * y + this.m22 * z + this.m32 * w,
+					 w);
+			
+		} else {
+			
+			this.transformGeneral(x, y, z, w, dest);
+		}
+
+		return dest;
+	}
+	
+	private final void transformGeneral(float x, float y, float z, float w, Vector4 dest) {
+		
+		dest.set(this.m00 * x + this.m10 * y + this.m20 * z + this.m30 * w,
+				 this.m01 * x + this.m11 * y + this.m21 * z + this.m31 * w,
+				 this.m02 * x + this.m12 * y + this.m22 * z + this.m32 * w,
+				 this.m03 * x + this.m13 * y + this.m23 * z + this.m33 * w);
+	}
+
+	/**
+	 * Transforms multiple four dimensional vectors that are packed into a {@code float} array.
+	 * The source and the destination may be the same array, but only if the offsets and the strides of both are equal.
+	 * @param src the array containing the vectors
+	 * @param srcOffset index of the first element of the first source vector
+	 * @param srcStride number of {@code float}s between the starts of two source vectors (at least 4)
+	 * @param dest the array that will receive the transformed vectors
+	 * @param destOffset index of the first element of the first destination vector
+	 * @param destStride number of {@code float}s between the starts of two destination vectors (at least 4)
+	 * @param count the number of vectors
+	 * @since 1.1.0
+	 */
+	public final void transform(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02, m03 = this.m03;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12, m13 = this.m13;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22, m23 = this.m23;
+		float m30 = this.m30, m31 = this.m31, m32 = this.m32, m33 = this.m33;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		// four vectors per iteration, all of them are read before the first one is written,
+		// which is why src and dest may only be the same array if offset and stride match
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src[s], y0 = src[s + 1], z0 = src[s + 2], w0 = src[s + 3];
+			float x1 = src[s1], y1 = src[s1 + 1], z1 = src[s1 + 2], w1 = src[s1 + 3];
+			float x2 = src[s2], y2 = src[s2 + 1], z2 = src[s2 + 2], w2 = src[s2 + 3];
+			float x3 = src[s3], y3 = src[s3 + 1], z3 = src[s3 + 2], w3 = src[s3 + 3];
+
+			dest[d]     = m00 * x0 + m10 * y0 + m20 * z0 + m30 * w0;
+			dest[d + 1] = m01 * x0 + m11 * y0 + m21 * z0 + m31 * w0;
+			dest[d + 2] = m02 * x0 + m12 * y0 + m22 * z0 + m32 * w0;
+			dest[d + 3] = m03 * x0 + m13 * y0 + m23 * z0 + m33 * w0;
+
+			dest[d1]     = m00 * x1 + m10 * y1 + m20 * z1 + m30 * w1;
+			dest[d1 + 1] = m01 * x1 + m11 * y1 + m21 * z1 + m31 * w1;
+			dest[d1 + 2] = m02 * x1 + m12 * y1 + m22 * z1 + m32 * w1;
+			dest[d1 + 3] = m03 * x1 + m13 * y1 + m23 * z1 + m33 * w1;
+
+			dest[d2]     = m00 * x2 + m10 * y2 + m20 * z2 + m30 * w2;
+			dest[d2 + 1] = m01 * x2 + m11 * y2 + m21 * z2 + m31 * w2;
+			dest[d2 + 2] = m02 * x2 + m12 * y2 + m22 * z2 + m32 * w2;
+			dest[d2 + 3] = m03 * x2 + m13 * y2 + m23 * z2 + m33 * w2;
+
+			dest[d3]     = m00 * x3 + m10 * y3 + m20 * z3 + m30 * w3;
+			dest[d3 + 1] = m01 * x3 + m11 * y3 + m21 * z3 + m31 * w3;
+			dest[d3 + 2] = m02 * x3 + m12 * y3 + m22 * z3 + m32 * w3;
+			dest[d3 + 3] = m03 * x3 + m13 * y3 + m23 * z3 + m33 * w3;
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src[s];
+			float y = src[s + 1];
+			float z = src[s + 2];
+			float w = src[s + 3];
+
+			dest[d]     = m00 * x + m10 * y + m20 * z + m30 * w;
+			dest[d + 1] = m01 * x + m11 * y + m21 * z + m31 * w;
+			dest[d + 2] = m02 * x + m12 * y + m22 * z + m32 * w;
+			dest[d + 3] = m03 * x + m13 * y + m23 * z + m33 * w;
+		}
+	}
+
+	/**
+	 * Transforms multiple points that are packed into a {@code float} array as x, y, z.
+	 * The missing 4th element is assumed to be {@code 1.0F}, so the translation is applied.
+	 * The 4th element of the result is dropped, no perspective division takes place.
+	 * The source and the destination may be the same array, but only if the offsets and the strides of both are equal.
+	 * @param src the array containing the points
+	 * @param srcOffset index of the first element of the first source point
+	 * @param srcStride number of {@code float}s between the starts of two source points (at least 3)
+	 * @param dest the array that will receive the transformed points
+	 * @param destOffset index of the first element of the first destination point
+	 * @param destStride number of {@code float}s between the starts of two destination points (at least 3)
+	 * @param count the number of points
+	 * @since 1.1.0
+	 */
+	public final void transformPoints(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+		float m30 = this.m30, m31 = this.m31, m32 = this.m32;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src[s], y0 = src[s + 1], z0 = src[s + 2];
+			float x1 = src[s1], y1 = src[s1 + 1], z1 = src[s1 + 2];
+			float x2 = src[s2], y2 = src[s2 + 1], z2 = src[s2 + 2];
+			float x3 = src[s3], y3 = src[s3 + 1], z3 = src[s3 + 2];
+
+			dest[d]     = m00 * x0 + m10 * y0 + m20 * z0 + m30;
+			dest[d + 1] = m01 * x0 + m11 * y0 + m21 * z0 + m31;
+			dest[d + 2] = m02 * x0 + m12 * y0 + m22 * z0 + m32;
+
+			dest[d1]     = m00 * x1 + m10 * y1 + m20 * z1 + m30;
+			dest[d1 + 1] = m01 * x1 + m11 * y1 + m21 * z1 + m31;
+			dest[d1 + 2] = m02 * x1 + m12 * y1 + m22 * z1 + m32;
+
+			dest[d2]     = m00 * x2 + m10 * y2 + m20 * z2 + m30;
+			dest[d2 + 1] = m01 * x2 + m11 * y2 + m21 * z2 + m31;
+			dest[d2 + 2] = m02 * x2 + m12 * y2 + m22 * z2 + m32;
+
+			dest[d3]     = m00 * x3 + m10 * y3 + m20 * z3 + m30;
+			dest[d3 + 1] = m01 * x3 + m11 * y3 + m21 * z3 + m31;
+			dest[d3 + 2] = m02 * x3 + m12 * y3 + m22 * z3 + m32;
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src[s];
+			float y = src[s + 1];
+			float z = src[s + 2];
+
+			dest[d]     = m00 * x + m10 * y + m20 * z + m30;
+			dest[d + 1] = m01 * x + m11 * y + m21 * z + m31;
+			dest[d + 2] = m02 * x + m12 * y + m22 * z + m32;
+		}
+	}
+
+	/**
+	 * Transforms multiple directions that are packed into a {@code float} array as x, y, z.
+	 * The missing 4th element is assumed to be {@code 0.0F}, so the translation is ignored.
+	 * The source and the destination may be the same array, but only if the offsets and the strides of both are equal.
+	 * @param src the array containing the directions
+	 * @param srcOffset index of the first element of the first source direction
+	 * @param srcStride number of {@code float}s between the starts of two source directions (at least 3)
+	 * @param dest the array that will receive the transformed directions
+	 * @param destOffset index of the first element of the first destination direction
+	 * @param destStride number of {@code float}s between the starts of two destination directions (at least 3)
+	 * @param count the number of directions
+	 * @since 1.1.0
+	 */
+	public final void transformDirections(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src[s], y0 = src[s + 1], z0 = src[s + 2];
+			float x1 = src[s1], y1 = src[s1 + 1], z1 = src[s1 + 2];
+			float x2 = src[s2], y2 = src[s2 + 1], z2 = src[s2 + 2];
+			float x3 = src[s3], y3 = src[s3 + 1], z3 = src[s3 + 2];
+
+			dest[d]     = m00 * x0 + m10 * y0 + m20 * z0;
+			dest[d + 1] = m01 * x0 + m11 * y0 + m21 * z0;
+			dest[d + 2] = m02 * x0 + m12 * y0 + m22 * z0;
+
+			dest[d1]     = m00 * x1 + m10 * y1 + m20 * z1;
+			dest[d1 + 1] = m01 * x1 + m11 * y1 + m21 * z1;
+			dest[d1 + 2] = m02 * x1 + m12 * y1 + m22 * z1;
+
+			dest[d2]     = m00 * x2 + m10 * y2 + m20 * z2;
+			dest[d2 + 1] = m01 * x2 + m11 * y2 + m21 * z2;
+			dest[d2 + 2] = m02 * x2 + m12 * y2 + m22 * z2;
+
+			dest[d3]     = m00 * x3 + m10 * y3 + m20 * z3;
+			dest[d3 + 1] = m01 * x3 + m11 * y3 + m21 * z3;
+			dest[d3 + 2] = m02 * x3 + m12 * y3 + m22 * z3;
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src[s];
+			float y = src[s + 1];
+			float z = src[s + 2];
+
+			dest[d]     = m00 * x + m10 * y + m20 * z;
+			dest[d + 1] = m01 * x + m11 * y + m21 * z;
+			dest[d + 2] = m02 * x + m12 * y + m22 * z;
+		}
+	}
+
+	/**
+	 * Transforms multiple four dimensional vectors that are packed into a {@linkplain FloatBuffer}.
+	 * Only absolute indices are used, the positions of the buffers stay untouched.
+	 * The source and the destination may be the same buffer, but only if the offsets and the strides of both are equal.
+	 * @param src the buffer containing the vectors
+	 * @param srcOffset index of the first element of the first source vector
+	 * @param srcStride number of {@code float}s between the starts of two source vectors (at least 4)
+	 * @param dest the buffer that will receive the transformed vectors
+	 * @param destOffset index of the first element of the first destination vector
+	 * @param destStride number of {@code float}s between the starts of two destination vectors (at least 4)
+	 * @param count the number of vectors
+	 * @since 1.1.0
+	 */
+	public final void transform(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02, m03 = this.m03;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12, m13 = this.m13;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22, m23 = this.m23;
+		float m30 = this.m30, m31 = this.m31, m32 = this.m32, m33 = this.m33;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src.get(s), y0 = src.get(s + 1), z0 = src.get(s + 2), w0 = src.get(s + 3);
+			float x1 = src.get(s1), y1 = src.get(s1 + 1), z1 = src.get(s1 + 2), w1 = src.get(s1 + 3);
+			float x2 = src.get(s2), y2 = src.get(s2 + 1), z2 = src.get(s2 + 2), w2 = src.get(s2 + 3);
+			float x3 = src.get(s3), y3 = src.get(s3 + 1), z3 = src.get(s3 + 2), w3 = src.get(s3 + 3);
+
+			dest.put(d,     m00 * x0 + m10 * y0 + m20 * z0 + m30 * w0);
+			dest.put(d + 1, m01 * x0 + m11 * y0 + m21 * z0 + m31 * w0);
+			dest.put(d + 2, m02 * x0 + m12 * y0 + m22 * z0 + m32 * w0);
+			dest.put(d + 3, m03 * x0 + m13 * y0 + m23 * z0 + m33 * w0);
+
+			dest.put(d1,     m00 * x1 + m10 * y1 + m20 * z1 + m30 * w1);
+			dest.put(d1 + 1, m01 * x1 + m11 * y1 + m21 * z1 + m31 * w1);
+			dest.put(d1 + 2, m02 * x1 + m12 * y1 + m22 * z1 + m32 * w1);
+			dest.put(d1 + 3, m03 * x1 + m13 * y1 + m23 * z1 + m33 * w1);
+
+			dest.put(d2,     m00 * x2 + m10 * y2 + m20 * z2 + m30 * w2);
+			dest.put(d2 + 1, m01 * x2 + m11 * y2 + m21 * z2 + m31 * w2);
+			dest.put(d2 + 2, m02 * x2 + m12 * y2 + m22 * z2 + m32 * w2);
+			dest.put(d2 + 3, m03 * x2 + m13 * y2 + m23 * z2 + m33 * w2);
+
+			dest.put(d3,     m00 * x3 + m10 * y3 + m20 * z3 + m30 * w3);
+			dest.put(d3 + 1, m01 * x3 + m11 * y3 + m21 * z3 + m31 * w3);
+			dest.put(d3 + 2, m02 * x3 + m12 * y3 + m22 * z3 + m32 * w3);
+			dest.put(d3 + 3, m03 * x3 + m13 * y3 + m23 * z3 + m33 * w3);
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src.get(s);
+			float y = src.get(s + 1);
+			float z = src.get(s + 2);
+			float w = src.get(s + 3);
+
+			dest.put(d,     m00 * x + m10 * y + m20 * z + m30 * w);
+			dest.put(d + 1, m01 * x + m11 * y + m21 * z + m31 * w);
+			dest.put(d + 2, m02 * x + m12 * y + m22 * z + m32 * w);
+			dest.put(d + 3, m03 * x + m13 * y + m23 * z + m33 * w);
+		}
+	}
+
+	/**
+	 * Transforms multiple points that are packed into a {@linkplain FloatBuffer} as x, y, z.
+	 * The missing 4th element is assumed to be {@code 1.0F}, so the translation is applied.
+	 * The 4th element of the result is dropped, no perspective division takes place.
+	 * Only absolute indices are used, the positions of the buffers stay untouched.
+	 * The source and the destination may be the same buffer, but only if the offsets and the strides of both are equal.
+	 * @param src the buffer containing the points
+	 * @param srcOffset index of the first element of the first source point
+	 * @param srcStride number of {@code float}s between the starts of two source points (at least 3)
+	 * @param dest the buffer that will receive the transformed points
+	 * @param destOffset index of the first element of the first destination point
+	 * @param destStride number of {@code float}s between the starts of two destination points (at least 3)
+	 * @param count the number of points
+	 * @since 1.1.0
+	 */
+	public final void transformPoints(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+		float m30 = this.m30, m31 = this.m31, m32 = this.m32;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src.get(s), y0 = src.get(s + 1), z0 = src.get(s + 2);
+			float x1 = src.get(s1), y1 = src.get(s1 + 1), z1 = src.get(s1 + 2);
+			float x2 = src.get(s2), y2 = src.get(s2 + 1), z2 = src.get(s2 + 2);
+			float x3 = src.get(s3), y3 = src.get(s3 + 1), z3 = src.get(s3 + 2);
+
+			dest.put(d,     m00 * x0 + m10 * y0 + m20 * z0 + m30);
+			dest.put(d + 1, m01 * x0 + m11 * y0 + m21 * z0 + m31);
+			dest.put(d + 2, m02 * x0 + m12 * y0 + m22 * z0 + m32);
+
+			dest.put(d1,     m00 * x1 + m10 * y1 + m20 * z1 + m30);
+			dest.put(d1 + 1, m01 * x1 + m11 * y1 + m21 * z1 + m31);
+			dest.put(d1 + 2, m02 * x1 + m12 * y1 + m22 * z1 + m32);
+
+			dest.put(d2,     m00 * x2 + m10 * y2 + m20 * z2 + m30);
+			dest.put(d2 + 1, m01 * x2 + m11 * y2 + m21 * z2 + m31);
+			dest.put(d2 + 2, m02 * x2 + m12 * y2 + m22 * z2 + m32);
+
+			dest.put(d3,     m00 * x3 + m10 * y3 + m20 * z3 + m30);
+			dest.put(d3 + 1, m01 * x3 + m11 * y3 + m21 * z3 + m31);
+			dest.put(d3 + 2, m02 * x3 + m12 * y3 + m22 * z3 + m32);
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src.get(s);
+			float y = src.get(s + 1);
+			float z = src.get(s + 2);
+
+			dest.put(d,     m00 * x + m10 * y + m20 * z + m30);
+			dest.put(d + 1, m01 * x + m11 * y + m21 * z + m31);
+			dest.put(d + 2, m02 * x + m12 * y + m22 * z + m32);
+		}
+	}
+
+	/**
+	 * Transforms multiple directions that are packed into a {@linkplain FloatBuffer} as x, y, z.
+	 * The missing 4th element is assumed to be {@code 0.0F}, so the translation is ignored.
+	 * Only absolute indices are used, the positions of the buffers stay untouched.
+	 * The source and the destination may be the same buffer, but only if the offsets and the strides of both are equal.
+	 * @param src the buffer containing the directions
+	 * @param srcOffset index of the first element of the first source direction
+	 * @param srcStride number of {@code float}s between the starts of two source directions (at least 3)
+	 * @param dest the buffer that will receive the transformed directions
+	 * @param destOffset index of the first element of the first destination direction
+	 * @param destStride number of {@code float}s between the starts of two destination directions (at least 3)
+	 * @param count the number of directions
+	 * @since 1.1.0
+	 */
+	public final void transformDirections(FloatBuffer src, int srcOffset, int srcStride, FloatBuffer dest, int destOffset, int destStride, int count) {
+
+		float m00 = this.m00, m01 = this.m01, m02 = this.m02;
+		float m10 = this.m10, m11 = this.m11, m12 = this.m12;
+		float m20 = this.m20, m21 = this.m21, m22 = this.m22;
+
+		int index = 0, s = srcOffset, d = destOffset;
+		int unrolled = count & ~3;
+
+		for(; index < unrolled; index += 4, s += srcStride * 4, d += destStride * 4) {
+
+			int s1 = s + srcStride, s2 = s1 + srcStride, s3 = s2 + srcStride;
+			int d1 = d + destStride, d2 = d1 + destStride, d3 = d2 + destStride;
+
+			float x0 = src.get(s), y0 = src.get(s + 1), z0 = src.get(s + 2);
+			float x1 = src.get(s1), y1 = src.get(s1 + 1), z1 = src.get(s1 + 2);
+			float x2 = src.get(s2), y2 = src.get(s2 + 1), z2 = src.get(s2 + 2);
+			float x3 = src.get(s3), y3 = src.get(s3 + 1), z3 = src.get(s3 + 2);
+
+			dest.put(d,     m00 * x0 + m10 * y0 + m20 * z0);
+			dest.put(d + 1, m01 * x0 + m11 * y0 + m21 * z0);
+			dest.put(d + 2, m02 * x0 + m12 * y0 + m22 * z0);
+
+			dest.put(d1,     m00 * x1 + m10 * y1 + m20 * z1);
+			dest.put(d1 + 1, m01 * x1 + m11 * y1 + m21 * z1);
+			dest.put(d1 + 2, m02 * x1 + m12 * y1 + m22 * z1);
+
+			dest.put(d2,     m00 * x2 + m10 * y2 + m20 * z2);
+			dest.put(d2 + 1, m01 * x2 + m11 * y2 + m21 * z2);
+			dest.put(d2 + 2, m02 * x2 + m12 * y2 + m22 * z2);
+
+			dest.put(d3,     m00 * x3 + m10 * y3 + m20 * z3);
+			dest.put(d3 + 1, m01 * x3 + m11 * y3 + m21 * z3);
+			dest.put(d3 + 2, m02 * x3 + m12 * y3 + m22 * z3);
+		}
+
+		for(; index < count; index++, s += srcStride, d += destStride) {
+
+			float x = src.get(s);
+			float y = src.get(s + 1);
+			float z = src.get(s + 2);
+
+			dest.put(d,     m00 * x + m10 * y + m20 * z);
+			dest.put(d + 1, m01 * x + m11 * y + m21 * z);
+			dest.put(d + 2, m02 * x + m12 * y + m22 * z);
+		}
 	}
 	
 	/**
@@ -250,6 +1021,11 @@ public final class Matrix4 extends Matrix<Matrix4> {
 		this.m22 *= scale.z;
 		this.m23 *= scale.z;
 		
+		if(scale.x != 1.0F || scale.y != 1.0F || scale.z != 1.0F) {
+			
+			this.properties &= PROPERTY_AFFINE;
+		}
+		
 		return this;
 	}
 	
@@ -300,6 +1076,8 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 this.m03 * f20 + this.m13 * f21 + this.m23 * f22,
 			     this.m30, this.m31, this.m32, this.m33);
 		
+		// the axes are unit vectors, so the rotation keeps an orthonormal matrix orthonormal
+		this.properties &= PROPERTY_AFFINE | PROPERTY_ORTHONORMAL;
 		return this;
 	}
 	
@@ -329,6 +1107,7 @@ public final class Matrix4 extends Matrix<Matrix4> {
 		this.m32 += this.m02 * vector.x + this.m12 * vector.y + this.m22 * vector.z;
 		this.m33 += this.m03 * vector.x + this.m13 * vector.y + this.m23 * vector.z;
 
+		this.properties &= ~PROPERTY_IDENTITY;
 		return this;
 	}
 	
@@ -340,7 +1119,286 @@ public final class Matrix4 extends Matrix<Matrix4> {
 	 */
 	public final Matrix4 scale(float scale) {
 		
-		return this.scale(new Vector3(scale, scale, scale));
+		this.m00 *= scale;
+		this.m01 *= scale;
+		this.m02 *= scale;
+		this.m03 *= scale;
+		
+		this.m10 *= scale;
+		this.m11 *= scale;
+		this.m12 *= scale;
+		this.m13 *= scale;
+		
+		this.m20 *= scale;
+		this.m21 *= scale;
+		this.m22 *= scale;
+		this.m23 *= scale;
+		
+		if(scale != 1.0F) {
+			
+			this.properties &= PROPERTY_AFFINE;
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Sets this matrix to {@code translation * rotation * scale}, the usual model matrix of a node.
+	 * The rotation block is built directly from the quaternion, so unlike chaining {@linkplain #translate(Vector3)},
+	 * {@linkplain #rotate(Vector3)} and {@linkplain #scale(Vector3)} no trigonometric functions are needed.
+	 * The quaternion doesn't have to be normalized, but it must not be zero.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param translation the translation
+	 * @param rotation the rotation
+	 * @param scale the scale along the x, y and z axis
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Matrix4 fromTranslationRotationScale(Vector3 translation, Quaternion rotation, Vector3 scale) {
+		
+		return this.fromTranslationRotationScale(translation.x, translation.y, translation.z,
+												 rotation.x, rotation.y, rotation.z, rotation.w,
+												 scale.x, scale.y, scale.z);
+	}
+	
+	final Matrix4 fromTranslationRotationScale(float tx, float ty, float tz, float x, float y, float z, float w, float scaleX, float scaleY, float scaleZ) {
+		
+		// writes the fields directly, this is the path of every single object and must not go through an array
+		float s = 2.0F / (x * x + y * y + z * z + w * w);
+		
+		float xs = x * s, ys = y * s, zs = z * s;
+		float wx = w * xs, wy = w * ys, wz = w * zs;
+		float xx = x * xs, xy = x * ys, xz = x * zs;
+		float yy = y * ys, yz = y * zs, zz = z * zs;
+		
+		this.set((1.0F - (yy + zz)) * scaleX, (xy + wz) * scaleX, (xz - wy) * scaleX, 0.0F,
+				 (xy - wz) * scaleY, (1.0F - (xx + zz)) * scaleY, (yz + wx) * scaleY, 0.0F,
+				 (xz + wy) * scaleZ, (yz - wx) * scaleZ, (1.0F - (xx + yy)) * scaleZ, 0.0F,
+				 tx, ty, tz, 1.0F);
+		
+		this.properties = scaleX == 1.0F && scaleY == 1.0F && scaleZ == 1.0F ? PROPERTY_AFFINE | PROPERTY_ORTHONORMAL : PROPERTY_AFFINE;
+		return this;
+	}
+	
+	/**
+	 * Builds many model matrices at once like {@linkplain #fromTranslationRotationScale(Vector3, Quaternion, Vector3)}.
+	 * The translations and scales are packed into {@code float} arrays as x, y, z, the rotations as x, y, z, w
+	 * and every matrix is written as 16 {@code float}s in the order of {@linkplain #toArray()}.
+	 * @param translations the array containing the translations
+	 * @param translationOffset index of the first element of the first translation
+	 * @param rotations the array containing the quaternions
+	 * @param rotationOffset index of the first element of the first quaternion
+	 * @param scales the array containing the scales
+	 * @param scaleOffset index of the first element of the first scale
+	 * @param dest the array that will receive the matrices
+	 * @param destOffset index of the first element of the first matrix
+	 * @param count the number of matrices
+	 * @since 1.1.0
+	 */
+	public static final void fromTranslationRotationScale(float[] translations, int translationOffset, float[] rotations, int rotationOffset, float[] scales, int scaleOffset, float[] dest, int destOffset, int count) {
+		
+		for(int index = 0, t = translationOffset, r = rotationOffset, c = scaleOffset, d = destOffset; index < count; index++, t += 3, r += 4, c += 3, d += 16) {
+			
+			Matrix4.compose(translations[t], translations[t + 1], translations[t + 2],
+							rotations[r], rotations[r + 1], rotations[r + 2], rotations[r + 3],
+							scales[c], scales[c + 1], scales[c + 2], dest, d);
+		}
+	}
+	
+	// the conversion of a quaternion, a translation and a scale into a matrix that all of the conversions share, written in the order of toArray()
+	static final void compose(float tx, float ty, float tz, float x, float y, float z, float w, float scaleX, float scaleY, float scaleZ, float[] dest, int offset) {
+		
+		float s = 2.0F / (x * x + y * y + z * z + w * w);
+		
+		float xs = x * s, ys = y * s, zs = z * s;
+		float wx = w * xs, wy = w * ys, wz = w * zs;
+		float xx = x * xs, xy = x * ys, xz = x * zs;
+		float yy = y * ys, yz = y * zs, zz = z * zs;
+		
+		dest[offset]      = (1.0F - (yy + zz)) * scaleX;
+		dest[offset + 1]  = (xy + wz) * scaleX;
+		dest[offset + 2]  = (xz - wy) * scaleX;
+		dest[offset + 3]  = 0.0F;
+		dest[offset + 4]  = (xy - wz) * scaleY;
+		dest[offset + 5]  = (1.0F - (xx + zz)) * scaleY;
+		dest[offset + 6]  = (yz + wx) * scaleY;
+		dest[offset + 7]  = 0.0F;
+		dest[offset + 8]  = (xz + wy) * scaleZ;
+		dest[offset + 9]  = (yz - wx) * scaleZ;
+		dest[offset + 10] = (1.0F - (xx + yy)) * scaleZ;
+		dest[offset + 11] = 0.0F;
+		dest[offset + 12] = tx;
+		dest[offset + 13] = ty;
+		dest[offset + 14] = tz;
+		dest[offset + 15] = 1.0F;
+	}
+	
+	// the same as compose into an array, but with absolute puts, so that the position of the buffer stays untouched
+	static final void compose(float tx, float ty, float tz, float x, float y, float z, float w, float scaleX, float scaleY, float scaleZ, FloatBuffer dest, int offset) {
+		
+		float s = 2.0F / (x * x + y * y + z * z + w * w);
+		
+		float xs = x * s, ys = y * s, zs = z * s;
+		float wx = w * xs, wy = w * ys, wz = w * zs;
+		float xx = x * xs, xy = x * ys, xz = x * zs;
+		float yy = y * ys, yz = y * zs, zz = z * zs;
+		
+		dest.put(offset,      (1.0F - (yy + zz)) * scaleX);
+		dest.put(offset + 1,  (xy + wz) * scaleX);
+		dest.put(offset + 2,  (xz - wy) * scaleX);
+		dest.put(offset + 3,  0.0F);
+		dest.put(offset + 4,  (xy - wz) * scaleY);
+		dest.put(offset + 5,  (1.0F - (xx + zz)) * scaleY);
+		dest.put(offset + 6,  (yz + wx) * scaleY);
+		dest.put(offset + 7,  0.0F);
+		dest.put(offset + 8,  (xz + wy) * scaleZ);
+		dest.put(offset + 9,  (yz - wx) * scaleZ);
+		dest.put(offset + 10, (1.0F - (xx + yy)) * scaleZ);
+		dest.put(offset + 11, 0.0F);
+		dest.put(offset + 12, tx);
+		dest.put(offset + 13, ty);
+		dest.put(offset + 14, tz);
+		dest.put(offset + 15, 1.0F);
+	}
+	
+	/**
+	 * Splits this matrix into a translation, a rotation and a scale, so that
+	 * {@linkplain #fromTranslationRotationScale(Vector3, Quaternion, Vector3)} rebuilds it.
+	 * The scale along each axis is the length of the corresponding column. If the determinant of the upper left 3x3 block is negative,
+	 * the matrix mirrors, which is expressed by a negative x scale. The matrix has to be affine and must not contain a shear
+	 * or a zero scale, otherwise the rotation is meaningless. Nothing is allocated.
+	 * @param translation the vector that will receive the translation
+	 * @param rotation the quaternion that will receive the normalized rotation
+	 * @param scale the vector that will receive the scale
+	 * @since 1.1.0
+	 */
+	public final void decompose(Vector3 translation, Quaternion rotation, Vector3 scale) {
+		
+		float scaleX = (float)Math.sqrt(this.m00 * this.m00 + this.m01 * this.m01 + this.m02 * this.m02);
+		float scaleY = (float)Math.sqrt(this.m10 * this.m10 + this.m11 * this.m11 + this.m12 * this.m12);
+		float scaleZ = (float)Math.sqrt(this.m20 * this.m20 + this.m21 * this.m21 + this.m22 * this.m22);
+		
+		if(Matrix4.determinant3x3(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m20, this.m21, this.m22) < 0.0F) {
+			
+			scaleX = -scaleX;
+		}
+		
+		float inverseX = 1.0F / scaleX;
+		float inverseY = 1.0F / scaleY;
+		float inverseZ = 1.0F / scaleZ;
+		
+		// Quaternion.fromMatrix expects the rotation row by row
+		rotation.fromMatrix(this.m00 * inverseX, this.m10 * inverseY, this.m20 * inverseZ,
+							this.m01 * inverseX, this.m11 * inverseY, this.m21 * inverseZ,
+							this.m02 * inverseX, this.m12 * inverseY, this.m22 * inverseZ);
+		
+		translation.set(this.m30, this.m31, this.m32);
+		scale.set(scaleX, scaleY, scaleZ);
+	}
+	
+	/**
+	 * Decomposes many matrices at once like {@linkplain #decompose(Vector3, Quaternion, Vector3)}.
+	 * The matrices are read as 16 {@code float}s in the order of {@linkplain #toArray()}, the translations and scales
+	 * are written as x, y, z and the rotations as x, y, z, w.
+	 * @param matrices the array containing the matrices
+	 * @param matrixOffset index of the first element of the first matrix
+	 * @param translations the array that will receive the translations
+	 * @param translationOffset index of the first element of the first translation
+	 * @param rotations the array that will receive the rotations
+	 * @param rotationOffset index of the first element of the first rotation
+	 * @param scales the array that will receive the scales
+	 * @param scaleOffset index of the first element of the first scale
+	 * @param count the number of matrices
+	 * @since 1.1.0
+	 */
+	public static final void decompose(float[] matrices, int matrixOffset, float[] translations, int translationOffset, float[] rotations, int rotationOffset, float[] scales, int scaleOffset, int count) {
+		
+		for(int index = 0, m = matrixOffset, t = translationOffset, r = rotationOffset, c = scaleOffset; index < count; index++, m += 16, t += 3, r += 4, c += 3) {
+			
+			float m00 = matrices[m],     m01 = matrices[m + 1], m02 = matrices[m + 2];
+			float m10 = matrices[m + 4], m11 = matrices[m + 5], m12 = matrices[m + 6];
+			float m20 = matrices[m + 8], m21 = matrices[m + 9], m22 = matrices[m + 10];
+			
+			float scaleX = (float)Math.sqrt(m00 * m00 + m01 * m01 + m02 * m02);
+			float scaleY = (float)Math.sqrt(m10 * m10 + m11 * m11 + m12 * m12);
+			float scaleZ = (float)Math.sqrt(m20 * m20 + m21 * m21 + m22 * m22);
+			
+			if(Matrix4.determinant3x3(m00, m01, m02, m10, m11, m12, m20, m21, m22) < 0.0F) {
+				
+				scaleX = -scaleX;
+			}
+			
+			float inverseX = 1.0F / scaleX;
+			float inverseY = 1.0F / scaleY;
+			float inverseZ = 1.0F / scaleZ;
+			
+			Matrix4.toQuaternion(m00 * inverseX, m01 * inverseX, m02 * inverseX,
+								 m10 * inverseY, m11 * inverseY, m12 * inverseY,
+								 m20 * inverseZ, m21 * inverseZ, m22 * inverseZ,
+								 rotations, r);
+			
+			translations[t]     = matrices[m + 12];
+			translations[t + 1] = matrices[m + 13];
+			translations[t + 2] = matrices[m + 14];
+			
+			scales[c]     = scaleX;
+			scales[c + 1] = scaleY;
+			scales[c + 2] = scaleZ;
+		}
+	}
+	
+	// the same as Quaternion.fromMatrix, but for the mCR order of the fields and with an array as destination
+	static final void toQuaternion(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22, float[] dest, int offset) {
+		
+		float x, y, z, w, s;
+		float tr = m00 + m11 + m22;
+		
+		if(tr >= 0.0F) {
+			
+			s = (float)Math.sqrt(tr + 1.0D);
+			w = s * 0.5F;
+			s = 0.5F / s;
+			x = (m12 - m21) * s;
+			y = (m20 - m02) * s;
+			z = (m01 - m10) * s;
+			
+		} else {
+			
+			float max = Math.max(Math.max(m00, m11), m22);
+			
+			if(max == m00) {
+				
+				s = (float)Math.sqrt(m00 - (m11 + m22) + 1.0D);
+				x = s * 0.5F;
+				s = 0.5F / s;
+				y = (m10 + m01) * s;
+				z = (m02 + m20) * s;
+				w = (m12 - m21) * s;
+				
+			} else if(max == m11) {
+				
+				s = (float)Math.sqrt(m11 - (m22 + m00) + 1.0D);
+				y = s * 0.5F;
+				s = 0.5F / s;
+				z = (m21 + m12) * s;
+				x = (m10 + m01) * s;
+				w = (m20 - m02) * s;
+				
+			} else {
+				
+				s = (float)Math.sqrt(m22 - (m00 + m11) + 1.0D);
+				z = s * 0.5F;
+				s = 0.5F / s;
+				x = (m02 + m20) * s;
+				y = (m21 + m12) * s;
+				w = (m01 - m10) * s;
+			}
+		}
+		
+		dest[offset]     = x;
+		dest[offset + 1] = y;
+		dest[offset + 2] = z;
+		dest[offset + 3] = w;
 	}
 	
 	/**
@@ -352,10 +1410,31 @@ public final class Matrix4 extends Matrix<Matrix4> {
 		
 		return new Matrix3(this);
 	}
+
+	/**
+	 * Copies the upper left 3x3 part of this matrix into an existing {@linkplain Matrix3}.
+	 * @param dest the matrix that will receive the result
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Matrix3 toMatrix3(Matrix3 dest) {
+
+		dest.set(this);
+		return dest;
+	}
 	
 	@Override
 	public final float determinant() {
 		
+		if((this.properties & PROPERTY_TRANSLATION) != 0) {
+			
+			return 1.0F;
+			
+		} else if((this.properties & PROPERTY_AFFINE) != 0) {
+			
+			return Matrix4.determinant3x3(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m20, this.m21, this.m22);
+		}
+		
 		float determinant =  this.m00 * ((this.m11 * this.m22 * this.m33 + this.m12 * this.m23 * this.m31 + this.m13 * this.m21 * this.m32) - this.m13 * this.m22 * this.m31 - this.m11 * this.m23 * this.m32 - this.m12 * this.m21 * this.m33);
 			  determinant -= this.m01 * ((this.m10 * this.m22 * this.m33 + this.m12 * this.m23 * this.m30 + this.m13 * this.m20 * this.m32) - this.m13 * this.m22 * this.m30 - this.m10 * this.m23 * this.m32 - this.m12 * this.m20 * this.m33);
 			  determinant += this.m02 * ((this.m10 * this.m21 * this.m33 + this.m11 * this.m23 * this.m30 + this.m13 * this.m20 * this.m31) - this.m13 * this.m21 * this.m30 - this.m10 * this.m23 * this.m31 - this.m11 * this.m20 * this.m33);
@@ -364,9 +1443,37 @@ public final class Matrix4 extends Matrix<Matrix4> {
 		return determinant;
 	}
 	
+	/**
+	 * Inverts this matrix. Affine matrices (last row is 0, 0, 0, 1) are detected and
+	 * inverted with the cheaper {@linkplain #invertAffine()}. If the properties of this matrix are known,
+	 * translations are just negated and orthonormal matrices are inverted with {@linkplain #invertRigid()}.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.0.0
+	 */
 	@Override
 	public final Matrix4 invert() {
 
+		if((this.properties & PROPERTY_IDENTITY) != 0) {
+			
+			return this;
+			
+		} else if((this.properties & PROPERTY_TRANSLATION) != 0) {
+			
+			this.m30 = -this.m30;
+			this.m31 = -this.m31;
+			this.m32 = -this.m32;
+			return this;
+			
+		} else if((this.properties & PROPERTY_ORTHONORMAL) != 0) {
+			
+			return this.invertRigid();
+			
+		} else if(this.isAffine()) {
+
+			return this.invertAffine();
+		}
+
 		float invertedDeterminant = 1.0F / this.determinant();
 		
 		this.set(Matrix4.determinant3x3(this.m11, this.m12, this.m13, this.m21, this.m22, this.m23, this.m31, this.m32, this.m33) * invertedDeterminant,
@@ -386,9 +1493,85 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				-Matrix4.determinant3x3(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m30, this.m31, this.m32) * invertedDeterminant,
 				 Matrix4.determinant3x3(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m20, this.m21, this.m22) * invertedDeterminant);
 
+		this.properties = 0;
 		return this;
 	}
 	
+	/**
+	 * Inverts this matrix under the assumption that it is affine (last row is 0, 0, 0, 1),
+	 * which is true for every combination of translations, rotations and scales.
+	 * Only the upper left 3x3 block is inverted, the translation is transformed by the inverted block and negated.
+	 * The result is wrong if the matrix is not affine.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Matrix4 invertAffine() {
+
+		float invertedDeterminant = 1.0F / Matrix4.determinant3x3(this.m00, this.m01, this.m02, this.m10, this.m11, this.m12, this.m20, this.m21, this.m22);
+
+		float i00 = (this.m11 * this.m22 - this.m12 * this.m21) * invertedDeterminant;
+		float i01 = (this.m02 * this.m21 - this.m01 * this.m22) * invertedDeterminant;
+		float i02 = (this.m01 * this.m12 - this.m02 * this.m11) * invertedDeterminant;
+		float i10 = (this.m12 * this.m20 - this.m10 * this.m22) * invertedDeterminant;
+		float i11 = (this.m00 * this.m22 - this.m02 * this.m20) * invertedDeterminant;
+		float i12 = (this.m02 * this.m10 - this.m00 * this.m12) * invertedDeterminant;
+		float i20 = (this.m10 * this.m21 - this.m11 * this.m20) * invertedDeterminant;
+		float i21 = (this.m01 * this.m20 - this.m00 * this.m21) * invertedDeterminant;
+		float i22 = (this.m00 * this.m11 - this.m01 * this.m10) * invertedDeterminant;
+
+		float x = this.m30;
+		float y = this.m31;
+		float z = this.m32;
+
+		this.set(i00, i01, i02, 0.0F,
+				 i10, i11, i12, 0.0F,
+				 i20, i21, i22, 0.0F,
+				 -(i00 * x + i10 * y + i20 * z),
+				 -(i01 * x + i11 * y + i21 * z),
+				 -(i02 * x + i12 * y + i22 * z),
+				 1.0F);
+
+		this.properties |= PROPERTY_AFFINE;
+		return this;
+	}
+
+	/**
+	 * Inverts this matrix under the assumption that it is a rigid transformation, which means that it only
+	 * consists of rotations and translations. The rotation is transposed and the translation is rotated back and negated.
+	 * The result is wrong if the matrix contains a scale, a shear or a projection.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Matrix4 invertRigid() {
+
+		float x = this.m30;
+		float y = this.m31;
+		float z = this.m32;
+
+		this.set(this.m00, this.m10, this.m20, 0.0F,
+				 this.m01, this.m11, this.m21, 0.0F,
+				 this.m02, this.m12, this.m22, 0.0F,
+				 -(this.m00 * x + this.m01 * y + this.m02 * z),
+				 -(this.m10 * x + this.m11 * y + this.m12 * z),
+				 -(this.m20 * x + this.m21 * y + this.m22 * z),
+				 1.0F);
+
+		this.properties |= PROPERTY_AFFINE;
+		return this;
+	}
+
+	/**
+	 * 
+	 * @return {@code true} if the last row of this matrix is exactly 0, 0, 0, 1, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean isAffine() {
+
+		return (this.properties & PROPERTY_AFFINE) != 0 || this.m03 == 0.0F && this.m13 == 0.0F && this.m23 == 0.0F && this.m33 == 1.0F;
+	}
+
 	@Override
 	public final Matrix4 negate() {
 		
@@ -397,6 +1580,7 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 -this.m20, -this.m21, -this.m22, -this.m23,
 				 -this.m30, -this.m31, -this.m32, -this.m33);
 		
+		this.properties = 0;
 		return this;
 	}
 	
@@ -408,6 +1592,7 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 0, 0, 1, 0,
 				 0, 0, 0, 1);
 		
+		this.properties = PROPERTIES_IDENTITY;
 		return this;
 	}
 	
@@ -419,6 +1604,7 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 0, 0, 0, 0,
 				 0, 0, 0, 0);
 		
+		this.properties = 0;
 		return this;
 	}
 	
@@ -430,6 +1616,8 @@ public final class Matrix4 extends Matrix<Matrix4> {
 				 this.m02, this.m12, this.m22, this.m32,
 				 this.m03, this.m13, this.m23, this.m33);
 		
+		// only the identity stays what it is, the translation of an affine matrix would end up in the last row
+		this.properties = (this.properties & PROPERTY_IDENTITY) != 0 ? PROPERTIES_IDENTITY : 0;
 		return this;
 	}
 	
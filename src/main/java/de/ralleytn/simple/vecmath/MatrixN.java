@@ -23,120 +23,855 @@
  */
 package de.ralleytn.simple.vecmath;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import de.ralleytn.simple.vecmath.internal.BufferKernels;
+import de.ralleytn.simple.vecmath.internal.FloatKernels;
+import de.ralleytn.simple.vecmath.internal.Gemm;
+import de.ralleytn.simple.vecmath.internal.Util;
+
 /**
- * 
+ * A matrix of arbitrary size. The elements are stored row by row in a single {@code float} array.
+ * Rows may be padded, the number of {@code float}s between the starts of two rows is the stride.
+ * <p>
+ * Instead of an array on the heap the elements can also be stored in a {@linkplain FloatBuffer}, which may be off-heap memory
+ * of an {@linkplain OffHeapMemory}, a memory-mapped file ({@linkplain #wrap(FloatBuffer, int, int, int)}) or a part of another matrix
+ * ({@linkplain #slice(int, int, int, int)}, {@linkplain #row(int)}). Every operation works on both kinds of storage,
+ * but the size of a matrix in a buffer is fixed. Multiplying, inverting and solving copy a matrix in a buffer to the heap first
+ * because these operations need O(n^3) steps anyway.
+ * </p>
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 1.0.0
+ * @version 1.1.0
  * @since 1.0.0
  */
 public final class MatrixN extends Matrix<MatrixN> {
 
 	// first Y then X to keep it consistent with the other matrices
-	
-	private int width;
-	private int height;
-	private float[][] data;
-	
+	// the element in row y and column x is stored at data[y * stride + x]
+	// package-private so that LUDecomposition can work on the elements directly
+	// exactly one of data and buffer is set, the first element of a buffer is always at index 0
+
+	int width;
+	int height;
+	int stride;
+	float[] data;
+	FloatBuffer buffer;
+	OffHeapMemory memory;
+
 	/**
-	 * 
+	 *
 	 * @param width
 	 * @param height
 	 * @since 1.0.0
 	 */
 	public MatrixN(int width, int height) {
-		
+
+		this(width, height, width);
+	}
+
+	/**
+	 * Creates a zero matrix with padded rows.
+	 * @param width number of columns
+	 * @param height number of rows
+	 * @param stride number of {@code float}s between the starts of two rows
+	 * @throws IllegalArgumentException if the stride is smaller than the width
+	 * @since 1.1.0
+	 */
+	public MatrixN(int width, int height, int stride) {
+
+		if(stride < width) {
+
+			throw new IllegalArgumentException("The stride (" + stride + ") must not be smaller than the width (" + width + ")!");
+		}
+
 		this.width = width;
 		this.height = height;
-		this.data = new float[height][width];
+		this.stride = stride;
+		this.data = new float[stride * height];
+	}
+
+	/**
+	 * Creates a matrix from the elements in a {@code float} array that stores them row by row.
+	 * The array is copied.
+	 * @param data the elements
+	 * @param width number of columns
+	 * @param height number of rows
+	 * @since 1.1.0
+	 */
+	public MatrixN(float[] data, int width, int height) {
+
+		this(width, height, width);
+		System.arraycopy(data, 0, this.data, 0, width * height);
+	}
+
+	/**
+	 *
+	 * @param matrix
+	 * @since 1.1.0
+	 */
+	public MatrixN(MatrixN matrix) {
+
+		this(matrix.width, matrix.height, matrix.stride);
+
+		if(matrix.buffer != null) {
+
+			for(int row = 0; row < this.height; row++) {
+
+				matrix.readRow(row, this.data, row * this.stride);
+			}
+
+		} else {
+
+			System.arraycopy(matrix.data, 0, this.data, 0, this.data.length);
+		}
+	}
+
+	// off-heap matrices and views, memory is null if the buffer is not released by an OffHeapMemory
+	MatrixN(FloatBuffer buffer, int width, int height, int stride, OffHeapMemory memory) {
+
+		this.buffer = buffer;
+		this.width = width;
+		this.height = height;
+		this.stride = stride;
+		this.memory = memory;
+	}
+
+	/**
+	 * Creates a matrix that stores its elements row by row in a buffer, starting at the position of the buffer.
+	 * Nothing is copied, changes of the matrix are visible in the buffer and vice versa.
+	 * If the buffer is read-only, every method that manipulates the matrix throws a {@linkplain java.nio.ReadOnlyBufferException}.
+	 * @param buffer the buffer
+	 * @param width number of columns
+	 * @param height number of rows
+	 * @param stride number of {@code float}s between the starts of two rows
+	 * @return the new matrix
+	 * @throws IllegalArgumentException if the stride is smaller than the width or the buffer doesn't contain enough elements
+	 * @since 1.1.0
+	 */
+	public static final MatrixN wrap(FloatBuffer buffer, int width, int height, int stride) {
+
+		if(stride < width || width < 0 || height < 0 || extent(width, height, stride) > buffer.remaining()) {
+
+			throw new IllegalArgumentException("A buffer with " + buffer.remaining() + " elements cannot contain a " + height + "x" + width + " matrix with the stride " + stride + "!");
+		}
+
+		return new MatrixN(buffer.slice(), width, height, stride, null);
+	}
+
+	// the number of floats from the first to the last element, the padding of the last row is not needed
+	private static final long extent(int width, int height, int stride) {
+
+		return height == 0 ? 0 : (long)(height - 1) * stride + width;
+	}
+
+	/**
+	 * Creates a view of a block of this matrix. The view has the stride of this matrix.
+	 * Nothing is copied, changes of the view are visible in this matrix and vice versa.
+	 * This only holds as long as the size of this matrix doesn't change, see {@linkplain #multiply(MatrixN)} and {@linkplain #transpose()}.
+	 * A view of an off-heap matrix is released together with it.
+	 * @param row index of the first row
+	 * @param column index of the first column
+	 * @param width number of columns
+	 * @param height number of rows
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the block is not inside this matrix
+	 * @since 1.1.0
+	 */
+	public final MatrixN slice(int row, int column, int width, int height) {
+
+		Objects.checkFromIndexSize(row, height, this.height);
+		Objects.checkFromIndexSize(column, width, this.width);
+		int start = row * this.stride + column;
+		return new MatrixN(this.range(start, (int)extent(width, height, this.stride)), width, height, this.stride, this.memory);
+	}
+
+	/**
+	 * Creates a view of a row of this matrix.
+	 * Nothing is copied, changes of the view are visible in this matrix and vice versa.
+	 * This only holds as long as the size of this matrix doesn't change, see {@linkplain #multiply(MatrixN)} and {@linkplain #transpose()}.
+	 * A view of an off-heap matrix is released together with it.
+	 * @param row the row
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the row doesn't exist
+	 * @since 1.1.0
+	 */
+	public final VectorN row(int row) {
+
+		Objects.checkIndex(row, this.height);
+		return new VectorN(this.range(row * this.stride, this.width), this.width, this.memory);
 	}
-	
+
+	private final FloatBuffer range(int start, int length) {
+
+		FloatBuffer buffer = this.buffer != null ? this.view().duplicate() : FloatBuffer.wrap(this.data);
+		buffer.limit(start + length);
+		buffer.position(start);
+		return buffer.slice();
+	}
+
+	/**
+	 *
+	 * @return {@code true} if the elements are stored outside of the heap, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean isDirect() {
+
+		return this.buffer != null && this.buffer.isDirect();
+	}
+
+	// the elements as a buffer, arrays are only wrapped for operations between a matrix on the heap and a vector in a buffer
+	final FloatBuffer view() {
+
+		if(this.buffer == null) {
+
+			return FloatBuffer.wrap(this.data);
+		}
+
+		if(this.memory != null) {
+
+			this.memory.check();
+		}
+
+		return this.buffer;
+	}
+
+	final void readRow(int row, float[] dest, int offset) {
+
+		if(this.buffer != null) {
+
+			FloatBuffer source = this.view().duplicate();
+			source.position(row * this.stride);
+			source.get(dest, offset, this.width);
+
+		} else {
+
+			System.arraycopy(this.data, row * this.stride, dest, offset, this.width);
+		}
+	}
+
+	final void writeRow(int row, float[] source, int offset) {
+
+		if(this.buffer != null) {
+
+			FloatBuffer dest = this.view().duplicate();
+			dest.position(row * this.stride);
+			dest.put(source, offset, this.width);
+
+		} else {
+
+			System.arraycopy(source, offset, this.data, row * this.stride, this.width);
+		}
+	}
+
+	/**
+	 *
+	 * @param row the row
+	 * @param column the column
+	 * @param value the new value
+	 * @since 1.1.0
+	 */
+	public final void set(int row, int column, float value) {
+
+		if(this.buffer != null) {
+
+			this.view().put(row * this.stride + column, value);
+
+		} else {
+
+			this.data[row * this.stride + column] = value;
+		}
+	}
+
+	/**
+	 *
+	 * @param row the row
+	 * @param column the column
+	 * @return the value in the given row and column
+	 * @since 1.1.0
+	 */
+	public final float get(int row, int column) {
+
+		return this.buffer != null ? this.view().get(row * this.stride + column) : this.data[row * this.stride + column];
+	}
+
+	/**
+	 * Writes this matrix into a buffer row by row like {@linkplain #toArray()}, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer get(FloatBuffer buffer) {
+
+		// the duplicate shares the content, but has its own position
+		this.putRows(buffer.duplicate());
+		return buffer;
+	}
+
+	/**
+	 * Writes this matrix into a buffer row by row like {@linkplain #toArray()}, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer get(ByteBuffer buffer, int offset) {
+
+		this.putRows(Util.floatView(buffer, offset));
+		return buffer;
+	}
+
+	/**
+	 * Reads this matrix from a buffer that stores it row by row, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the elements
+	 * @since 1.1.0
+	 */
+	public final void set(FloatBuffer buffer) {
+
+		this.getRows(buffer.duplicate());
+	}
+
+	/**
+	 * Reads this matrix from a buffer that stores it row by row, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void set(ByteBuffer buffer, int offset) {
+
+		this.getRows(Util.floatView(buffer, offset));
+	}
+
+	/**
+	 * Writes this matrix into a buffer column by column, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer getColumnMajor(FloatBuffer buffer) {
+
+		this.putColumns(buffer, buffer.position());
+		return buffer;
+	}
+
+	/**
+	 * Writes this matrix into a buffer column by column, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer getColumnMajor(ByteBuffer buffer, int offset) {
+
+		this.putColumns(Util.floatView(buffer, offset), 0);
+		return buffer;
+	}
+
+	/**
+	 * Reads this matrix from a buffer that stores it column by column, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the elements
+	 * @since 1.1.0
+	 */
+	public final void setColumnMajor(FloatBuffer buffer) {
+
+		this.getColumns(buffer, buffer.position());
+	}
+
+	/**
+	 * Reads this matrix from a buffer that stores it column by column, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void setColumnMajor(ByteBuffer buffer, int offset) {
+
+		this.getColumns(Util.floatView(buffer, offset), 0);
+	}
+
+	// relative bulk copies, one per row or one for the whole matrix if the rows are not padded
+	private final void putRows(FloatBuffer buffer) {
+
+		if(this.buffer != null) {
+
+			for(int row = 0, start = buffer.position(); row < this.height; row++) {
+
+				BufferKernels.copy(this.view(), row * this.stride, buffer, start + row * this.width, this.width);
+			}
+
+		} else if(this.stride == this.width) {
+
+			buffer.put(this.data, 0, this.width * this.height);
+
+		} else {
+
+			for(int row = 0; row < this.height; row++) {
+
+				buffer.put(this.data, row * this.stride, this.width);
+			}
+		}
+	}
+
+	private final void getRows(FloatBuffer buffer) {
+
+		if(this.buffer != null) {
+
+			for(int row = 0, start = buffer.position(); row < this.height; row++) {
+
+				BufferKernels.copy(buffer, start + row * this.width, this.view(), row * this.stride, this.width);
+			}
+
+		} else if(this.stride == this.width) {
+
+			buffer.get(this.data, 0, this.width * this.height);
+
+		} else {
+
+			for(int row = 0; row < this.height; row++) {
+
+				buffer.get(this.data, row * this.stride, this.width);
+			}
+		}
+	}
+
+	private final void putColumns(FloatBuffer buffer, int index) {
+
+		for(int column = 0; column < this.width; column++) {
+
+			for(int row = 0; row < this.height; row++) {
+
+				buffer.put(index++, this.get(row, column));
+			}
+		}
+	}
+
+	private final void getColumns(FloatBuffer buffer, int index) {
+
+		for(int column = 0; column < this.width; column++) {
+
+			for(int row = 0; row < this.height; row++) {
+
+				this.set(row, column, buffer.get(index++));
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @return a copy of this matrix on the heap, even if this matrix is stored in a buffer
+	 * @since 1.1.0
+	 */
+	public final MatrixN copy() {
+
+		return new MatrixN(this);
+	}
+
+	/**
+	 * Multiplies this matrix with another one ({@code this = this * matrix}).
+	 * The result has the height of this matrix and the width of the other one.
+	 * Large matrices are multiplied in blocks that fit into the cache.
+	 * If the product has another width than this matrix, it is stored in a new array and the views of this matrix no longer share its elements.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param matrix the matrix on the right side of the multiplication
+	 * @return this instance
+	 * @throws IllegalArgumentException if the width of this matrix is not the height of the other one
+	 * or if this matrix is stored in a buffer and the product would have another size
+	 * @since 1.1.0
+	 */
+	public final MatrixN multiply(MatrixN matrix) {
+
+		this.checkMultiply(matrix);
+		float[] result = new float[this.height * matrix.width];
+		MatrixN left = this.onHeap();
+		MatrixN right = matrix.onHeap();
+		Gemm.multiply(left.data, 0, left.stride, right.data, 0, right.stride, result, 0, matrix.width, 0, this.height, 0, matrix.width, this.width);
+		this.setProduct(result, matrix.width);
+		return this;
+	}
+
+	/**
+	 * Multiplies this matrix with another one ({@code this = this * matrix}) using multiple threads.
+	 * The result is split into tiles which are calculated in parallel on the given pool.
+	 * Small products are calculated on the calling thread because splitting them would only add overhead.
+	 * Neither matrix may be modified by another thread while the multiplication runs.
+	 * If the product has another width than this matrix, it is stored in a new array and the views of this matrix no longer share its elements.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param matrix the matrix on the right side of the multiplication
+	 * @param pool the pool that calculates the tiles, for example {@linkplain ForkJoinPool#commonPool()}
+	 * @return this instance
+	 * @throws IllegalArgumentException if the width of this matrix is not the height of the other one
+	 * or if this matrix is stored in a buffer and the product would have another size
+	 * @since 1.1.0
+	 */
+	public final MatrixN multiply(MatrixN matrix, ForkJoinPool pool) {
+
+		this.checkMultiply(matrix);
+		float[] result = new float[this.height * matrix.width];
+		MatrixN left = this.onHeap();
+		MatrixN right = matrix.onHeap();
+		Gemm.multiply(pool, left.data, 0, left.stride, right.data, 0, right.stride, result, 0, matrix.width, this.height, matrix.width, this.width);
+		this.setProduct(result, matrix.width);
+		return this;
+	}
+
+	private final void checkMultiply(MatrixN matrix) {
+
+		if(this.width != matrix.height) {
+
+			throw new IllegalArgumentException("Cannot multiply a " + this.height + "x" + this.width + " matrix with a " + matrix.height + "x" + matrix.width + " matrix!");
+		}
+
+		if(this.buffer != null && matrix.width != this.width) {
+
+			throw new IllegalArgumentException("The product of a " + this.height + "x" + this.width + " matrix that is stored in a buffer must have the same size!");
+		}
+	}
+
+	// Gemm only works on arrays
+	private final MatrixN onHeap() {
+
+		return this.buffer != null ? new MatrixN(this) : this;
+	}
+
+	// keeps the array if the size doesn't change, so that the views of this matrix stay valid
+	private final void setProduct(float[] product, int width) {
+
+		if(this.buffer != null || width == this.width) {
+
+			for(int row = 0; row < this.height; row++) {
+
+				this.writeRow(row, product, row * width);
+			}
+
+			return;
+		}
+
+		this.data = product;
+		this.width = width;
+		this.stride = width;
+	}
+
+	/**
+	 * Multiplies this matrix with a column vector.
+	 * @param vector the vector with as many elements as this matrix has columns
+	 * @return a new vector with as many elements as this matrix has rows
+	 * @throws IllegalArgumentException if the size of the vector doesn't match the width of this matrix
+	 * @since 1.1.0
+	 */
+	public final VectorN transform(VectorN vector) {
+
+		return this.transform(vector, new VectorN(this.height));
+	}
+
+	/**
+	 * Multiplies this matrix with a column vector and writes the result into another vector.
+	 * The destination must not be the source.
+	 * @param vector the vector with as many elements as this matrix has columns
+	 * @param dest the vector with as many elements as this matrix has rows that will receive the result
+	 * @return {@code dest}
+	 * @throws IllegalArgumentException if the size of one of the vectors doesn't match this matrix
+	 * @since 1.1.0
+	 */
+	public final VectorN transform(VectorN vector, VectorN dest) {
+
+		if(vector.size() != this.width || dest.size() != this.height) {
+
+			throw new IllegalArgumentException("A " + this.height + "x" + this.width + " matrix cannot transform a vector of size " + vector.size() + " into one of size " + dest.size() + "!");
+		}
+
+		// the rows are contiguous, so every element of the result is a plain dot product
+		if(this.buffer != null || vector.buffer != null || dest.buffer != null) {
+
+			FloatBuffer matrix = this.view();
+			FloatBuffer source = vector.view();
+
+			for(int row = 0; row < this.height; row++) {
+
+				dest.set(row, BufferKernels.dot(matrix, row * this.stride, source, 0, this.width));
+			}
+
+			return dest;
+		}
+
+		for(int row = 0; row < this.height; row++) {
+
+			dest.data[row] = FloatKernels.dot(this.data, row * this.stride, vector.data, 0, this.width);
+		}
+
+		return dest;
+	}
+
 	@Override
 	public final MatrixN identity() {
-		
-		return null;
+
+		this.zero();
+
+		for(int index = 0, size = Math.min(this.width, this.height); index < size; index++) {
+
+			this.set(index, index, 1.0F);
+		}
+
+		return this;
 	}
 
+	/**
+	 * Inverts this matrix with an {@linkplain LUDecomposition}.
+	 * Use {@linkplain LUDecomposition#solve(MatrixN)} instead if the inverse is only needed to solve linear systems.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @throws IllegalArgumentException if this matrix is not square
+	 * @throws ArithmeticException if this matrix is singular
+	 * @since 1.1.0
+	 */
 	@Override
 	public final MatrixN invert() {
-		
-		return null;
+
+		return new LUDecomposition(this).inverse(this);
 	}
 
 	@Override
 	public final MatrixN negate() {
-		
+
 		for(int y = 0; y < this.height; y++) {
-			
-			for(int x = 0; x < this.width; x++) {
-				
-				this.data[y][x] = -this.data[y][x];
+
+			if(this.buffer != null) {
+
+				BufferKernels.scale(this.view(), y * this.stride, this.width, -1.0F);
+
+			} else {
+
+				FloatKernels.scale(this.data, y * this.stride, this.width, -1.0F);
 			}
 		}
-		
+
 		return this;
 	}
 
+	/**
+	 * Transposes this matrix. Only square matrices can be transposed if they are stored in a buffer.
+	 * Matrices on the heap that are not square are stored in a new array, so their views no longer share their elements.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return this instance
+	 * @throws IllegalStateException if this matrix is stored in a buffer and is not square
+	 * @since 1.0.0
+	 */
 	@Override
 	public final MatrixN transpose() {
-		
-		return null;
+
+		if(this.buffer != null) {
+
+			if(this.width != this.height) {
+
+				throw new IllegalStateException("A " + this.height + "x" + this.width + " matrix that is stored in a buffer cannot be transposed!");
+			}
+
+			FloatBuffer buffer = this.view();
+
+			for(int y = 0; y < this.height; y++) {
+
+				for(int x = y + 1; x < this.width; x++) {
+
+					int upper = y * this.stride + x;
+					int lower = x * this.stride + y;
+					float value = buffer.get(upper);
+					buffer.put(upper, buffer.get(lower));
+					buffer.put(lower, value);
+				}
+			}
+
+		} else if(this.width == this.height) {
+
+			for(int y = 0; y < this.height; y++) {
+
+				for(int x = y + 1; x < this.width; x++) {
+
+					int upper = y * this.stride + x;
+					int lower = x * this.stride + y;
+					float value = this.data[upper];
+					this.data[upper] = this.data[lower];
+					this.data[lower] = value;
+				}
+			}
+
+		} else {
+
+			float[] transposed = new float[this.width * this.height];
+
+			for(int y = 0; y < this.height; y++) {
+
+				for(int x = 0; x < this.width; x++) {
+
+					transposed[x * this.height + y] = this.data[y * this.stride + x];
+				}
+			}
+
+			int width = this.width;
+			this.width = this.height;
+			this.height = width;
+			this.stride = this.width;
+			this.data = transposed;
+		}
+
+		return this;
 	}
 
 	@Override
 	public final MatrixN zero() {
-		
-		for(int y = 0; y < this.height; y++) {
-			
-			for(int x = 0; x < this.width; x++) {
-				
-				this.data[y][x] = 0.0F;
+
+		if(this.buffer != null) {
+
+			// only the rows, the padding of a view belongs to the columns of another matrix
+			for(int y = 0; y < this.height; y++) {
+
+				BufferKernels.fill(this.view(), y * this.stride, this.width, 0.0F);
 			}
+
+			return this;
+		}
+
+		for(int index = 0; index < this.data.length; index++) {
+
+			this.data[index] = 0.0F;
 		}
-		
+
 		return this;
 	}
 
+	/**
+	 * Calculates the determinant with an {@linkplain LUDecomposition}.
+	 * @return the determinant
+	 * @throws IllegalArgumentException if this matrix is not square
+	 * @since 1.1.0
+	 */
 	@Override
 	public final float determinant() {
-		
-		return 0;
+
+		return new LUDecomposition(this).determinant();
 	}
 
 	@Override
 	public final float[] toArray() {
-		
+
 		float[] array = new float[this.width * this.height];
-		int index = 0;
-		
+
 		for(int y = 0; y < this.height; y++) {
-			
-			for(int x = 0; x < this.width; x++) {
-				
-				array[index] = this.data[y][x];
-				index++;
-			}
+
+			this.readRow(y, array, y * this.width);
 		}
-		
+
 		return array;
 	}
-	
+
 	/**
-	 * 
+	 *
 	 * @return
 	 * @since 1.0.0
 	 */
 	public final int getWidth() {
-		
+
 		return this.width;
 	}
-	
+
 	/**
-	 * 
+	 *
 	 * @return
 	 * @since 1.0.0
 	 */
 	public final int getHeight() {
-		
+
 		return this.height;
 	}
+
+	/**
+	 *
+	 * @return the number of {@code float}s between the starts of two rows
+	 * @since 1.1.0
+	 */
+	public final int getStride() {
+
+		return this.stride;
+	}
+
+	@Override
+	public final int hashCode() {
+
+		int hash = this.width * 31 + this.height;
+
+		for(int y = 0; y < this.height; y++) {
+
+			for(int x = 0; x < this.width; x++) {
+
+				hash ^= Float.floatToIntBits(this.get(y, x));
+			}
+		}
+
+		return hash;
+	}
+
+	@Override
+	public final String toString() {
+
+		StringBuilder builder = new StringBuilder();
+		builder.append('[');
+
+		for(int y = 0; y < this.height; y++) {
+
+			builder.append(y == 0 ? "\n\t[" : ",\n\t[");
+
+			for(int x = 0; x < this.width; x++) {
+
+				if(x != 0) {
+
+					builder.append(',');
+				}
+
+				builder.append(this.get(y, x));
+			}
+
+			builder.append(']');
+		}
+
+		builder.append("\n]");
+		return builder.toString();
+	}
+
+	@Override
+	public final boolean equals(Object object) {
+
+		if(object != null && object instanceof MatrixN) {
+
+			MatrixN matrix = (MatrixN)object;
+
+			if(this.width == matrix.width && this.height == matrix.height) {
+
+				for(int y = 0; y < this.height; y++) {
+
+					for(int x = 0; x < this.width; x++) {
+
+						if(this.get(y, x) != matrix.get(y, x)) {
+
+							return false;
+						}
+					}
+				}
+
+				return true;
+			}
+		}
+
+		return false;
+	}
 }
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owner of {@linkplain VectorN}s and {@linkplain MatrixN}s whose elements are stored outside of the heap.
+ * The elements live in direct {@linkplain ByteBuffer}s in the native byte order, so the garbage collector neither scans nor moves them
+ * and its pause times don't depend on how many of them exist:
+ * <pre>
+ * try(OffHeapMemory memory = new OffHeapMemory()) {
+ *
+ *     MatrixN embeddings = memory.allocateMatrix(dimension, count);
+ *     VectorN embedding = embeddings.row(42);
+ *     ...
+ * }
+ * </pre>
+ * Closing releases the memory of all vectors and matrices at once instead of waiting for the garbage collector.
+ * After that every operation on them, including all of their views, throws an {@linkplain IllegalStateException}.
+ * A single vector or matrix can hold at most 2 GiB because buffers are indexed with {@code int}s,
+ * larger datasets are split into multiple ones.
+ * <p>
+ * Allocating and closing are thread-safe. Closing while another thread still works on one of the vectors or matrices is not.
+ * </p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class OffHeapMemory implements AutoCloseable {
+
+	// Java 9 has no public API that frees a direct buffer, its memory is only released once the buffer was collected.
+	// sun.misc.Unsafe.invokeCleaner does it immediately and exists in every JDK since 9. It is looked up with reflection,
+	// so that the module doesn't have to require jdk.unsupported. If it is missing the garbage collector frees the memory as usual.
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+
+	static {
+
+		Object unsafe = null;
+		Method invokeCleaner = null;
+
+		try {
+
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field field = unsafeClass.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = field.get(null);
+			invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+
+		} catch(ReflectiveOperationException | RuntimeException exception) {
+
+			unsafe = null;
+			invokeCleaner = null;
+		}
+
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	private final List<ByteBuffer> buffers = new ArrayList<>();
+	private long allocatedBytes;
+	private volatile boolean closed;
+
+	/**
+	 * Allocates an off-heap vector. All elements are zero.
+	 * @param size number of elements
+	 * @return the vector
+	 * @throws IllegalArgumentException if the size is negative or the vector would be larger than 2 GiB
+	 * @throws IllegalStateException if this memory was already closed
+	 * @since 1.1.0
+	 */
+	public final VectorN allocateVector(int size) {
+
+		return new VectorN(this.allocate(size), size, this);
+	}
+
+	/**
+	 * Allocates an off-heap matrix without padded rows. All elements are zero.
+	 * @param width number of columns
+	 * @param height number of rows
+	 * @return the matrix
+	 * @throws IllegalArgumentException if the width or height is negative or the matrix would be larger than 2 GiB
+	 * @throws IllegalStateException if this memory was already closed
+	 * @since 1.1.0
+	 */
+	public final MatrixN allocateMatrix(int width, int height) {
+
+		return this.allocateMatrix(width, height, width);
+	}
+
+	/**
+	 * Allocates an off-heap matrix with padded rows. All elements are zero.
+	 * @param width number of columns
+	 * @param height number of rows
+	 * @param stride number of {@code float}s between the starts of two rows
+	 * @return the matrix
+	 * @throws IllegalArgumentException if the stride is smaller than the width, the height is negative or the matrix would be larger than 2 GiB
+	 * @throws IllegalStateException if this memory was already closed
+	 * @since 1.1.0
+	 */
+	public final MatrixN allocateMatrix(int width, int height, int stride) {
+
+		if(stride < width || width < 0 || height < 0) {
+
+			throw new IllegalArgumentException("Cannot allocate a " + height + "x" + width + " matrix with the stride " + stride + "!");
+		}
+
+		return new MatrixN(this.allocate((long)stride * height), width, height, stride, this);
+	}
+
+	private final FloatBuffer allocate(long floats) {
+
+		if(floats < 0 || floats * Float.BYTES > Integer.MAX_VALUE) {
+
+			throw new IllegalArgumentException("Cannot allocate " + floats + " floats in one buffer!");
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect((int)floats * Float.BYTES).order(ByteOrder.nativeOrder());
+		this.register(buffer);
+		return buffer.asFloatBuffer();
+	}
+
+	// the buffer must not be a duplicate or slice of another one, else it cannot be freed
+	final synchronized void register(ByteBuffer buffer) {
+
+		this.check();
+		this.buffers.add(buffer);
+		this.allocatedBytes += buffer.capacity();
+	}
+
+	final void check() {
+
+		if(this.closed) {
+
+			throw new IllegalStateException("The off-heap memory was already released!");
+		}
+	}
+
+	/**
+	 *
+	 * @return the number of bytes that are currently held by this memory
+	 * @since 1.1.0
+	 */
+	public final synchronized long getAllocatedBytes() {
+
+		return this.allocatedBytes;
+	}
+
+	/**
+	 *
+	 * @return {@code true} if this memory was closed, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean isClosed() {
+
+		return this.closed;
+	}
+
+	/**
+	 * Releases the memory of all vectors and matrices that were allocated by this instance.
+	 * Closing an already closed memory has no effect.
+	 * @since 1.1.0
+	 */
+	@Override
+	public final synchronized void close() {
+
+		if(!this.closed) {
+
+			// set first, so that no vector touches the memory anymore while it is released
+			this.closed = true;
+
+			for(ByteBuffer buffer : this.buffers) {
+
+				free(buffer);
+			}
+
+			this.buffers.clear();
+			this.allocatedBytes = 0;
+		}
+	}
+
+	private static final void free(ByteBuffer buffer) {
+
+		if(INVOKE_CLEANER != null) {
+
+			try {
+
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+
+			} catch(ReflectiveOperationException exception) {
+
+				// the garbage collector will free it
+			}
+		}
+	}
+}
@@ -23,6 +23,9 @@
  */
 package de.ralleytn.simple.vecmath;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * 
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
@@ -31,6 +34,20 @@ package de.ralleytn.simple.vecmath;
  */
 public final class Quaternion extends Vector<Quaternion> {
 
+	// The weights sin(t * theta) / sin(theta) of the slerp are evaluated as a polynomial in cos(theta) - 1
+	// (D. Eberly, "A Fast and Accurate Algorithm for Computing SLERP"). The series is cut after 8 terms and
+	// the last term is scaled by 1 + 0.85300833, which was fitted so that the maximum error of a weight over
+	// the whole range 0 <= theta <= pi / 2 and 0 <= t <= 1 is 1.91E-5.
+	private static final float SLERP_CORRECTION = 1.85300833F;
+	private static final float SLERP_U1 = 1.0F / 3.0F,   SLERP_V1 = 1.0F / 3.0F;
+	private static final float SLERP_U2 = 1.0F / 10.0F,  SLERP_V2 = 2.0F / 5.0F;
+	private static final float SLERP_U3 = 1.0F / 21.0F,  SLERP_V3 = 3.0F / 7.0F;
+	private static final float SLERP_U4 = 1.0F / 36.0F,  SLERP_V4 = 4.0F / 9.0F;
+	private static final float SLERP_U5 = 1.0F / 55.0F,  SLERP_V5 = 5.0F / 11.0F;
+	private static final float SLERP_U6 = 1.0F / 78.0F,  SLERP_V6 = 6.0F / 13.0F;
+	private static final float SLERP_U7 = 1.0F / 105.0F, SLERP_V7 = 7.0F / 15.0F;
+	private static final float SLERP_U8 = SLERP_CORRECTION / 136.0F, SLERP_V8 = SLERP_CORRECTION * 8.0F / 17.0F;
+
 	public float x;
 	public float y;
 	public float z;
@@ -168,7 +185,8 @@ public final class Quaternion extends Vector<Quaternion> {
 		this.set(quaternion);
 	}
 	
-	private final Quaternion fromMatrix(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22) {
+	// the elements are expected in row-column order, which is the transpose of the mCR fields of the matrix classes
+	final Quaternion fromMatrix(float m00, float m01, float m02, float m10, float m11, float m12, float m20, float m21, float m22) {
 		
 		float s;
 		float tr = m00 + m11 + m22;
@@ -311,6 +329,68 @@ public final class Quaternion extends Vector<Quaternion> {
 		this.set(vec.x, vec.y, 0.0F, 0.0F);
 	}
 	
+	/**
+	 * Writes this quaternion into a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 4 elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer get(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		buffer.put(position, this.x);
+		buffer.put(position + 1, this.y);
+		buffer.put(position + 2, this.z);
+		buffer.put(position + 3, this.w);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this quaternion into a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 4 elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer get(ByteBuffer buffer, int offset) {
+		
+		buffer.putFloat(offset, this.x);
+		buffer.putFloat(offset + 4, this.y);
+		buffer.putFloat(offset + 8, this.z);
+		buffer.putFloat(offset + 12, this.w);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this quaternion from a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 4 elements
+	 * @since 1.1.0
+	 */
+	public final void set(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		this.set(buffer.get(position), buffer.get(position + 1), buffer.get(position + 2), buffer.get(position + 3));
+	}
+	
+	/**
+	 * Reads this quaternion from a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 4 elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void set(ByteBuffer buffer, int offset) {
+		
+		this.set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8), buffer.getFloat(offset + 12));
+	}
+	
 	/**
 	 * 
 	 * @param b
@@ -431,6 +511,18 @@ public final class Quaternion extends Vector<Quaternion> {
 		
 		return new Vector4(this);
 	}
+
+	/**
+	 * 
+	 * @param dest the vector that will receive the elements of this quaternion
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector4 toVector4(Vector4 dest) {
+
+		dest.set(this.x, this.y, this.z, this.w);
+		return dest;
+	}
 	
 	/**
 	 * 
@@ -441,6 +533,18 @@ public final class Quaternion extends Vector<Quaternion> {
 		
 		return new Vector2(this.x, this.y);
 	}
+
+	/**
+	 * 
+	 * @param dest the vector that will receive the x and y elements of this quaternion
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector2 toVector2(Vector2 dest) {
+
+		dest.set(this.x, this.y);
+		return dest;
+	}
 	
 	/**
 	 * 
@@ -452,6 +556,196 @@ public final class Quaternion extends Vector<Quaternion> {
 		return new Vector3(this.x, this.y, this.z);
 	}
 
+	/**
+	 * 
+	 * @param dest the vector that will receive the x, y and z elements of this quaternion
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 toVector3(Vector3 dest) {
+
+		dest.set(this.x, this.y, this.z);
+		return dest;
+	}
+
+	/**
+	 * Rotates a vector by this quaternion, which has to be normalized.
+	 * Instead of the full {@code q * v * q^-1} product this calculates {@code t = 2 * cross(q.xyz, v)} and
+	 * {@code v' = v + q.w * t + cross(q.xyz, t)}, which needs 15 multiplications and no matrix.
+	 * @param src the vector that should be rotated
+	 * @param dest the vector that will receive the result, may be {@code src}
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 transform(Vector3 src, Vector3 dest) {
+		
+		float x = src.x;
+		float y = src.y;
+		float z = src.z;
+		
+		float tx = 2.0F * (this.y * z - this.z * y);
+		float ty = 2.0F * (this.z * x - this.x * z);
+		float tz = 2.0F * (this.x * y - this.y * x);
+		
+		dest.set(x + this.w * tx + (this.y * tz - this.z * ty),
+				 y + this.w * ty + (this.z * tx - this.x * tz),
+				 z + this.w * tz + (this.x * ty - this.y * tx));
+		
+		return dest;
+	}
+	
+	/**
+	 * Rotates multiple vectors that are packed into a {@code float} array as x, y, z by this quaternion, which has to be normalized.
+	 * The source and the destination may be the same array.
+	 * @param src the array containing the vectors
+	 * @param srcOffset index of the first element of the first source vector
+	 * @param srcStride number of {@code float}s between the starts of two source vectors (at least 3)
+	 * @param dest the array that will receive the rotated vectors
+	 * @param destOffset index of the first element of the first destination vector
+	 * @param destStride number of {@code float}s between the starts of two destination vectors (at least 3)
+	 * @param count the number of vectors
+	 * @since 1.1.0
+	 */
+	public final void transform(float[] src, int srcOffset, int srcStride, float[] dest, int destOffset, int destStride, int count) {
+		
+		float qx = this.x;
+		float qy = this.y;
+		float qz = this.z;
+		float qw = this.w;
+		
+		for(int index = 0, s = srcOffset, d = destOffset; index < count; index++, s += srcStride, d += destStride) {
+			
+			float x = src[s];
+			float y = src[s + 1];
+			float z = src[s + 2];
+			
+			float tx = 2.0F * (qy * z - qz * y);
+			float ty = 2.0F * (qz * x - qx * z);
+			float tz = 2.0F * (qx * y - qy * x);
+			
+			dest[d]     = x + qw * tx + (qy * tz - qz * ty);
+			dest[d + 1] = y + qw * ty + (qz * tx - qx * tz);
+			dest[d + 2] = z + qw * tz + (qx * ty - qy * tx);
+		}
+	}
+	
+	/**
+	 * Rotates every vector of a packed {@code float} array by the quaternion with the same index in a parallel array.
+	 * The vectors are packed as x, y, z and the quaternions, which have to be normalized, as x, y, z, w.
+	 * The source and the destination may be the same array.
+	 * @param rotations the array containing the quaternions
+	 * @param rotationOffset index of the first element of the first quaternion
+	 * @param src the array containing the vectors
+	 * @param srcOffset index of the first element of the first source vector
+	 * @param dest the array that will receive the rotated vectors
+	 * @param destOffset index of the first element of the first destination vector
+	 * @param count the number of vectors
+	 * @since 1.1.0
+	 */
+	public static final void transform(float[] rotations, int rotationOffset, float[] src, int srcOffset, float[] dest, int destOffset, int count) {
+		
+		for(int index = 0, r = rotationOffset, s = srcOffset, d = destOffset; index < count; index++, r += 4, s += 3, d += 3) {
+			
+			float qx = rotations[r];
+			float qy = rotations[r + 1];
+			float qz = rotations[r + 2];
+			float qw = rotations[r + 3];
+			
+			float x = src[s];
+			float y = src[s + 1];
+			float z = src[s + 2];
+			
+			float tx = 2.0F * (qy * z - qz * y);
+			float ty = 2.0F * (qz * x - qx * z);
+			float tz = 2.0F * (qx * y - qy * x);
+			
+			dest[d]     = x + qw * tx + (qy * tz - qz * ty);
+			dest[d + 1] = y + qw * ty + (qz * tx - qx * tz);
+			dest[d + 2] = z + qw * tz + (qx * ty - qy * tx);
+		}
+	}
+	
+	/**
+	 * Writes the rotation of this quaternion into a {@linkplain Matrix3}.
+	 * The quaternion doesn't have to be normalized, but it must not be zero.
+	 * @param dest the matrix that will receive the rotation
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Matrix3 toMatrix3(Matrix3 dest) {
+		
+		float s = 2.0F / this.lengthSquared();
+		
+		float xs = this.x * s, ys = this.y * s, zs = this.z * s;
+		float wx = this.w * xs, wy = this.w * ys, wz = this.w * zs;
+		float xx = this.x * xs, xy = this.x * ys, xz = this.x * zs;
+		float yy = this.y * ys, yz = this.y * zs, zz = this.z * zs;
+		
+		dest.set(1.0F - (yy + zz), xy + wz, xz - wy,
+				 xy - wz, 1.0F - (xx + zz), yz + wx,
+				 xz + wy, yz - wx, 1.0F - (xx + yy));
+		
+		return dest;
+	}
+	
+	/**
+	 * Writes the rotation of this quaternion into a {@linkplain Matrix4} without translation.
+	 * The quaternion doesn't have to be normalized, but it must not be zero.
+	 * @param dest the matrix that will receive the rotation
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Matrix4 toMatrix4(Matrix4 dest) {
+		
+		return dest.fromTranslationRotationScale(0.0F, 0.0F, 0.0F, this.x, this.y, this.z, this.w, 1.0F, 1.0F, 1.0F);
+	}
+	
+	/**
+	 * Converts many rotations and translations into 4x4 matrices at once, for example to fill the bone palette of a skinned mesh.
+	 * The quaternions are packed as x, y, z, w and the translations as x, y, z. Every matrix is written as 16 {@code float}s
+	 * in column-major order, which is the order of {@linkplain Matrix4#toArray()} and the one OpenGL expects.
+	 * @param rotations the array containing the quaternions, which don't have to be normalized
+	 * @param rotationOffset index of the first element of the first quaternion
+	 * @param translations the array containing the translations
+	 * @param translationOffset index of the first element of the first translation
+	 * @param dest the array that will receive the matrices
+	 * @param destOffset index of the first element of the first matrix
+	 * @param count the number of matrices
+	 * @since 1.1.0
+	 */
+	public static final void toMatrices(float[] rotations, int rotationOffset, float[] translations, int translationOffset, float[] dest, int destOffset, int count) {
+		
+		for(int index = 0, r = rotationOffset, t = translationOffset, d = destOffset; index < count; index++, r += 4, t += 3, d += 16) {
+			
+			Matrix4.compose(translations[t], translations[t + 1], translations[t + 2],
+							rotations[r], rotations[r + 1], rotations[r + 2], rotations[r + 3],
+							1.0F, 1.0F, 1.0F, dest, d);
+		}
+	}
+	
+	/**
+	 * Converts many rotations and translations into 4x4 matrices at once like {@linkplain #toMatrices(float[], int, float[], int, float[], int, int)},
+	 * but writes them into a {@linkplain FloatBuffer} that can be uploaded directly.
+	 * Only absolute indices are used, the position of the buffer stays untouched.
+	 * @param rotations the array containing the quaternions, which don't have to be normalized
+	 * @param rotationOffset index of the first element of the first quaternion
+	 * @param translations the array containing the translations
+	 * @param translationOffset index of the first element of the first translation
+	 * @param dest the buffer that will receive the matrices
+	 * @param destOffset index of the first element of the first matrix
+	 * @param count the number of matrices
+	 * @since 1.1.0
+	 */
+	public static final void toMatrices(float[] rotations, int rotationOffset, float[] translations, int translationOffset, FloatBuffer dest, int destOffset, int count) {
+		
+		for(int index = 0, r = rotationOffset, t = translationOffset, d = destOffset; index < count; index++, r += 4, t += 3, d += 16) {
+			
+			Matrix4.compose(translations[t], translations[t + 1], translations[t + 2],
+							rotations[r], rotations[r + 1], rotations[r + 2], rotations[r + 3],
+							1.0F, 1.0F, 1.0F, dest, d);
+		}
+	}
+	
 	/**
 	 * 
 	 * @return
@@ -528,6 +822,73 @@ public final class Quaternion extends Vector<Quaternion> {
 		return this;
 	}
 	
+	/**
+	 * Interpolates linearly between this quaternion and another one and normalizes the result.
+	 * If the quaternions are in different hemispheres, the other one is negated first, so the interpolation always takes the shorter way.
+	 * Unlike {@linkplain #interpolate(Quaternion, double)} the angular velocity is not constant, but no trigonometric functions are needed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the quaternion at {@code alpha = 1}
+	 * @param alpha the interpolation factor between 0 and 1
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Quaternion nlerp(Quaternion b, float alpha) {
+		
+		float weightA = 1.0F - alpha;
+		float weightB = this.dot(b) < 0.0F ? -alpha : alpha;
+		
+		float x = weightA * this.x + weightB * b.x;
+		float y = weightA * this.y + weightB * b.y;
+		float z = weightA * this.z + weightB * b.z;
+		float w = weightA * this.w + weightB * b.w;
+		float scale = 1.0F / (float)Math.sqrt(x * x + y * y + z * z + w * w);
+		
+		this.set(x * scale, y * scale, z * scale, w * scale);
+		return this;
+	}
+	
+	/**
+	 * Spherical linear interpolation between this quaternion and another one along the shorter way, both have to be normalized.
+	 * The weights of the slerp are approximated by a polynomial, so no trigonometric functions are needed.
+	 * Each weight deviates by at most {@code 2.0E-5} from the exact one, so every element of the result deviates
+	 * by at most {@code 4.0E-5} from the one of an exact slerp.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the quaternion at {@code alpha = 1}
+	 * @param alpha the interpolation factor between 0 and 1
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Quaternion fastSlerp(Quaternion b, float alpha) {
+		
+		float dot = this.dot(b);
+		float cosMinusOne = Math.abs(dot) - 1.0F;
+		float weightA = Quaternion.slerpWeight(1.0F - alpha, cosMinusOne);
+		float weightB = Math.copySign(Quaternion.slerpWeight(alpha, cosMinusOne), dot);
+		
+		this.set(weightA * this.x + weightB * b.x,
+				 weightA * this.y + weightB * b.y,
+				 weightA * this.z + weightB * b.z,
+				 weightA * this.w + weightB * b.w);
+		
+		return this;
+	}
+	
+	// approximates sin(t * theta) / sin(theta) with cosMinusOne = cos(theta) - 1
+	static final float slerpWeight(float t, float cosMinusOne) {
+		
+		float tt = t * t;
+		float weight = 1.0F + (SLERP_U8 * tt - SLERP_V8) * cosMinusOne;
+		weight = 1.0F + (SLERP_U7 * tt - SLERP_V7) * cosMinusOne * weight;
+		weight = 1.0F + (SLERP_U6 * tt - SLERP_V6) * cosMinusOne * weight;
+		weight = 1.0F + (SLERP_U5 * tt - SLERP_V5) * cosMinusOne * weight;
+		weight = 1.0F + (SLERP_U4 * tt - SLERP_V4) * cosMinusOne * weight;
+		weight = 1.0F + (SLERP_U3 * tt - SLERP_V3) * cosMinusOne * weight;
+		weight = 1.0F + (SLERP_U2 * tt - SLERP_V2) * cosMinusOne * weight;
+		weight = 1.0F + (SLERP_U1 * tt - SLERP_V1) * cosMinusOne * weight;
+		
+		return t * weight;
+	}
+	
 	@Override
     public final Quaternion clampMin(float min) {
 	
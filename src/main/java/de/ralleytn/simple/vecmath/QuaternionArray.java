@@ -0,0 +1,290 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+/**
+ * Represents a fixed number of quaternions stored as four parallel {@code float} arrays.
+ * All operations work on every element at once.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class QuaternionArray {
+
+	/**
+	 * The 1st elements
+	 * @since 1.1.0
+	 */
+	public final float[] x;
+
+	/**
+	 * The 2nd elements
+	 * @since 1.1.0
+	 */
+	public final float[] y;
+
+	/**
+	 * The 3rd elements
+	 * @since 1.1.0
+	 */
+	public final float[] z;
+
+	/**
+	 * The 4th elements
+	 * @since 1.1.0
+	 */
+	public final float[] w;
+
+	private final int size;
+
+	/**
+	 * Constructs an array of identity quaternions.
+	 * @param size the number of quaternions
+	 * @since 1.1.0
+	 */
+	public QuaternionArray(int size) {
+
+		this(new float[size], new float[size], new float[size], new float[size]);
+
+		for(int index = 0; index < size; index++) {
+
+			this.w[index] = 1.0F;
+		}
+	}
+
+	/**
+	 * Constructs an array that is backed by the given {@code float} arrays.
+	 * The arrays are not copied.
+	 * @param x the 1st elements
+	 * @param y the 2nd elements
+	 * @param z the 3rd elements
+	 * @param w the 4th elements
+	 * @throws IllegalArgumentException if the arrays don't have the same length
+	 * @since 1.1.0
+	 */
+	public QuaternionArray(float[] x, float[] y, float[] z, float[] w) {
+
+		if(x.length != y.length || x.length != z.length || x.length != w.length) {
+
+			throw new IllegalArgumentException("All arrays must have the same length!");
+		}
+
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+		this.size = x.length;
+	}
+
+	/**
+	 * Constructs an array from another one.
+	 * @param array another array of quaternions
+	 * @since 1.1.0
+	 */
+	public QuaternionArray(QuaternionArray array) {
+
+		this(array.x.clone(), array.y.clone(), array.z.clone(), array.w.clone());
+	}
+
+	/**
+	 * @return the number of quaternions
+	 * @since 1.1.0
+	 */
+	public final int size() {
+
+		return this.size;
+	}
+
+	/**
+	 * Sets the values of a single quaternion.
+	 * @param index the index of the quaternion
+	 * @param x the 1st element
+	 * @param y the 2nd element
+	 * @param z the 3rd element
+	 * @param w the 4th element
+	 * @since 1.1.0
+	 */
+	public final void set(int index, float x, float y, float z, float w) {
+
+		this.x[index] = x;
+		this.y[index] = y;
+		this.z[index] = z;
+		this.w[index] = w;
+	}
+
+	/**
+	 * Sets the values of a single quaternion.
+	 * @param index the index of the quaternion
+	 * @param quat a quaternion
+	 * @since 1.1.0
+	 */
+	public final void set(int index, Quaternion quat) {
+
+		this.set(index, quat.x, quat.y, quat.z, quat.w);
+	}
+
+	/**
+	 * Copies a single quaternion into the given destination.
+	 * @param index the index of the quaternion
+	 * @param dest the quaternion that will receive the values
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Quaternion get(int index, Quaternion dest) {
+
+		dest.set(this.x[index], this.y[index], this.z[index], this.w[index]);
+
+		return dest;
+	}
+
+	/**
+	 * Normalizes all quaternions.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return FOREACH index DO {@link Quaternion#normalize() a[index].normalize()}
+	 * @since 1.1.0
+	 */
+	public final QuaternionArray normalize() {
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			float ax = x[index];
+			float ay = y[index];
+			float az = z[index];
+			float aw = w[index];
+			float scale = 1.0F / (float)Math.sqrt(ax * ax + ay * ay + az * az + aw * aw);
+
+			x[index] = ax * scale;
+			y[index] = ay * scale;
+			z[index] = az * scale;
+			w[index] = aw * scale;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Interpolates every quaternion of this array towards the one of another array with its own factor.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the quaternions at {@code alpha = 1}
+	 * @param alpha the interpolation factors, must have at least {@link #size()} elements
+	 * @return FOREACH index DO {@link Quaternion#nlerp(Quaternion, float) a[index].nlerp(b[index], alpha[index])}
+	 * @throws IllegalArgumentException if the arrays have different sizes or there are less factors than quaternions
+	 * @since 1.1.0
+	 */
+	public final QuaternionArray nlerp(QuaternionArray b, float[] alpha) {
+
+		this.checkSize(b, alpha);
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+		float[] bx = b.x, by = b.y, bz = b.z, bw = b.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			float ax = x[index];
+			float ay = y[index];
+			float az = z[index];
+			float aw = w[index];
+			float t = alpha[index];
+			float weightA = 1.0F - t;
+			float weightB = ax * bx[index] + ay * by[index] + az * bz[index] + aw * bw[index] < 0.0F ? -t : t;
+
+			float rx = weightA * ax + weightB * bx[index];
+			float ry = weightA * ay + weightB * by[index];
+			float rz = weightA * az + weightB * bz[index];
+			float rw = weightA * aw + weightB * bw[index];
+			float scale = 1.0F / (float)Math.sqrt(rx * rx + ry * ry + rz * rz + rw * rw);
+
+			x[index] = rx * scale;
+			y[index] = ry * scale;
+			z[index] = rz * scale;
+			w[index] = rw * scale;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Interpolates every quaternion of this array towards the one of another array with its own factor
+	 * using the approximated slerp of {@linkplain Quaternion#fastSlerp(Quaternion, float)}, which has the same error bound.
+	 * All quaternions have to be normalized.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the quaternions at {@code alpha = 1}
+	 * @param alpha the interpolation factors, must have at least {@link #size()} elements
+	 * @return FOREACH index DO {@link Quaternion#fastSlerp(Quaternion, float) a[index].fastSlerp(b[index], alpha[index])}
+	 * @throws IllegalArgumentException if the arrays have different sizes or there are less factors than quaternions
+	 * @since 1.1.0
+	 */
+	public final QuaternionArray fastSlerp(QuaternionArray b, float[] alpha) {
+
+		this.checkSize(b, alpha);
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+		float[] bx = b.x, by = b.y, bz = b.z, bw = b.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			float ax = x[index];
+			float ay = y[index];
+			float az = z[index];
+			float aw = w[index];
+			float t = alpha[index];
+			float dot = ax * bx[index] + ay * by[index] + az * bz[index] + aw * bw[index];
+			float cosMinusOne = Math.abs(dot) - 1.0F;
+			float weightA = Quaternion.slerpWeight(1.0F - t, cosMinusOne);
+			float weightB = Math.copySign(Quaternion.slerpWeight(t, cosMinusOne), dot);
+
+			x[index] = weightA * ax + weightB * bx[index];
+			y[index] = weightA * ay + weightB * by[index];
+			z[index] = weightA * az + weightB * bz[index];
+			w[index] = weightA * aw + weightB * bw[index];
+		}
+
+		return this;
+	}
+
+	private final void checkSize(QuaternionArray b, float[] alpha) {
+
+		if(b.size != this.size) {
+
+			throw new IllegalArgumentException("The arrays have different sizes! (" + this.size + " and " + b.size + ")");
+		}
+
+		if(alpha.length < this.size) {
+
+			throw new IllegalArgumentException("There are only " + alpha.length + " factors for " + this.size + " quaternions!");
+		}
+	}
+
+	/**
+	 * Creates a copy of this array.
+	 * @return a copy of this array
+	 * @since 1.1.0
+	 */
+	public final QuaternionArray copy() {
+
+		return new QuaternionArray(this);
+	}
+}
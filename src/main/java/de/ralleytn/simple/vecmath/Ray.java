@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+/**
+ * Represents a ray, a half-line that starts at an origin and goes into a direction.
+ * The direction doesn't have to be normalized, but all distances are measured in multiples of its length.
+ * With a normalized direction they are the actual distances from the origin.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class Ray {
+
+	/**
+	 * The point at which the ray starts
+	 * @since 1.1.0
+	 */
+	public final Vector3 origin;
+	
+	/**
+	 * The direction of the ray
+	 * @since 1.1.0
+	 */
+	public final Vector3 direction;
+	
+	/**
+	 * Constructs a ray that starts at the origin of the coordinate system and goes into the positive direction of the Z axis.
+	 * @since 1.1.0
+	 */
+	public Ray() {
+		
+		this.origin = new Vector3();
+		this.direction = new Vector3(0.0F, 0.0F, 1.0F);
+	}
+	
+	/**
+	 * 
+	 * @param origin the point at which the ray starts
+	 * @param direction the direction of the ray
+	 * @since 1.1.0
+	 */
+	public Ray(Vector3 origin, Vector3 direction) {
+		
+		this.origin = new Vector3(origin);
+		this.direction = new Vector3(direction);
+	}
+	
+	/**
+	 * Copy constructor.
+	 * @param ray the ray that should be copied
+	 * @since 1.1.0
+	 */
+	public Ray(Ray ray) {
+		
+		this(ray.origin, ray.direction);
+	}
+	
+	/**
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param ray the ray whose values should be copied
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Ray set(Ray ray) {
+		
+		return this.set(ray.origin, ray.direction);
+	}
+	
+	/**
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param origin the point at which the ray starts
+	 * @param direction the direction of the ray
+	 * @return this instance
+	 * @since 1.1.0
+	 */
+	public final Ray set(Vector3 origin, Vector3 direction) {
+		
+		this.origin.set(origin);
+		this.direction.set(direction);
+		
+		return this;
+	}
+	
+	/**
+	 * 
+	 * @param distance the distance from the origin
+	 * @param dest the vector that will receive the point
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 getPoint(float distance, Vector3 dest) {
+		
+		dest.set(this.origin.x + this.direction.x * distance,
+				 this.origin.y + this.direction.y * distance,
+				 this.origin.z + this.direction.z * distance);
+		return dest;
+	}
+	
+	/**
+	 * Calculates the distance at which this ray enters a box.
+	 * @param box the box
+	 * @return the distance, {@code 0.0F} if the origin is inside of the box or {@linkplain Float#POSITIVE_INFINITY} if the ray misses the box
+	 * @since 1.1.0
+	 */
+	public final float intersect(AABB box) {
+		
+		float minX = box.min.x, minY = box.min.y, minZ = box.min.z;
+		float maxX = box.max.x, maxY = box.max.y, maxZ = box.max.z;
+		
+		if(box.isEmpty() ||
+		   (this.direction.x == 0.0F && (this.origin.x < minX || this.origin.x > maxX)) ||
+		   (this.direction.y == 0.0F && (this.origin.y < minY || this.origin.y > maxY)) ||
+		   (this.direction.z == 0.0F && (this.origin.z < minZ || this.origin.z > maxZ))) {
+			
+			return Float.POSITIVE_INFINITY;
+		}
+		
+		// a ray that is parallel to a slab and starts between its planes is not limited by it
+		if(this.direction.x == 0.0F) {minX = Float.NEGATIVE_INFINITY; maxX = Float.POSITIVE_INFINITY;}
+		if(this.direction.y == 0.0F) {minY = Float.NEGATIVE_INFINITY; maxY = Float.POSITIVE_INFINITY;}
+		if(this.direction.z == 0.0F) {minZ = Float.NEGATIVE_INFINITY; maxZ = Float.POSITIVE_INFINITY;}
+		
+		return intersectBox(this.origin.x, this.origin.y, this.origin.z, inverse(this.direction.x), inverse(this.direction.y), inverse(this.direction.z),
+							minX, minY, minZ, maxX, maxY, maxZ, Float.POSITIVE_INFINITY);
+	}
+	
+	// a direction of zero gets the largest finite inverse instead of infinity, so that the slab test never produces NaN.
+	// the BVH relies on this alone, it treats such a ray as if it was tilted a tiny bit to the positive side of the axis,
+	// which only makes a difference for rays that lie exactly on a plane of a box
+	static final float inverse(float direction) {
+		
+		float inverse = 1.0F / direction;
+		return Float.isInfinite(inverse) ? Math.copySign(Float.MAX_VALUE, direction) : inverse;
+	}
+	
+	// slab test with the inverse of the direction, also used by the BVH
+	static final float intersectBox(float ox, float oy, float oz, float ix, float iy, float iz,
+									float minX, float minY, float minZ, float maxX, float maxY, float maxZ, float maxDistance) {
+		
+		float ax = (minX - ox) * ix, bx = (maxX - ox) * ix;
+		float ay = (minY - oy) * iy, by = (maxY - oy) * iy;
+		float az = (minZ - oz) * iz, bz = (maxZ - oz) * iz;
+		float near = Math.max(Math.max(0.0F, Math.min(ax, bx)), Math.max(Math.min(ay, by), Math.min(az, bz)));
+		float far = Math.min(Math.min(maxDistance, Math.max(ax, bx)), Math.min(Math.max(ay, by), Math.max(az, bz)));
+		
+		return near <= far && near < maxDistance ? near : Float.POSITIVE_INFINITY;
+	}
+	
+	/**
+	 * Calculates the distance at which this ray hits a triangle with the algorithm of M&ouml;ller and Trumbore.
+	 * Both sides of the triangle are hit.
+	 * @param a the first corner of the triangle
+	 * @param b the second corner of the triangle
+	 * @param c the third corner of the triangle
+	 * @return the distance or {@linkplain Float#POSITIVE_INFINITY} if the ray misses the triangle
+	 * @since 1.1.0
+	 */
+	public final float intersect(Vector3 a, Vector3 b, Vector3 c) {
+		
+		return intersectTriangle(this.origin.x, this.origin.y, this.origin.z, this.direction.x, this.direction.y, this.direction.z,
+								 a.x, a.y, a.z, b.x - a.x, b.y - a.y, b.z - a.z, c.x - a.x, c.y - a.y, c.z - a.z, Float.POSITIVE_INFINITY, null, 0);
+	}
+	
+	// also used by the BVH, which stores the first corner and the two edges of its triangles
+	// only hits that are closer than the maximum distance count, their barycentric coordinates of the second
+	// and the third corner are written into the array if it is not null
+	static final float intersectTriangle(float ox, float oy, float oz, float dx, float dy, float dz,
+										 float ax, float ay, float az, float e1x, float e1y, float e1z, float e2x, float e2y, float e2z,
+										 float maxDistance, float[] barycentric, int offset) {
+		
+		float px = dy * e2z - dz * e2y;
+		float py = dz * e2x - dx * e2z;
+		float pz = dx * e2y - dy * e2x;
+		float determinant = e1x * px + e1y * py + e1z * pz;
+		
+		// the ray is parallel to the triangle
+		if(determinant == 0.0F) {
+			
+			return Float.POSITIVE_INFINITY;
+		}
+		
+		float inverse = 1.0F / determinant;
+		float tx = ox - ax;
+		float ty = oy - ay;
+		float tz = oz - az;
+		float u = (tx * px + ty * py + tz * pz) * inverse;
+		
+		if(u < 0.0F || u > 1.0F) {
+			
+			return Float.POSITIVE_INFINITY;
+		}
+		
+		float qx = ty * e1z - tz * e1y;
+		float qy = tz * e1x - tx * e1z;
+		float qz = tx * e1y - ty * e1x;
+		float v = (dx * qx + dy * qy + dz * qz) * inverse;
+		
+		if(v < 0.0F || u + v > 1.0F) {
+			
+			return Float.POSITIVE_INFINITY;
+		}
+		
+		float distance = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+		
+		if(distance < 0.0F || distance >= maxDistance) {
+			
+			return Float.POSITIVE_INFINITY;
+		}
+		
+		if(barycentric != null) {
+			
+			barycentric[offset] = u;
+			barycentric[offset + 1] = v;
+		}
+		
+		return distance;
+	}
+	
+	/**
+	 * 
+	 * @return a copy of this ray
+	 * @since 1.1.0
+	 */
+	public final Ray copy() {
+		
+		return new Ray(this);
+	}
+	
+	@Override
+	public final String toString() {
+		
+		return String.format("(%s,%s)", this.origin, this.direction);
+	}
+	
+	@Override
+	public final boolean equals(Object object) {
+		
+		if(object != null && object instanceof Ray) {
+			
+			Ray ray = (Ray)object;
+			return this.origin.equals(ray.origin) && this.direction.equals(ray.direction);
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public final int hashCode() {
+		
+		return this.origin.hashCode() * 31 + this.direction.hashCode();
+	}
+}
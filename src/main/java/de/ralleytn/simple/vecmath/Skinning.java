@@ -0,0 +1,536 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Deforms a mesh on the CPU with a palette of bone matrices.
+ * The mesh is given as packed arrays: the positions and normals as x, y, z per vertex and a fixed number of
+ * bone indices and weights per vertex. The weights of a vertex should sum up to 1.
+ * The bone palette is a {@code float} array with 16 {@code float}s per bone in the order of {@linkplain Matrix4#toArray()},
+ * for example written by {@linkplain Matrix4#fromTranslationRotationScale(float[], int, float[], int, float[], int, float[], int, int)}.
+ * <p>
+ * {@linkplain Mode#LINEAR_BLEND} blends the bone matrices of every vertex, which is cheap, but makes joints that are
+ * twisted or bent far collapse. {@linkplain Mode#DUAL_QUATERNION} converts the palette into {@linkplain DualQuaternion}s
+ * and blends them instead, which preserves the volume, but ignores any scale of the bones.
+ * </p>
+ * Skinning a mesh doesn't allocate, except for the tasks of the parallel variants.
+ * The input arrays are not copied. An instance must not skin on multiple threads at the same time,
+ * but many instances can share the same input arrays.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class Skinning {
+
+	/**
+	 * Minimum number of vertices for which the parallel variants actually use the pool.
+	 * @since 1.1.0
+	 */
+	public static final int PARALLEL_THRESHOLD = 8192;
+	
+	/**
+	 * Maximum number of vertices that are skinned by one task of the parallel variants.
+	 * @since 1.1.0
+	 */
+	public static final int BATCH_SIZE = 2048;
+	
+	/**
+	 * The ways the bones of a vertex can be blended.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	public static enum Mode {
+		
+		/**
+		 * Blends the bone matrices linearly.
+		 * @since 1.1.0
+		 */
+		LINEAR_BLEND,
+		
+		/**
+		 * Blends the bones as dual quaternions, which preserves the volume.
+		 * @since 1.1.0
+		 */
+		DUAL_QUATERNION;
+	}
+	
+	private final float[] positions;
+	private final float[] normals;
+	private final int[] boneIndices;
+	private final float[] boneWeights;
+	private final int influences;
+	private final int vertexCount;
+	private final int boneCount;
+	private final float[] matrices;
+	private final float[] dualQuaternions;
+	private Mode mode;
+	
+	/**
+	 * Creates a skinning engine for a mesh.
+	 * @param positions the positions in bind pose, x, y, z per vertex
+	 * @param normals the normals in bind pose, x, y, z per vertex, or {@code null} if the mesh has no normals
+	 * @param boneIndices {@code influences} bone indices per vertex
+	 * @param boneWeights {@code influences} weights per vertex
+	 * @param influences the number of bones per vertex
+	 * @param boneCount the number of bones in the palette
+	 * @param mode the way the bones are blended
+	 * @throws IllegalArgumentException if the lengths of the arrays don't match or if a bone index is out of range
+	 * @since 1.1.0
+	 */
+	public Skinning(float[] positions, float[] normals, int[] boneIndices, float[] boneWeights, int influences, int boneCount, Mode mode) {
+		
+		if(influences < 1 || positions.length % 3 != 0) {
+			
+			throw new IllegalArgumentException("There must be at least one influence and 3 floats per position!");
+		}
+		
+		int vertexCount = positions.length / 3;
+		
+		if((normals != null && normals.length != positions.length) || boneIndices.length != vertexCount * influences || boneWeights.length != vertexCount * influences) {
+			
+			throw new IllegalArgumentException("The arrays must contain the data of " + vertexCount + " vertices with " + influences + " influences each!");
+		}
+		
+		for(int index = 0; index < boneIndices.length; index++) {
+			
+			if(boneIndices[index] < 0 || boneIndices[index] >= boneCount) {
+				
+				throw new IllegalArgumentException("The bone index " + boneIndices[index] + " of vertex " + (index / influences) + " is out of range!");
+			}
+		}
+		
+		this.positions = positions;
+		this.normals = normals;
+		this.boneIndices = boneIndices;
+		this.boneWeights = boneWeights;
+		this.influences = influences;
+		this.vertexCount = vertexCount;
+		this.boneCount = boneCount;
+		this.matrices = new float[boneCount * 16];
+		this.dualQuaternions = new float[boneCount * 8];
+		this.mode = mode;
+	}
+	
+	/**
+	 * 
+	 * @param mode the way the bones are blended
+	 * @since 1.1.0
+	 */
+	public final void setMode(Mode mode) {
+		
+		this.mode = mode;
+	}
+	
+	/**
+	 * 
+	 * @return the way the bones are blended
+	 * @since 1.1.0
+	 */
+	public final Mode getMode() {
+		
+		return this.mode;
+	}
+	
+	/**
+	 * 
+	 * @return the number of vertices
+	 * @since 1.1.0
+	 */
+	public final int getVertexCount() {
+		
+		return this.vertexCount;
+	}
+	
+	/**
+	 * 
+	 * @return the number of bones in the palette
+	 * @since 1.1.0
+	 */
+	public final int getBoneCount() {
+		
+		return this.boneCount;
+	}
+	
+	/**
+	 * 
+	 * @return the number of bones per vertex
+	 * @since 1.1.0
+	 */
+	public final int getInfluences() {
+		
+		return this.influences;
+	}
+	
+	/**
+	 * Skins the mesh on the calling thread.
+	 * The normals are only skinned if the mesh has normals and {@code destNormals} is not {@code null}.
+	 * In the linear blend mode they are transformed by the blended matrix and not normalized again.
+	 * @param palette the bone matrices, 16 {@code float}s per bone
+	 * @param paletteOffset index of the first element of the first bone matrix
+	 * @param destPositions the array that will receive the skinned positions
+	 * @param destNormals the array that will receive the skinned normals, may be {@code null}
+	 * @since 1.1.0
+	 */
+	public final void skin(float[] palette, int paletteOffset, float[] destPositions, float[] destNormals) {
+		
+		if(this.mode == Mode.DUAL_QUATERNION) {
+			
+			DualQuaternion.fromMatrices(palette, paletteOffset, this.dualQuaternions, 0, this.boneCount);
+			this.skinDualQuaternion(destPositions, destNormals, 0, this.vertexCount);
+			
+		} else {
+			
+			this.skinLinearBlend(palette, paletteOffset, destPositions, destNormals, 0, this.vertexCount);
+		}
+	}
+	
+	/**
+	 * Skins the mesh like {@linkplain #skin(float[], int, float[], float[])}, but splits the vertices into batches
+	 * of at most {@value #BATCH_SIZE} vertices which are skinned in parallel on the given pool.
+	 * Meshes with less than {@value #PARALLEL_THRESHOLD} vertices are skinned on the calling thread.
+	 * @param palette the bone matrices, 16 {@code float}s per bone
+	 * @param paletteOffset index of the first element of the first bone matrix
+	 * @param destPositions the array that will receive the skinned positions
+	 * @param destNormals the array that will receive the skinned normals, may be {@code null}
+	 * @param pool the pool that skins the batches, for example {@linkplain ForkJoinPool#commonPool()}
+	 * @since 1.1.0
+	 */
+	public final void skin(float[] palette, int paletteOffset, float[] destPositions, float[] destNormals, ForkJoinPool pool) {
+		
+		if(this.vertexCount < PARALLEL_THRESHOLD) {
+			
+			this.skin(palette, paletteOffset, destPositions, destNormals);
+			
+		} else {
+			
+			if(this.mode == Mode.DUAL_QUATERNION) {
+				
+				// the palette is small, converting it on the calling thread is cheaper than splitting it
+				DualQuaternion.fromMatrices(palette, paletteOffset, this.dualQuaternions, 0, this.boneCount);
+			}
+			
+			pool.invoke(new Batch(this, this.mode, palette, paletteOffset, destPositions, destNormals, 0, this.vertexCount));
+		}
+	}
+	
+	/**
+	 * Skins the mesh with a palette of {@linkplain Matrix4} instances.
+	 * The matrices are copied into an internal array first.
+	 * @param palette the bone matrices, at least as many as the mesh has bones
+	 * @param destPositions the array that will receive the skinned positions
+	 * @param destNormals the array that will receive the skinned normals, may be {@code null}
+	 * @since 1.1.0
+	 */
+	public final void skin(Matrix4[] palette, float[] destPositions, float[] destNormals) {
+		
+		this.skin(this.copyPalette(palette), 0, destPositions, destNormals);
+	}
+	
+	/**
+	 * Skins the mesh with a palette of {@linkplain Matrix4} instances on the given pool.
+	 * The matrices are copied into an internal array first.
+	 * @param palette the bone matrices, at least as many as the mesh has bones
+	 * @param destPositions the array that will receive the skinned positions
+	 * @param destNormals the array that will receive the skinned normals, may be {@code null}
+	 * @param pool the pool that skins the batches, for example {@linkplain ForkJoinPool#commonPool()}
+	 * @since 1.1.0
+	 */
+	public final void skin(Matrix4[] palette, float[] destPositions, float[] destNormals, ForkJoinPool pool) {
+		
+		this.skin(this.copyPalette(palette), 0, destPositions, destNormals, pool);
+	}
+	
+	private final float[] copyPalette(Matrix4[] palette) {
+		
+		float[] matrices = this.matrices;
+		
+		for(int bone = 0, m = 0; bone < this.boneCount; bone++, m += 16) {
+			
+			Matrix4 matrix = palette[bone];
+			matrices[m]      = matrix.m00;
+			matrices[m + 1]  = matrix.m01;
+			matrices[m + 2]  = matrix.m02;
+			matrices[m + 3]  = matrix.m03;
+			matrices[m + 4]  = matrix.m10;
+			matrices[m + 5]  = matrix.m11;
+			matrices[m + 6]  = matrix.m12;
+			matrices[m + 7]  = matrix.m13;
+			matrices[m + 8]  = matrix.m20;
+			matrices[m + 9]  = matrix.m21;
+			matrices[m + 10] = matrix.m22;
+			matrices[m + 11] = matrix.m23;
+			matrices[m + 12] = matrix.m30;
+			matrices[m + 13] = matrix.m31;
+			matrices[m + 14] = matrix.m32;
+			matrices[m + 15] = matrix.m33;
+		}
+		
+		return matrices;
+	}
+	
+	private final void skinLinearBlend(float[] palette, int paletteOffset, float[] destPositions, float[] destNormals, int start, int end) {
+		
+		if(this.influences == 4) {
+			
+			this.skinLinearBlend4(palette, paletteOffset, destPositions, destNormals, start, end);
+			return;
+		}
+		
+		float[] positions = this.positions;
+		float[] normals = destNormals != null ? this.normals : null;
+		int[] indices = this.boneIndices;
+		float[] weights = this.boneWeights;
+		int influences = this.influences;
+		
+		for(int vertex = start; vertex < end; vertex++) {
+			
+			float m00 = 0.0F, m01 = 0.0F, m02 = 0.0F;
+			float m10 = 0.0F, m11 = 0.0F, m12 = 0.0F;
+			float m20 = 0.0F, m21 = 0.0F, m22 = 0.0F;
+			float m30 = 0.0F, m31 = 0.0F, m32 = 0.0F;
+			
+			// only the affine part of the bone matrices is blended
+			for(int influence = vertex * influences, last = influence + influences; influence < last; influence++) {
+				
+				float weight = weights[influence];
+				int m = paletteOffset + indices[influence] * 16;
+				
+				m00 += weight * palette[m];      m01 += weight * palette[m + 1];  m02 += weight * palette[m + 2];
+				m10 += weight * palette[m + 4];  m11 += weight * palette[m + 5];  m12 += weight * palette[m + 6];
+				m20 += weight * palette[m + 8];  m21 += weight * palette[m + 9];  m22 += weight * palette[m + 10];
+				m30 += weight * palette[m + 12]; m31 += weight * palette[m + 13]; m32 += weight * palette[m + 14];
+			}
+			
+			int v = vertex * 3;
+			float x = positions[v];
+			float y = positions[v + 1];
+			float z = positions[v + 2];
+			
+			destPositions[v]     = m00 * x + m10 * y + m20 * z + m30;
+			destPositions[v + 1] = m01 * x + m11 * y + m21 * z + m31;
+			destPositions[v + 2] = m02 * x + m12 * y + m22 * z + m32;
+			
+			if(normals != null) {
+				
+				x = normals[v];
+				y = normals[v + 1];
+				z = normals[v + 2];
+				
+				destNormals[v]     = m00 * x + m10 * y + m20 * z;
+				destNormals[v + 1] = m01 * x + m11 * y + m21 * z;
+				destNormals[v + 2] = m02 * x + m12 * y + m22 * z;
+			}
+		}
+	}
+	
+	// the same as skinLinearBlend, but unrolled for the most common number of influences, which is about 1.5 times as fast
+	private final void skinLinearBlend4(float[] palette, int paletteOffset, float[] destPositions, float[] destNormals, int start, int end) {
+		
+		float[] positions = this.positions;
+		float[] normals = destNormals != null ? this.normals : null;
+		int[] indices = this.boneIndices;
+		float[] weights = this.boneWeights;
+		
+		for(int vertex = start; vertex < end; vertex++) {
+			
+			int i = vertex * 4;
+			int a = paletteOffset + indices[i] * 16;
+			int b = paletteOffset + indices[i + 1] * 16;
+			int c = paletteOffset + indices[i + 2] * 16;
+			int d = paletteOffset + indices[i + 3] * 16;
+			float wa = weights[i];
+			float wb = weights[i + 1];
+			float wc = weights[i + 2];
+			float wd = weights[i + 3];
+			
+			float m00 = wa * palette[a]      + wb * palette[b]      + wc * palette[c]      + wd * palette[d];
+			float m01 = wa * palette[a + 1]  + wb * palette[b + 1]  + wc * palette[c + 1]  + wd * palette[d + 1];
+			float m02 = wa * palette[a + 2]  + wb * palette[b + 2]  + wc * palette[c + 2]  + wd * palette[d + 2];
+			float m10 = wa * palette[a + 4]  + wb * palette[b + 4]  + wc * palette[c + 4]  + wd * palette[d + 4];
+			float m11 = wa * palette[a + 5]  + wb * palette[b + 5]  + wc * palette[c + 5]  + wd * palette[d + 5];
+			float m12 = wa * palette[a + 6]  + wb * palette[b + 6]  + wc * palette[c + 6]  + wd * palette[d + 6];
+			float m20 = wa * palette[a + 8]  + wb * palette[b + 8]  + wc * palette[c + 8]  + wd * palette[d + 8];
+			float m21 = wa * palette[a + 9]  + wb * palette[b + 9]  + wc * palette[c + 9]  + wd * palette[d + 9];
+			float m22 = wa * palette[a + 10] + wb * palette[b + 10] + wc * palette[c + 10] + wd * palette[d + 10];
+			float m30 = wa * palette[a + 12] + wb * palette[b + 12] + wc * palette[c + 12] + wd * palette[d + 12];
+			float m31 = wa * palette[a + 13] + wb * palette[b + 13] + wc * palette[c + 13] + wd * palette[d + 13];
+			float m32 = wa * palette[a + 14] + wb * palette[b + 14] + wc * palette[c + 14] + wd * palette[d + 14];
+			
+			int v = vertex * 3;
+			float x = positions[v];
+			float y = positions[v + 1];
+			float z = positions[v + 2];
+			
+			destPositions[v]     = m00 * x + m10 * y + m20 * z + m30;
+			destPositions[v + 1] = m01 * x + m11 * y + m21 * z + m31;
+			destPositions[v + 2] = m02 * x + m12 * y + m22 * z + m32;
+			
+			if(normals != null) {
+				
+				x = normals[v];
+				y = normals[v + 1];
+				z = normals[v + 2];
+				
+				destNormals[v]     = m00 * x + m10 * y + m20 * z;
+				destNormals[v + 1] = m01 * x + m11 * y + m21 * z;
+				destNormals[v + 2] = m02 * x + m12 * y + m22 * z;
+			}
+		}
+	}
+	
+	private final void skinDualQuaternion(float[] destPositions, float[] destNormals, int start, int end) {
+		
+		float[] positions = this.positions;
+		float[] normals = destNormals != null ? this.normals : null;
+		float[] bones = this.dualQuaternions;
+		int[] indices = this.boneIndices;
+		float[] weights = this.boneWeights;
+		int influences = this.influences;
+		
+		for(int vertex = start; vertex < end; vertex++) {
+			
+			int first = vertex * influences;
+			int pivot = indices[first] * 8;
+			float px = bones[pivot], py = bones[pivot + 1], pz = bones[pivot + 2], pw = bones[pivot + 3];
+			float rx = 0.0F, ry = 0.0F, rz = 0.0F, rw = 0.0F;
+			float dx = 0.0F, dy = 0.0F, dz = 0.0F, dw = 0.0F;
+			
+			for(int influence = first, last = first + influences; influence < last; influence++) {
+				
+				int b = indices[influence] * 8;
+				float bx = bones[b], by = bones[b + 1], bz = bones[b + 2], bw = bones[b + 3];
+				
+				// q and -q are the same rotation, every bone is blended in the hemisphere of the first one
+				float weight = Math.copySign(weights[influence], px * bx + py * by + pz * bz + pw * bw);
+				
+				rx += weight * bx;
+				ry += weight * by;
+				rz += weight * bz;
+				rw += weight * bw;
+				dx += weight * bones[b + 4];
+				dy += weight * bones[b + 5];
+				dz += weight * bones[b + 6];
+				dw += weight * bones[b + 7];
+			}
+			
+			float scale = 1.0F / (float)Math.sqrt(rx * rx + ry * ry + rz * rz + rw * rw);
+			rx *= scale; ry *= scale; rz *= scale; rw *= scale;
+			dx *= scale; dy *= scale; dz *= scale; dw *= scale;
+			
+			// translation = 2 * dual * conjugate(real)
+			float tx = 2.0F * (rw * dx - dw * rx + ry * dz - rz * dy);
+			float ty = 2.0F * (rw * dy - dw * ry + rz * dx - rx * dz);
+			float tz = 2.0F * (rw * dz - dw * rz + rx * dy - ry * dx);
+			
+			int v = vertex * 3;
+			float x = positions[v];
+			float y = positions[v + 1];
+			float z = positions[v + 2];
+			
+			// the same rotation as Quaternion.transform(Vector3, Vector3)
+			float cx = 2.0F * (ry * z - rz * y);
+			float cy = 2.0F * (rz * x - rx * z);
+			float cz = 2.0F * (rx * y - ry * x);
+			
+			destPositions[v]     = x + rw * cx + (ry * cz - rz * cy) + tx;
+			destPositions[v + 1] = y + rw * cy + (rz * cx - rx * cz) + ty;
+			destPositions[v + 2] = z + rw * cz + (rx * cy - ry * cx) + tz;
+			
+			if(normals != null) {
+				
+				x = normals[v];
+				y = normals[v + 1];
+				z = normals[v + 2];
+				
+				cx = 2.0F * (ry * z - rz * y);
+				cy = 2.0F * (rz * x - rx * z);
+				cz = 2.0F * (rx * y - ry * x);
+				
+				destNormals[v]     = x + rw * cx + (ry * cz - rz * cy);
+				destNormals[v + 1] = y + rw * cy + (rz * cx - rx * cz);
+				destNormals[v + 2] = z + rw * cz + (rx * cy - ry * cx);
+			}
+		}
+	}
+	
+	/**
+	 * Splits the vertex range it is responsible for in halves until it is not larger than {@value Skinning#BATCH_SIZE}.
+	 * The batches write to disjoint regions of the destination arrays, so no synchronization is needed.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	private static final class Batch extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		
+		private final Skinning skinning;
+		private final Mode mode;
+		private final float[] palette;
+		private final int paletteOffset;
+		private final float[] destPositions;
+		private final float[] destNormals;
+		private final int start;
+		private final int end;
+		
+		private Batch(Skinning skinning, Mode mode, float[] palette, int paletteOffset, float[] destPositions, float[] destNormals, int start, int end) {
+			
+			this.skinning = skinning;
+			this.mode = mode;
+			this.palette = palette;
+			this.paletteOffset = paletteOffset;
+			this.destPositions = destPositions;
+			this.destNormals = destNormals;
+			this.start = start;
+			this.end = end;
+		}
+		
+		private final Batch range(int start, int end) {
+			
+			return new Batch(this.skinning, this.mode, this.palette, this.paletteOffset, this.destPositions, this.destNormals, start, end);
+		}
+		
+		@Override
+		protected final void compute() {
+			
+			if(this.end - this.start > BATCH_SIZE) {
+				
+				int middle = (this.start + this.end) >>> 1;
+				RecursiveAction.invokeAll(this.range(this.start, middle), this.range(middle, this.end));
+				
+			} else if(this.mode == Mode.DUAL_QUATERNION) {
+				
+				this.skinning.skinDualQuaternion(this.destPositions, this.destNormals, this.start, this.end);
+				
+			} else {
+				
+				this.skinning.skinLinearBlend(this.palette, this.paletteOffset, this.destPositions, this.destNormals, this.start, this.end);
+			}
+		}
+	}
+}
@@ -0,0 +1,550 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A uniform grid over two or three dimensional points for neighbor queries within a radius.
+ * The space is divided into cubic cells whose coordinates are hashed into a table, so the grid has no bounds and
+ * its memory only depends on the number of points. The points are sorted by their hash with a counting sort and stored
+ * in {@code int} and {@code float} arrays, one after another for every hash, so a query reads them sequentially.
+ * <p>
+ * The grid is meant to be rebuilt whenever the points moved, for example once per tick of a simulation.
+ * Rebuilding reuses the arrays of the grid and only allocates if there are more points than ever before.
+ * A query costs the most if the radius is about the size of a cell, radii that are much larger than a cell
+ * visit a lot of cells and radii that are much smaller visit a lot of points that are too far away.
+ * </p>
+ * Queries don't allocate and can run on multiple threads at once, but not while the grid is rebuilt.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class SpatialHashGrid {
+
+	/**
+	 * Minimum number of points for which the parallel variant of {@linkplain #rebuild(float[], int, int, ForkJoinPool)} actually uses the pool.
+	 * @since 1.1.0
+	 */
+	public static final int PARALLEL_THRESHOLD = 65536;
+	
+	/**
+	 * Maximum number of points that are sorted by one task of the parallel variant of {@linkplain #rebuild(float[], int, int, ForkJoinPool)}.
+	 * @since 1.1.0
+	 */
+	public static final int BATCH_SIZE = 16384;
+	
+	// the parallel rebuild first groups the points by the highest 8 bits of their hash
+	private static final int GROUP_BITS = 8;
+	private static final int GROUPS = 1 << GROUP_BITS;
+	
+	/**
+	 * Receives the points that were found by a query.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	@FunctionalInterface
+	public static interface Visitor {
+		
+		/**
+		 * Called once for every point that was found, in no particular order.
+		 * @param index the index the point had in the array the grid was built from
+		 * @param distanceSquared the squared distance between the point and the center of the query
+		 * @since 1.1.0
+		 */
+		public void visit(int index, float distanceSquared);
+	}
+	
+	private final int dimension;
+	private final float cellSize;
+	private final float inverseCellSize;
+	private int size;
+	private int mask;
+	
+	// the start of every hash in the sorted points, the last element is the number of points
+	private int[] cells = new int[1];
+	
+	// the points sorted by their hash
+	private float[] coordinates = new float[0];
+	private int[] indices = new int[0];
+	
+	// the position of every point in the sorted points and its hash
+	private int[] positions = new int[0];
+	private int[] hashes = new int[0];
+	
+	// the points grouped by the highest bits of their hash and the number of points per group and batch, only for the parallel rebuild
+	private int[] groups = new int[0];
+	private int[] histograms = new int[0];
+	
+	/**
+	 * Creates an empty grid.
+	 * @param cellSize the size of a cell, ideally the radius of the most common query
+	 * @param dimension {@code 2} or {@code 3}
+	 * @throws IllegalArgumentException if the dimension is not {@code 2} or {@code 3} or the size of a cell is not positive
+	 * @since 1.1.0
+	 */
+	public SpatialHashGrid(float cellSize, int dimension) {
+		
+		if(dimension != 2 && dimension != 3) {
+			
+			throw new IllegalArgumentException("The dimension must be 2 or 3!");
+		}
+		
+		if(!(cellSize > 0.0F) || Float.isInfinite(cellSize)) {
+			
+			throw new IllegalArgumentException("The size of a cell must be positive and finite!");
+		}
+		
+		this.dimension = dimension;
+		this.cellSize = cellSize;
+		this.inverseCellSize = 1.0F / cellSize;
+	}
+	
+	/**
+	 * Replaces the points of this grid on the calling thread.
+	 * The points are given as one packed {@code float} array ({@code x, y} or {@code x, y, z} per point) and are copied into the grid.
+	 * @param points the packed points
+	 * @param offset index of the first element
+	 * @param count number of points
+	 * @throws IllegalArgumentException if the array doesn't contain enough points
+	 * @since 1.1.0
+	 */
+	public final void rebuild(float[] points, int offset, int count) {
+		
+		this.rebuild(points, offset, count, null);
+	}
+	
+	/**
+	 * Replaces the points of this grid like {@linkplain #rebuild(float[], int, int)}, but hashes and sorts them in batches
+	 * of at most {@value #BATCH_SIZE} points in parallel on the given pool. Less than {@value #PARALLEL_THRESHOLD} points are sorted on the calling thread.
+	 * The points are first grouped by the highest bits of their hash and then every group is sorted on its own, so no batch writes where another one does.
+	 * The result is exactly the same as the one of the sequential rebuild.
+	 * @param points the packed points
+	 * @param offset index of the first element
+	 * @param count number of points
+	 * @param pool the pool that sorts the batches, for example {@linkplain ForkJoinPool#commonPool()}, or {@code null} to use the calling thread
+	 * @throws IllegalArgumentException if the array doesn't contain enough points
+	 * @since 1.1.0
+	 */
+	public final void rebuild(float[] points, int offset, int count, ForkJoinPool pool) {
+		
+		if(offset < 0 || count < 0 || (long)offset + (long)count * this.dimension > points.length) {
+			
+			throw new IllegalArgumentException("The array doesn't contain " + count + " points after index " + offset + "!");
+		}
+		
+		this.reserve(count);
+		this.size = count;
+		
+		if(pool == null || count < PARALLEL_THRESHOLD) {
+			
+			Arrays.fill(this.cells, 0);
+			
+			for(int index = 0; index < count; index++) {
+				
+				this.cells[this.hashes[index] = this.hash(points, offset, index)]++;
+			}
+			
+			for(int hash = 1; hash < this.cells.length; hash++) {
+				
+				this.cells[hash] += this.cells[hash - 1];
+			}
+			
+			// backwards, so that the points of a hash stay in their original order
+			for(int index = count - 1; index >= 0; index--) {
+				
+				this.store(points, offset, index, --this.cells[this.hashes[index]]);
+			}
+			
+		} else {
+			
+			int batches = (count + BATCH_SIZE - 1) / BATCH_SIZE;
+			
+			if(this.histograms.length < batches * GROUPS) {
+				
+				this.histograms = new int[batches * GROUPS];
+			}
+			
+			if(this.groups.length < count) {
+				
+				this.groups = new int[this.indices.length];
+			}
+			
+			pool.invoke(new Batch(this, points, offset, 0, count, Batch.COUNT));
+			
+			// turns the histograms into the start of every group in every batch, ordered by group and then by batch
+			for(int group = 0, start = 0; group < GROUPS; group++) {
+				
+				for(int batch = 0; batch < batches; batch++) {
+					
+					int histogram = batch * GROUPS + group;
+					int size = this.histograms[histogram];
+					this.histograms[histogram] = start;
+					start += size;
+				}
+			}
+			
+			pool.invoke(new Batch(this, points, offset, 0, count, Batch.GROUP));
+			pool.invoke(new Batch(this, points, offset, 0, GROUPS, Batch.SORT));
+		}
+		
+		this.cells[this.cells.length - 1] = count;
+	}
+	
+	// the table has at least twice as many hashes as there are points, so that most cells don't share their hash
+	private final void reserve(int count) {
+		
+		if(count > this.indices.length) {
+			
+			this.coordinates = new float[count * this.dimension];
+			this.indices = new int[count];
+			this.positions = new int[count];
+			this.hashes = new int[count];
+		}
+		
+		int table = Math.max(16, Integer.highestOneBit(Math.max(1, count - 1)) << 2);
+		
+		if(table > this.cells.length - 1) {
+			
+			this.cells = new int[table + 1];
+			this.mask = table - 1;
+		}
+	}
+	
+	// hashes the points of a batch and counts them per group into the histogram of the batch
+	private final void count(float[] points, int offset, int start, int end) {
+		
+		int histogram = start / BATCH_SIZE * GROUPS;
+		int shift = Integer.numberOfTrailingZeros(this.cells.length - 1) - GROUP_BITS;
+		Arrays.fill(this.histograms, histogram, histogram + GROUPS, 0);
+		
+		for(int index = start; index < end; index++) {
+			
+			int hash = this.hash(points, offset, index);
+			this.hashes[index] = hash;
+			this.histograms[histogram + (hash >>> shift)]++;
+		}
+	}
+	
+	// writes the points of a batch into the ranges of their groups that were reserved for the batch
+	private final void group(int start, int end) {
+		
+		int histogram = start / BATCH_SIZE * GROUPS;
+		int shift = Integer.numberOfTrailingZeros(this.cells.length - 1) - GROUP_BITS;
+		
+		for(int index = start; index < end; index++) {
+			
+			this.groups[this.histograms[histogram + (this.hashes[index] >>> shift)]++] = index;
+		}
+	}
+	
+	// sorts the points of a group like the sequential rebuild, the group owns its range of hashes and points
+	private final void sort(float[] points, int offset, int group) {
+		
+		// after grouping the histogram of the last batch holds the end of every group
+		int last = (this.size - 1) / BATCH_SIZE * GROUPS;
+		int start = group == 0 ? 0 : this.histograms[last + group - 1];
+		int end = this.histograms[last + group];
+		int hashes = (this.cells.length - 1) >>> GROUP_BITS;
+		int first = group * hashes;
+		Arrays.fill(this.cells, first, first + hashes, 0);
+		
+		for(int position = start; position < end; position++) {
+			
+			this.cells[this.hashes[this.groups[position]]]++;
+		}
+		
+		this.cells[first] += start;
+		
+		for(int hash = first + 1; hash < first + hashes; hash++) {
+			
+			this.cells[hash] += this.cells[hash - 1];
+		}
+		
+		for(int position = end - 1; position >= start; position--) {
+			
+			int index = this.groups[position];
+			this.store(points, offset, index, --this.cells[this.hashes[index]]);
+		}
+	}
+	
+	private final void store(float[] points, int offset, int index, int position) {
+		
+		int dimension = this.dimension;
+		this.indices[position] = index;
+		this.positions[index] = position;
+		System.arraycopy(points, offset + index * dimension, this.coordinates, position * dimension, dimension);
+	}
+	
+	private final int hash(float[] points, int offset, int index) {
+		
+		int p = offset + index * this.dimension;
+		return this.hash(this.cell(points[p]), this.cell(points[p + 1]), this.dimension == 3 ? this.cell(points[p + 2]) : 0);
+	}
+	
+	private final int cell(float coordinate) {
+		
+		return (int)Math.floor(coordinate * this.inverseCellSize);
+	}
+	
+	// the primes of Teschner et al., "Optimized Spatial Hashing for Collision Detection of Deformable Objects"
+	private final int hash(int x, int y, int z) {
+		
+		return ((x * 73856093) ^ (y * 19349663) ^ (z * 83492791)) & this.mask;
+	}
+	
+	/**
+	 * Finds all points within a radius of a point.
+	 * @param point the center of the query
+	 * @param radius the radius, points at exactly this distance are included
+	 * @param visitor receives every point that was found, may be {@code null} if only the number is needed
+	 * @return the number of points that were found
+	 * @throws IllegalStateException if the grid is not two dimensional
+	 * @since 1.1.0
+	 */
+	public final int neighbors(Vector2 point, float radius, Visitor visitor) {
+		
+		this.checkDimension(2);
+		return this.query(point.x, point.y, 0.0F, radius, -1, visitor);
+	}
+	
+	/**
+	 * Finds all points within a radius of a point.
+	 * @param point the center of the query
+	 * @param radius the radius, points at exactly this distance are included
+	 * @param visitor receives every point that was found, may be {@code null} if only the number is needed
+	 * @return the number of points that were found
+	 * @throws IllegalStateException if the grid is not three dimensional
+	 * @since 1.1.0
+	 */
+	public final int neighbors(Vector3 point, float radius, Visitor visitor) {
+		
+		this.checkDimension(3);
+		return this.query(point.x, point.y, point.z, radius, -1, visitor);
+	}
+	
+	/**
+	 * Finds all other points within a radius of a point of this grid, which is the typical query of a simulation.
+	 * The point itself is not found, but other points at the same position are.
+	 * @param index the index the point had in the array the grid was built from
+	 * @param radius the radius, points at exactly this distance are included
+	 * @param visitor receives every point that was found, may be {@code null} if only the number is needed
+	 * @return the number of points that were found
+	 * @throws IndexOutOfBoundsException if the grid doesn't contain the point
+	 * @since 1.1.0
+	 */
+	public final int neighbors(int index, float radius, Visitor visitor) {
+		
+		if(index < 0 || index >= this.size) {
+			
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + this.size + " points");
+		}
+		
+		int p = this.positions[index] * this.dimension;
+		return this.query(this.coordinates[p], this.coordinates[p + 1], this.dimension == 3 ? this.coordinates[p + 2] : 0.0F, radius, index, visitor);
+	}
+	
+	private final int query(float x, float y, float z, float radius, int exclude, Visitor visitor) {
+		
+		int dimension = this.dimension;
+		float radiusSquared = radius * radius;
+		int minX = this.cell(x - radius), maxX = this.cell(x + radius);
+		int minY = this.cell(y - radius), maxY = this.cell(y + radius);
+		int minZ = dimension == 3 ? this.cell(z - radius) : 0, maxZ = dimension == 3 ? this.cell(z + radius) : 0;
+		long cellCount = ((long)maxX - minX + 1) * ((long)maxY - minY + 1) * ((long)maxZ - minZ + 1);
+		
+		// testing every point is cheaper than visiting more cells than there are points
+		if(cellCount > this.size) {
+			
+			return this.test(x, y, z, radiusSquared, exclude, visitor, 0, this.size);
+		}
+		
+		int found = 0;
+		
+		// long counters, because the cells saturate at Integer.MAX_VALUE and an int counter would never pass it
+		for(long cellZ = minZ; cellZ <= maxZ; cellZ++) {
+			
+			for(long cellY = minY; cellY <= maxY; cellY++) {
+				
+				for(long cellX = minX; cellX <= maxX; cellX++) {
+					
+					int hash = this.hash((int)cellX, (int)cellY, (int)cellZ);
+					int start = this.cells[hash];
+					int end = this.cells[hash + 1];
+					
+					for(int position = start; position < end; position++) {
+						
+						int p = position * dimension;
+						float dx = this.coordinates[p] - x;
+						float dy = this.coordinates[p + 1] - y;
+						float dz = dimension == 3 ? this.coordinates[p + 2] - z : 0.0F;
+						float distanceSquared = dx * dx + dy * dy + dz * dz;
+						
+						// a hash can be shared by multiple cells of the query, only the points of the current one count
+						if(distanceSquared <= radiusSquared && this.indices[position] != exclude &&
+						   this.cell(this.coordinates[p]) == cellX && this.cell(this.coordinates[p + 1]) == cellY && (dimension == 2 || this.cell(this.coordinates[p + 2]) == cellZ)) {
+							
+							found++;
+							
+							if(visitor != null) {
+								
+								visitor.visit(this.indices[position], distanceSquared);
+							}
+						}
+					}
+				}
+			}
+		}
+		
+		return found;
+	}
+	
+	private final int test(float x, float y, float z, float radiusSquared, int exclude, Visitor visitor, int start, int end) {
+		
+		int dimension = this.dimension;
+		int found = 0;
+		
+		for(int position = start; position < end; position++) {
+			
+			int p = position * dimension;
+			float dx = this.coordinates[p] - x;
+			float dy = this.coordinates[p + 1] - y;
+			float dz = dimension == 3 ? this.coordinates[p + 2] - z : 0.0F;
+			float distanceSquared = dx * dx + dy * dy + dz * dz;
+			
+			if(distanceSquared <= radiusSquared && this.indices[position] != exclude) {
+				
+				found++;
+				
+				if(visitor != null) {
+					
+					visitor.visit(this.indices[position], distanceSquared);
+				}
+			}
+		}
+		
+		return found;
+	}
+	
+	private final void checkDimension(int dimension) {
+		
+		if(this.dimension != dimension) {
+			
+			throw new IllegalStateException("The grid is " + this.dimension + " dimensional!");
+		}
+	}
+	
+	/**
+	 * 
+	 * @return the size of a cell
+	 * @since 1.1.0
+	 */
+	public final float getCellSize() {
+		
+		return this.cellSize;
+	}
+	
+	/**
+	 * 
+	 * @return {@code 2} or {@code 3}
+	 * @since 1.1.0
+	 */
+	public final int getDimension() {
+		
+		return this.dimension;
+	}
+	
+	/**
+	 * 
+	 * @return the number of points
+	 * @since 1.1.0
+	 */
+	public final int size() {
+		
+		return this.size;
+	}
+	
+	/**
+	 * Splits the point range it is responsible for in halves until it is not larger than {@value SpatialHashGrid#BATCH_SIZE},
+	 * or the group range until it contains a single group. Point ranges are split at a multiple of the batch size,
+	 * so that every batch knows its histogram. The batches write to disjoint regions of the arrays of the grid.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	private static final class Batch extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+		private static final int COUNT = 0;
+		private static final int GROUP = 1;
+		private static final int SORT = 2;
+		
+		private final SpatialHashGrid grid;
+		private final float[] points;
+		private final int offset;
+		private final int start;
+		private final int end;
+		
+		// COUNT or GROUP with a range of points, SORT with a range of groups
+		private final int phase;
+		
+		private Batch(SpatialHashGrid grid, float[] points, int offset, int start, int end, int phase) {
+			
+			this.grid = grid;
+			this.points = points;
+			this.offset = offset;
+			this.start = start;
+			this.end = end;
+			this.phase = phase;
+		}
+		
+		@Override
+		protected final void compute() {
+			
+			int size = this.phase == SORT ? 1 : BATCH_SIZE;
+			
+			if(this.end - this.start > size) {
+				
+				int middle = this.start + (this.end - this.start + size - 1) / size / 2 * size;
+				RecursiveAction.invokeAll(new Batch(this.grid, this.points, this.offset, this.start, middle, this.phase),
+										  new Batch(this.grid, this.points, this.offset, middle, this.end, this.phase));
+				
+			} else if(this.phase == COUNT) {
+				
+				this.grid.count(this.points, this.offset, this.start, this.end);
+				
+			} else if(this.phase == GROUP) {
+				
+				this.grid.group(this.start, this.end);
+				
+			} else {
+				
+				this.grid.sort(this.points, this.offset, this.start);
+			}
+		}
+	}
+}
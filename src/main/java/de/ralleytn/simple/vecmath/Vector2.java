@@ -23,6 +23,9 @@
  */
 package de.ralleytn.simple.vecmath;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * Represents a two dimensional vector.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
@@ -112,6 +115,64 @@ public final class Vector2 extends Vector<Vector2> {
 		this.set(data[0], data[1]);
 	}
 	
+	/**
+	 * Writes this vector into a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 2 elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer get(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		buffer.put(position, this.x);
+		buffer.put(position + 1, this.y);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this vector into a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 2 elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer get(ByteBuffer buffer, int offset) {
+		
+		buffer.putFloat(offset, this.x);
+		buffer.putFloat(offset + 4, this.y);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this vector from a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 2 elements
+	 * @since 1.1.0
+	 */
+	public final void set(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		this.set(buffer.get(position), buffer.get(position + 1));
+	}
+	
+	/**
+	 * Reads this vector from a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 2 elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void set(ByteBuffer buffer, int offset) {
+		
+		this.set(buffer.getFloat(offset), buffer.getFloat(offset + 4));
+	}
+	
 	/**
 	 * Calculates the dot product of this vector and another two dimensional vector.
 	 * @param b the vector on the right side of the calculation.
@@ -329,6 +390,19 @@ public final class Vector2 extends Vector<Vector2> {
 		
 		return new Vector3(this);
 	}
+
+	/**
+	 * Converts this vector from a two dimensional to a three dimensional one without allocating.
+	 * The missing element will be filled with {@code 0.0F}.
+	 * @param dest the vector that will receive the result
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 toVector3(Vector3 dest) {
+
+		dest.set(this.x, this.y, 0.0F);
+		return dest;
+	}
 	
 	/**
 	 * Converts this vector from a two dimensional to a four dimensional one.
@@ -340,6 +414,19 @@ public final class Vector2 extends Vector<Vector2> {
 		
 		return new Vector4(this);
 	}
+
+	/**
+	 * Converts this vector from a two dimensional to a four dimensional one without allocating.
+	 * The missing elements will be filled with {@code 0.0F}.
+	 * @param dest the vector that will receive the result
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector4 toVector4(Vector4 dest) {
+
+		dest.set(this.x, this.y, 0.0F, 0.0F);
+		return dest;
+	}
 	
 	/**
 	 * Converts this vector to a quaternion.
@@ -351,6 +438,19 @@ public final class Vector2 extends Vector<Vector2> {
 		
 		return new Quaternion(this);
 	}
+
+	/**
+	 * Converts this vector to a quaternion without allocating.
+	 * The missing elements will be filled with {@code 0.0F}.
+	 * @param dest the quaternion that will receive the result
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Quaternion toQuaternion(Quaternion dest) {
+
+		dest.set(this.x, this.y, 0.0F, 0.0F);
+		return dest;
+	}
 	
 	/**
 	 * Returns {@code true} if the L-infinite distance between this vector and the other one
@@ -23,6 +23,9 @@
  */
 package de.ralleytn.simple.vecmath;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * Represents a three dimensional vector.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
@@ -175,6 +178,66 @@ public final class Vector3 extends Vector<Vector3> {
 		this.set(vec.x, vec.y, 0.0F);
 	}
 	
+	/**
+	 * Writes this vector into a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 3 elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer get(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		buffer.put(position, this.x);
+		buffer.put(position + 1, this.y);
+		buffer.put(position + 2, this.z);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this vector into a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 3 elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer get(ByteBuffer buffer, int offset) {
+		
+		buffer.putFloat(offset, this.x);
+		buffer.putFloat(offset + 4, this.y);
+		buffer.putFloat(offset + 8, this.z);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this vector from a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 3 elements
+	 * @since 1.1.0
+	 */
+	public final void set(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		this.set(buffer.get(position), buffer.get(position + 1), buffer.get(position + 2));
+	}
+	
+	/**
+	 * Reads this vector from a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 3 elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void set(ByteBuffer buffer, int offset) {
+		
+		this.set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8));
+	}
+	
 	/**
 	 * Adds the value of another vector to this one.
 	 * <p><i>this instance will be manipulated</i></p>
@@ -282,13 +345,41 @@ public final class Vector3 extends Vector<Vector3> {
 	 */
 	public final Vector3 rotate(float angle, Axis axis) {
 		
-		Matrix4 matrix = new Matrix4();
-		matrix.m03 = this.x;
-		matrix.m13 = this.y;
-		matrix.m23 = this.z;
-		matrix.rotate((float)Math.toRadians(angle), axis);
-		
-		return new Vector3(matrix.m03, matrix.m13, matrix.m23);
+		return this.rotate(angle, axis, new Vector3());
+	}
+
+	/**
+	 * Rotates this vector on a single axis and writes the result into another vector.
+	 * Calculates the same as {@linkplain #rotate(float, Axis)} without the temporary {@linkplain Matrix4}.
+	 * @param angle the angle in degrees
+	 * @param axis the axis on which the vector should be rotated.
+	 * @param dest the vector that will receive the result, may be this vector
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector3 rotate(float angle, Axis axis, Vector3 dest) {
+
+		float radians = (float)Math.toRadians(angle);
+		float c = (float)Math.cos(radians);
+		float s = (float)Math.sin(radians);
+		float oneminusc = 1.0F - c;
+
+		float ax = axis.getX();
+		float ay = axis.getY();
+		float az = axis.getZ();
+		float xy = ax * ay;
+		float yz = ay * az;
+		float xz = ax * az;
+
+		float x = this.x;
+		float y = this.y;
+		float z = this.z;
+
+		dest.set(x * (ax * ax * oneminusc + c) + y * (xy * oneminusc + az * s) + z * (xz * oneminusc - ay * s),
+				 x * (xy * oneminusc - az * s) + y * (ay * ay * oneminusc + c) + z * (yz * oneminusc + ax * s),
+				 x * (xz * oneminusc + ay * s) + y * (yz * oneminusc - ax * s) + z * (az * az * oneminusc + c));
+
+		return dest;
 	}
 	
 	/**
@@ -430,6 +521,18 @@ public final class Vector3 extends Vector<Vector3> {
 		
 		return new Vector4(this);
 	}
+
+	/**
+	 * Converts this three dimensional vector to a four dimensional one without allocating.
+	 * @param dest the vector that will receive the result, its w element is set to {@code 0.0F}
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector4 toVector4(Vector4 dest) {
+
+		dest.set(this.x, this.y, this.z, 0.0F);
+		return dest;
+	}
 	
 	/**
 	 * Converts this vector to a quaternion.
@@ -440,6 +543,18 @@ public final class Vector3 extends Vector<Vector3> {
 		
 		return new Quaternion(this);
 	}
+
+	/**
+	 * Converts this vector to a quaternion without allocating.
+	 * @param dest the quaternion that will receive the result, its w element is set to {@code 0.0F}
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Quaternion toQuaternion(Quaternion dest) {
+
+		dest.set(this.x, this.y, this.z, 0.0F);
+		return dest;
+	}
 	
 	/**
 	 * 
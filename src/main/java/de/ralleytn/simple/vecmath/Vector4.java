@@ -23,6 +23,9 @@
  */
 package de.ralleytn.simple.vecmath;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * Represents a four dimensional vector.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
@@ -294,6 +297,68 @@ public final class Vector4 extends Vector<Vector4> {
 		this.set(vec.x, vec.y, 0.0F, 0.0F);
 	}
 	
+	/**
+	 * Writes this vector into a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 4 elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer get(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		buffer.put(position, this.x);
+		buffer.put(position + 1, this.y);
+		buffer.put(position + 2, this.z);
+		buffer.put(position + 3, this.w);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this vector into a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the 4 elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer get(ByteBuffer buffer, int offset) {
+		
+		buffer.putFloat(offset, this.x);
+		buffer.putFloat(offset + 4, this.y);
+		buffer.putFloat(offset + 8, this.z);
+		buffer.putFloat(offset + 12, this.w);
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this vector from a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 4 elements
+	 * @since 1.1.0
+	 */
+	public final void set(FloatBuffer buffer) {
+		
+		int position = buffer.position();
+		this.set(buffer.get(position), buffer.get(position + 1), buffer.get(position + 2), buffer.get(position + 3));
+	}
+	
+	/**
+	 * Reads this vector from a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing the 4 elements
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void set(ByteBuffer buffer, int offset) {
+		
+		this.set(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8), buffer.getFloat(offset + 12));
+	}
+	
 	/**
 	 * <p><i>this instance will be manipulated</i></p>
 	 * @param mat
@@ -430,6 +495,18 @@ public final class Vector4 extends Vector<Vector4> {
 		
 		return new Quaternion(this);
 	}
+
+	/**
+	 * 
+	 * @param dest the quaternion that will receive the elements of this vector
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Quaternion toQuaternion(Quaternion dest) {
+
+		dest.set(this.x, this.y, this.z, this.w);
+		return dest;
+	}
 	
 	/**
 	 * <p><i>this instance will be manipulated</i></p>
@@ -0,0 +1,399 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+/**
+ * Represents a fixed number of four dimensional vectors stored as four parallel {@code float} arrays.
+ * All operations work on every element at once.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class Vector4Array {
+
+	/**
+	 * The 1st elements
+	 * @since 1.1.0
+	 */
+	public final float[] x;
+
+	/**
+	 * The 2nd elements
+	 * @since 1.1.0
+	 */
+	public final float[] y;
+
+	/**
+	 * The 3rd elements
+	 * @since 1.1.0
+	 */
+	public final float[] z;
+
+	/**
+	 * The 4th elements
+	 * @since 1.1.0
+	 */
+	public final float[] w;
+
+	private final int size;
+
+	/**
+	 * Constructs an array of zero vectors.
+	 * @param size the number of vectors
+	 * @since 1.1.0
+	 */
+	public Vector4Array(int size) {
+
+		this(new float[size], new float[size], new float[size], new float[size]);
+	}
+
+	/**
+	 * Constructs an array that is backed by the given {@code float} arrays.
+	 * The arrays are not copied.
+	 * @param x the 1st elements
+	 * @param y the 2nd elements
+	 * @param z the 3rd elements
+	 * @param w the 4th elements
+	 * @throws IllegalArgumentException if the arrays don't have the same length
+	 * @since 1.1.0
+	 */
+	public Vector4Array(float[] x, float[] y, float[] z, float[] w) {
+
+		if(x.length != y.length || x.length != z.length || x.length != w.length) {
+
+			throw new IllegalArgumentException("All arrays must have the same length!");
+		}
+
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.w = w;
+		this.size = x.length;
+	}
+
+	/**
+	 * Constructs an array from another one.
+	 * @param array another array of four dimensional vectors
+	 * @since 1.1.0
+	 */
+	public Vector4Array(Vector4Array array) {
+
+		this(array.x.clone(), array.y.clone(), array.z.clone(), array.w.clone());
+	}
+
+	/**
+	 * @return the number of vectors
+	 * @since 1.1.0
+	 */
+	public final int size() {
+
+		return this.size;
+	}
+
+	/**
+	 * Sets the values of a single vector.
+	 * @param index the index of the vector
+	 * @param x the 1st element
+	 * @param y the 2nd element
+	 * @param z the 3rd element
+	 * @param w the 4th element
+	 * @since 1.1.0
+	 */
+	public final void set(int index, float x, float y, float z, float w) {
+
+		this.x[index] = x;
+		this.y[index] = y;
+		this.z[index] = z;
+		this.w[index] = w;
+	}
+
+	/**
+	 * Sets the values of a single vector.
+	 * @param index the index of the vector
+	 * @param vec a four dimensional vector
+	 * @since 1.1.0
+	 */
+	public final void set(int index, Vector4 vec) {
+
+		this.set(index, vec.x, vec.y, vec.z, vec.w);
+	}
+
+	/**
+	 * Copies a single vector into the given destination.
+	 * @param index the index of the vector
+	 * @param dest the vector that will receive the values
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final Vector4 get(int index, Vector4 dest) {
+
+		dest.set(this.x[index], this.y[index], this.z[index], this.w[index]);
+
+		return dest;
+	}
+
+	/**
+	 * Adds the vectors of another array to the ones of this array.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the array on the right side of the calculation
+	 * @return FOREACH index DO a[index] + b[index]
+	 * @throws IllegalArgumentException if the arrays have different sizes
+	 * @since 1.1.0
+	 */
+	public final Vector4Array add(Vector4Array b) {
+
+		this.checkSize(b);
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+		float[] bx = b.x, by = b.y, bz = b.z, bw = b.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			x[index] += bx[index];
+			y[index] += by[index];
+			z[index] += bz[index];
+			w[index] += bw[index];
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a single vector to every vector of this array.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the vector on the right side of the calculation
+	 * @return FOREACH index DO a[index] + b
+	 * @since 1.1.0
+	 */
+	public final Vector4Array add(Vector4 b) {
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+		float bx = b.x, by = b.y, bz = b.z, bw = b.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			x[index] += bx;
+			y[index] += by;
+			z[index] += bz;
+			w[index] += bw;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Subtracts the vectors of another array from the ones of this array.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param b the array on the right side of the calculation
+	 * @return FOREACH index DO a[index] - b[index]
+	 * @throws IllegalArgumentException if the arrays have different sizes
+	 * @since 1.1.0
+	 */
+	public final Vector4Array subtract(Vector4Array b) {
+
+		this.checkSize(b);
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+		float[] bx = b.x, by = b.y, bz = b.z, bw = b.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			x[index] -= bx[index];
+			y[index] -= by[index];
+			z[index] -= bz[index];
+			w[index] -= bw[index];
+		}
+
+		return this;
+	}
+
+	/**
+	 * Scales all vectors.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param scale the scalar value
+	 * @return FOREACH index DO a[index] * scale
+	 * @since 1.1.0
+	 */
+	public final Vector4Array scale(float scale) {
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			x[index] *= scale;
+			y[index] *= scale;
+			z[index] *= scale;
+			w[index] *= scale;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Normalizes all vectors.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @return FOREACH index DO {@link Vector4#normalize() a[index].normalize()}
+	 * @since 1.1.0
+	 */
+	public final Vector4Array normalize() {
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			float ax = x[index];
+			float ay = y[index];
+			float az = z[index];
+			float aw = w[index];
+			float scale = 1.0F / (float)Math.sqrt(ax * ax + ay * ay + az * az + aw * aw);
+
+			x[index] = ax * scale;
+			y[index] = ay * scale;
+			z[index] = az * scale;
+			w[index] = aw * scale;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Calculates the dot products between the vectors of this array and the ones of another array.
+	 * @param b the array on the right side of the calculation
+	 * @param dest the array that will receive the results, must have at least {@link #size()} elements
+	 * @return {@code dest}
+	 * @throws IllegalArgumentException if the arrays have different sizes
+	 * @since 1.1.0
+	 */
+	public final float[] dot(Vector4Array b, float[] dest) {
+
+		this.checkSize(b);
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+		float[] bx = b.x, by = b.y, bz = b.z, bw = b.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			dest[index] = x[index] * bx[index] + y[index] * by[index] + z[index] * bz[index] + w[index] * bw[index];
+		}
+
+		return dest;
+	}
+
+	/**
+	 * Calculates the squared lengths of all vectors.
+	 * @param dest the array that will receive the results, must have at least {@link #size()} elements
+	 * @return {@code dest}
+	 * @since 1.1.0
+	 */
+	public final float[] lengthSquared(float[] dest) {
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			float ax = x[index];
+			float ay = y[index];
+			float az = z[index];
+			float aw = w[index];
+
+			dest[index] = ax * ax + ay * ay + az * az + aw * aw;
+		}
+
+		return dest;
+	}
+
+	/**
+	 * Calculates the squared distances between the vectors of this array and the ones of another array.
+	 * @param b the array on the right side of the calculation
+	 * @param dest the array that will receive the results, must have at least {@link #size()} elements
+	 * @return {@code dest}
+	 * @throws IllegalArgumentException if the arrays have different sizes
+	 * @since 1.1.0
+	 */
+	public final float[] distanceSquared(Vector4Array b, float[] dest) {
+
+		this.checkSize(b);
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+		float[] bx = b.x, by = b.y, bz = b.z, bw = b.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			float dx = x[index] - bx[index];
+			float dy = y[index] - by[index];
+			float dz = z[index] - bz[index];
+			float dw = w[index] - bw[index];
+
+			dest[index] = dx * dx + dy * dy + dz * dz + dw * dw;
+		}
+
+		return dest;
+	}
+
+	/**
+	 * Calculates the distances between the vectors of this array and the ones of another array.
+	 * @param b the array on the right side of the calculation
+	 * @param dest the array that will receive the results, must have at least {@link #size()} elements
+	 * @return {@code dest}
+	 * @throws IllegalArgumentException if the arrays have different sizes
+	 * @since 1.1.0
+	 */
+	public final float[] distance(Vector4Array b, float[] dest) {
+
+		this.checkSize(b);
+
+		float[] x = this.x, y = this.y, z = this.z, w = this.w;
+		float[] bx = b.x, by = b.y, bz = b.z, bw = b.w;
+
+		for(int index = 0; index < this.size; index++) {
+
+			float dx = x[index] - bx[index];
+			float dy = y[index] - by[index];
+			float dz = z[index] - bz[index];
+			float dw = w[index] - bw[index];
+
+			dest[index] = (float)Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
+		}
+
+		return dest;
+	}
+
+	private final void checkSize(Vector4Array b) {
+
+		if(b.size != this.size) {
+
+			throw new IllegalArgumentException("The arrays have different sizes! (" + this.size + " and " + b.size + ")");
+		}
+	}
+
+	/**
+	 * Creates a copy of this array.
+	 * @return a copy of this array
+	 * @since 1.1.0
+	 */
+	public final Vector4Array copy() {
+
+		return new Vector4Array(this);
+	}
+}
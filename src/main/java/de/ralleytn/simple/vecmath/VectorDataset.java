@@ -0,0 +1,284 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only dataset of vectors with the same size in a memory-mapped file.
+ * Opening a dataset doesn't read the vectors, it only maps the file, so it costs the same no matter how large the file is.
+ * The operating system loads the pages when they are accessed and can drop them again when memory is needed.
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes, all values are little-endian:
+ * </p>
+ * <table>
+ * <caption>Header</caption>
+ * <tr><th>Offset</th><th>Type</th><th>Content</th></tr>
+ * <tr><td>0</td><td>{@code int}</td><td>{@value #MAGIC} ({@code "SVMD"} in ASCII)</td></tr>
+ * <tr><td>4</td><td>{@code int}</td><td>version of the format, {@value #VERSION}</td></tr>
+ * <tr><td>8</td><td>{@code int}</td><td>element type, {@value #FLOAT32} for 32 bit floats</td></tr>
+ * <tr><td>12</td><td>{@code int}</td><td>dimension, the number of elements per vector</td></tr>
+ * <tr><td>16</td><td>{@code long}</td><td>number of vectors, {@code -1} while the file is still being written</td></tr>
+ * <tr><td>24</td><td></td><td>reserved, zero</td></tr>
+ * </table>
+ * The vectors follow the header without any padding, every element as a little-endian {@code float}.
+ * Files are written with a {@linkplain VectorDatasetWriter}.
+ * <p>
+ * A single mapping is limited to 2 GiB, so large files are mapped in chunks that contain a whole number of vectors.
+ * Every chunk can be used as a {@linkplain MatrixN} with one vector per row ({@linkplain #getChunk(int)}),
+ * which is the fastest way to scan the whole dataset. Closing the dataset unmaps the file immediately, after that every
+ * vector and matrix of the dataset throws an {@linkplain IllegalStateException}. A dataset can be read by multiple threads.
+ * </p>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class VectorDataset implements AutoCloseable {
+
+	/**
+	 * The first 4 bytes of every dataset.
+	 * @since 1.1.0
+	 */
+	public static final int MAGIC = 0x444D5653;
+
+	/**
+	 * The version of the format that is written and read by this version of the library.
+	 * @since 1.1.0
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Element type for 32 bit floats.
+	 * @since 1.1.0
+	 */
+	public static final int FLOAT32 = 1;
+
+	/**
+	 * Size of the header in bytes. The vectors start at this offset.
+	 * @since 1.1.0
+	 */
+	public static final int HEADER_SIZE = 32;
+
+	private final OffHeapMemory memory;
+	private final int dimension;
+	private final long count;
+	private final int vectorsPerChunk;
+	private final FloatBuffer[] chunks;
+
+	private VectorDataset(FileChannel channel, Path path, int maxChunkSize, OffHeapMemory memory) throws IOException {
+
+		this.memory = memory;
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+		while(header.hasRemaining()) {
+
+			if(channel.read(header, header.position()) < 0) {
+
+				throw new IOException(path + " is too small to be a vector dataset!");
+			}
+		}
+
+		if(header.getInt(0) != MAGIC) {
+
+			throw new IOException(path + " is not a vector dataset!");
+		}
+
+		if(header.getInt(4) != VERSION || header.getInt(8) != FLOAT32) {
+
+			throw new IOException(path + " has the unsupported version " + header.getInt(4) + " or element type " + header.getInt(8) + "!");
+		}
+
+		this.dimension = header.getInt(12);
+		this.count = header.getLong(16);
+		long vectorSize = (long)this.dimension * Float.BYTES;
+
+		if(this.count == -1L) {
+
+			throw new IOException(path + " was not closed by its writer!");
+		}
+
+		if(this.dimension <= 0 || this.count < 0 || this.count > (channel.size() - HEADER_SIZE) / vectorSize) {
+
+			throw new IOException(path + " is truncated or has an invalid header! (dimension " + this.dimension + ", " + this.count + " vectors)");
+		}
+
+		if(vectorSize > maxChunkSize) {
+
+			throw new IOException("A single vector of " + path + " is larger than the maximum chunk size!");
+		}
+
+		this.vectorsPerChunk = (int)(maxChunkSize / vectorSize);
+		this.chunks = new FloatBuffer[(int)((this.count + this.vectorsPerChunk - 1) / this.vectorsPerChunk)];
+
+		for(int chunk = 0; chunk < this.chunks.length; chunk++) {
+
+			long first = (long)chunk * this.vectorsPerChunk;
+			long vectors = Math.min(this.vectorsPerChunk, this.count - first);
+			MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * vectorSize, vectors * vectorSize);
+			this.memory.register(mapping);
+			this.chunks[chunk] = mapping.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+		}
+	}
+
+	/**
+	 * Maps a dataset in chunks of up to 2 GiB.
+	 * @param path the file
+	 * @return the dataset
+	 * @throws IOException if the file cannot be read, is not a dataset or is truncated
+	 * @since 1.1.0
+	 */
+	public static final VectorDataset open(Path path) throws IOException {
+
+		return open(path, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Maps a dataset in chunks of the given size.
+	 * Smaller chunks need less contiguous address space, which only matters on 32 bit JVMs.
+	 * @param path the file
+	 * @param maxChunkSize the maximum size of a chunk in bytes
+	 * @return the dataset
+	 * @throws IOException if the file cannot be read, is not a dataset, is truncated or a single vector is larger than a chunk
+	 * @throws IllegalArgumentException if the maximum chunk size is not positive
+	 * @since 1.1.0
+	 */
+	public static final VectorDataset open(Path path, int maxChunkSize) throws IOException {
+
+		if(maxChunkSize <= 0) {
+
+			throw new IllegalArgumentException("The maximum chunk size must be positive!");
+		}
+
+		OffHeapMemory memory = new OffHeapMemory();
+
+		// the mappings stay valid after the channel was closed
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+			return new VectorDataset(channel, path, maxChunkSize, memory);
+
+		} catch(IOException | RuntimeException exception) {
+
+			// unmaps the chunks that were mapped before the error
+			memory.close();
+			throw exception;
+		}
+	}
+
+	/**
+	 * Creates a read-only view of a vector. Nothing is copied.
+	 * @param index index of the vector
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the index is negative or not smaller than {@linkplain #size()}
+	 * @throws IllegalStateException if the dataset was closed
+	 * @since 1.1.0
+	 */
+	public final VectorN get(long index) {
+
+		if(index < 0 || index >= this.count) {
+
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + this.count + " vectors");
+		}
+
+		this.memory.check();
+		FloatBuffer buffer = this.chunks[(int)(index / this.vectorsPerChunk)].duplicate();
+		int start = (int)(index % this.vectorsPerChunk) * this.dimension;
+		buffer.limit(start + this.dimension);
+		buffer.position(start);
+		return new VectorN(buffer.slice(), this.dimension, this.memory);
+	}
+
+	/**
+	 * Creates a read-only view of a chunk with one vector per row. Nothing is copied.
+	 * Row {@code r} of chunk {@code c} is the vector {@code c * getVectorsPerChunk() + r}.
+	 * @param chunk index of the chunk
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the chunk doesn't exist
+	 * @throws IllegalStateException if the dataset was closed
+	 * @since 1.1.0
+	 */
+	public final MatrixN getChunk(int chunk) {
+
+		this.memory.check();
+		FloatBuffer buffer = this.chunks[chunk];
+		return new MatrixN(buffer.duplicate(), this.dimension, buffer.capacity() / this.dimension, this.dimension, this.memory);
+	}
+
+	/**
+	 *
+	 * @return the number of elements of every vector
+	 * @since 1.1.0
+	 */
+	public final int getDimension() {
+
+		return this.dimension;
+	}
+
+	/**
+	 *
+	 * @return the number of vectors
+	 * @since 1.1.0
+	 */
+	public final long size() {
+
+		return this.count;
+	}
+
+	/**
+	 *
+	 * @return the number of chunks
+	 * @since 1.1.0
+	 */
+	public final int getChunkCount() {
+
+		return this.chunks.length;
+	}
+
+	/**
+	 *
+	 * @return the number of vectors in every chunk except for the last one, which may contain less
+	 * @since 1.1.0
+	 */
+	public final int getVectorsPerChunk() {
+
+		return this.vectorsPerChunk;
+	}
+
+	/**
+	 * Unmaps the file. Closing an already closed dataset has no effect.
+	 * @since 1.1.0
+	 */
+	@Override
+	public final void close() {
+
+		this.memory.close();
+	}
+}
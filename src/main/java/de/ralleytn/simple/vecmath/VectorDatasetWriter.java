@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Writes vectors into a file in the format of {@linkplain VectorDataset}.
+ * The vectors are appended one after another through a buffer, so datasets that don't fit into the memory can be written as well.
+ * The number of vectors in the header is {@code -1} until the writer is closed, a file that was not closed can therefore not be opened.
+ * A writer is not thread-safe.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class VectorDatasetWriter implements AutoCloseable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+	private final int dimension;
+	private long count;
+
+	/**
+	 * Creates a new dataset. An existing file is overwritten.
+	 * @param path the file
+	 * @param dimension the number of elements of every vector
+	 * @throws IOException if the file cannot be written
+	 * @throws IllegalArgumentException if the dimension is not positive
+	 * @since 1.1.0
+	 */
+	public VectorDatasetWriter(Path path, int dimension) throws IOException {
+
+		if(dimension <= 0) {
+
+			throw new IllegalArgumentException("The dimension must be positive!");
+		}
+
+		this.dimension = dimension;
+		this.buffer = ByteBuffer.allocateDirect(Math.max(BUFFER_SIZE, dimension * Float.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+		// the number of vectors stays -1 until the writer is closed
+		this.buffer.putInt(VectorDataset.MAGIC);
+		this.buffer.putInt(VectorDataset.VERSION);
+		this.buffer.putInt(VectorDataset.FLOAT32);
+		this.buffer.putInt(dimension);
+		this.buffer.putLong(-1L);
+		this.buffer.putLong(0L);
+	}
+
+	/**
+	 * Appends a vector.
+	 * @param vector the vector
+	 * @return this instance
+	 * @throws IOException if the file cannot be written
+	 * @throws IllegalArgumentException if the vector doesn't have the dimension of the dataset
+	 * @since 1.1.0
+	 */
+	public final VectorDatasetWriter write(VectorN vector) throws IOException {
+
+		if(vector.size() != this.dimension) {
+
+			throw new IllegalArgumentException("The vector has the size " + vector.size() + " instead of " + this.dimension + "!");
+		}
+
+		this.reserve(this.dimension);
+		vector.get(this.buffer, this.buffer.position());
+		this.buffer.position(this.buffer.position() + this.dimension * Float.BYTES);
+		this.count++;
+		return this;
+	}
+
+	/**
+	 * Appends vectors that are stored one after another in an array.
+	 * @param vectors the array
+	 * @param offset index of the first element
+	 * @param count number of vectors
+	 * @return this instance
+	 * @throws IOException if the file cannot be written
+	 * @throws IndexOutOfBoundsException if the array doesn't contain enough elements
+	 * @since 1.1.0
+	 */
+	public final VectorDatasetWriter write(float[] vectors, int offset, int count) throws IOException {
+
+		Objects.checkFromIndexSize(offset, count * this.dimension, vectors.length);
+
+		for(int vector = 0; vector < count; vector++) {
+
+			this.reserve(this.dimension);
+
+			for(int index = offset + vector * this.dimension, end = index + this.dimension; index < end; index++) {
+
+				this.buffer.putFloat(vectors[index]);
+			}
+		}
+
+		this.count += count;
+		return this;
+	}
+
+	private final void reserve(int floats) throws IOException {
+
+		if(this.buffer.remaining() < floats * Float.BYTES) {
+
+			this.flush();
+		}
+	}
+
+	private final void flush() throws IOException {
+
+		this.buffer.flip();
+
+		while(this.buffer.hasRemaining()) {
+
+			this.channel.write(this.buffer);
+		}
+
+		this.buffer.clear();
+	}
+
+	/**
+	 *
+	 * @return the number of vectors that were written so far
+	 * @since 1.1.0
+	 */
+	public final long size() {
+
+		return this.count;
+	}
+
+	/**
+	 * Writes the remaining vectors and the number of vectors into the file and closes it.
+	 * @throws IOException if the file cannot be written
+	 * @since 1.1.0
+	 */
+	@Override
+	public final void close() throws IOException {
+
+		if(this.channel.isOpen()) {
+
+			try {
+
+				this.flush();
+				this.buffer.putLong(this.count).flip();
+
+				while(this.buffer.hasRemaining()) {
+
+					this.channel.write(this.buffer, 16 + this.buffer.position());
+				}
+
+			} finally {
+
+				this.channel.close();
+			}
+		}
+	}
+}
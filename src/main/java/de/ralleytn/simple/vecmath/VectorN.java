@@ -23,18 +23,30 @@
  */
 package de.ralleytn.simple.vecmath;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+import de.ralleytn.simple.vecmath.internal.BufferKernels;
+import de.ralleytn.simple.vecmath.internal.FloatKernels;
 import de.ralleytn.simple.vecmath.internal.Util;
 
 /**
- * 
+ * A vector of arbitrary size. The elements are either stored in a {@code float} array on the heap or in a {@linkplain FloatBuffer},
+ * which may be off-heap memory of an {@linkplain OffHeapMemory}, a memory-mapped file ({@linkplain #wrap(FloatBuffer)})
+ * or a range of another vector ({@linkplain #slice(int, int)}). Every operation works on both kinds of storage.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
  * @version 1.0.0
  * @since 1.0.0
  */
 public final class VectorN extends Vector<VectorN> {
 
-	private int size;
-	private float[] data;
+	// package-private so that MatrixN can work on the elements directly
+	// exactly one of data and buffer is set, the first element of a buffer is always at index 0
+	int size;
+	float[] data;
+	FloatBuffer buffer;
+	OffHeapMemory memory;
 	
 	/**
 	 * 
@@ -150,6 +162,72 @@ public final class VectorN extends Vector<VectorN> {
 		}
 	}
 	
+	// off-heap vectors and views, memory is null if the buffer is not released by an OffHeapMemory
+	VectorN(FloatBuffer buffer, int size, OffHeapMemory memory) {
+		
+		this.buffer = buffer;
+		this.size = size;
+		this.memory = memory;
+	}
+	
+	/**
+	 * Creates a vector that stores its elements in a buffer, from the position to the limit of the buffer.
+	 * Nothing is copied, changes of the vector are visible in the buffer and vice versa.
+	 * If the buffer is read-only, every method that manipulates the vector throws a {@linkplain java.nio.ReadOnlyBufferException}.
+	 * @param buffer the buffer
+	 * @return the new vector
+	 * @since 1.1.0
+	 */
+	public static final VectorN wrap(FloatBuffer buffer) {
+		
+		return new VectorN(buffer.slice(), buffer.remaining(), null);
+	}
+	
+	/**
+	 * Creates a view of a range of this vector.
+	 * Nothing is copied, changes of the view are visible in this vector and vice versa.
+	 * A view of an off-heap vector is released together with it.
+	 * @param offset index of the first element
+	 * @param size number of elements
+	 * @return the view
+	 * @throws IndexOutOfBoundsException if the range is not inside this vector
+	 * @since 1.1.0
+	 */
+	public final VectorN slice(int offset, int size) {
+		
+		Objects.checkFromIndexSize(offset, size, this.size);
+		FloatBuffer buffer = this.buffer != null ? this.view().duplicate() : FloatBuffer.wrap(this.data);
+		buffer.limit(offset + size);
+		buffer.position(offset);
+		return new VectorN(buffer.slice(), size, this.memory);
+	}
+	
+	/**
+	 * 
+	 * @return {@code true} if the elements are stored outside of the heap, else {@code false}
+	 * @since 1.1.0
+	 */
+	public final boolean isDirect() {
+		
+		return this.buffer != null && this.buffer.isDirect();
+	}
+	
+	// the elements as a buffer, arrays are only wrapped for operations between a vector on the heap and one in a buffer
+	final FloatBuffer view() {
+		
+		if(this.buffer == null) {
+			
+			return FloatBuffer.wrap(this.data, 0, this.size);
+		}
+		
+		if(this.memory != null) {
+			
+			this.memory.check();
+		}
+		
+		return this.buffer;
+	}
+	
 	/**
 	 * 
 	 * @param index
@@ -158,7 +236,14 @@ public final class VectorN extends Vector<VectorN> {
 	 */
 	public final void set(int index, float value) {
 		
-		this.data[index] = value;
+		if(this.buffer != null) {
+			
+			this.view().put(index, value);
+			
+		} else {
+			
+			this.data[index] = value;
+		}
 	}
 	
 	/**
@@ -179,7 +264,90 @@ public final class VectorN extends Vector<VectorN> {
 	 */
 	public final float get(int index) {
 		
-		return this.data[index];
+		return this.buffer != null ? this.view().get(index) : this.data[index];
+	}
+	
+	/**
+	 * Writes this vector into a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the elements
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final FloatBuffer get(FloatBuffer buffer) {
+		
+		if(this.buffer != null) {
+			
+			BufferKernels.copy(this.view(), 0, buffer, buffer.position(), this.size);
+			
+		} else {
+			
+			// the duplicate shares the content, but has its own position
+			buffer.duplicate().put(this.data, 0, this.size);
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Writes this vector into a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * @param buffer the buffer that will receive the elements
+	 * @param offset index of the first byte
+	 * @return {@code buffer}
+	 * @since 1.1.0
+	 */
+	public final ByteBuffer get(ByteBuffer buffer, int offset) {
+		
+		if(this.buffer != null) {
+			
+			BufferKernels.copy(this.view(), 0, Util.floatView(buffer, offset), 0, this.size);
+			
+		} else {
+			
+			Util.floatView(buffer, offset).put(this.data, 0, this.size);
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Reads this vector from a buffer, starting at the position of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing as many elements as this vector has
+	 * @since 1.1.0
+	 */
+	public final void set(FloatBuffer buffer) {
+		
+		if(this.buffer != null) {
+			
+			BufferKernels.copy(buffer, buffer.position(), this.view(), 0, this.size);
+			
+		} else {
+			
+			buffer.duplicate().get(this.data, 0, this.size);
+		}
+	}
+	
+	/**
+	 * Reads this vector from a buffer, using the byte order of the buffer.
+	 * The position of the buffer is not changed.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param buffer the buffer containing as many elements as this vector has
+	 * @param offset index of the first byte
+	 * @since 1.1.0
+	 */
+	public final void set(ByteBuffer buffer, int offset) {
+		
+		if(this.buffer != null) {
+			
+			BufferKernels.copy(Util.floatView(buffer, offset), 0, this.view(), 0, this.size);
+			
+		} else {
+			
+			Util.floatView(buffer, offset).get(this.data, 0, this.size);
+		}
 	}
 	
 	/**
@@ -189,6 +357,12 @@ public final class VectorN extends Vector<VectorN> {
 	 */
 	public final VectorN negate() {
 		
+		if(this.buffer != null) {
+			
+			BufferKernels.scale(this.view(), 0, this.size, -1.0F);
+			return this;
+		}
+		
 		for(int index = 0; index < this.size; index++) {
 			
 			this.data[index] = -this.data[index];
@@ -200,12 +374,13 @@ public final class VectorN extends Vector<VectorN> {
 	@Override
     public final VectorN clampMin(float min) {
 	
-    	for(int index = 0; index < this.size; index++) {
+    	if(this.buffer != null) {
+    		
+    		BufferKernels.clampMin(this.view(), 0, this.size, min);
+    		
+    	} else {
     		
-    		if(this.data[index] < min) {
-    			
-    			this.data[index] = min;
-    		}
+    		FloatKernels.clampMin(this.data, 0, this.size, min);
     	}
     	
     	return this;
@@ -214,12 +389,13 @@ public final class VectorN extends Vector<VectorN> {
 	@Override
     public final VectorN clampMax(float max) {
 	
-    	for(int index = 0; index < this.size; index++) {
+    	if(this.buffer != null) {
+    		
+    		BufferKernels.clampMax(this.view(), 0, this.size, max);
+    		
+    	} else {
     		
-    		if(this.data[index] > max) {
-    			
-    			this.data[index] = max;
-    		}
+    		FloatKernels.clampMax(this.data, 0, this.size, max);
     	}
     	
     	return this;
@@ -228,17 +404,23 @@ public final class VectorN extends Vector<VectorN> {
 	@Override
 	public final VectorN absolute() {
 		
-		for(int index = 0; index < this.size; index++) {
+		if(this.buffer != null) {
 			
-			if(this.data[index] < 0.0F) {
-				
-				this.data[index] = -this.data[index];
-			}
+			BufferKernels.absolute(this.view(), 0, this.size);
+			
+		} else {
+			
+			FloatKernels.absolute(this.data, 0, this.size);
 		}
 		
 		return this;
 	}
 	
+	/**
+	 * Creates a copy of this vector on the heap, even if this vector is stored in a buffer.
+	 * @return the copy
+	 * @since 1.0.0
+	 */
 	@Override
 	public final VectorN copy() {
 
@@ -248,34 +430,137 @@ public final class VectorN extends Vector<VectorN> {
 	@Override
 	public final float lengthSquared() {
 		
-		float current = 0.0F;
-		
-		for(int index = 0; index < this.size; index++) {
-			
-			float value = this.data[index];
-			current += value * value;
-		}
-		
-		return current;
+		return this.buffer != null ? BufferKernels.lengthSquared(this.view(), 0, this.size) : FloatKernels.lengthSquared(this.data, 0, this.size);
 	}
 
 	@Override
 	public final float[] toArray() {
 		
+		if(this.buffer != null) {
+			
+			float[] array = new float[this.size];
+			this.view().duplicate().get(array);
+			return array;
+		}
+		
 		return Util.copy(this.data);
 	}
 
 	@Override
 	public final VectorN scale(float scale) {
 		
-		for(int index = 0; index < this.size; index++) {
+		if(this.buffer != null) {
+			
+			BufferKernels.scale(this.view(), 0, this.size, scale);
+			
+		} else {
+			
+			FloatKernels.scale(this.data, 0, this.size, scale);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Calculates the dot product of this vector and another one.
+	 * @param vector the other vector
+	 * @return the dot product
+	 * @throws IllegalArgumentException if the vectors have different sizes
+	 * @since 1.1.0
+	 */
+	public final float dot(VectorN vector) {
+		
+		this.checkSize(vector);
+		
+		if(this.buffer != null || vector.buffer != null) {
+			
+			return BufferKernels.dot(this.view(), 0, vector.view(), 0, this.size);
+		}
+		
+		return FloatKernels.dot(this.data, 0, vector.data, 0, this.size);
+	}
+	
+	/**
+	 * Adds another vector to this one.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param vector the vector that should be added
+	 * @return this instance
+	 * @throws IllegalArgumentException if the vectors have different sizes
+	 * @since 1.1.0
+	 */
+	public final VectorN add(VectorN vector) {
+		
+		this.checkSize(vector);
+		
+		if(this.buffer != null || vector.buffer != null) {
+			
+			BufferKernels.add(this.view(), 0, vector.view(), 0, this.size);
+			
+		} else {
 			
-			this.data[index] *= scale;
+			FloatKernels.add(this.data, 0, vector.data, 0, this.size);
 		}
 		
 		return this;
 	}
 	
+	/**
+	 * Subtracts another vector from this one.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param vector the vector that should be subtracted
+	 * @return this instance
+	 * @throws IllegalArgumentException if the vectors have different sizes
+	 * @since 1.1.0
+	 */
+	public final VectorN subtract(VectorN vector) {
+		
+		this.checkSize(vector);
+		
+		if(this.buffer != null || vector.buffer != null) {
+			
+			BufferKernels.subtract(this.view(), 0, vector.view(), 0, this.size);
+			
+		} else {
+			
+			FloatKernels.subtract(this.data, 0, vector.data, 0, this.size);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Adds a scaled vector to this one ({@code this = this + alpha * vector}) without creating a temporary vector.
+	 * <p><i>this instance will be manipulated</i></p>
+	 * @param alpha the scalar value by which the other vector is multiplied
+	 * @param vector the other vector
+	 * @return this instance
+	 * @throws IllegalArgumentException if the vectors have different sizes
+	 * @since 1.1.0
+	 */
+	public final VectorN axpy(float alpha, VectorN vector) {
+		
+		this.checkSize(vector);
+		
+		if(this.buffer != null || vector.buffer != null) {
+			
+			BufferKernels.axpy(alpha, vector.view(), 0, this.view(), 0, this.size);
+			
+		} else {
+			
+			FloatKernels.axpy(alpha, vector.data, 0, this.data, 0, this.size);
+		}
+		
+		return this;
+	}
+	
+	private final void checkSize(VectorN vector) {
+		
+		if(vector.size != this.size) {
+			
+			throw new IllegalArgumentException("The vectors have different sizes! (" + this.size + " and " + vector.size + ")");
+		}
+	}
+	
 	@Override
 	public final String toString() {
 		
@@ -289,7 +574,7 @@ public final class VectorN extends Vector<VectorN> {
 				builder.append(',');
 			}
 			
-			builder.append(this.data[index]);
+			builder.append(this.get(index));
 		}
 		
 		builder.append(')');
@@ -307,7 +592,7 @@ public final class VectorN extends Vector<VectorN> {
 				
 				for(int index = 0; index < this.size; index++) {
 					
-					if(this.data[index] != vector.data[index]) {
+					if(this.get(index) != vector.get(index)) {
 						
 						return false;
 					}
@@ -327,7 +612,7 @@ public final class VectorN extends Vector<VectorN> {
 		
 		for(int index = 0; index < this.size; index++) {
 			
-		    long bits = Double.doubleToLongBits(this.data[index]);
+		    long bits = Double.doubleToLongBits(this.get(index));
 		    hash ^= (int)(bits ^ (bits >> 32));
 		}
 		
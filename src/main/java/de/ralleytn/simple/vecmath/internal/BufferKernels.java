@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.internal;
+
+import java.nio.FloatBuffer;
+
+/**
+ * The loops of {@linkplain ScalarKernels} for vectors and matrices that are stored in a {@linkplain FloatBuffer}
+ * instead of a {@code float} array. All indices are absolute, the positions and limits of the buffers are never changed.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class BufferKernels {
+
+	private BufferKernels() {}
+
+	/**
+	 * Copies elements from one buffer into another one.
+	 * The buffers may be the same, but the ranges must not overlap.
+	 * @param source the buffer containing the elements
+	 * @param sourceIndex index of the first element in {@code source}
+	 * @param dest the buffer that will receive the elements
+	 * @param destIndex index of the first element in {@code dest}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void copy(FloatBuffer source, int sourceIndex, FloatBuffer dest, int destIndex, int length) {
+
+		// a bulk put between two direct buffers is a single memory copy, the duplicates only carry the ranges
+		FloatBuffer from = source.duplicate();
+		from.limit(sourceIndex + length);
+		from.position(sourceIndex);
+		FloatBuffer to = dest.duplicate();
+		to.position(destIndex);
+		to.put(from);
+	}
+
+	/**
+	 * {@code a = value}
+	 * @param a the buffer
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param value the value
+	 * @since 1.1.0
+	 */
+	public static final void fill(FloatBuffer a, int offset, int length, float value) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			a.put(index, value);
+		}
+	}
+
+	/**
+	 * @param a the buffer
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @return the sum of the squared elements
+	 * @since 1.1.0
+	 */
+	public static final float lengthSquared(FloatBuffer a, int offset, int length) {
+
+		float sum = 0.0F;
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			float value = a.get(index);
+			sum += value * value;
+		}
+
+		return sum;
+	}
+
+	/**
+	 * @param a the first buffer
+	 * @param aOffset index of the first element in the first buffer
+	 * @param b the second buffer
+	 * @param bOffset index of the first element in the second buffer
+	 * @param length number of elements
+	 * @return the dot product
+	 * @since 1.1.0
+	 */
+	public static final float dot(FloatBuffer a, int aOffset, FloatBuffer b, int bOffset, int length) {
+
+		float sum = 0.0F;
+
+		for(int index = 0; index < length; index++) {
+
+			sum += a.get(aOffset + index) * b.get(bOffset + index);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * {@code a = a * scale}
+	 * @param a the buffer
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param scale the scalar value
+	 * @since 1.1.0
+	 */
+	public static final void scale(FloatBuffer a, int offset, int length, float scale) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			a.put(index, a.get(index) * scale);
+		}
+	}
+
+	/**
+	 * {@code a = max(a, min)}
+	 * @param a the buffer
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param min the minimum value
+	 * @since 1.1.0
+	 */
+	public static final void clampMin(FloatBuffer a, int offset, int length, float min) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			if(a.get(index) < min) {
+
+				a.put(index, min);
+			}
+		}
+	}
+
+	/**
+	 * {@code a = min(a, max)}
+	 * @param a the buffer
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param max the maximum value
+	 * @since 1.1.0
+	 */
+	public static final void clampMax(FloatBuffer a, int offset, int length, float max) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			if(a.get(index) > max) {
+
+				a.put(index, max);
+			}
+		}
+	}
+
+	/**
+	 * {@code a = abs(a)}
+	 * @param a the buffer
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void absolute(FloatBuffer a, int offset, int length) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			float value = a.get(index);
+
+			if(value < 0.0F) {
+
+				a.put(index, -value);
+			}
+		}
+	}
+
+	/**
+	 * {@code a = a + b}
+	 * @param a the buffer that will be manipulated
+	 * @param aOffset index of the first element in {@code a}
+	 * @param b the buffer on the right side of the calculation
+	 * @param bOffset index of the first element in {@code b}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void add(FloatBuffer a, int aOffset, FloatBuffer b, int bOffset, int length) {
+
+		for(int index = 0; index < length; index++) {
+
+			a.put(aOffset + index, a.get(aOffset + index) + b.get(bOffset + index));
+		}
+	}
+
+	/**
+	 * {@code a = a - b}
+	 * @param a the buffer that will be manipulated
+	 * @param aOffset index of the first element in {@code a}
+	 * @param b the buffer on the right side of the calculation
+	 * @param bOffset index of the first element in {@code b}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void subtract(FloatBuffer a, int aOffset, FloatBuffer b, int bOffset, int length) {
+
+		for(int index = 0; index < length; index++) {
+
+			a.put(aOffset + index, a.get(aOffset + index) - b.get(bOffset + index));
+		}
+	}
+
+	/**
+	 * {@code y = y + alpha * x}
+	 * @param alpha the scalar value
+	 * @param x the buffer that is scaled
+	 * @param xOffset index of the first element in {@code x}
+	 * @param y the buffer that will be manipulated
+	 * @param yOffset index of the first element in {@code y}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void axpy(float alpha, FloatBuffer x, int xOffset, FloatBuffer y, int yOffset, int length) {
+
+		for(int index = 0; index < length; index++) {
+
+			y.put(yOffset + index, y.get(yOffset + index) + alpha * x.get(xOffset + index));
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.internal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Cache-blocked matrix multiplication over flat row-major {@code float} arrays.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class Gemm {
+
+	// A block of B with BLOCK_DEPTH rows and BLOCK_COLUMNS columns is 128 KiB and stays in the L2 cache
+	// while every row of A streams over it. The BLOCK_COLUMNS wide slice of a row of C stays in the L1 cache.
+	// The innermost loop runs over contiguous columns of B and C so that C2 can vectorize it.
+
+	/**
+	 * Number of rows of B (and columns of A) in one block.
+	 * @since 1.1.0
+	 */
+	public static final int BLOCK_DEPTH = 128;
+
+	/**
+	 * Number of columns of B and C in one block.
+	 * @since 1.1.0
+	 */
+	public static final int BLOCK_COLUMNS = 256;
+
+	/**
+	 * Maximum number of rows of C in one tile of the parallel multiplication.
+	 * @since 1.1.0
+	 */
+	public static final int TILE_ROWS = 64;
+
+	/**
+	 * Minimum number of multiply-add operations ({@code rows * columns * depth}) for which the parallel
+	 * multiplication actually uses the pool. Below it the overhead of the tasks outweighs the gain.
+	 * @since 1.1.0
+	 */
+	public static final long PARALLEL_THRESHOLD = 128L * 128L * 128L;
+
+	private Gemm() {}
+
+	/**
+	 * Adds the product of A and B to a rectangular region of C ({@code C += A * B}).
+	 * The caller has to zero C first if the plain product is wanted.
+	 * C must not share storage with A or B.
+	 * @param a the array of A
+	 * @param aOffset index of the first element of A
+	 * @param aStride number of {@code float}s between the starts of two rows of A
+	 * @param b the array of B
+	 * @param bOffset index of the first element of B
+	 * @param bStride number of {@code float}s between the starts of two rows of B
+	 * @param c the array of C
+	 * @param cOffset index of the first element of C
+	 * @param cStride number of {@code float}s between the starts of two rows of C
+	 * @param rowStart first row of C that is calculated
+	 * @param rowEnd row of C after the last one that is calculated
+	 * @param columnStart first column of C that is calculated
+	 * @param columnEnd column of C after the last one that is calculated
+	 * @param depth number of columns of A and rows of B
+	 * @since 1.1.0
+	 */
+	public static final void multiply(float[] a, int aOffset, int aStride, float[] b, int bOffset, int bStride, float[] c, int cOffset, int cStride, int rowStart, int rowEnd, int columnStart, int columnEnd, int depth) {
+
+		for(int blockColumn = columnStart; blockColumn < columnEnd; blockColumn += BLOCK_COLUMNS) {
+
+			int blockColumnEnd = Math.min(blockColumn + BLOCK_COLUMNS, columnEnd);
+
+			for(int blockDepth = 0; blockDepth < depth; blockDepth += BLOCK_DEPTH) {
+
+				int blockDepthEnd = Math.min(blockDepth + BLOCK_DEPTH, depth);
+
+				for(int row = rowStart; row < rowEnd; row++) {
+
+					int aRow = aOffset + row * aStride;
+					int cRow = cOffset + row * cStride;
+
+					for(int k = blockDepth; k < blockDepthEnd; k++) {
+
+						float aValue = a[aRow + k];
+						int bRow = bOffset + k * bStride;
+
+						for(int column = blockColumn; column < blockColumnEnd; column++) {
+
+							c[cRow + column] += aValue * b[bRow + column];
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Does the same as {@linkplain #multiply(float[], int, int, float[], int, int, float[], int, int, int, int, int, int, int)}
+	 * but splits C into tiles of at most {@value #TILE_ROWS} rows and {@value #BLOCK_COLUMNS} columns which are calculated
+	 * in parallel on the given pool. The tiles write to disjoint regions of C, so no synchronization is needed.
+	 * Products with less than {@value #PARALLEL_THRESHOLD} multiply-add operations are calculated on the calling thread.
+	 * @param pool the pool that executes the tiles
+	 * @param a the array of A
+	 * @param aOffset index of the first element of A
+	 * @param aStride number of {@code float}s between the starts of two rows of A
+	 * @param b the array of B
+	 * @param bOffset index of the first element of B
+	 * @param bStride number of {@code float}s between the starts of two rows of B
+	 * @param c the array of C
+	 * @param cOffset index of the first element of C
+	 * @param cStride number of {@code float}s between the starts of two rows of C
+	 * @param rows number of rows of C
+	 * @param columns number of columns of C
+	 * @param depth number of columns of A and rows of B
+	 * @since 1.1.0
+	 */
+	public static final void multiply(ForkJoinPool pool, float[] a, int aOffset, int aStride, float[] b, int bOffset, int bStride, float[] c, int cOffset, int cStride, int rows, int columns, int depth) {
+
+		if((long)rows * columns * depth < PARALLEL_THRESHOLD) {
+
+			Gemm.multiply(a, aOffset, aStride, b, bOffset, bStride, c, cOffset, cStride, 0, rows, 0, columns, depth);
+
+		} else {
+
+			pool.invoke(new Tile(a, aOffset, aStride, b, bOffset, bStride, c, cOffset, cStride, 0, rows, 0, columns, depth));
+		}
+	}
+
+	/**
+	 * Splits the region of C it is responsible for in halves until it fits into a single tile.
+	 * Columns are only split at multiples of {@value Gemm#BLOCK_COLUMNS} so that every tile uses whole blocks.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 1.1.0
+	 * @since 1.1.0
+	 */
+	private static final class Tile extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final float[] a;
+		private final int aOffset;
+		private final int aStride;
+		private final float[] b;
+		private final int bOffset;
+		private final int bStride;
+		private final float[] c;
+		private final int cOffset;
+		private final int cStride;
+		private final int rowStart;
+		private final int rowEnd;
+		private final int columnStart;
+		private final int columnEnd;
+		private final int depth;
+
+		private Tile(float[] a, int aOffset, int aStride, float[] b, int bOffset, int bStride, float[] c, int cOffset, int cStride, int rowStart, int rowEnd, int columnStart, int columnEnd, int depth) {
+
+			this.a = a;
+			this.aOffset = aOffset;
+			this.aStride = aStride;
+			this.b = b;
+			this.bOffset = bOffset;
+			this.bStride = bStride;
+			this.c = c;
+			this.cOffset = cOffset;
+			this.cStride = cStride;
+			this.rowStart = rowStart;
+			this.rowEnd = rowEnd;
+			this.columnStart = columnStart;
+			this.columnEnd = columnEnd;
+			this.depth = depth;
+		}
+
+		private final Tile region(int rowStart, int rowEnd, int columnStart, int columnEnd) {
+
+			return new Tile(this.a, this.aOffset, this.aStride, this.b, this.bOffset, this.bStride, this.c, this.cOffset, this.cStride, rowStart, rowEnd, columnStart, columnEnd, this.depth);
+		}
+
+		@Override
+		protected final void compute() {
+
+			int rows = this.rowEnd - this.rowStart;
+			int columnBlocks = (this.columnEnd - this.columnStart + BLOCK_COLUMNS - 1) / BLOCK_COLUMNS;
+
+			if(columnBlocks > 1 && columnBlocks * BLOCK_COLUMNS >= rows) {
+
+				int middle = this.columnStart + (columnBlocks / 2) * BLOCK_COLUMNS;
+				RecursiveAction.invokeAll(this.region(this.rowStart, this.rowEnd, this.columnStart, middle), this.region(this.rowStart, this.rowEnd, middle, this.columnEnd));
+
+			} else if(rows > TILE_ROWS) {
+
+				int middle = this.rowStart + rows / 2;
+				RecursiveAction.invokeAll(this.region(this.rowStart, middle, this.columnStart, this.columnEnd), this.region(middle, this.rowEnd, this.columnStart, this.columnEnd));
+
+			} else {
+
+				Gemm.multiply(this.a, this.aOffset, this.aStride, this.b, this.bOffset, this.bStride, this.c, this.cOffset, this.cStride, this.rowStart, this.rowEnd, this.columnStart, this.columnEnd, this.depth);
+			}
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.internal;
+
+/**
+ * Plain loops over {@code float} arrays. This is the implementation that is used on every JVM
+ * that does not provide the vector API.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class ScalarKernels {
+
+	private ScalarKernels() {}
+
+	/**
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @return the sum of the squared elements
+	 * @since 1.1.0
+	 */
+	public static final float lengthSquared(float[] a, int offset, int length) {
+
+		float sum = 0.0F;
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			float value = a[index];
+			sum += value * value;
+		}
+
+		return sum;
+	}
+
+	/**
+	 * @param a the first array
+	 * @param aOffset index of the first element in the first array
+	 * @param b the second array
+	 * @param bOffset index of the first element in the second array
+	 * @param length number of elements
+	 * @return the dot product
+	 * @since 1.1.0
+	 */
+	public static final float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+
+		float sum = 0.0F;
+
+		for(int index = 0; index < length; index++) {
+
+			sum += a[aOffset + index] * b[bOffset + index];
+		}
+
+		return sum;
+	}
+
+	/**
+	 * {@code a = a * scale}
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param scale the scalar value
+	 * @since 1.1.0
+	 */
+	public static final void scale(float[] a, int offset, int length, float scale) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			a[index] *= scale;
+		}
+	}
+
+	/**
+	 * {@code a = max(a, min)}
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param min the minimum value
+	 * @since 1.1.0
+	 */
+	public static final void clampMin(float[] a, int offset, int length, float min) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			if(a[index] < min) {
+
+				a[index] = min;
+			}
+		}
+	}
+
+	/**
+	 * {@code a = min(a, max)}
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param max the maximum value
+	 * @since 1.1.0
+	 */
+	public static final void clampMax(float[] a, int offset, int length, float max) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			if(a[index] > max) {
+
+				a[index] = max;
+			}
+		}
+	}
+
+	/**
+	 * {@code a = abs(a)}
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void absolute(float[] a, int offset, int length) {
+
+		for(int index = offset, end = offset + length; index < end; index++) {
+
+			if(a[index] < 0.0F) {
+
+				a[index] = -a[index];
+			}
+		}
+	}
+
+	/**
+	 * {@code a = a + b}
+	 * @param a the array that will be manipulated
+	 * @param aOffset index of the first element in {@code a}
+	 * @param b the array on the right side of the calculation
+	 * @param bOffset index of the first element in {@code b}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void add(float[] a, int aOffset, float[] b, int bOffset, int length) {
+
+		for(int index = 0; index < length; index++) {
+
+			a[aOffset + index] += b[bOffset + index];
+		}
+	}
+
+	/**
+	 * {@code a = a - b}
+	 * @param a the array that will be manipulated
+	 * @param aOffset index of the first element in {@code a}
+	 * @param b the array on the right side of the calculation
+	 * @param bOffset index of the first element in {@code b}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void subtract(float[] a, int aOffset, float[] b, int bOffset, int length) {
+
+		for(int index = 0; index < length; index++) {
+
+			a[aOffset + index] -= b[bOffset + index];
+		}
+	}
+
+	/**
+	 * {@code y = y + alpha * x}
+	 * @param alpha the scalar value
+	 * @param x the array that is scaled
+	 * @param xOffset index of the first element in {@code x}
+	 * @param y the array that will be manipulated
+	 * @param yOffset index of the first element in {@code y}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void axpy(float alpha, float[] x, int xOffset, float[] y, int yOffset, int length) {
+
+		for(int index = 0; index < length; index++) {
+
+			y[yOffset + index] += alpha * x[xOffset + index];
+		}
+	}
+}
@@ -23,6 +23,9 @@
  */
 package de.ralleytn.simple.vecmath.internal;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 /**
  * Contains some utility methods for the {@code de.ralleytn.simple.vecmath} module.
  * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
@@ -50,4 +53,20 @@ public final class Util {
 		
 		return copy;
 	}
+	
+	/**
+	 * Creates a {@code float} view of a buffer that starts at the given byte and uses the byte order of the buffer.
+	 * The view shares the content of the buffer, but has its own position, so bulk operations don't move the position of the buffer.
+	 * @param buffer the buffer
+	 * @param offset index of the first byte
+	 * @return the view
+	 * @since 1.1.0
+	 */
+	public static final FloatBuffer floatView(ByteBuffer buffer, int offset) {
+		
+		// a duplicate is always big-endian
+		ByteBuffer duplicate = buffer.duplicate().order(buffer.order());
+		duplicate.position(offset);
+		return duplicate.asFloatBuffer();
+	}
 }
@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.internal;
+
+import java.util.Optional;
+
+/**
+ * Entry point for the loops over {@code float} arrays that are used by {@linkplain de.ralleytn.simple.vecmath.VectorN}.
+ * This is the Java 17 version of this class. It delegates to {@linkplain SimdKernels} if the module
+ * {@code jdk.incubator.vector} is part of the boot layer (start the JVM with {@code --add-modules jdk.incubator.vector})
+ * and to {@linkplain ScalarKernels} otherwise. The vector API can be turned off with the system property
+ * {@code de.ralleytn.simple.vecmath.disableSimd}. The purely arithmetic loops always use {@linkplain ScalarKernels}
+ * because C2 vectorizes them itself.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+public final class FloatKernels {
+
+	private static final boolean SIMD = FloatKernels.enableSimd();
+
+	private FloatKernels() {}
+
+	private static final boolean enableSimd() {
+
+		if(!Boolean.getBoolean("de.ralleytn.simple.vecmath.disableSimd")) {
+
+			Optional<Module> module = ModuleLayer.boot().findModule("jdk.incubator.vector");
+
+			if(module.isPresent()) {
+
+				// a named module only reads the incubator module if it is told to do so
+				FloatKernels.class.getModule().addReads(module.get());
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return {@code true} if the vector API is used, else {@code false}
+	 * @since 1.1.0
+	 */
+	public static final boolean isSimd() {
+
+		return SIMD;
+	}
+
+	/**
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @return the sum of the squared elements
+	 * @since 1.1.0
+	 */
+	public static final float lengthSquared(float[] a, int offset, int length) {
+
+		return SIMD ? SimdKernels.lengthSquared(a, offset, length) : ScalarKernels.lengthSquared(a, offset, length);
+	}
+
+	/**
+	 * @param a the first array
+	 * @param aOffset index of the first element in the first array
+	 * @param b the second array
+	 * @param bOffset index of the first element in the second array
+	 * @param length number of elements
+	 * @return the dot product
+	 * @since 1.1.0
+	 */
+	public static final float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+
+		return SIMD ? SimdKernels.dot(a, aOffset, b, bOffset, length) : ScalarKernels.dot(a, aOffset, b, bOffset, length);
+	}
+
+	/**
+	 * {@code a = a * scale}
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param scale the scalar value
+	 * @since 1.1.0
+	 */
+	public static final void scale(float[] a, int offset, int length, float scale) {
+
+		ScalarKernels.scale(a, offset, length, scale);
+	}
+
+	/**
+	 * {@code a = max(a, min)}
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param min the minimum value
+	 * @since 1.1.0
+	 */
+	public static final void clampMin(float[] a, int offset, int length, float min) {
+
+		if(SIMD) {
+
+			SimdKernels.clampMin(a, offset, length, min);
+
+		} else {
+
+			ScalarKernels.clampMin(a, offset, length, min);
+		}
+	}
+
+	/**
+	 * {@code a = min(a, max)}
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @param max the maximum value
+	 * @since 1.1.0
+	 */
+	public static final void clampMax(float[] a, int offset, int length, float max) {
+
+		if(SIMD) {
+
+			SimdKernels.clampMax(a, offset, length, max);
+
+		} else {
+
+			ScalarKernels.clampMax(a, offset, length, max);
+		}
+	}
+
+	/**
+	 * {@code a = abs(a)}
+	 * @param a the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void absolute(float[] a, int offset, int length) {
+
+		if(SIMD) {
+
+			SimdKernels.absolute(a, offset, length);
+
+		} else {
+
+			ScalarKernels.absolute(a, offset, length);
+		}
+	}
+
+	/**
+	 * {@code a = a + b}
+	 * @param a the array that will be manipulated
+	 * @param aOffset index of the first element in {@code a}
+	 * @param b the array on the right side of the calculation
+	 * @param bOffset index of the first element in {@code b}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void add(float[] a, int aOffset, float[] b, int bOffset, int length) {
+
+		ScalarKernels.add(a, aOffset, b, bOffset, length);
+	}
+
+	/**
+	 * {@code a = a - b}
+	 * @param a the array that will be manipulated
+	 * @param aOffset index of the first element in {@code a}
+	 * @param b the array on the right side of the calculation
+	 * @param bOffset index of the first element in {@code b}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void subtract(float[] a, int aOffset, float[] b, int bOffset, int length) {
+
+		ScalarKernels.subtract(a, aOffset, b, bOffset, length);
+	}
+
+	/**
+	 * {@code y = y + alpha * x}
+	 * @param alpha the scalar value
+	 * @param x the array that is scaled
+	 * @param xOffset index of the first element in {@code x}
+	 * @param y the array that will be manipulated
+	 * @param yOffset index of the first element in {@code y}
+	 * @param length number of elements
+	 * @since 1.1.0
+	 */
+	public static final void axpy(float alpha, float[] x, int xOffset, float[] y, int yOffset, int length) {
+
+		ScalarKernels.axpy(alpha, x, xOffset, y, yOffset, length);
+	}
+}
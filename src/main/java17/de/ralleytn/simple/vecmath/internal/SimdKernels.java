@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018 Ralph Niemitz
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package de.ralleytn.simple.vecmath.internal;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Loops over {@code float} arrays that use {@linkplain FloatVector} with the preferred species of the CPU.
+ * The tail that does not fill a whole vector is processed with scalar code.
+ * The reductions ({@linkplain #lengthSquared(float[], int, int)} and {@linkplain #dot(float[], int, float[], int, int)})
+ * sum in a different order than {@linkplain ScalarKernels}, so their results may differ in the last bits.
+ * There are no versions of {@code scale}, {@code add}, {@code subtract} and {@code axpy} because C2 already
+ * vectorizes these simple loops on its own and the vector API versions were measured to be slower on Java 17.
+ * This class must only be loaded if the module {@code jdk.incubator.vector} is available.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+final class SimdKernels {
+
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+	private SimdKernels() {}
+
+	static final float lengthSquared(float[] a, int offset, int length) {
+
+		FloatVector sum = FloatVector.zero(SPECIES);
+		int index = 0;
+
+		for(int bound = SPECIES.loopBound(length); index < bound; index += SPECIES.length()) {
+
+			FloatVector va = FloatVector.fromArray(SPECIES, a, offset + index);
+			sum = va.mul(va).add(sum);
+		}
+
+		float result = sum.reduceLanes(VectorOperators.ADD);
+
+		for(; index < length; index++) {
+
+			float value = a[offset + index];
+			result += value * value;
+		}
+
+		return result;
+	}
+
+	static final float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+
+		FloatVector sum = FloatVector.zero(SPECIES);
+		int index = 0;
+
+		for(int bound = SPECIES.loopBound(length); index < bound; index += SPECIES.length()) {
+
+			FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + index);
+			FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + index);
+			sum = va.mul(vb).add(sum);
+		}
+
+		float result = sum.reduceLanes(VectorOperators.ADD);
+
+		for(; index < length; index++) {
+
+			result += a[aOffset + index] * b[bOffset + index];
+		}
+
+		return result;
+	}
+
+	static final void clampMin(float[] a, int offset, int length, float min) {
+
+		int index = 0;
+
+		for(int bound = SPECIES.loopBound(length); index < bound; index += SPECIES.length()) {
+
+			FloatVector.fromArray(SPECIES, a, offset + index).max(min).intoArray(a, offset + index);
+		}
+
+		for(; index < length; index++) {
+
+			if(a[offset + index] < min) {
+
+				a[offset + index] = min;
+			}
+		}
+	}
+
+	static final void clampMax(float[] a, int offset, int length, float max) {
+
+		int index = 0;
+
+		for(int bound = SPECIES.loopBound(length); index < bound; index += SPECIES.length()) {
+
+			FloatVector.fromArray(SPECIES, a, offset + index).min(max).intoArray(a, offset + index);
+		}
+
+		for(; index < length; index++) {
+
+			if(a[offset + index] > max) {
+
+				a[offset + index] = max;
+			}
+		}
+	}
+
+	static final void absolute(float[] a, int offset, int length) {
+
+		int index = 0;
+
+		for(int bound = SPECIES.loopBound(length); index < bound; index += SPECIES.length()) {
+
+			FloatVector.fromArray(SPECIES, a, offset + index).abs().intoArray(a, offset + index);
+		}
+
+		for(; index < length; index++) {
+
+			if(a[offset + index] < 0.0F) {
+
+				a[offset + index] = -a[offset + index];
+			}
+		}
+	}
+}
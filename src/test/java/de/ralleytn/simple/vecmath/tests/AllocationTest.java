@@ -0,0 +1,350 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.BVH;
+import de.ralleytn.simple.vecmath.DualQuaternion;
+import de.ralleytn.simple.vecmath.Frustum;
+import de.ralleytn.simple.vecmath.KDTree;
+import de.ralleytn.simple.vecmath.MathArena;
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.MatrixN;
+import de.ralleytn.simple.vecmath.OffHeapMemory;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Ray;
+import de.ralleytn.simple.vecmath.Skinning;
+import de.ralleytn.simple.vecmath.SpatialHashGrid;
+import de.ralleytn.simple.vecmath.Vector2;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Tests that the methods with a destination parameter calculate the same as their allocating counterparts
+ * and that they don't allocate a single byte.
+ * The allocated bytes are measured with {@code com.sun.management.ThreadMXBean}, so this test needs a HotSpot based JVM.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class AllocationTest {
+
+	private static final int CALLS = 10_000;
+	private static final int ROUNDS = 5;
+	private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+	private static final long allocatedBytes() {
+
+		return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static final void assertNoAllocation(String method, Runnable call) {
+
+		// the first calls may load classes, so they are not measured
+		for(int index = 0; index < CALLS; index++) {
+
+			call.run();
+		}
+
+		// the JVM itself sometimes allocates a few bytes on this thread while the JIT replaces code,
+		// so the best of a few rounds is taken
+		long allocated = Long.MAX_VALUE;
+
+		for(int round = 0; round < ROUNDS && allocated > 0; round++) {
+
+			long start = allocatedBytes();
+
+			for(int index = 0; index < CALLS; index++) {
+
+				call.run();
+			}
+
+			allocated = Math.min(allocated, allocatedBytes() - start);
+		}
+
+		assertEquals(0.0, allocated / (double)CALLS, "The method " + method + " allocated " + allocated + " bytes in " + CALLS + " calls!");
+	}
+
+	/**
+	 * Tests the transformations and conversions of the matrices.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testMatrices() {
+
+		Matrix4 matrix4 = new Matrix4().translate(new Vector3(1, 2, 3)).rotate(0.5F, Axis.Y).scale(new Vector3(2, 3, 4));
+		Matrix3 matrix3 = matrix4.toMatrix3();
+		Vector4 vector4 = new Vector4(1, -2, 3, 1);
+		Vector3 vector3 = new Vector3(1, -2, 3);
+		Vector4 dest4 = new Vector4();
+		Vector3 dest3 = new Vector3();
+		Matrix3 destMatrix3 = new Matrix3();
+		Matrix4 destMatrix4 = new Matrix4();
+		Quaternion quaternion = new Quaternion();
+		Vector3 scale = new Vector3();
+
+		assertEquals(matrix4.transform(vector4), matrix4.transform(vector4, dest4));
+		assertEquals(matrix3.transform(vector3), matrix3.transform(vector3, dest3));
+		assertEquals(matrix4.toMatrix3(), matrix4.toMatrix3(destMatrix3));
+		assertEquals(matrix3.toMatrix4(), matrix3.toMatrix4(destMatrix4));
+
+		assertNoAllocation("Matrix4.transform(Vector4, Vector4)", () -> matrix4.transform(vector4, dest4));
+		assertNoAllocation("Matrix3.transform(Vector3, Vector3)", () -> matrix3.transform(vector3, dest3));
+		assertNoAllocation("Matrix4.toMatrix3(Matrix3)", () -> matrix4.toMatrix3(destMatrix3));
+		assertNoAllocation("Matrix3.toMatrix4(Matrix4)", () -> matrix3.toMatrix4(destMatrix4));
+		assertNoAllocation("Matrix4.scale(float)", () -> destMatrix4.scale(1.0F));
+		assertNoAllocation("Matrix4.decompose(Vector3, Quaternion, Vector3)", () -> matrix4.decompose(dest3, quaternion, scale));
+
+		FloatBuffer floats = ByteBuffer.allocateDirect(64).order(ByteOrder.nativeOrder()).asFloatBuffer();
+		ByteBuffer bytes = ByteBuffer.allocateDirect(64).order(ByteOrder.LITTLE_ENDIAN);
+
+		assertNoAllocation("Matrix4.get(FloatBuffer)", () -> matrix4.get(floats));
+		assertNoAllocation("Matrix4.getRowMajor(ByteBuffer, int)", () -> matrix4.getRowMajor(bytes, 0));
+		assertNoAllocation("Matrix4.set(ByteBuffer, int)", () -> destMatrix4.set(bytes, 0));
+		assertNoAllocation("Matrix3.get(FloatBuffer)", () -> matrix3.get(floats));
+		assertNoAllocation("Vector4.get(ByteBuffer, int)", () -> vector4.get(bytes, 0));
+		assertNoAllocation("Vector3.set(FloatBuffer)", () -> dest3.set(floats));
+	}
+
+	/**
+	 * Tests the rotation and the conversions of the vectors and quaternions.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testVectors() {
+
+		Vector2 vector2 = new Vector2(1, 2);
+		Vector3 vector3 = new Vector3(1, 2, 3);
+		Vector4 vector4 = new Vector4(1, 2, 3, 4);
+		Quaternion quaternion = new Quaternion(1, 2, 3, 4);
+		Vector2 dest2 = new Vector2();
+		Vector3 dest3 = new Vector3();
+		Vector4 dest4 = new Vector4(9, 9, 9, 9);
+		Quaternion destQuaternion = new Quaternion(9, 9, 9, 9);
+		Matrix3 destMatrix3 = new Matrix3();
+		Matrix4 destMatrix4 = new Matrix4();
+
+		for(Axis axis : new Axis[] {Axis.X, Axis.Y, Axis.Z}) {
+
+			Matrix4 matrix = new Matrix4();
+			matrix.m03 = vector3.x;
+			matrix.m13 = vector3.y;
+			matrix.m23 = vector3.z;
+			matrix.invalidate();
+			matrix.rotate((float)Math.toRadians(33.0F), axis);
+
+			assertEquals(new Vector3(matrix.m03, matrix.m13, matrix.m23), vector3.rotate(33.0F, axis, dest3), "The method rotate(float, Axis, Vector3) doesn't work!");
+			assertEquals(vector3.rotate(33.0F, axis), dest3, "The method rotate(float, Axis) doesn't work!");
+		}
+
+		assertEquals(vector2.toVector3(), vector2.toVector3(dest3));
+		assertEquals(vector2.toVector4(), vector2.toVector4(dest4));
+		assertEquals(vector2.toQuaternion(), vector2.toQuaternion(destQuaternion));
+		assertEquals(vector3.toVector4(), vector3.toVector4(dest4));
+		assertEquals(vector3.toQuaternion(), vector3.toQuaternion(destQuaternion));
+		assertEquals(vector4.toQuaternion(), vector4.toQuaternion(destQuaternion));
+		assertEquals(quaternion.toVector2(), quaternion.toVector2(dest2));
+		assertEquals(quaternion.toVector3(), quaternion.toVector3(dest3));
+		assertEquals(quaternion.toVector4(), quaternion.toVector4(dest4));
+
+		assertNoAllocation("Vector3.rotate(float, Axis, Vector3)", () -> vector3.rotate(33.0F, Axis.Y, dest3));
+		assertNoAllocation("Quaternion.transform(Vector3, Vector3)", () -> quaternion.transform(vector3, dest3));
+		assertNoAllocation("Quaternion.toMatrix3(Matrix3)", () -> quaternion.toMatrix3(destMatrix3));
+		assertNoAllocation("Quaternion.toMatrix4(Matrix4)", () -> quaternion.toMatrix4(destMatrix4));
+
+		float[] rotations = {0.1F, 0.2F, 0.3F, 0.9F, 0.0F, 0.0F, 0.0F, 1.0F};
+		float[] translations = {1, 2, 3, 4, 5, 6};
+		float[] palette = new float[32];
+		FloatBuffer bones = ByteBuffer.allocateDirect(128).order(ByteOrder.nativeOrder()).asFloatBuffer();
+		assertNoAllocation("Quaternion.toMatrices(float[], int, float[], int, float[], int, int)", () -> Quaternion.toMatrices(rotations, 0, translations, 0, palette, 0, 2));
+		assertNoAllocation("Quaternion.toMatrices(float[], int, float[], int, FloatBuffer, int, int)", () -> Quaternion.toMatrices(rotations, 0, translations, 0, bones, 0, 2));
+		assertNoAllocation("Matrix4.fromTranslationRotationScale(Vector3, Quaternion, Vector3)", () -> destMatrix4.fromTranslationRotationScale(vector3, quaternion, vector3));
+
+		assertNoAllocation("Vector2.toVector3(Vector3)", () -> vector2.toVector3(dest3));
+		assertNoAllocation("Vector2.toVector4(Vector4)", () -> vector2.toVector4(dest4));
+		assertNoAllocation("Vector2.toQuaternion(Quaternion)", () -> vector2.toQuaternion(destQuaternion));
+		assertNoAllocation("Vector3.toVector4(Vector4)", () -> vector3.toVector4(dest4));
+		assertNoAllocation("Vector3.toQuaternion(Quaternion)", () -> vector3.toQuaternion(destQuaternion));
+		assertNoAllocation("Vector4.toQuaternion(Quaternion)", () -> vector4.toQuaternion(destQuaternion));
+		assertNoAllocation("Quaternion.toVector2(Vector2)", () -> quaternion.toVector2(dest2));
+		assertNoAllocation("Quaternion.toVector3(Vector3)", () -> quaternion.toVector3(dest3));
+		assertNoAllocation("Quaternion.toVector4(Vector4)", () -> quaternion.toVector4(dest4));
+	}
+
+	/**
+	 * Tests the skinning of a mesh in both modes and the transformations of the dual quaternions.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSkinning() {
+
+		Matrix4 matrix = new Matrix4().translate(new Vector3(1, 2, 3)).rotate(0.5F, Axis.Y);
+		Matrix4[] palette = {new Matrix4(), matrix};
+		float[] positions = {1, 2, 3, -1, 0, 2};
+		float[] normals = {0, 1, 0, 1, 0, 0};
+		float[] destPositions = new float[6];
+		float[] destNormals = new float[6];
+		Skinning skinning = new Skinning(positions, normals, new int[] {0, 1, 1, 0}, new float[] {0.3F, 0.7F, 0.5F, 0.5F}, 2, 2, Skinning.Mode.LINEAR_BLEND);
+		DualQuaternion dualQuaternion = new DualQuaternion();
+		Vector3 vector = new Vector3(1, 2, 3);
+
+		assertNoAllocation("Skinning.skin(Matrix4[], float[], float[]) (LINEAR_BLEND)", () -> skinning.skin(palette, destPositions, destNormals));
+		skinning.setMode(Skinning.Mode.DUAL_QUATERNION);
+		assertNoAllocation("Skinning.skin(Matrix4[], float[], float[]) (DUAL_QUATERNION)", () -> skinning.skin(palette, destPositions, destNormals));
+		assertNoAllocation("DualQuaternion.fromMatrix(Matrix4)", () -> dualQuaternion.fromMatrix(matrix));
+		assertNoAllocation("DualQuaternion.transform(Vector3, Vector3)", () -> dualQuaternion.transform(vector, vector));
+	}
+
+	/**
+	 * Tests that a scope of a {@linkplain MathArena} doesn't allocate once the pools are large enough.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testArena() {
+
+		Vector3 position = new Vector3(1, 2, 3);
+		Vector3 target = new Vector3(4, -5, 6);
+		Matrix4 transform = new Matrix4().rotate(0.5F, Axis.Y);
+
+		assertNoAllocation("MathArena scope", () -> {
+
+			try(MathArena arena = MathArena.open()) {
+
+				Vector3 direction = arena.vector3(target).subtract(position).normalize();
+				Matrix4 matrix = arena.matrix4(transform).multiply(arena.matrix4().translate(direction));
+				arena.quaternion().fromMatrix(matrix);
+			}
+		});
+	}
+
+	/**
+	 * Tests that the operations on off-heap vectors and matrices don't allocate.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testOffHeap() {
+
+		try(OffHeapMemory memory = new OffHeapMemory()) {
+
+			VectorN a = memory.allocateVector(64);
+			VectorN b = memory.allocateVector(64);
+			VectorN scores = memory.allocateVector(32);
+			MatrixN matrix = memory.allocateMatrix(64, 32);
+
+			assertNoAllocation("VectorN.dot(VectorN) (off-heap)", () -> a.dot(b));
+			assertNoAllocation("VectorN.axpy(float, VectorN) (off-heap)", () -> a.axpy(0.5F, b));
+			assertNoAllocation("VectorN.normalize() (off-heap)", () -> b.normalize());
+			assertNoAllocation("MatrixN.transform(VectorN, VectorN) (off-heap)", () -> matrix.transform(a, scores));
+		}
+	}
+
+	/**
+	 * Tests that the queries of a {@linkplain KDTree} don't allocate.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testKDTree() {
+
+		float[] points = new float[3000];
+
+		for(int index = 0; index < points.length; index++) {
+
+			points[index] = (index * 7919 % 1000) * 0.1F;
+		}
+
+		KDTree tree = new KDTree(points, 0, 1000, 3);
+		Vector3 point = new Vector3(50, 40, 30);
+		int[] indices = new int[16];
+		float[] distances = new float[16];
+
+		assertNoAllocation("KDTree.nearest(Vector3)", () -> tree.nearest(point));
+		assertNoAllocation("KDTree.nearest(Vector3, int, int[], float[])", () -> tree.nearest(point, 16, indices, distances));
+		assertNoAllocation("KDTree.radius(Vector3, float, int[])", () -> tree.radius(point, 10.0F, indices));
+	}
+
+	/**
+	 * Tests that casting rays against a {@linkplain BVH} doesn't allocate.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testBVH() {
+
+		float[] positions = new float[3000];
+		int[] indices = new int[3000];
+
+		for(int index = 0; index < positions.length; index++) {
+
+			positions[index] = (index * 7919 % 1000) * 0.01F;
+			indices[index] = index / 3;
+		}
+
+		BVH bvh = new BVH(positions, indices);
+		Ray ray = new Ray(new Vector3(-1, 2, 3), new Vector3(1, 0.1F, 0.2F));
+		float[] rays = {-1, 2, 3, 1, 0.1F, 0.2F, 5, 5, -1, 0, 0, 1};
+		float[] hits = new float[6];
+		int[] triangles = new int[2];
+
+		assertNoAllocation("BVH.raycast(Ray, float[])", () -> bvh.raycast(ray, hits));
+		assertNoAllocation("BVH.raycast(float[], int, float[], int, int[], int, int)", () -> bvh.raycast(rays, 0, hits, 0, triangles, 0, 2));
+	}
+
+	/**
+	 * Tests that culling with a {@linkplain Frustum} doesn't allocate.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testFrustum() {
+
+		Frustum frustum = new Frustum(new Matrix4().rotate(0.5F, Axis.Y));
+		float[] x = new float[1000];
+		float[] y = new float[1000];
+		float[] z = new float[1000];
+		float[] radii = new float[1000];
+		long[] visible = new long[16];
+
+		for(int index = 0; index < 1000; index++) {
+
+			x[index] = index * 0.01F - 5.0F;
+			y[index] = index % 7 * 0.5F - 1.5F;
+			z[index] = index % 13 * 0.2F - 1.3F;
+			radii[index] = 0.1F;
+		}
+
+		assertNoAllocation("Frustum.cullSpheres(float[], float[], float[], float[], int, long[], int)", () -> frustum.cullSpheres(x, y, z, radii, 0, visible, 1000));
+		assertNoAllocation("Frustum.cullBoxes(float[], float[], float[], float[], float[], float[], int, long[], int)", () -> frustum.cullBoxes(x, y, z, x, y, z, 0, visible, 1000));
+	}
+
+	/**
+	 * Tests that rebuilding a {@linkplain SpatialHashGrid} with as many points as before and its queries don't allocate.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSpatialHashGrid() {
+
+		float[] points = new float[2000];
+
+		for(int index = 0; index < points.length; index++) {
+
+			points[index] = (index * 7919 % 1000) * 0.1F;
+		}
+
+		SpatialHashGrid grid = new SpatialHashGrid(5.0F, 2);
+		grid.rebuild(points, 0, 1000);
+		Vector2 point = new Vector2(50, 40);
+		float[] sum = new float[1];
+		SpatialHashGrid.Visitor visitor = (index, distanceSquared) -> sum[0] += distanceSquared;
+
+		assertNoAllocation("SpatialHashGrid.rebuild(float[], int, int)", () -> grid.rebuild(points, 0, 1000));
+		assertNoAllocation("SpatialHashGrid.neighbors(Vector2, float, Visitor)", () -> grid.neighbors(point, 5.0F, visitor));
+		assertNoAllocation("SpatialHashGrid.neighbors(int, float, Visitor)", () -> grid.neighbors(17, 5.0F, visitor));
+	}
+}
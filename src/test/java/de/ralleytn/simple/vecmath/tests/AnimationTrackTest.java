@@ -0,0 +1,137 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.AnimationSampler;
+import de.ralleytn.simple.vecmath.AnimationTrack;
+import de.ralleytn.simple.vecmath.AnimationTrack.Interpolation;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Tests the methods of the {@linkplain AnimationTrack} and {@linkplain AnimationSampler} classes.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class AnimationTrackTest {
+
+	private static final float[] TIMES = {0.0F, 1.0F, 1.5F, 3.0F};
+	private static final float[] POSITIONS = {0, 0, 0, 2, 4, 6, 2, 4, 6, -1, 0, 1};
+
+	private static final float[] createRotations() {
+
+		float[] rotations = new float[16];
+
+		for(int index = 0; index < 4; index++) {
+
+			Quaternion rotation = new Quaternion().fromAxisAngle(new Vector4(0, 1, 0, index * 0.75F));
+
+			// alternating signs, so that the shorter way has to be found
+			System.arraycopy(rotation.scale(index % 2 == 0 ? 1.0F : -1.0F).toArray(), 0, rotations, index * 4, 4);
+		}
+
+		return rotations;
+	}
+
+	/**
+	 * Tests {@link AnimationTrack#seek(float, int)} with good and bad cursors.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSeek() {
+
+		AnimationTrack track = new AnimationTrack(TIMES, POSITIONS, 3, Interpolation.LINEAR);
+		float[] times = {-1.0F, 0.0F, 0.5F, 1.0F, 1.2F, 1.5F, 2.9F, 3.0F, 10.0F};
+		int[] expected = {0, 0, 0, 1, 1, 2, 2, 3, 3};
+
+		for(int index = 0; index < times.length; index++) {
+
+			for(int cursor = 0; cursor < TIMES.length; cursor++) {
+
+				assertEquals(expected[index], track.seek(times[index], cursor), "The method seek(float, int) doesn't work for the time " + times[index] + " and the cursor " + cursor + "!");
+			}
+		}
+
+		assertEquals(4, track.size());
+		assertEquals(3.0F, track.getEndTime());
+	}
+
+	/**
+	 * Tests the different interpolations and the clamping before the first and after the last keyframe.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testInterpolation() {
+
+		AnimationTrack linear = new AnimationTrack(TIMES, POSITIONS, 3, Interpolation.LINEAR);
+		AnimationTrack step = new AnimationTrack(TIMES, POSITIONS, 3, Interpolation.STEP);
+		AnimationTrack nlerp = new AnimationTrack(TIMES, createRotations(), 4, Interpolation.NLERP);
+		AnimationTrack slerp = new AnimationTrack(TIMES, createRotations(), 4, Interpolation.SLERP);
+		AnimationSampler sampler = new AnimationSampler(linear, step, nlerp, slerp);
+
+		assertEquals(new Vector3(1, 2, 3), sampler.sample(0, 0.5F, new Vector3()), "The linear interpolation doesn't work!");
+		assertEquals(new Vector3(0, 0, 0), sampler.sample(1, 0.5F, new Vector3()), "The step interpolation doesn't work!");
+		assertEquals(new Vector3(0, 0, 0), sampler.sample(0, -5.0F, new Vector3()), "The first value isn't used before the first keyframe!");
+		assertEquals(new Vector3(-1, 0, 1), sampler.sample(0, 5.0F, new Vector3()), "The last value isn't used after the last keyframe!");
+
+		Quaternion expected = new Quaternion().fromAxisAngle(new Vector4(0, 1, 0, 0.375F));
+		Quaternion from = new Quaternion().identity();
+		Quaternion to = new Quaternion().fromAxisAngle(new Vector4(0, 1, 0, 0.75F)).scale(-1.0F);
+
+		assertEquals(from.copy().nlerp(to, 0.5F), sampler.sample(2, 0.5F, new Quaternion()), "The nlerp interpolation doesn't work!");
+		assertEquals(from.copy().fastSlerp(to, 0.5F), sampler.sample(3, 0.5F, new Quaternion()), "The slerp interpolation doesn't work!");
+		assertEquals(1.0F, Math.abs(expected.dot(sampler.sample(3, 0.5F, new Quaternion()))), 1.0E-5F, "The slerp interpolation doesn't take the shorter way!");
+
+		assertThrows(IllegalArgumentException.class, () -> new AnimationTrack(TIMES, POSITIONS, 3, Interpolation.SLERP));
+		assertThrows(IllegalArgumentException.class, () -> new AnimationTrack(TIMES, POSITIONS, 4, Interpolation.LINEAR));
+		assertThrows(IllegalArgumentException.class, () -> new AnimationTrack(new float[] {0, 2, 1, 3}, POSITIONS, 3, Interpolation.LINEAR));
+	}
+
+	/**
+	 * Tests that {@link AnimationSampler#sampleAll(float, float[], int)} calculates the same as sampling every track on its own
+	 * with a fresh sampler, no matter in which order the times are sampled.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSampleAll() {
+
+		AnimationTrack[] tracks = {
+
+			new AnimationTrack(TIMES, POSITIONS, 3, Interpolation.LINEAR),
+			new AnimationTrack(TIMES, createRotations(), 4, Interpolation.SLERP),
+			new AnimationTrack(new float[] {0.5F}, new float[] {7}, 1, Interpolation.LINEAR),
+			new AnimationTrack(TIMES, createRotations(), 4, Interpolation.NLERP)
+		};
+
+		AnimationSampler sampler = new AnimationSampler(tracks);
+		float[] values = new float[sampler.getComponents() + 1];
+		Random random = new Random(1);
+
+		assertEquals(12, sampler.getComponents());
+		assertEquals(8, sampler.getOffset(3));
+
+		for(int iteration = 0; iteration < 200; iteration++) {
+
+			// mostly forward with a few jumps
+			float time = iteration % 50 == 49 ? random.nextFloat() * 4.0F - 0.5F : iteration % 50 * 0.07F;
+			sampler.sampleAll(time, values, 1);
+
+			float[] expected = new float[values.length];
+
+			for(int track = 0; track < tracks.length; track++) {
+
+				new AnimationSampler(tracks).sample(track, time, expected, 1 + sampler.getOffset(track));
+			}
+
+			assertArrayEquals(expected, values, "The method sampleAll(float, float[], int) doesn't work at the time " + time + "!");
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.AABB;
+import de.ralleytn.simple.vecmath.BVH;
+import de.ralleytn.simple.vecmath.Ray;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Tests the ray casts of the {@linkplain BVH} class against testing every triangle.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class BVHTest {
+
+	private static final int TRIANGLES = 3000;
+
+	private static final float[] createPositions(Random random) {
+
+		float[] positions = new float[TRIANGLES * 9];
+
+		for(int triangle = 0; triangle < TRIANGLES; triangle++) {
+
+			float x = random.nextFloat() * 20.0F - 10.0F;
+			float y = random.nextFloat() * 20.0F - 10.0F;
+			float z = random.nextFloat() * 20.0F - 10.0F;
+
+			for(int corner = 0; corner < 3; corner++) {
+
+				positions[triangle * 9 + corner * 3]     = x + random.nextFloat() - 0.5F;
+				positions[triangle * 9 + corner * 3 + 1] = y + random.nextFloat() - 0.5F;
+				positions[triangle * 9 + corner * 3 + 2] = z + random.nextFloat() - 0.5F;
+			}
+		}
+
+		return positions;
+	}
+
+	private static final int[] createIndices(int count) {
+
+		int[] indices = new int[count];
+
+		for(int index = 0; index < count; index++) {
+
+			indices[index] = index;
+		}
+
+		return indices;
+	}
+
+	private static final float[] createRays(Random random, int count) {
+
+		float[] rays = new float[count * 6];
+
+		for(int ray = 0; ray < count; ray++) {
+
+			for(int element = 0; element < 6; element++) {
+
+				rays[ray * 6 + element] = (random.nextFloat() - 0.5F) * (element < 3 ? 30.0F : 2.0F);
+			}
+		}
+
+		return rays;
+	}
+
+	/**
+	 * Tests that every ray hits the same triangle at the same distance as when every triangle is tested.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testRaycast() {
+
+		Random random = new Random(1);
+		float[] positions = createPositions(random);
+		BVH bvh = new BVH(positions, createIndices(TRIANGLES * 3));
+		float[] rays = createRays(random, 2000);
+		float[] hits = new float[2000 * 3];
+		int[] triangles = new int[2000];
+		Vector3 a = new Vector3();
+		Vector3 b = new Vector3();
+		Vector3 c = new Vector3();
+		Ray ray = new Ray();
+		int hitCount = 0;
+
+		assertEquals(TRIANGLES, bvh.getTriangleCount());
+		bvh.raycast(rays, 0, hits, 0, triangles, 0, 2000);
+
+		for(int index = 0; index < 2000; index++) {
+
+			ray.origin.set(rays[index * 6], rays[index * 6 + 1], rays[index * 6 + 2]);
+			ray.direction.set(rays[index * 6 + 3], rays[index * 6 + 4], rays[index * 6 + 5]);
+			float closest = Float.POSITIVE_INFINITY;
+
+			for(int triangle = 0; triangle < TRIANGLES; triangle++) {
+
+				a.set(positions[triangle * 9], positions[triangle * 9 + 1], positions[triangle * 9 + 2]);
+				b.set(positions[triangle * 9 + 3], positions[triangle * 9 + 4], positions[triangle * 9 + 5]);
+				c.set(positions[triangle * 9 + 6], positions[triangle * 9 + 7], positions[triangle * 9 + 8]);
+				closest = Math.min(closest, ray.intersect(a, b, c));
+			}
+
+			assertEquals(closest, hits[index * 3], 1e-4F, "The ray " + index + " has the wrong distance!");
+
+			if(triangles[index] >= 0) {
+
+				// the barycentric coordinates have to lead to the same point as the distance
+				int t = triangles[index] * 9;
+				float u = hits[index * 3 + 1];
+				float v = hits[index * 3 + 2];
+				Vector3 point = ray.getPoint(hits[index * 3], new Vector3());
+
+				for(int axis = 0; axis < 3; axis++) {
+
+					float expected = positions[t + axis] * (1 - u - v) + positions[t + 3 + axis] * u + positions[t + 6 + axis] * v;
+					assertEquals(expected, axis == 0 ? point.x : axis == 1 ? point.y : point.z, 1e-3F, "The barycentric coordinates of ray " + index + " are wrong!");
+				}
+
+				hitCount++;
+
+			} else {
+
+				assertEquals(0.0F, hits[index * 3 + 1]);
+				assertEquals(0.0F, hits[index * 3 + 2]);
+			}
+		}
+
+		// make sure the test doesn't only test misses
+		assertEquals(true, hitCount > 100, hitCount + " hits");
+
+		float[] hit = new float[3];
+		ray.origin.set(rays[0], rays[1], rays[2]);
+		ray.direction.set(rays[3], rays[4], rays[5]);
+		assertEquals(triangles[0], bvh.raycast(ray, hit));
+		assertEquals(hits[0], hit[0]);
+	}
+
+	/**
+	 * Tests that the parallel variant returns the same results as the sequential one.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testParallel() {
+
+		Random random = new Random(2);
+		BVH bvh = new BVH(createPositions(random), createIndices(TRIANGLES * 3));
+		float[] rays = createRays(random, 10000);
+		float[] expectedHits = new float[10000 * 3 + 3];
+		float[] actualHits = new float[10000 * 3 + 3];
+		int[] expectedTriangles = new int[10001];
+		int[] actualTriangles = new int[10001];
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+
+			bvh.raycast(rays, 0, expectedHits, 3, expectedTriangles, 1, 10000);
+			bvh.raycast(rays, 0, actualHits, 3, actualTriangles, 1, 10000, pool);
+
+		} finally {
+
+			pool.shutdown();
+		}
+
+		assertArrayEquals(expectedHits, actualHits, "The method raycast(float[], int, float[], int, int[], int, int, ForkJoinPool) doesn't work!");
+		assertArrayEquals(expectedTriangles, actualTriangles);
+	}
+
+	/**
+	 * Tests indexed meshes, empty meshes, degenerate meshes and invalid indices.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testMeshes() {
+
+		// a quad of two triangles that share vertices
+		float[] positions = {0, 0, 0, 1, 0, 0, 1, 1, 0, 0, 1, 0};
+		BVH quad = new BVH(positions, new int[] {0, 1, 2, 0, 2, 3});
+		float[] hit = new float[3];
+
+		assertEquals(0, quad.raycast(new Ray(new Vector3(0.75F, 0.25F, 1), new Vector3(0, 0, -1)), hit));
+		assertEquals(1.0F, hit[0]);
+		assertEquals(1, quad.raycast(new Ray(new Vector3(0.25F, 0.75F, -2), new Vector3(0, 0, 1)), hit));
+		assertEquals(2.0F, hit[0]);
+		assertEquals(-1, quad.raycast(new Ray(new Vector3(1.5F, 0.5F, 1), new Vector3(0, 0, -1)), hit));
+		assertEquals(Float.POSITIVE_INFINITY, hit[0]);
+		assertEquals(new AABB(new Vector3(0, 0, 0), new Vector3(1, 1, 0)), quad.getBounds(new AABB()));
+
+		BVH empty = new BVH(new float[0], new int[0]);
+		assertEquals(-1, empty.raycast(new Ray(), hit));
+		assertEquals(true, empty.getBounds(new AABB()).isEmpty());
+
+		// many equal triangles cannot be split
+		int[] indices = new int[300];
+
+		for(int index = 0; index < indices.length; index++) {
+
+			indices[index] = index % 3;
+		}
+
+		BVH stacked = new BVH(positions, indices);
+		assertEquals(1, stacked.getNodeCount());
+		assertEquals(true, stacked.raycast(new Ray(new Vector3(0.75F, 0.25F, 1), new Vector3(0, 0, -1)), hit) >= 0);
+
+		assertThrows(IllegalArgumentException.class, () -> new BVH(positions, new int[] {0, 1, 4}));
+		assertThrows(IllegalArgumentException.class, () -> new BVH(positions, new int[] {0, 1}));
+	}
+}
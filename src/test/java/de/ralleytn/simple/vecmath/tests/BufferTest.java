@@ -0,0 +1,243 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.MatrixN;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector2;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Tests the methods that read and write vectors and matrices from and to NIO buffers.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class BufferTest {
+
+	private static final ByteOrder[] ORDERS = {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN};
+
+	// the buffer starts at index 3 so that ignoring the position would be noticed
+	private static final FloatBuffer createFloatBuffer() {
+
+		FloatBuffer buffer = FloatBuffer.allocate(64);
+		buffer.position(3);
+		return buffer;
+	}
+
+	private static final float[] toArray(FloatBuffer buffer, int count) {
+
+		float[] array = new float[count];
+
+		for(int index = 0; index < count; index++) {
+
+			array[index] = buffer.get(buffer.position() + index);
+		}
+
+		return array;
+	}
+
+	private static final float[] toArray(ByteBuffer buffer, int offset, int count) {
+
+		float[] array = new float[count];
+
+		for(int index = 0; index < count; index++) {
+
+			array[index] = buffer.getFloat(offset + index * 4);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Tests the vectors and the quaternion with float and byte buffers in both byte orders.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testVectors() {
+
+		Vector2 vector2 = new Vector2(1, 2);
+		Vector3 vector3 = new Vector3(1, 2, 3);
+		Vector4 vector4 = new Vector4(1, 2, 3, 4);
+		Quaternion quaternion = new Quaternion(1, 2, 3, 4);
+		VectorN vectorN = new VectorN(new float[] {1, 2, 3, 4, 5, 6, 7});
+
+		FloatBuffer floats = createFloatBuffer();
+		assertSame(floats, vector2.get(floats));
+		assertArrayEquals(vector2.toArray(), toArray(floats, 2));
+		Vector2 readVector2 = new Vector2();
+		readVector2.set(floats);
+		assertEquals(vector2, readVector2);
+
+		vector3.get(floats);
+		assertArrayEquals(vector3.toArray(), toArray(floats, 3));
+		Vector3 readVector3 = new Vector3();
+		readVector3.set(floats);
+		assertEquals(vector3, readVector3);
+
+		vector4.get(floats);
+		assertArrayEquals(vector4.toArray(), toArray(floats, 4));
+		Vector4 readVector4 = new Vector4();
+		readVector4.set(floats);
+		assertEquals(vector4, readVector4);
+
+		quaternion.get(floats);
+		assertArrayEquals(quaternion.toArray(), toArray(floats, 4));
+		Quaternion readQuaternion = new Quaternion();
+		readQuaternion.set(floats);
+		assertEquals(quaternion, readQuaternion);
+
+		vectorN.get(floats);
+		assertArrayEquals(vectorN.toArray(), toArray(floats, 7));
+		VectorN readVectorN = new VectorN(7);
+		readVectorN.set(floats);
+		assertEquals(vectorN, readVectorN);
+		assertEquals(3, floats.position(), "The position of the buffer was changed!");
+
+		for(ByteOrder order : ORDERS) {
+
+			ByteBuffer bytes = ByteBuffer.allocateDirect(128).order(order);
+
+			vector2.get(bytes, 5);
+			assertArrayEquals(vector2.toArray(), toArray(bytes, 5, 2), "The byte order " + order + " is not used!");
+			readVector2.set(0, 0);
+			readVector2.set(bytes, 5);
+			assertEquals(vector2, readVector2);
+
+			vector3.get(bytes, 5);
+			assertArrayEquals(vector3.toArray(), toArray(bytes, 5, 3), "The byte order " + order + " is not used!");
+			readVector3.set(0, 0, 0);
+			readVector3.set(bytes, 5);
+			assertEquals(vector3, readVector3);
+
+			vector4.get(bytes, 5);
+			assertArrayEquals(vector4.toArray(), toArray(bytes, 5, 4), "The byte order " + order + " is not used!");
+			readVector4.set(0, 0, 0, 0);
+			readVector4.set(bytes, 5);
+			assertEquals(vector4, readVector4);
+
+			quaternion.get(bytes, 5);
+			assertArrayEquals(quaternion.toArray(), toArray(bytes, 5, 4), "The byte order " + order + " is not used!");
+			readQuaternion.identity();
+			readQuaternion.set(bytes, 5);
+			assertEquals(quaternion, readQuaternion);
+
+			vectorN.get(bytes, 5);
+			assertArrayEquals(vectorN.toArray(), toArray(bytes, 5, 7), "The byte order " + order + " is not used!");
+			readVectorN = new VectorN(7);
+			readVectorN.set(bytes, 5);
+			assertEquals(vectorN, readVectorN);
+			assertEquals(0, bytes.position(), "The position of the buffer was changed!");
+		}
+	}
+
+	/**
+	 * Tests the matrices in column-major and row-major order with float and byte buffers in both byte orders.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testMatrices() {
+
+		Matrix4 matrix4 = new Matrix4().translate(new Vector3(1, 2, 3)).rotate(0.5F, Axis.Y).scale(new Vector3(2, 3, 4));
+		Matrix3 matrix3 = matrix4.toMatrix3();
+		MatrixN matrixN = new MatrixN(3, 2, 5);
+		float[] elementsN = {1, 2, 3, 4, 5, 6};
+
+		for(int index = 0; index < 6; index++) {
+
+			matrixN.set(index / 3, index % 3, elementsN[index]);
+		}
+
+		float[] columnsN = {1, 4, 2, 5, 3, 6};
+		FloatBuffer floats = createFloatBuffer();
+
+		matrix4.get(floats);
+		assertArrayEquals(matrix4.toArray(), toArray(floats, 16));
+		matrix4.getRowMajor(floats);
+		assertArrayEquals(matrix4.copy().transpose().toArray(), toArray(floats, 16));
+		Matrix4 readMatrix4 = new Matrix4();
+		readMatrix4.setRowMajor(floats);
+		assertEquals(matrix4, readMatrix4);
+		assertEquals(Matrix4.PROPERTY_AFFINE, readMatrix4.getProperties(), "The properties weren't determined!");
+		readMatrix4.identity();
+		matrix4.get(floats);
+		readMatrix4.set(floats);
+		assertEquals(matrix4, readMatrix4);
+
+		matrix3.get(floats);
+		assertArrayEquals(matrix3.toArray(), toArray(floats, 9));
+		matrix3.getRowMajor(floats);
+		assertArrayEquals(matrix3.copy().transpose().toArray(), toArray(floats, 9));
+		Matrix3 readMatrix3 = new Matrix3();
+		readMatrix3.setRowMajor(floats);
+		assertEquals(matrix3, readMatrix3);
+		readMatrix3.identity();
+		matrix3.get(floats);
+		readMatrix3.set(floats);
+		assertEquals(matrix3, readMatrix3);
+
+		matrixN.get(floats);
+		assertArrayEquals(elementsN, toArray(floats, 6));
+		MatrixN readMatrixN = new MatrixN(3, 2);
+		readMatrixN.set(floats);
+		assertEquals(matrixN, readMatrixN);
+		matrixN.getColumnMajor(floats);
+		assertArrayEquals(columnsN, toArray(floats, 6));
+		readMatrixN = new MatrixN(3, 2, 4);
+		readMatrixN.setColumnMajor(floats);
+		assertEquals(matrixN, readMatrixN);
+		assertEquals(3, floats.position(), "The position of the buffer was changed!");
+
+		for(ByteOrder order : ORDERS) {
+
+			ByteBuffer bytes = ByteBuffer.allocate(128).order(order);
+
+			matrix4.get(bytes, 8);
+			assertArrayEquals(matrix4.toArray(), toArray(bytes, 8, 16), "The byte order " + order + " is not used!");
+			readMatrix4.identity();
+			readMatrix4.set(bytes, 8);
+			assertEquals(matrix4, readMatrix4);
+			matrix4.getRowMajor(bytes, 8);
+			assertArrayEquals(matrix4.copy().transpose().toArray(), toArray(bytes, 8, 16), "The byte order " + order + " is not used!");
+			readMatrix4.identity();
+			readMatrix4.setRowMajor(bytes, 8);
+			assertEquals(matrix4, readMatrix4);
+
+			matrix3.get(bytes, 8);
+			assertArrayEquals(matrix3.toArray(), toArray(bytes, 8, 9), "The byte order " + order + " is not used!");
+			readMatrix3.identity();
+			readMatrix3.set(bytes, 8);
+			assertEquals(matrix3, readMatrix3);
+			matrix3.getRowMajor(bytes, 8);
+			assertArrayEquals(matrix3.copy().transpose().toArray(), toArray(bytes, 8, 9), "The byte order " + order + " is not used!");
+			readMatrix3.identity();
+			readMatrix3.setRowMajor(bytes, 8);
+			assertEquals(matrix3, readMatrix3);
+
+			matrixN.get(bytes, 8);
+			assertArrayEquals(elementsN, toArray(bytes, 8, 6), "The byte order " + order + " is not used!");
+			readMatrixN = new MatrixN(3, 2);
+			readMatrixN.set(bytes, 8);
+			assertEquals(matrixN, readMatrixN);
+			matrixN.getColumnMajor(bytes, 8);
+			assertArrayEquals(columnsN, toArray(bytes, 8, 6), "The byte order " + order + " is not used!");
+			readMatrixN = new MatrixN(3, 2);
+			readMatrixN.setColumnMajor(bytes, 8);
+			assertEquals(matrixN, readMatrixN);
+			assertEquals(0, bytes.position(), "The position of the buffer was changed!");
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.DualQuaternion;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Tests the methods of the {@linkplain DualQuaternion} class against the same transformations as {@linkplain Matrix4}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class DualQuaternionTest {
+
+	private static final Vector3 createRandomVector(Random random) {
+
+		return new Vector3(random.nextFloat() * 20 - 10, random.nextFloat() * 20 - 10, random.nextFloat() * 20 - 10);
+	}
+
+	private static final void assertTransformEquals(Matrix4 expected, DualQuaternion actual, Random random, String message) {
+
+		Vector3 point = createRandomVector(random);
+		Vector4 result = expected.transform(new Vector4(point.x, point.y, point.z, 1.0F), new Vector4());
+		actual.transform(point, point);
+
+		assertEquals(result.x, point.x, 1.0E-3F, message);
+		assertEquals(result.y, point.y, 1.0E-3F, message);
+		assertEquals(result.z, point.z, 1.0E-3F, message);
+	}
+
+	/**
+	 * Tests the conversions between matrices and dual quaternions.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testConversion() {
+
+		Random random = new Random(1);
+		float[] matrices = new float[16 * 8];
+		float[] dualQuaternions = new float[8 * 8];
+		DualQuaternion[] expected = new DualQuaternion[8];
+
+		for(int index = 0; index < 8; index++) {
+
+			Quaternion rotation = QuaternionTest.createRandomRotation(random);
+			Vector3 translation = createRandomVector(random);
+			DualQuaternion dualQuaternion = new DualQuaternion(rotation, translation);
+			Matrix4 matrix = new Matrix4().fromTranslationRotationScale(translation, rotation, new Vector3(1, 1, 1));
+			Matrix4 scaled = new Matrix4().fromTranslationRotationScale(translation, rotation, new Vector3(2, 3, 4));
+
+			assertTransformEquals(matrix, dualQuaternion, random, "The constructor doesn't work!");
+			assertTransformEquals(matrix, new DualQuaternion().fromMatrix(matrix), random, "The method fromMatrix(Matrix4) doesn't work!");
+			assertTransformEquals(matrix, new DualQuaternion().fromMatrix(scaled), random, "The method fromMatrix(Matrix4) doesn't remove the scale!");
+			assertTransformEquals(dualQuaternion.toMatrix4(new Matrix4()), dualQuaternion, random, "The method toMatrix4(Matrix4) doesn't work!");
+
+			Vector3 actualTranslation = dualQuaternion.getTranslation(new Vector3());
+			assertEquals(translation.x, actualTranslation.x, 1.0E-4F, "The method getTranslation(Vector3) doesn't work!");
+			assertEquals(translation.y, actualTranslation.y, 1.0E-4F, "The method getTranslation(Vector3) doesn't work!");
+			assertEquals(translation.z, actualTranslation.z, 1.0E-4F, "The method getTranslation(Vector3) doesn't work!");
+
+			System.arraycopy(scaled.toArray(), 0, matrices, index * 16, 16);
+			expected[index] = new DualQuaternion().fromMatrix(scaled);
+		}
+
+		DualQuaternion.fromMatrices(matrices, 0, dualQuaternions, 0, 8);
+
+		for(int index = 0; index < 8; index++) {
+
+			float[] actual = expected[index].real.toArray();
+			float[] actualDual = expected[index].dual.toArray();
+
+			for(int element = 0; element < 4; element++) {
+
+				assertEquals(actual[element], dualQuaternions[index * 8 + element], 1.0E-5F, "The method fromMatrices doesn't work!");
+				assertEquals(actualDual[element], dualQuaternions[index * 8 + 4 + element], 1.0E-4F, "The method fromMatrices doesn't work!");
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link DualQuaternion#multiply(DualQuaternion)}, {@link DualQuaternion#conjugate()} and {@link DualQuaternion#blend(DualQuaternion, float)}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testMultiply() {
+
+		Random random = new Random(2);
+
+		for(int iteration = 0; iteration < 8; iteration++) {
+
+			Matrix4 a = new Matrix4().fromTranslationRotationScale(createRandomVector(random), QuaternionTest.createRandomRotation(random), new Vector3(1, 1, 1));
+			Matrix4 b = new Matrix4().fromTranslationRotationScale(createRandomVector(random), QuaternionTest.createRandomRotation(random), new Vector3(1, 1, 1));
+			DualQuaternion dualA = new DualQuaternion().fromMatrix(a);
+			DualQuaternion dualB = new DualQuaternion().fromMatrix(b);
+
+			assertTransformEquals(a.copy().multiply(b), dualA.copy().multiply(dualB), random, "The method multiply(DualQuaternion) doesn't work!");
+			assertTransformEquals(new Matrix4(), dualA.copy().conjugate().multiply(dualA), random, "The method conjugate() doesn't work!");
+
+			// blending the same transformation in both hemispheres must not change it
+			DualQuaternion negated = new DualQuaternion(dualA);
+			negated.real.scale(-1.0F);
+			negated.dual.scale(-1.0F);
+			DualQuaternion blended = new DualQuaternion(dualA);
+			blended.real.scale(0.25F);
+			blended.dual.scale(0.25F);
+			assertTransformEquals(a, blended.blend(negated, 0.75F).normalize(), random, "The method blend(DualQuaternion, float) doesn't work!");
+		}
+	}
+}
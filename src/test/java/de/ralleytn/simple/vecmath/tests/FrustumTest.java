@@ -0,0 +1,214 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.AABB;
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.Frustum;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Tests the {@linkplain Frustum} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class FrustumTest {
+
+	private static final Matrix4 createViewProjection() {
+
+		// OpenGL perspective projection with a vertical field of view of 90 degrees, near 1 and far 100
+		float near = 1.0F;
+		float far = 100.0F;
+		float aspect = 1.5F;
+		Matrix4 projection = new Matrix4(new float[] {
+			1.0F / aspect, 0, 0, 0,
+			0, 1, 0, 0,
+			0, 0, (far + near) / (near - far), -1,
+			0, 0, 2.0F * far * near / (near - far), 0
+		});
+
+		// the camera is at (5, 0, 10) and looks a bit to the left
+		Matrix4 view = new Matrix4().rotate(0.3F, Axis.Y).translate(new Vector3(-5, 0, -10));
+		return projection.multiply(view);
+	}
+
+	private static final float[] random(Random random, int count, float min, float max) {
+
+		float[] values = new float[count];
+
+		for(int index = 0; index < count; index++) {
+
+			values[index] = min + random.nextFloat() * (max - min);
+		}
+
+		return values;
+	}
+
+	private static final boolean isSet(long[] bits, int index) {
+
+		return (bits[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Tests that the planes are normalized and that points are inside exactly if they are inside in clip space.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testContains() {
+
+		Matrix4 viewProjection = createViewProjection();
+		Frustum frustum = new Frustum(viewProjection);
+		Vector4 plane = new Vector4();
+
+		for(int index = Frustum.LEFT; index <= Frustum.FAR; index++) {
+
+			frustum.getPlane(index, plane);
+			assertEquals(1.0F, plane.x * plane.x + plane.y * plane.y + plane.z * plane.z, 1e-5F, "The plane " + index + " is not normalized!");
+		}
+
+		// the distance to the near plane of a point in front of the camera
+		Matrix4 view = new Matrix4().rotate(0.3F, Axis.Y).translate(new Vector3(-5, 0, -10));
+		Vector4 point = view.transform(new Vector4(0, 0, 0, 1), new Vector4());
+		frustum.getPlane(Frustum.NEAR, plane);
+		assertEquals(-point.z - 1.0F, plane.x * 0 + plane.y * 0 + plane.z * 0 + plane.w, 1e-4F);
+
+		Random random = new Random(1);
+		Vector4 clip = new Vector4();
+		int inside = 0;
+
+		for(int index = 0; index < 10000; index++) {
+
+			Vector3 position = new Vector3(random.nextFloat() * 200 - 100, random.nextFloat() * 200 - 100, random.nextFloat() * 200 - 100);
+			viewProjection.transform(new Vector4(position, 1.0F), clip);
+			float margin = Math.min(Math.min(clip.w - Math.abs(clip.x), clip.w - Math.abs(clip.y)), clip.w - Math.abs(clip.z));
+
+			// points that are very close to a plane are skipped, because rounding decides for them
+			if(Math.abs(margin) > 1e-2F) {
+
+				assertEquals(margin > 0, frustum.contains(position), "The point " + position + " was not classified correctly!");
+				inside += margin > 0 ? 1 : 0;
+			}
+		}
+
+		assertTrue(inside > 100, inside + " points inside");
+		assertTrue(new Frustum().contains(new Vector3(1e6F, 0, 0)), "An empty frustum has to contain everything!");
+		assertEquals(frustum, frustum.copy());
+	}
+
+	/**
+	 * Tests that the batch variants return the same as the tests of single spheres and boxes.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testCull() {
+
+		Frustum frustum = new Frustum(createViewProjection());
+		Random random = new Random(2);
+		int count = 10000;
+		float[] x = random(random, count + 3, -100, 100);
+		float[] y = random(random, count + 3, -100, 100);
+		float[] z = random(random, count + 3, -100, 100);
+		float[] radii = random(random, count + 3, 0, 10);
+		float[] maxX = new float[count + 3];
+		float[] maxY = new float[count + 3];
+		float[] maxZ = new float[count + 3];
+		long[] spheres = new long[(count + 63) / 64];
+		long[] boxes = new long[(count + 63) / 64];
+
+		for(int index = 0; index < count + 3; index++) {
+
+			maxX[index] = x[index] + radii[index];
+			maxY[index] = y[index] + radii[index] * 0.5F;
+			maxZ[index] = z[index] + radii[index] * 2.0F;
+		}
+
+		// the bits after the last object have to be cleared
+		Arrays.fill(spheres, -1L);
+		Arrays.fill(boxes, -1L);
+		frustum.cullSpheres(x, y, z, radii, 3, spheres, count);
+		frustum.cullBoxes(x, y, z, maxX, maxY, maxZ, 3, boxes, count);
+
+		int visible = 0;
+
+		for(int index = 0; index < count; index++) {
+
+			int o = index + 3;
+			AABB box = new AABB(new Vector3(x[o], y[o], z[o]), new Vector3(maxX[o], maxY[o], maxZ[o]));
+			assertEquals(frustum.intersects(new Vector3(x[o], y[o], z[o]), radii[o]), isSet(spheres, index), "The method cullSpheres doesn't work!");
+			assertEquals(frustum.intersects(box), isSet(boxes, index), "The method cullBoxes doesn't work!");
+			visible += isSet(boxes, index) ? 1 : 0;
+		}
+
+		assertTrue(visible > 100 && visible < count - 100, visible + " visible boxes");
+		assertEquals(0L, spheres[spheres.length - 1] >>> (count % 64));
+		assertEquals(0L, boxes[boxes.length - 1] >>> (count % 64));
+	}
+
+	/**
+	 * Tests the results of the tests of single spheres and boxes.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testIntersects() {
+
+		Frustum frustum = new Frustum(createViewProjection());
+		Vector3 behind = new Vector3(5 + 10 * (float)Math.sin(0.3), 0, 10 + 10 * (float)Math.cos(0.3));
+		Vector3 front = new Vector3(5 - 10 * (float)Math.sin(0.3), 0, 10 - 10 * (float)Math.cos(0.3));
+
+		assertTrue(frustum.intersects(front, 0.5F));
+		assertFalse(frustum.intersects(behind, 5.0F));
+		assertTrue(frustum.intersects(behind, 12.0F));
+		assertTrue(frustum.intersects(new AABB(new Vector3(front).subtract(new Vector3(1, 1, 1)), new Vector3(front).add(new Vector3(1, 1, 1)))));
+		assertFalse(frustum.intersects(new AABB(new Vector3(behind).subtract(new Vector3(1, 1, 1)), new Vector3(behind).add(new Vector3(1, 1, 1)))));
+
+		// a box that contains the whole frustum
+		assertTrue(frustum.intersects(new AABB(new Vector3(-500, -500, -500), new Vector3(500, 500, 500))));
+		assertFalse(frustum.intersects(new AABB()));
+	}
+
+	/**
+	 * Tests that the parallel variants return the same as the sequential ones.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testParallel() {
+
+		Frustum frustum = new Frustum(createViewProjection());
+		Random random = new Random(3);
+		int count = 100000 + 17;
+		float[] x = random(random, count, -100, 100);
+		float[] y = random(random, count, -100, 100);
+		float[] z = random(random, count, -100, 100);
+		float[] radii = random(random, count, 0, 10);
+		long[] expected = new long[(count + 63) / 64];
+		long[] actual = new long[(count + 63) / 64];
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+
+			frustum.cullSpheres(x, y, z, radii, 0, expected, count);
+			frustum.cullSpheres(x, y, z, radii, 0, actual, count, pool);
+			assertArrayEquals(expected, actual, "The method cullSpheres(..., ForkJoinPool) doesn't work!");
+
+			frustum.cullBoxes(x, y, z, radii, radii, radii, 0, expected, count);
+			frustum.cullBoxes(x, y, z, radii, radii, radii, 0, actual, count, pool);
+			assertArrayEquals(expected, actual, "The method cullBoxes(..., ForkJoinPool) doesn't work!");
+
+		} finally {
+
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.KDTree;
+import de.ralleytn.simple.vecmath.Vector2;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Tests the queries of the {@linkplain KDTree} class against brute force searches.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class KDTreeTest {
+
+	private static final float[] createPoints(int count, int dimension, long seed) {
+
+		Random random = new Random(seed);
+		float[] points = new float[count * dimension];
+
+		for(int index = 0; index < points.length; index++) {
+
+			// rounded, so that there are many points with equal coordinates
+			points[index] = Math.round(random.nextFloat() * 200.0F) * 0.5F;
+		}
+
+		return points;
+	}
+
+	private static final float distanceSquared(float[] points, int dimension, int index, float[] query) {
+
+		float sum = 0.0F;
+
+		for(int axis = 0; axis < dimension; axis++) {
+
+			float delta = points[index * dimension + axis] - query[axis];
+			sum += delta * delta;
+		}
+
+		return sum;
+	}
+
+	private static final float[] sortedDistances(float[] points, int dimension, float[] query) {
+
+		float[] distances = new float[points.length / dimension];
+
+		for(int index = 0; index < distances.length; index++) {
+
+			distances[index] = distanceSquared(points, dimension, index, query);
+		}
+
+		Arrays.sort(distances);
+		return distances;
+	}
+
+	/**
+	 * Tests the queries of a three dimensional tree.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testQueries3() {
+
+		float[] points = createPoints(5000, 3, 1);
+		KDTree tree = new KDTree(points, 0, 5000, 3);
+		Random random = new Random(2);
+		int[] indices = new int[5000];
+		float[] distances = new float[10];
+
+		for(int query = 0; query < 200; query++) {
+
+			float[] point = {random.nextFloat() * 110.0F - 5.0F, random.nextFloat() * 110.0F - 5.0F, random.nextFloat() * 110.0F - 5.0F};
+			Vector3 vector = new Vector3(point[0], point[1], point[2]);
+			float[] expected = sortedDistances(points, 3, point);
+
+			assertEquals(expected[0], distanceSquared(points, 3, tree.nearest(vector), point), "The method nearest(Vector3) doesn't work!");
+			assertEquals(10, tree.nearest(vector, 10, indices, distances));
+			assertArrayEquals(Arrays.copyOf(expected, 10), distances, "The method nearest(Vector3, int, int[], float[]) doesn't work!");
+
+			for(int index = 0; index < 10; index++) {
+
+				assertEquals(distances[index], distanceSquared(points, 3, indices[index], point));
+			}
+
+			float radius = 6.0F;
+			int inside = 0;
+
+			while(inside < expected.length && expected[inside] <= radius * radius) {
+
+				inside++;
+			}
+
+			assertEquals(inside, tree.radius(vector, radius, indices), "The method radius(Vector3, float, int[]) doesn't work!");
+
+			for(int index = 0; index < inside; index++) {
+
+				assertEquals(true, distanceSquared(points, 3, indices[index], point) <= radius * radius);
+			}
+		}
+	}
+
+	/**
+	 * Tests the queries of a two dimensional tree with an offset, without an array for the distances and with too small arrays.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testQueries2() {
+
+		float[] points = createPoints(1001, 2, 3);
+		KDTree tree = new KDTree(points, 2, 1000, 2);
+		float[] shifted = Arrays.copyOfRange(points, 2, points.length);
+		Random random = new Random(4);
+		int[] indices = new int[7];
+
+		for(int query = 0; query < 200; query++) {
+
+			float[] point = {random.nextFloat() * 100.0F, random.nextFloat() * 100.0F};
+			Vector2 vector = new Vector2(point[0], point[1]);
+			float[] expected = sortedDistances(shifted, 2, point);
+
+			assertEquals(expected[0], distanceSquared(shifted, 2, tree.nearest(vector), point), "The method nearest(Vector2) doesn't work!");
+			assertEquals(7, tree.nearest(vector, 7, indices, null));
+
+			for(int index = 0; index < 7; index++) {
+
+				assertEquals(expected[index], distanceSquared(shifted, 2, indices[index], point), "The method nearest(Vector2, int, int[], float[]) doesn't work!");
+			}
+
+			int inside = 0;
+
+			while(expected[inside] <= 100.0F) {
+
+				inside++;
+			}
+
+			assertEquals(inside, tree.radius(vector, 10.0F, indices), "The method radius(Vector2, float, int[]) doesn't work if the array is too small!");
+		}
+
+		assertThrows(IllegalStateException.class, () -> tree.nearest(new Vector3()));
+		assertThrows(IllegalArgumentException.class, () -> tree.nearest(new Vector2(), 8, indices, null));
+		assertThrows(IllegalArgumentException.class, () -> new KDTree(points, 4, 1000, 2));
+		assertThrows(IllegalArgumentException.class, () -> new KDTree(points, 0, 10, 4));
+	}
+
+	/**
+	 * Tests that a tree that was built in parallel answers the same as one that was built on the calling thread, and empty and tiny trees.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testParallel() {
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+
+			float[] points = createPoints(60000, 3, 5);
+			KDTree sequential = new KDTree(points, 0, 60000, 3);
+			KDTree parallel = new KDTree(points, 0, 60000, 3, pool);
+			Random random = new Random(6);
+			int[] expected = new int[20];
+			int[] actual = new int[20];
+			float[] expectedDistances = new float[20];
+			float[] actualDistances = new float[20];
+
+			for(int query = 0; query < 100; query++) {
+
+				Vector3 point = new Vector3(random.nextFloat() * 100.0F, random.nextFloat() * 100.0F, random.nextFloat() * 100.0F);
+				sequential.nearest(point, 20, expected, expectedDistances);
+				parallel.nearest(point, 20, actual, actualDistances);
+				assertArrayEquals(expectedDistances, actualDistances, "The tree that was built in parallel doesn't work!");
+				assertEquals(sequential.radius(point, 5.0F, expected), parallel.radius(point, 5.0F, actual));
+			}
+
+		} finally {
+
+			pool.shutdown();
+		}
+
+		KDTree empty = new KDTree(new float[0], 0, 0, 3);
+		assertEquals(-1, empty.nearest(new Vector3()));
+		assertEquals(0, empty.nearest(new Vector3(), 3, new int[3], null));
+		assertEquals(0, empty.radius(new Vector3(), 1.0F, new int[0]));
+
+		KDTree single = new KDTree(new float[] {1, 2}, 0, 1, 2);
+		assertEquals(0, single.nearest(new Vector2(5, 5)));
+		assertEquals(1, single.nearest(new Vector2(), 4, new int[4], new float[4]));
+	}
+}
@@ -0,0 +1,145 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.LUDecomposition;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.MatrixN;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Tests the methods of the {@linkplain LUDecomposition} class and the methods of {@linkplain MatrixN} that use it.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class LUDecompositionTest {
+
+	private static final MatrixN createRandomMatrix(int size, long seed) {
+
+		Random random = new Random(seed);
+		MatrixN matrix = new MatrixN(size, size, size + 3);
+
+		for(int row = 0; row < size; row++) {
+
+			for(int column = 0; column < size; column++) {
+
+				matrix.set(row, column, random.nextFloat() * 2.0F - 1.0F);
+			}
+		}
+
+		return matrix;
+	}
+
+	private static final void assertIdentity(MatrixN matrix, float delta) {
+
+		for(int row = 0; row < matrix.getHeight(); row++) {
+
+			for(int column = 0; column < matrix.getWidth(); column++) {
+
+				assertEquals(row == column ? 1.0F : 0.0F, matrix.get(row, column), delta, "The result is not the identity matrix!");
+			}
+		}
+	}
+
+	/**
+	 * Tests {@link MatrixN#determinant()} against {@link Matrix4#determinant()}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testDeterminant() {
+
+		float[] data = {2, -1, 0, 3, 1, 4, 2, 0, 0, 5, -3, 1, 7, 0, 1, 2};
+		Matrix4 expected = new Matrix4(data);
+
+		assertEquals(expected.determinant(), new MatrixN(data, 4, 4).determinant(), 1.0E-3F, "The method determinant() doesn't work!");
+		assertEquals(-2.0F, new MatrixN(new float[] {0, 1, 2, 0}, 2, 2).determinant(), "The method determinant() doesn't work with row exchanges!");
+		assertThrows(IllegalArgumentException.class, () -> new MatrixN(3, 2).determinant());
+	}
+
+	/**
+	 * Tests {@link MatrixN#invert()} and {@link LUDecomposition#inverse(MatrixN)}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testInvert() {
+
+		MatrixN matrix = createRandomMatrix(57, 1);
+		MatrixN inverse = matrix.copy().invert();
+
+		assertIdentity(matrix.copy().multiply(inverse), 1.0E-3F);
+		assertIdentity(inverse.multiply(matrix), 1.0E-3F);
+	}
+
+	/**
+	 * Tests both {@code solve} methods and the reuse of one decomposition for many right-hand sides.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSolve() {
+
+		MatrixN matrix = createRandomMatrix(40, 2);
+		LUDecomposition decomposition = new LUDecomposition(matrix);
+		Random random = new Random(3);
+
+		for(int iteration = 0; iteration < 3; iteration++) {
+
+			VectorN expected = new VectorN(40);
+
+			for(int index = 0; index < 40; index++) {
+
+				expected.set(index, random.nextFloat());
+			}
+
+			VectorN b = matrix.transform(expected);
+			VectorN x = decomposition.solve(b);
+
+			for(int index = 0; index < 40; index++) {
+
+				assertEquals(expected.get(index), x.get(index), 1.0E-3F, "The method solve(VectorN) doesn't work!");
+			}
+
+			assertSame(b, decomposition.solve(b, b));
+			assertEquals(x, b, "The method solve(VectorN, VectorN) doesn't work in place!");
+		}
+
+		MatrixN expected = createRandomMatrix(40, 4);
+		MatrixN x = decomposition.solve(matrix.copy().multiply(expected));
+
+		for(int row = 0; row < 40; row++) {
+
+			for(int column = 0; column < 40; column++) {
+
+				assertEquals(expected.get(row, column), x.get(row, column), 1.0E-3F, "The method solve(MatrixN) doesn't work!");
+			}
+		}
+	}
+
+	/**
+	 * Tests the handling of singular matrices and the reuse of a decomposition for another matrix.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSingular() {
+
+		MatrixN singular = new MatrixN(new float[] {1, 2, 3, 2, 4, 6, 0, 1, 1}, 3, 3);
+		LUDecomposition decomposition = new LUDecomposition(singular);
+
+		assertTrue(decomposition.isSingular());
+		assertEquals(0.0F, decomposition.determinant());
+		assertThrows(ArithmeticException.class, () -> decomposition.solve(new VectorN(3)));
+		assertThrows(ArithmeticException.class, () -> singular.invert());
+
+		decomposition.decompose(new MatrixN(3, 3).identity());
+		assertFalse(decomposition.isSingular());
+		assertEquals(1.0F, decomposition.determinant());
+	}
+}
@@ -0,0 +1,126 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.MathArena;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Tests the methods of the {@linkplain MathArena} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class MathArenaTest {
+
+	/**
+	 * Tests that nested scopes hand out initialized instances and that closing a scope releases them.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testScopes() {
+
+		MathArena arena = new MathArena(false);
+		Vector3 outer;
+		Vector3 inner;
+
+		try(MathArena scope = arena.push()) {
+
+			outer = arena.vector3(1, 2, 3);
+			assertEquals(new Vector3(1, 2, 3), outer);
+			assertEquals(new Matrix4(), arena.matrix4());
+			assertEquals(new Quaternion(), arena.quaternion());
+
+			try(MathArena nested = arena.push()) {
+
+				inner = arena.vector3(outer);
+				assertNotSame(outer, inner);
+				assertEquals(outer, inner, "The method vector3(Vector3) doesn't copy!");
+				assertEquals(2, arena.getDepth());
+			}
+
+			// the instance of the closed scope is reused, the one of the open scope is not touched
+			assertSame(inner, arena.vector3());
+			assertEquals(new Vector3(), inner);
+			assertEquals(new Vector3(1, 2, 3), outer);
+		}
+
+		assertEquals(0, arena.getDepth());
+		assertThrows(IllegalStateException.class, () -> arena.vector3());
+		assertThrows(IllegalStateException.class, () -> arena.pop());
+
+		// the pools grow beyond their initial size
+		try(MathArena scope = arena.push()) {
+
+			for(int index = 0; index < 100; index++) {
+
+				assertEquals(new Matrix4(), arena.matrix4(), "The pool doesn't grow!");
+			}
+		}
+	}
+
+	/**
+	 * Tests that the debug mode poisons released instances and detects that they were changed after the release.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testDebug() {
+
+		MathArena arena = new MathArena(true);
+		Vector3 vector;
+		Matrix4 matrix;
+
+		try(MathArena scope = arena.push()) {
+
+			vector = arena.vector3(1, 2, 3);
+			matrix = arena.matrix4();
+		}
+
+		assertTrue(Float.isNaN(vector.x) && Float.isNaN(vector.y) && Float.isNaN(vector.z), "The released vector isn't poisoned!");
+		assertTrue(Float.isNaN(matrix.m00) && Float.isNaN(matrix.m32), "The released matrix isn't poisoned!");
+
+		try(MathArena scope = arena.push()) {
+
+			assertSame(vector, arena.vector3(), "The released vector isn't reused!");
+		}
+
+		vector.set(1, 2, 3);
+
+		try(MathArena scope = arena.push()) {
+
+			assertThrows(IllegalStateException.class, () -> arena.vector3(), "The use after the release wasn't detected!");
+		}
+	}
+
+	/**
+	 * Tests that every thread has its own arena.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testThreads() throws InterruptedException {
+
+		AtomicReference<MathArena> other = new AtomicReference<>();
+		Thread thread = new Thread(() -> other.set(MathArena.get()));
+		thread.start();
+		thread.join();
+
+		assertSame(MathArena.get(), MathArena.get());
+		assertNotSame(MathArena.get(), other.get());
+
+		try(MathArena arena = MathArena.open()) {
+
+			assertSame(MathArena.get(), arena);
+			assertEquals(1, arena.getDepth());
+		}
+	}
+}
@@ -1,6 +1,93 @@
 package de.ralleytn.simple.vecmath.tests;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.FloatBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Tests the methods of the {@linkplain Matrix3} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.0.0
+ */
 class Matrix3Test {
 
-	
+	/**
+	 * Tests the batch transformations against {@link Matrix3#transform(Vector3)}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testBatchTransform() {
+
+		Matrix3 matrix = new Matrix3(new float[] {2, 0.5F, 0, -1, 3, 0.25F, 4, -5, 1});
+		float[] vectors = {1, 2, 3, -4, 5, 0.5F};
+		float[] transformed = new float[6];
+		float[] transformedPoints = new float[4];
+		float[] transformedDirections = new float[4];
+
+		matrix.transform(vectors, 0, 3, transformed, 0, 3, 2);
+		matrix.transformPoints(vectors, 0, 3, transformedPoints, 0, 2, 2);
+		matrix.transformDirections(FloatBuffer.wrap(vectors), 0, 3, FloatBuffer.wrap(transformedDirections), 0, 2, 2);
+
+		for(int index = 0; index < 2; index++) {
+
+			Vector3 vector = matrix.transform(new Vector3(vectors[index * 3], vectors[index * 3 + 1], vectors[index * 3 + 2]));
+			Vector3 point = matrix.transform(new Vector3(vectors[index * 3], vectors[index * 3 + 1], 1.0F));
+			Vector3 direction = matrix.transform(new Vector3(vectors[index * 3], vectors[index * 3 + 1], 0.0F));
+
+			assertEquals(vector, new Vector3(transformed[index * 3], transformed[index * 3 + 1], transformed[index * 3 + 2]), "The method transform(float[],...) doesn't work!");
+			assertEquals(point.x, transformedPoints[index * 2], "The method transformPoints(float[],...) doesn't work!");
+			assertEquals(point.y, transformedPoints[index * 2 + 1], "The method transformPoints(float[],...) doesn't work!");
+			assertEquals(direction.x, transformedDirections[index * 2], "The method transformDirections(FloatBuffer,...) doesn't work!");
+			assertEquals(direction.y, transformedDirections[index * 2 + 1], "The method transformDirections(FloatBuffer,...) doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests the batch transformations with a count that needs both the unrolled loop and the remainder loop,
+	 * once into another array and buffer and once in place.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testBatchTransformUnrolled() {
+
+		Matrix3 matrix = new Matrix3(new float[] {2, 0.5F, 0, -1, 3, 0.25F, 4, -5, 1});
+		float[] vectors = new float[21];
+
+		for(int index = 0; index < vectors.length; index++) {
+
+			vectors[index] = (index * 7 % 11) - 5 + index * 0.25F;
+		}
+
+		FloatBuffer transformed = FloatBuffer.allocate(21);
+		float[] transformedPoints = new float[14];
+		float[] transformedDirections = new float[14];
+		float[] inPlace = vectors.clone();
+
+		matrix.transform(FloatBuffer.wrap(vectors), 0, 3, transformed, 0, 3, 7);
+		matrix.transformPoints(FloatBuffer.wrap(vectors), 0, 3, FloatBuffer.wrap(transformedPoints), 0, 2, 7);
+		matrix.transformDirections(vectors, 0, 3, transformedDirections, 0, 2, 7);
+		matrix.transform(inPlace, 0, 3, inPlace, 0, 3, 7);
+
+		for(int index = 0; index < 7; index++) {
+
+			int s = index * 3;
+			int d = index * 2;
+			Vector3 vector = matrix.transform(new Vector3(vectors[s], vectors[s + 1], vectors[s + 2]));
+			Vector3 point = matrix.transform(new Vector3(vectors[s], vectors[s + 1], 1.0F));
+			Vector3 direction = matrix.transform(new Vector3(vectors[s], vectors[s + 1], 0.0F));
+
+			assertEquals(vector, new Vector3(transformed.get(s), transformed.get(s + 1), transformed.get(s + 2)), "The method transform(FloatBuffer,...) doesn't work!");
+			assertEquals(point.x, transformedPoints[d], "The method transformPoints(FloatBuffer,...) doesn't work!");
+			assertEquals(point.y, transformedPoints[d + 1], "The method transformPoints(FloatBuffer,...) doesn't work!");
+			assertEquals(direction.x, transformedDirections[d], "The method transformDirections(float[],...) doesn't work!");
+			assertEquals(direction.y, transformedDirections[d + 1], "The method transformDirections(float[],...) doesn't work!");
+			assertEquals(vector, new Vector3(inPlace[s], inPlace[s + 1], inPlace[s + 2]), "The method transform(float[],...) doesn't work in place!");
+		}
+	}
 }
@@ -1,6 +1,324 @@
 package de.ralleytn.simple.vecmath.tests;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Tests the methods of the {@linkplain Matrix4} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.0.0
+ */
 class Matrix4Test {
 
-	
+	private static final Matrix4 createTransformation() {
+
+		return new Matrix4().translate(new Vector3(1, 2, 3)).rotate(0.5F, Axis.Y).scale(new Vector3(2, 3, 4));
+	}
+
+	private static final void assertMatrixEquals(Matrix4 expected, Matrix4 actual, float delta, String message) {
+
+		float[] expectedArray = expected.toArray();
+		float[] actualArray = actual.toArray();
+
+		for(int index = 0; index < 16; index++) {
+
+			assertEquals(expectedArray[index], actualArray[index], delta, message);
+		}
+	}
+
+	/**
+	 * Tests {@link Matrix4#invert()} for general and affine matrices and the specialized inverses.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testInvert() {
+
+		Matrix4 identity = new Matrix4();
+		Matrix4 affine = createTransformation();
+		Matrix4 rigid = new Matrix4().translate(new Vector3(1, 2, 3)).rotate(0.5F, Axis.Y).rotate(-1.2F, Axis.X);
+		Matrix4 projective = createTransformation();
+		projective.m03 = 0.25F;
+		projective.m23 = -1.0F;
+		projective.m33 = 2.0F;
+		projective.invalidate();
+
+		assertTrue(affine.isAffine());
+		assertTrue(rigid.isAffine());
+		assertFalse(projective.isAffine());
+
+		assertMatrixEquals(identity, projective.copy().invert().multiply(projective), 1.0E-5F, "The method invert() doesn't work for projective matrices!");
+		assertMatrixEquals(identity, affine.copy().invert().multiply(affine), 1.0E-5F, "The method invert() doesn't work for affine matrices!");
+		assertMatrixEquals(identity, affine.copy().invertAffine().multiply(affine), 1.0E-5F, "The method invertAffine() doesn't work!");
+		assertMatrixEquals(identity, rigid.copy().invertRigid().multiply(rigid), 1.0E-5F, "The method invertRigid() doesn't work!");
+		assertMatrixEquals(rigid.copy().invertAffine(), rigid.copy().invertRigid(), 1.0E-5F, "The methods invertAffine() and invertRigid() differ!");
+
+		Vector4 point = new Vector4(4, -5, 6, 1);
+		Vector4 transformed = affine.transform(point);
+		Vector4 restored = affine.copy().invertAffine().transform(transformed);
+		assertTrue(point.epsilonEquals(restored, 1.0E-4F), "The method invertAffine() doesn't restore points!");
+	}
+
+	/**
+	 * Tests both {@code fromTranslationRotationScale} methods against chained calls of {@code translate}, {@code rotate} and {@code scale}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testFromTranslationRotationScale() {
+
+		Vector3 translation = new Vector3(1, -2, 3);
+		Vector3 scale = new Vector3(2, 0.5F, -3);
+		Axis[] axes = {Axis.X, Axis.Y, Axis.Z};
+		float[] translations = new float[9];
+		float[] rotations = new float[12];
+		float[] scales = new float[9];
+		float[] matrices = new float[48];
+
+		for(int index = 0; index < 3; index++) {
+
+			Axis axis = axes[index];
+			float angle = 0.4F + index;
+			Quaternion rotation = new Quaternion().fromAxisAngle(new Vector4(axis.getX(), axis.getY(), axis.getZ(), angle));
+			Matrix4 expected = new Matrix4().translate(translation).rotate(angle, axis).scale(scale);
+			Matrix4 actual = new Matrix4().fromTranslationRotationScale(translation, rotation, scale);
+
+			assertMatrixEquals(expected, actual, 1.0E-6F, "The method fromTranslationRotationScale(Vector3, Quaternion, Vector3) doesn't work!");
+			assertEquals(Matrix4.PROPERTY_AFFINE, actual.getProperties());
+			assertMatrixEquals(new Matrix4().fromTranslationRotationScale(translation, rotation, new Vector3(1, 1, 1)), new Matrix4().fromTranslationRotationScale(translation, rotation.scale(3.0F), new Vector3(1, 1, 1)), 1.0E-6F, "Quaternions that aren't normalized don't work!");
+
+			System.arraycopy(translation.toArray(), 0, translations, index * 3, 3);
+			System.arraycopy(rotation.toArray(), 0, rotations, index * 4, 4);
+			System.arraycopy(scale.toArray(), 0, scales, index * 3, 3);
+		}
+
+		Matrix4.fromTranslationRotationScale(translations, 0, rotations, 0, scales, 0, matrices, 0, 3);
+
+		for(int index = 0; index < 3; index++) {
+
+			Quaternion rotation = new Quaternion(rotations[index * 4], rotations[index * 4 + 1], rotations[index * 4 + 2], rotations[index * 4 + 3]);
+			float[] expected = new Matrix4().fromTranslationRotationScale(translation, rotation, scale).toArray();
+
+			for(int element = 0; element < 16; element++) {
+
+				assertEquals(expected[element], matrices[index * 16 + element], "The method fromTranslationRotationScale(float[],...) doesn't work!");
+			}
+		}
+	}
+
+	/**
+	 * Tests both {@code decompose} methods with non-uniform and negative scales.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testDecompose() {
+
+		Vector3 translation = new Vector3(1, -2, 3);
+		Quaternion rotation = new Quaternion().fromAxisAngle(new Vector4(1, 2, -0.5F, 2.5F));
+		Vector3[] scales = {new Vector3(1, 1, 1), new Vector3(2, 0.5F, 3), new Vector3(2, -0.5F, 3)};
+		Vector3 decomposedTranslation = new Vector3();
+		Quaternion decomposedRotation = new Quaternion();
+		Vector3 decomposedScale = new Vector3();
+		float[] matrices = new float[48];
+		float[] translations = new float[9];
+		float[] rotations = new float[12];
+		float[] decomposedScales = new float[9];
+
+		for(int index = 0; index < 3; index++) {
+
+			Matrix4 matrix = new Matrix4().fromTranslationRotationScale(translation, rotation, scales[index]);
+			matrix.decompose(decomposedTranslation, decomposedRotation, decomposedScale);
+			System.arraycopy(matrix.toArray(), 0, matrices, index * 16, 16);
+
+			assertEquals(translation, decomposedTranslation, "The method decompose(Vector3, Quaternion, Vector3) doesn't work!");
+			assertEquals(1.0F, decomposedRotation.length(), 1.0E-6F, "The method decompose(Vector3, Quaternion, Vector3) doesn't normalize the rotation!");
+			assertMatrixEquals(matrix, new Matrix4().fromTranslationRotationScale(decomposedTranslation, decomposedRotation, decomposedScale), 1.0E-5F, "The method decompose(Vector3, Quaternion, Vector3) doesn't work!");
+
+			if(index < 2) {
+
+				assertTrue(scales[index].epsilonEquals(decomposedScale, 1.0E-6F), "The method decompose(Vector3, Quaternion, Vector3) doesn't calculate the scale!");
+				assertEquals(1.0F, Math.abs(decomposedRotation.dot(rotation) / rotation.length()), 1.0E-6F, "The method decompose(Vector3, Quaternion, Vector3) doesn't calculate the rotation!");
+
+			} else {
+
+				assertTrue(decomposedScale.x < 0.0F, "The method decompose(Vector3, Quaternion, Vector3) doesn't handle a negative determinant!");
+			}
+		}
+
+		Matrix4.decompose(matrices, 0, translations, 0, rotations, 0, decomposedScales, 0, 3);
+
+		for(int index = 0; index < 3; index++) {
+
+			Matrix4 expected = new Matrix4(Arrays.copyOfRange(matrices, index * 16, index * 16 + 16));
+			Matrix4 actual = new Matrix4().fromTranslationRotationScale(
+				new Vector3(translations[index * 3], translations[index * 3 + 1], translations[index * 3 + 2]),
+				new Quaternion(rotations[index * 4], rotations[index * 4 + 1], rotations[index * 4 + 2], rotations[index * 4 + 3]),
+				new Vector3(decomposedScales[index * 3], decomposedScales[index * 3 + 1], decomposedScales[index * 3 + 2]));
+
+			assertMatrixEquals(expected, actual, 1.0E-5F, "The method decompose(float[],...) doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests that the properties are kept up to date and that the specialized paths calculate the same as the general ones.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testProperties() {
+
+		Matrix4 identity = new Matrix4();
+		Matrix4 translation = new Matrix4().translate(new Vector3(1, 2, 3));
+		Matrix4 rigid = new Matrix4().translate(new Vector3(-4, 5, 6)).rotate(0.5F, Axis.Y);
+		Matrix4 affine = createTransformation();
+		Vector4 vector = new Vector4(4, -5, 6, 0.5F);
+
+		assertEquals(Matrix4.PROPERTY_IDENTITY | Matrix4.PROPERTY_TRANSLATION | Matrix4.PROPERTY_AFFINE | Matrix4.PROPERTY_ORTHONORMAL, identity.getProperties());
+		assertEquals(Matrix4.PROPERTY_TRANSLATION | Matrix4.PROPERTY_AFFINE | Matrix4.PROPERTY_ORTHONORMAL, translation.getProperties());
+		assertEquals(Matrix4.PROPERTY_AFFINE | Matrix4.PROPERTY_ORTHONORMAL, rigid.getProperties());
+		assertEquals(Matrix4.PROPERTY_AFFINE, affine.getProperties());
+		assertEquals(translation.getProperties(), new Matrix4(translation.toArray()).getProperties(), "The method determineProperties() doesn't work!");
+		assertEquals(0, new Matrix4(translation).transpose().getProperties(), "The method transpose() doesn't reset the properties!");
+
+		Matrix4[] matrices = {identity, translation, rigid, affine};
+
+		for(Matrix4 a : matrices) {
+
+			Matrix4 general = a.copy().invalidate();
+			assertEquals(general.determinant(), a.determinant(), 1.0E-5F, "The method determinant() doesn't work!");
+			assertEquals(general.transform(vector), a.transform(vector), "The method transform(Vector4) doesn't work!");
+			assertMatrixEquals(general.copy().invert(), a.copy().invert(), 1.0E-5F, "The method invert() doesn't work!");
+
+			for(Matrix4 b : matrices) {
+
+				Matrix4 product = a.copy().multiply(b);
+				assertMatrixEquals(general.copy().multiply(b.copy().invalidate()), product, 1.0E-6F, "The method multiply(Matrix4) doesn't work!");
+				assertEquals(a.getProperties() & b.getProperties(), product.getProperties(), "The method multiply(Matrix4) doesn't combine the properties!");
+			}
+		}
+
+		identity.m30 = 7.0F;
+		assertEquals(new Vector4(7, 0, 0, 1), identity.invalidate().transform(new Vector4(0, 0, 0, 1)), "The method invalidate() doesn't work!");
+	}
+
+	/**
+	 * Tests the batch transformations over {@code float} arrays against {@link Matrix4#transform(Vector4)}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testBatchTransform() {
+
+		Matrix4 matrix = createTransformation();
+		float[] vectors = {1, 2, 3, 1, -4, 5, 0.5F, 0, 7, -8, 9, 2};
+		float[] points = {0, 0, 0, 99, 1, 2, 3, 99, -4, 5, 0.5F, 99};
+		float[] transformed = new float[12];
+		float[] transformedPoints = new float[9];
+		float[] transformedDirections = new float[9];
+
+		matrix.transform(vectors, 0, 4, transformed, 0, 4, 3);
+		matrix.transformPoints(points, 0, 4, transformedPoints, 0, 3, 3);
+		matrix.transformDirections(points, 0, 4, transformedDirections, 0, 3, 3);
+
+		for(int index = 0; index < 3; index++) {
+
+			Vector4 vector = matrix.transform(new Vector4(vectors[index * 4], vectors[index * 4 + 1], vectors[index * 4 + 2], vectors[index * 4 + 3]));
+			Vector4 point = matrix.transform(new Vector4(points[index * 4], points[index * 4 + 1], points[index * 4 + 2], 1.0F));
+			Vector4 direction = matrix.transform(new Vector4(points[index * 4], points[index * 4 + 1], points[index * 4 + 2], 0.0F));
+
+			assertEquals(vector, new Vector4(transformed[index * 4], transformed[index * 4 + 1], transformed[index * 4 + 2], transformed[index * 4 + 3]), "The method transform(float[],...) doesn't work!");
+			assertEquals(new Vector3(point.x, point.y, point.z), new Vector3(transformedPoints[index * 3], transformedPoints[index * 3 + 1], transformedPoints[index * 3 + 2]), "The method transformPoints(float[],...) doesn't work!");
+			assertEquals(new Vector3(direction.x, direction.y, direction.z), new Vector3(transformedDirections[index * 3], transformedDirections[index * 3 + 1], transformedDirections[index * 3 + 2]), "The method transformDirections(float[],...) doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests that the batch transformations over {@linkplain FloatBuffer}s match the ones over {@code float} arrays
+	 * and that they work in place.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testBatchTransformBuffer() {
+
+		Matrix4 matrix = createTransformation();
+		float[] points = {1, 2, 3, -4, 5, 0.5F, 7, -8, 9};
+		float[] expected = new float[9];
+		matrix.transformPoints(points, 0, 3, expected, 0, 3, 3);
+
+		FloatBuffer buffer = FloatBuffer.allocate(10);
+		buffer.position(1);
+		buffer.put(points);
+		buffer.position(0);
+		matrix.transformPoints(buffer, 1, 3, buffer, 1, 3, 3);
+
+		for(int index = 0; index < 9; index++) {
+
+			assertEquals(expected[index], buffer.get(index + 1), "The method transformPoints(FloatBuffer,...) doesn't work!");
+		}
+
+		assertEquals(0, buffer.position(), "The position of the buffer was changed!");
+
+		matrix.transformDirections(points, 0, 3, expected, 0, 3, 3);
+		matrix.transformDirections(FloatBuffer.wrap(points), 0, 3, buffer, 0, 3, 3);
+
+		for(int index = 0; index < 9; index++) {
+
+			assertEquals(expected[index], buffer.get(index), "The method transformDirections(FloatBuffer,...) doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests the batch transformations with a count that needs both the unrolled loop and the remainder loop,
+	 * once into another array and buffer and once in place.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testBatchTransformUnrolled() {
+
+		Matrix4 matrix = createTransformation();
+		float[] vectors = new float[28];
+
+		for(int index = 0; index < vectors.length; index++) {
+
+			vectors[index] = (index * 7 % 11) - 5 + index * 0.25F;
+		}
+
+		float[] transformed = new float[28];
+		float[] transformedPoints = new float[21];
+		float[] transformedDirections = new float[21];
+		FloatBuffer bufferPoints = FloatBuffer.allocate(21);
+		float[] inPlace = vectors.clone();
+
+		matrix.transform(vectors, 0, 4, transformed, 0, 4, 7);
+		matrix.transformPoints(vectors, 0, 4, transformedPoints, 0, 3, 7);
+		matrix.transformDirections(FloatBuffer.wrap(vectors), 0, 4, FloatBuffer.wrap(transformedDirections), 0, 3, 7);
+		matrix.transformPoints(FloatBuffer.wrap(vectors), 0, 4, bufferPoints, 0, 3, 7);
+		matrix.transformPoints(inPlace, 0, 4, inPlace, 0, 4, 7);
+
+		for(int index = 0; index < 7; index++) {
+
+			int s = index * 4;
+			int d = index * 3;
+			Vector4 vector = matrix.transform(new Vector4(vectors[s], vectors[s + 1], vectors[s + 2], vectors[s + 3]));
+			Vector4 point = matrix.transform(new Vector4(vectors[s], vectors[s + 1], vectors[s + 2], 1.0F));
+			Vector4 direction = matrix.transform(new Vector4(vectors[s], vectors[s + 1], vectors[s + 2], 0.0F));
+			Vector3 expectedPoint = new Vector3(point.x, point.y, point.z);
+
+			assertEquals(vector, new Vector4(transformed[s], transformed[s + 1], transformed[s + 2], transformed[s + 3]), "The method transform(float[],...) doesn't work!");
+			assertEquals(expectedPoint, new Vector3(transformedPoints[d], transformedPoints[d + 1], transformedPoints[d + 2]), "The method transformPoints(float[],...) doesn't work!");
+			assertEquals(new Vector3(direction.x, direction.y, direction.z), new Vector3(transformedDirections[d], transformedDirections[d + 1], transformedDirections[d + 2]), "The method transformDirections(FloatBuffer,...) doesn't work!");
+			assertEquals(expectedPoint, new Vector3(bufferPoints.get(d), bufferPoints.get(d + 1), bufferPoints.get(d + 2)), "The method transformPoints(FloatBuffer,...) doesn't work!");
+			assertEquals(expectedPoint, new Vector3(inPlace[s], inPlace[s + 1], inPlace[s + 2]), "The method transformPoints(float[],...) doesn't work in place!");
+			assertEquals(vectors[s + 3], inPlace[s + 3], "The method transformPoints(float[],...) wrote outside of the points!");
+		}
+	}
 }
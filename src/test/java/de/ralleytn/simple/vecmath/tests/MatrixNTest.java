@@ -1,6 +1,161 @@
 package de.ralleytn.simple.vecmath.tests;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.MatrixN;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Tests the methods of the {@linkplain MatrixN} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.0.0
+ */
 class MatrixNTest {
 
-	
+	private static final MatrixN createRandomMatrix(int width, int height, int stride, long seed) {
+
+		Random random = new Random(seed);
+		MatrixN matrix = new MatrixN(width, height, stride);
+
+		for(int row = 0; row < height; row++) {
+
+			for(int column = 0; column < width; column++) {
+
+				matrix.set(row, column, random.nextFloat() * 2.0F - 1.0F);
+			}
+		}
+
+		return matrix;
+	}
+
+	/**
+	 * Tests the storage layout, {@link MatrixN#identity()} and {@link MatrixN#transpose()}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testLayout() {
+
+		MatrixN matrix = new MatrixN(new float[] {1, 2, 3, 4, 5, 6}, 3, 2);
+		MatrixN padded = new MatrixN(3, 2, 8);
+
+		for(int row = 0; row < 2; row++) {
+
+			for(int column = 0; column < 3; column++) {
+
+				padded.set(row, column, matrix.get(row, column));
+			}
+		}
+
+		assertEquals(6.0F, matrix.get(1, 2));
+		assertEquals(matrix, padded, "Matrices with different strides aren't equal!");
+		assertArrayEquals(new float[] {1, 2, 3, 4, 5, 6}, padded.toArray(), "The method toArray() doesn't work with padded rows!");
+		assertArrayEquals(new float[] {1, 4, 2, 5, 3, 6}, padded.transpose().toArray(), "The method transpose() doesn't work!");
+		assertEquals(3, padded.getHeight());
+		assertEquals(2, padded.getWidth());
+
+		MatrixN square = new MatrixN(new float[] {1, 2, 3, 4, 5, 6, 7, 8, 9}, 3, 3);
+		assertArrayEquals(new float[] {1, 4, 7, 2, 5, 8, 3, 6, 9}, square.transpose().toArray(), "The method transpose() doesn't work!");
+		assertArrayEquals(new float[] {1, 0, 0, 0, 1, 0, 0, 0, 1}, square.identity().toArray(), "The method identity() doesn't work!");
+		assertThrows(IllegalArgumentException.class, () -> new MatrixN(4, 4, 3));
+	}
+
+	/**
+	 * Tests {@link MatrixN#multiply(MatrixN)} against a naive multiplication with sizes that are not multiples of the block size.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testMultiply() {
+
+		MatrixN a = createRandomMatrix(300, 130, 303, 1);
+		MatrixN b = createRandomMatrix(270, 300, 270, 2);
+		MatrixN product = a.copy().multiply(b);
+
+		assertEquals(130, product.getHeight());
+		assertEquals(270, product.getWidth());
+
+		for(int row = 0; row < 130; row++) {
+
+			for(int column = 0; column < 270; column++) {
+
+				float expected = 0.0F;
+
+				for(int index = 0; index < 300; index++) {
+
+					expected += a.get(row, index) * b.get(index, column);
+				}
+
+				assertEquals(expected, product.get(row, column), 1.0E-3F, "The method multiply(MatrixN) doesn't work!");
+			}
+		}
+
+		MatrixN identity = new MatrixN(300, 300).identity();
+		assertEquals(a, a.copy().multiply(identity), "The method multiply(MatrixN) doesn't work with the identity matrix!");
+		assertThrows(IllegalArgumentException.class, () -> a.multiply(a));
+	}
+
+	/**
+	 * Tests that {@link MatrixN#multiply(MatrixN, ForkJoinPool)} calculates the same result as {@link MatrixN#multiply(MatrixN)}
+	 * for products above and below the parallel threshold.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testMultiplyParallel() {
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+
+			MatrixN a = createRandomMatrix(300, 530, 300, 4);
+			MatrixN b = createRandomMatrix(700, 300, 701, 5);
+			assertEquals(a.copy().multiply(b), a.copy().multiply(b, pool), "The method multiply(MatrixN, ForkJoinPool) doesn't work!");
+
+			MatrixN small = createRandomMatrix(7, 7, 7, 6);
+			assertEquals(small.copy().multiply(small), small.copy().multiply(small, pool), "The method multiply(MatrixN, ForkJoinPool) doesn't work for small matrices!");
+
+		} finally {
+
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests {@link MatrixN#transform(VectorN)}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testTransform() {
+
+		MatrixN matrix = createRandomMatrix(45, 20, 48, 3);
+		VectorN vector = new VectorN(45);
+
+		for(int index = 0; index < 45; index++) {
+
+			vector.set(index, index * 0.1F - 2.0F);
+		}
+
+		VectorN result = matrix.transform(vector);
+		assertEquals(20, result.size());
+
+		for(int row = 0; row < 20; row++) {
+
+			float expected = 0.0F;
+
+			for(int column = 0; column < 45; column++) {
+
+				expected += matrix.get(row, column) * vector.get(column);
+			}
+
+			assertEquals(expected, result.get(row), 1.0E-4F, "The method transform(VectorN) doesn't work!");
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> matrix.transform(result));
+	}
 }
@@ -0,0 +1,257 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.LUDecomposition;
+import de.ralleytn.simple.vecmath.MatrixN;
+import de.ralleytn.simple.vecmath.OffHeapMemory;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Tests the methods of the {@linkplain OffHeapMemory} class and that {@linkplain VectorN} and {@linkplain MatrixN}
+ * calculate the same in a buffer as on the heap.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class OffHeapMemoryTest {
+
+	private static final VectorN fill(VectorN vector, long seed) {
+
+		Random random = new Random(seed);
+
+		for(int index = 0; index < vector.size(); index++) {
+
+			vector.set(index, random.nextFloat() * 2.0F - 1.0F);
+		}
+
+		return vector;
+	}
+
+	private static final MatrixN fill(MatrixN matrix, long seed) {
+
+		Random random = new Random(seed);
+
+		for(int row = 0; row < matrix.getHeight(); row++) {
+
+			for(int column = 0; column < matrix.getWidth(); column++) {
+
+				matrix.set(row, column, random.nextFloat() * 2.0F - 1.0F);
+			}
+		}
+
+		return matrix;
+	}
+
+	/**
+	 * Tests that every operation of {@linkplain VectorN} calculates the same for an off-heap vector, also together with vectors on the heap.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testVector() {
+
+		try(OffHeapMemory memory = new OffHeapMemory()) {
+
+			VectorN a = fill(memory.allocateVector(37), 1);
+			VectorN b = fill(memory.allocateVector(37), 2);
+			VectorN heapA = new VectorN(a.toArray());
+			VectorN heapB = new VectorN(b.toArray());
+
+			assertTrue(a.isDirect());
+			assertFalse(heapA.isDirect());
+			assertEquals(heapA, a);
+			assertEquals(a, heapA);
+			assertEquals(heapA.hashCode(), a.hashCode());
+			assertEquals(heapA.toString(), a.toString());
+			assertEquals(heapA.dot(heapB), a.dot(b), "The method dot(VectorN) doesn't work!");
+			assertEquals(heapA.dot(heapB), a.dot(heapB), "The method dot(VectorN) doesn't work with a vector on the heap!");
+			assertEquals(heapA.length(), a.length(), "The method length() doesn't work!");
+			assertEquals(heapA.copy().add(heapB), a.add(b), "The method add(VectorN) doesn't work!");
+			assertEquals(heapA.add(heapB), a, "The method add(VectorN) doesn't work!");
+			assertEquals(heapA.subtract(heapB), a.subtract(b), "The method subtract(VectorN) doesn't work!");
+			assertEquals(heapA.axpy(0.5F, heapB), a.axpy(0.5F, b), "The method axpy(float, VectorN) doesn't work!");
+			assertEquals(heapB.copy().axpy(2.0F, heapA), heapB.axpy(2.0F, a), "The method axpy(float, VectorN) doesn't work with a vector on the heap!");
+			assertEquals(heapA.scale(3.0F), a.scale(3.0F), "The method scale(float) doesn't work!");
+			assertEquals(heapA.negate(), a.negate(), "The method negate() doesn't work!");
+			assertEquals(heapA.clamp(-0.5F, 0.5F), a.clamp(-0.5F, 0.5F), "The method clamp(float, float) doesn't work!");
+			assertEquals(heapA.absolute(), a.absolute(), "The method absolute() doesn't work!");
+			assertEquals(heapA.normalize(), a.normalize(), "The method normalize() doesn't work!");
+			assertFalse(a.copy().isDirect(), "A copy must be on the heap!");
+
+			FloatBuffer buffer = FloatBuffer.allocate(40);
+			buffer.position(3);
+			a.get(buffer);
+			b.set(buffer);
+			assertEquals(3, buffer.position());
+			assertEquals(a, b, "The buffer methods don't work!");
+			assertThrows(IllegalArgumentException.class, () -> a.dot(new VectorN(36)));
+		}
+	}
+
+	/**
+	 * Tests that every operation of {@linkplain MatrixN} calculates the same for an off-heap matrix and that the size of it cannot change.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testMatrix() {
+
+		try(OffHeapMemory memory = new OffHeapMemory()) {
+
+			MatrixN a = fill(memory.allocateMatrix(23, 23, 25), 3);
+			MatrixN b = fill(memory.allocateMatrix(23, 23), 4);
+			MatrixN heapA = a.copy();
+			MatrixN heapB = b.copy();
+			VectorN vector = fill(memory.allocateVector(23), 5);
+
+			assertFalse(heapA.isDirect());
+			assertEquals(heapA, a);
+			assertEquals(heapA.hashCode(), a.hashCode());
+			assertArrayEquals(heapA.toArray(), a.toArray());
+			assertEquals(heapA.transform(vector), a.transform(vector), "The method transform(VectorN) doesn't work!");
+			assertEquals(heapA.transform(vector), a.transform(vector, memory.allocateVector(23)), "The method transform(VectorN, VectorN) doesn't work!");
+			assertEquals(heapA.determinant(), a.determinant(), 1.0E-5F, "The method determinant() doesn't work!");
+			assertEquals(heapA.copy().multiply(heapB), a.copy().multiply(b), "The method multiply(MatrixN) doesn't work!");
+			assertEquals(heapA.multiply(heapB), a.multiply(b), "The method multiply(MatrixN) doesn't work!");
+			assertTrue(a.isDirect(), "The product must stay off-heap!");
+			assertEquals(heapA.transpose(), a.transpose(), "The method transpose() doesn't work!");
+			assertEquals(heapA.negate(), a.negate(), "The method negate() doesn't work!");
+			assertEquals(heapA.invert(), a.invert(), "The method invert() doesn't work!");
+
+			LUDecomposition decomposition = new LUDecomposition(b);
+			assertEquals(decomposition.solve(heapA), decomposition.solve(heapA, memory.allocateMatrix(23, 23)), "The method solve(MatrixN, MatrixN) doesn't work!");
+			assertEquals(decomposition.solve(vector), decomposition.solve(vector, memory.allocateVector(23)), "The method solve(VectorN, VectorN) doesn't work!");
+			assertEquals(new MatrixN(23, 23).identity(), a.identity(), "The method identity() doesn't work!");
+			assertEquals(new MatrixN(23, 23), a.zero(), "The method zero() doesn't work!");
+
+			MatrixN wide = memory.allocateMatrix(3, 2);
+			assertThrows(IllegalArgumentException.class, () -> wide.multiply(new MatrixN(4, 3)));
+			assertThrows(IllegalStateException.class, () -> wide.transpose());
+		}
+	}
+
+	/**
+	 * Tests that views share the elements with the vector or matrix they were created from.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSlice() {
+
+		try(OffHeapMemory memory = new OffHeapMemory()) {
+
+			MatrixN matrix = fill(memory.allocateMatrix(6, 5), 6);
+			MatrixN block = matrix.slice(1, 2, 3, 2);
+			VectorN row = matrix.row(2);
+
+			assertEquals(3, block.getWidth());
+			assertEquals(2, block.getHeight());
+			assertEquals(matrix.get(2, 4), block.get(1, 2));
+			assertEquals(matrix.get(2, 5), row.get(5));
+
+			block.zero();
+			assertEquals(0.0F, matrix.get(2, 3), "The view doesn't share the elements!");
+			assertEquals(matrix.get(2, 0), new MatrixN(matrix).get(2, 0));
+			assertEquals(0.0F, row.get(3), "The view doesn't share the elements!");
+			assertTrue(row.get(1) != 0.0F, "The method zero() changed elements outside of the view!");
+
+			row.slice(1, 2).set(1, 42.0F);
+			assertEquals(42.0F, matrix.get(2, 2), "The view of a view doesn't share the elements!");
+			assertThrows(IndexOutOfBoundsException.class, () -> matrix.slice(4, 0, 6, 2));
+			assertThrows(IndexOutOfBoundsException.class, () -> row.slice(5, 2));
+		}
+
+		VectorN vector = new VectorN(new float[] {1, 2, 3, 4});
+		VectorN view = vector.slice(1, 2);
+		view.scale(10.0F);
+
+		assertFalse(view.isDirect());
+		assertEquals(new VectorN(new float[] {1, 20, 30, 4}), vector, "The view of a vector on the heap doesn't share the elements!");
+		assertEquals(new VectorN(new float[] {20, 30}), view);
+
+		MatrixN matrix = new MatrixN(new float[] {1, 2, 3, 4}, 2, 2);
+		matrix.row(1).negate();
+		assertEquals(new MatrixN(new float[] {1, 2, -3, -4}, 2, 2), matrix, "The view of a matrix on the heap doesn't share the elements!");
+
+		MatrixN block = matrix.slice(0, 0, 2, 2);
+		VectorN first = matrix.row(0);
+		matrix.multiply(new MatrixN(new float[] {3, 0, 0, 3}, 2, 2));
+		assertEquals(3.0F, matrix.get(0, 0));
+		assertEquals(3.0F, block.get(0, 0), "The view doesn't share the elements after a multiplication!");
+		assertEquals(6.0F, first.get(1), "The view doesn't share the elements after a multiplication!");
+		block.set(1, 1, 7.0F);
+		assertEquals(7.0F, matrix.get(1, 1), "The view doesn't share the elements after a multiplication!");
+
+		// padded, so that the product is written with the stride of the matrix
+		MatrixN padded = new MatrixN(2, 2, 3);
+		padded.set(0, 0, 1.0F);
+		padded.set(0, 1, 2.0F);
+		padded.set(1, 0, 3.0F);
+		padded.set(1, 1, 4.0F);
+		VectorN second = padded.row(1);
+		padded.multiply(new MatrixN(new float[] {0, 1, 1, 0}, 2, 2), ForkJoinPool.commonPool());
+		assertEquals(new VectorN(new float[] {4, 3}), second, "The view doesn't share the elements after a parallel multiplication!");
+	}
+
+	/**
+	 * Tests that closing releases the memory and that every vector, matrix and view throws afterwards.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testClose() {
+
+		OffHeapMemory memory = new OffHeapMemory();
+		VectorN vector = memory.allocateVector(100);
+		MatrixN matrix = memory.allocateMatrix(10, 10, 12);
+		VectorN view = matrix.row(2);
+
+		assertEquals(400 + 480, memory.getAllocatedBytes());
+		assertFalse(memory.isClosed());
+
+		memory.close();
+		memory.close();
+
+		assertTrue(memory.isClosed());
+		assertEquals(0, memory.getAllocatedBytes());
+		assertThrows(IllegalStateException.class, () -> vector.get(0));
+		assertThrows(IllegalStateException.class, () -> vector.lengthSquared());
+		assertThrows(IllegalStateException.class, () -> view.set(0, 1.0F));
+		assertThrows(IllegalStateException.class, () -> matrix.multiply(matrix));
+		assertThrows(IllegalStateException.class, () -> matrix.slice(0, 0, 2, 2));
+		assertThrows(IllegalStateException.class, () -> memory.allocateVector(1));
+		assertThrows(IllegalArgumentException.class, () -> new OffHeapMemory().allocateVector(-1));
+	}
+
+	/**
+	 * Tests {@link VectorN#wrap(FloatBuffer)} and {@link MatrixN#wrap(FloatBuffer, int, int, int)}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testWrap() {
+
+		FloatBuffer buffer = FloatBuffer.wrap(new float[] {9, 1, 2, 3, 4, 5, 6});
+		buffer.position(1);
+		VectorN vector = VectorN.wrap(buffer);
+		MatrixN matrix = MatrixN.wrap(buffer, 2, 2, 3);
+
+		assertEquals(6, vector.size());
+		assertEquals(new VectorN(new float[] {1, 2, 3, 4, 5, 6}), vector);
+		assertEquals(new MatrixN(new float[] {1, 2, 4, 5}, 2, 2), matrix);
+
+		vector.set(3, -4.0F);
+		assertEquals(-4.0F, matrix.get(1, 0), "The views don't share the elements!");
+		assertEquals(-4.0F, buffer.get(4), "The views don't share the elements!");
+		assertThrows(IllegalArgumentException.class, () -> MatrixN.wrap(buffer, 2, 3, 3));
+		assertThrows(ReadOnlyBufferException.class, () -> VectorN.wrap(buffer.asReadOnlyBuffer()).set(0, 1.0F));
+		assertEquals(1.0F, VectorN.wrap(buffer.asReadOnlyBuffer()).get(0));
+	}
+}
@@ -0,0 +1,89 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.QuaternionArray;
+
+/**
+ * Tests the methods of the {@linkplain QuaternionArray} class against the ones of the {@linkplain Quaternion} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class QuaternionArrayTest {
+
+	private static final int SIZE = 37;
+
+	private static final QuaternionArray createRandomArray(long seed) {
+
+		Random random = new Random(seed);
+		QuaternionArray array = new QuaternionArray(SIZE);
+
+		for(int index = 0; index < SIZE; index++) {
+
+			array.set(index, QuaternionTest.createRandomRotation(random));
+		}
+
+		return array;
+	}
+
+	/**
+	 * Tests the constructors and the {@link QuaternionArray#get(int, Quaternion)} and {@link QuaternionArray#set(int, Quaternion)} methods.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testGetAndSet() {
+
+		QuaternionArray array = new QuaternionArray(2);
+		array.set(1, new Quaternion(1, 2, 3, 4));
+
+		assertEquals(2, array.size());
+		assertEquals(new Quaternion().identity(), array.get(0, new Quaternion(9, 9, 9, 9)));
+		assertEquals(new Quaternion(1, 2, 3, 4), array.get(1, new Quaternion()));
+		assertEquals(1.0F, array.normalize().get(1, new Quaternion()).length(), 1.0E-6F, "The method normalize() doesn't work!");
+		assertThrows(IllegalArgumentException.class, () -> new QuaternionArray(new float[1], new float[1], new float[2], new float[1]));
+
+		Quaternion before = array.get(1, new Quaternion());
+		assertThrows(IllegalArgumentException.class, () -> array.nlerp(new QuaternionArray(3), new float[3]));
+		assertThrows(IllegalArgumentException.class, () -> array.fastSlerp(new QuaternionArray(1), new float[2]));
+		assertThrows(IllegalArgumentException.class, () -> array.nlerp(new QuaternionArray(2), new float[1]));
+		assertEquals(before, array.get(1, new Quaternion()), "An interpolation changed the array before it failed!");
+	}
+
+	/**
+	 * Tests {@link QuaternionArray#nlerp(QuaternionArray, float[])} and {@link QuaternionArray#fastSlerp(QuaternionArray, float[])}
+	 * with a different factor for every element.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testInterpolation() {
+
+		QuaternionArray a = createRandomArray(1);
+		QuaternionArray b = createRandomArray(2);
+		float[] alpha = new float[SIZE];
+		Random random = new Random(3);
+
+		for(int index = 0; index < SIZE; index++) {
+
+			alpha[index] = random.nextFloat();
+		}
+
+		QuaternionArray nlerp = a.copy().nlerp(b, alpha);
+		QuaternionArray slerp = a.copy().fastSlerp(b, alpha);
+
+		for(int index = 0; index < SIZE; index++) {
+
+			Quaternion from = a.get(index, new Quaternion());
+			Quaternion to = b.get(index, new Quaternion());
+
+			assertEquals(from.copy().nlerp(to, alpha[index]), nlerp.get(index, new Quaternion()), "The method nlerp(QuaternionArray, float[]) doesn't work!");
+			assertEquals(from.copy().fastSlerp(to, alpha[index]), slerp.get(index, new Quaternion()), "The method fastSlerp(QuaternionArray, float[]) doesn't work!");
+		}
+	}
+}
@@ -1,6 +1,199 @@
 package de.ralleytn.simple.vecmath.tests;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.Matrix3;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Tests the methods of the {@linkplain Quaternion} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.0.0
+ */
 class QuaternionTest {
 
-	
+	private static final Quaternion[] createRotations() {
+
+		return new Quaternion[] {
+
+			new Quaternion().identity(),
+			new Quaternion().fromAxisAngle(new Vector4(1, 0, 0, 0.5F)),
+			new Quaternion().fromAxisAngle(new Vector4(1, 2, -0.5F, 2.5F)),
+			new Quaternion().fromAxisAngle(new Vector4(-3, 1, 4, -1.25F))
+		};
+	}
+
+	private static final void assertQuaternionEquals(Quaternion expected, Quaternion actual, float delta, String message) {
+
+		assertEquals(expected.x, actual.x, delta, message);
+		assertEquals(expected.y, actual.y, delta, message);
+		assertEquals(expected.z, actual.z, delta, message);
+		assertEquals(expected.w, actual.w, delta, message);
+	}
+
+	static final Quaternion createRandomRotation(Random random) {
+
+		return new Quaternion(random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1, random.nextFloat() * 2 - 1).normalize();
+	}
+
+	// exact slerp along the shorter way in double precision
+	static final double[] slerp(Quaternion a, Quaternion b, double alpha) {
+
+		double dot = a.x * (double)b.x + a.y * (double)b.y + a.z * (double)b.z + a.w * (double)b.w;
+		double sign = dot < 0.0 ? -1.0 : 1.0;
+		double theta = Math.acos(Math.min(1.0, Math.abs(dot)));
+		double weightA = theta < 1.0E-9 ? 1.0 - alpha : Math.sin((1.0 - alpha) * theta) / Math.sin(theta);
+		double weightB = (theta < 1.0E-9 ? alpha : Math.sin(alpha * theta) / Math.sin(theta)) * sign;
+
+		return new double[] {
+
+			weightA * a.x + weightB * b.x,
+			weightA * a.y + weightB * b.y,
+			weightA * a.z + weightB * b.z,
+			weightA * a.w + weightB * b.w
+		};
+	}
+
+	/**
+	 * Tests {@link Quaternion#transform(Vector3, Vector3)} and both batch transformations against the rotation matrix.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testTransform() {
+
+		Quaternion[] rotations = createRotations();
+		Vector3 vector = new Vector3(1, -2, 3);
+		float[] vectors = {1, -2, 3, 0.5F, 4, -1, 7, 0, 2, -3, -3, 1};
+		float[] packedRotations = new float[16];
+		float[] transformed = new float[12];
+
+		for(int index = 0; index < rotations.length; index++) {
+
+			Quaternion rotation = rotations[index];
+			Matrix4 matrix = new Matrix4().fromTranslationRotationScale(new Vector3(), rotation, new Vector3(1, 1, 1));
+			Vector4 expected = matrix.transform(new Vector4(vector.x, vector.y, vector.z, 0.0F));
+			Vector3 dest = new Vector3();
+
+			assertSame(dest, rotation.transform(vector, dest));
+			assertTrue(new Vector3(expected.x, expected.y, expected.z).epsilonEquals(dest, 1.0E-5F), "The method transform(Vector3, Vector3) doesn't work!");
+
+			float[] batch = vectors.clone();
+			rotation.transform(batch, 0, 3, batch, 0, 3, 4);
+
+			for(int vectorIndex = 0; vectorIndex < 4; vectorIndex++) {
+
+				Vector3 single = rotation.transform(new Vector3(vectors[vectorIndex * 3], vectors[vectorIndex * 3 + 1], vectors[vectorIndex * 3 + 2]), new Vector3());
+				assertEquals(single, new Vector3(batch[vectorIndex * 3], batch[vectorIndex * 3 + 1], batch[vectorIndex * 3 + 2]), "The method transform(float[], int, int, float[], int, int, int) doesn't work!");
+			}
+
+			System.arraycopy(rotation.toArray(), 0, packedRotations, index * 4, 4);
+		}
+
+		Quaternion.transform(packedRotations, 0, vectors, 0, transformed, 0, 4);
+
+		for(int index = 0; index < 4; index++) {
+
+			Vector3 single = rotations[index].transform(new Vector3(vectors[index * 3], vectors[index * 3 + 1], vectors[index * 3 + 2]), new Vector3());
+			assertEquals(single, new Vector3(transformed[index * 3], transformed[index * 3 + 1], transformed[index * 3 + 2]), "The method transform(float[], int, float[], int, float[], int, int) doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests {@link Quaternion#toMatrix3(Matrix3)}, {@link Quaternion#toMatrix4(Matrix4)} and both {@code toMatrices} methods.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testToMatrix() {
+
+		Quaternion[] rotations = createRotations();
+		float[] packedRotations = new float[16];
+		float[] translations = {1, 2, 3, -4, 5, -6, 0, 0, 0, 7, 8, 9};
+		float[] matrices = new float[64];
+		FloatBuffer buffer = FloatBuffer.allocate(65);
+
+		Matrix4 rotated = new Matrix4().rotate(0.5F, Axis.X);
+		Matrix4 converted = rotations[1].toMatrix4(new Matrix4());
+
+		for(int index = 0; index < 16; index++) {
+
+			assertEquals(rotated.toArray()[index], converted.toArray()[index], 1.0E-6F, "The method toMatrix4(Matrix4) doesn't work!");
+		}
+
+		assertEquals(Matrix4.PROPERTY_AFFINE | Matrix4.PROPERTY_ORTHONORMAL, converted.getProperties());
+
+		for(int index = 0; index < rotations.length; index++) {
+
+			Quaternion rotation = rotations[index];
+			Matrix4 matrix = rotation.toMatrix4(new Matrix4());
+
+			assertEquals(matrix.toMatrix3(), rotation.toMatrix3(new Matrix3()), "The method toMatrix3(Matrix3) doesn't work!");
+			System.arraycopy(rotation.toArray(), 0, packedRotations, index * 4, 4);
+		}
+
+		Quaternion.toMatrices(packedRotations, 0, translations, 0, matrices, 0, 4);
+		Quaternion.toMatrices(packedRotations, 0, translations, 0, buffer, 1, 4);
+
+		for(int index = 0; index < 4; index++) {
+
+			Vector3 translation = new Vector3(translations[index * 3], translations[index * 3 + 1], translations[index * 3 + 2]);
+			float[] expected = new Matrix4().fromTranslationRotationScale(translation, rotations[index], new Vector3(1, 1, 1)).toArray();
+
+			for(int element = 0; element < 16; element++) {
+
+				assertEquals(expected[element], matrices[index * 16 + element], "The method toMatrices(float[], int, float[], int, float[], int, int) doesn't work!");
+				assertEquals(expected[element], buffer.get(1 + index * 16 + element), "The method toMatrices(float[], int, float[], int, FloatBuffer, int, int) doesn't work!");
+			}
+		}
+
+		assertEquals(0, buffer.position(), "The position of the buffer was changed!");
+	}
+
+	/**
+	 * Tests {@link Quaternion#nlerp(Quaternion, float)} and the error bound of {@link Quaternion#fastSlerp(Quaternion, float)}.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testInterpolation() {
+
+		Quaternion a = new Quaternion().fromAxisAngle(new Vector4(0, 1, 0, 0.5F));
+		Quaternion b = new Quaternion().fromAxisAngle(new Vector4(0, 1, 0, 1.5F));
+		Quaternion expected = new Quaternion().fromAxisAngle(new Vector4(0, 1, 0, 1.0F));
+		Quaternion negated = b.copy().scale(-1.0F);
+
+		assertQuaternionEquals(expected, a.copy().nlerp(b, 0.5F), 1.0E-6F, "The method nlerp(Quaternion, float) doesn't work!");
+		assertQuaternionEquals(expected, a.copy().nlerp(negated, 0.5F), 1.0E-6F, "The method nlerp(Quaternion, float) doesn't take the shorter way!");
+		assertQuaternionEquals(expected, a.copy().fastSlerp(negated, 0.5F), 1.0E-6F, "The method fastSlerp(Quaternion, float) doesn't take the shorter way!");
+		assertEquals(a, a.copy().fastSlerp(b, 0.0F), "The method fastSlerp(Quaternion, float) doesn't start at this quaternion!");
+
+		Random random = new Random(1);
+		double maxError = 0.0;
+
+		for(int index = 0; index < 10_000; index++) {
+
+			Quaternion from = createRandomRotation(random);
+			Quaternion to = createRandomRotation(random);
+			float alpha = random.nextFloat();
+			double[] exact = slerp(from, to, alpha);
+			float[] actual = from.copy().fastSlerp(to, alpha).toArray();
+
+			for(int element = 0; element < 4; element++) {
+
+				maxError = Math.max(maxError, Math.abs(exact[element] - actual[element]));
+			}
+		}
+
+		assertTrue(maxError <= 4.0E-5, "The error of fastSlerp(Quaternion, float) is " + maxError + "!");
+	}
 }
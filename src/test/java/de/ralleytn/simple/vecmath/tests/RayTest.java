@@ -0,0 +1,108 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.AABB;
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Ray;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Tests the {@linkplain Ray} and {@linkplain AABB} classes.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class RayTest {
+
+	/**
+	 * Tests the intersection of rays with boxes, including rays that are parallel to the faces of the box.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testIntersectBox() {
+
+		AABB box = new AABB(new Vector3(-1, -1, -1), new Vector3(1, 1, 1));
+
+		assertEquals(4.0F, new Ray(new Vector3(0, 0, -5), new Vector3(0, 0, 1)).intersect(box), "The method intersect(AABB) doesn't work!");
+		assertEquals(2.0F, new Ray(new Vector3(0, 0, -5), new Vector3(0, 0, 2)).intersect(box));
+		assertEquals(0.0F, new Ray(new Vector3(0.5F, 0, 0), new Vector3(1, 0, 0)).intersect(box));
+		assertEquals(Float.POSITIVE_INFINITY, new Ray(new Vector3(0, 0, -5), new Vector3(0, 0, -1)).intersect(box));
+		assertEquals(Float.POSITIVE_INFINITY, new Ray(new Vector3(0, 2, -5), new Vector3(0, 0, 1)).intersect(box));
+
+		// origin on the plane of a face, direction parallel to it
+		assertEquals(4.0F, new Ray(new Vector3(1, 0, -5), new Vector3(0, 0, 1)).intersect(box));
+		assertEquals(Float.POSITIVE_INFINITY, new Ray(new Vector3(0, 0, -5), new Vector3(0, 0, 1)).intersect(new AABB()));
+	}
+
+	/**
+	 * Tests the intersection of rays with triangles.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testIntersectTriangle() {
+
+		Vector3 a = new Vector3(0, 0, 3);
+		Vector3 b = new Vector3(2, 0, 3);
+		Vector3 c = new Vector3(0, 2, 3);
+		Ray ray = new Ray(new Vector3(0.5F, 0.5F, 0), new Vector3(0, 0, 1));
+
+		assertEquals(3.0F, ray.intersect(a, b, c), "The method intersect(Vector3, Vector3, Vector3) doesn't work!");
+		assertEquals(3.0F, ray.intersect(a, c, b));
+		assertEquals(new Vector3(0.5F, 0.5F, 3.0F), ray.getPoint(3.0F, new Vector3()));
+
+		ray.origin.set(1.5F, 1.5F, 0);
+		assertEquals(Float.POSITIVE_INFINITY, ray.intersect(a, b, c));
+
+		ray.origin.set(0.5F, 0.5F, 4);
+		assertEquals(Float.POSITIVE_INFINITY, ray.intersect(a, b, c));
+
+		ray.direction.set(1, 0, 0);
+		assertEquals(Float.POSITIVE_INFINITY, ray.intersect(a, b, c));
+	}
+
+	/**
+	 * Tests that boxes grow, transform and test points and other boxes correctly.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testBox() {
+
+		AABB box = new AABB();
+		assertTrue(box.isEmpty());
+		assertEquals(0.0F, box.getSurfaceArea());
+
+		box.include(new Vector3(1, 2, 3)).include(new float[] {-1, 0, 0, 0, 0, 5}, 0, 2);
+		assertFalse(box.isEmpty());
+		assertEquals(new AABB(new Vector3(-1, 0, 0), new Vector3(1, 2, 5)), box);
+		assertEquals(2.0F * (2 * 2 + 2 * 5 + 5 * 2), box.getSurfaceArea());
+		assertEquals(new Vector3(0, 1, 2.5F), box.getCenter(new Vector3()));
+		assertEquals(new Vector3(2, 2, 5), box.getSize(new Vector3()));
+		assertTrue(box.contains(new Vector3(0, 2, 5)));
+		assertFalse(box.contains(new Vector3(0, 2.5F, 5)));
+		assertTrue(box.intersects(new AABB(new Vector3(1, 2, 5), new Vector3(3, 3, 6))));
+		assertFalse(box.intersects(new AABB(new Vector3(1.5F, 0, 0), new Vector3(3, 3, 6))));
+
+		Matrix4 matrix = new Matrix4().translate(new Vector3(10, 0, 0)).rotate((float)Math.toRadians(90), Axis.Z);
+		AABB transformed = box.copy().transform(matrix);
+		Vector3 corner = new Vector3();
+
+		// every transformed corner has to be inside of the transformed box
+		for(int index = 0; index < 8; index++) {
+
+			corner.set((index & 1) == 0 ? box.min.x : box.max.x, (index & 2) == 0 ? box.min.y : box.max.y, (index & 4) == 0 ? box.min.z : box.max.z);
+			float[] point = {corner.x, corner.y, corner.z};
+			matrix.transformPoints(point, 0, 3, point, 0, 3, 1);
+			corner.set(point[0], point[1], point[2]);
+			assertTrue(new AABB(transformed).include(corner).getSurfaceArea() <= transformed.getSurfaceArea() + 1e-4F, "The method transform(Matrix4) doesn't work!");
+		}
+
+		assertEquals(box.getSurfaceArea(), transformed.getSurfaceArea(), 1e-4F);
+		assertTrue(new AABB().transform(matrix).isEmpty());
+	}
+}
@@ -0,0 +1,248 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Axis;
+import de.ralleytn.simple.vecmath.DualQuaternion;
+import de.ralleytn.simple.vecmath.Matrix4;
+import de.ralleytn.simple.vecmath.Quaternion;
+import de.ralleytn.simple.vecmath.Skinning;
+import de.ralleytn.simple.vecmath.Skinning.Mode;
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector4;
+
+/**
+ * Tests the methods of the {@linkplain Skinning} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class SkinningTest {
+
+	private static final int BONES = 12;
+	private static final int INFLUENCES = 4;
+
+	private static final class Mesh {
+
+		private final float[] positions;
+		private final float[] normals;
+		private final int[] indices;
+		private final float[] weights;
+
+		private Mesh(int vertices, long seed) {
+
+			Random random = new Random(seed);
+			this.positions = new float[vertices * 3];
+			this.normals = new float[vertices * 3];
+			this.indices = new int[vertices * INFLUENCES];
+			this.weights = new float[vertices * INFLUENCES];
+
+			for(int index = 0; index < this.positions.length; index++) {
+
+				this.positions[index] = random.nextFloat() * 4 - 2;
+				this.normals[index] = random.nextFloat() * 2 - 1;
+			}
+
+			for(int vertex = 0; vertex < vertices; vertex++) {
+
+				float sum = 0.0F;
+
+				for(int influence = 0; influence < INFLUENCES; influence++) {
+
+					this.indices[vertex * INFLUENCES + influence] = random.nextInt(BONES);
+					this.weights[vertex * INFLUENCES + influence] = random.nextFloat();
+					sum += this.weights[vertex * INFLUENCES + influence];
+				}
+
+				for(int influence = 0; influence < INFLUENCES; influence++) {
+
+					this.weights[vertex * INFLUENCES + influence] /= sum;
+				}
+			}
+		}
+	}
+
+	private static final Matrix4[] createPalette(long seed) {
+
+		Random random = new Random(seed);
+		Matrix4[] palette = new Matrix4[BONES];
+
+		for(int bone = 0; bone < BONES; bone++) {
+
+			// small rotations like in a real skeleton, so that the hemisphere correction of the dual quaternions doesn't matter
+			Quaternion rotation = new Quaternion(random.nextFloat() * 0.4F - 0.2F, random.nextFloat() * 0.4F - 0.2F, random.nextFloat() * 0.4F - 0.2F, 1.0F).normalize();
+			palette[bone] = new Matrix4().fromTranslationRotationScale(new Vector3(random.nextFloat(), random.nextFloat(), random.nextFloat()), rotation, new Vector3(1, 1, 1));
+		}
+
+		return palette;
+	}
+
+	private static final float[] toArray(Matrix4[] palette) {
+
+		float[] array = new float[palette.length * 16];
+
+		for(int bone = 0; bone < palette.length; bone++) {
+
+			System.arraycopy(palette[bone].toArray(), 0, array, bone * 16, 16);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Tests the linear blend mode against the weighted sum of the vertex transformed by every bone.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testLinearBlend() {
+
+		Mesh mesh = new Mesh(100, 1);
+		Matrix4[] palette = createPalette(2);
+		Skinning skinning = new Skinning(mesh.positions, mesh.normals, mesh.indices, mesh.weights, INFLUENCES, BONES, Mode.LINEAR_BLEND);
+		float[] positions = new float[300];
+		float[] normals = new float[300];
+		skinning.skin(toArray(palette), 0, positions, normals);
+
+		Vector4 transformed = new Vector4();
+
+		for(int vertex = 0; vertex < 100; vertex++) {
+
+			Vector4 position = new Vector4(mesh.positions[vertex * 3], mesh.positions[vertex * 3 + 1], mesh.positions[vertex * 3 + 2], 1.0F);
+			Vector4 normal = new Vector4(mesh.normals[vertex * 3], mesh.normals[vertex * 3 + 1], mesh.normals[vertex * 3 + 2], 0.0F);
+			float[] expectedPosition = new float[3];
+			float[] expectedNormal = new float[3];
+
+			for(int influence = 0; influence < INFLUENCES; influence++) {
+
+				Matrix4 bone = palette[mesh.indices[vertex * INFLUENCES + influence]];
+				float weight = mesh.weights[vertex * INFLUENCES + influence];
+
+				bone.transform(position, transformed);
+				expectedPosition[0] += weight * transformed.x;
+				expectedPosition[1] += weight * transformed.y;
+				expectedPosition[2] += weight * transformed.z;
+
+				bone.transform(normal, transformed);
+				expectedNormal[0] += weight * transformed.x;
+				expectedNormal[1] += weight * transformed.y;
+				expectedNormal[2] += weight * transformed.z;
+			}
+
+			for(int element = 0; element < 3; element++) {
+
+				assertEquals(expectedPosition[element], positions[vertex * 3 + element], 1.0E-4F, "The positions are wrong!");
+				assertEquals(expectedNormal[element], normals[vertex * 3 + element], 1.0E-4F, "The normals are wrong!");
+			}
+		}
+
+		float[] fromMatrices = new float[300];
+		skinning.skin(palette, fromMatrices, null);
+		assertArrayEquals(positions, fromMatrices, "The method skin(Matrix4[], float[], float[]) doesn't work!");
+	}
+
+	/**
+	 * Tests the dual quaternion mode against {@linkplain DualQuaternion} and that it preserves the volume of a twisted joint.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testDualQuaternion() {
+
+		Mesh mesh = new Mesh(100, 3);
+		Matrix4[] palette = createPalette(4);
+		Skinning skinning = new Skinning(mesh.positions, mesh.normals, mesh.indices, mesh.weights, INFLUENCES, BONES, Mode.DUAL_QUATERNION);
+		float[] positions = new float[300];
+		float[] normals = new float[300];
+		skinning.skin(palette, positions, normals);
+
+		DualQuaternion[] bones = new DualQuaternion[BONES];
+
+		for(int bone = 0; bone < BONES; bone++) {
+
+			bones[bone] = new DualQuaternion().fromMatrix(palette[bone]);
+		}
+
+		for(int vertex = 0; vertex < 100; vertex++) {
+
+			DualQuaternion blended = new DualQuaternion();
+			blended.real.set(0, 0, 0, 0);
+
+			for(int influence = 0; influence < INFLUENCES; influence++) {
+
+				blended.blend(bones[mesh.indices[vertex * INFLUENCES + influence]], mesh.weights[vertex * INFLUENCES + influence]);
+			}
+
+			blended.normalize();
+			Vector3 position = blended.transform(new Vector3(mesh.positions[vertex * 3], mesh.positions[vertex * 3 + 1], mesh.positions[vertex * 3 + 2]), new Vector3());
+			Vector3 normal = blended.real.transform(new Vector3(mesh.normals[vertex * 3], mesh.normals[vertex * 3 + 1], mesh.normals[vertex * 3 + 2]), new Vector3());
+
+			assertArrayEquals(position.toArray(), new float[] {positions[vertex * 3], positions[vertex * 3 + 1], positions[vertex * 3 + 2]}, 1.0E-4F, "The positions are wrong!");
+			assertArrayEquals(normal.toArray(), new float[] {normals[vertex * 3], normals[vertex * 3 + 1], normals[vertex * 3 + 2]}, 1.0E-4F, "The normals are wrong!");
+		}
+
+		// a vertex on the surface of a joint between an unmoved bone and one that is twisted by 160 degrees
+		float[] twisted = new float[3];
+		Matrix4[] joint = {new Matrix4(), new Matrix4().rotate((float)Math.toRadians(160), Axis.X)};
+		Skinning twist = new Skinning(new float[] {0, 1, 0}, null, new int[] {0, 1}, new float[] {0.5F, 0.5F}, 2, 2, Mode.DUAL_QUATERNION);
+
+		twist.skin(joint, twisted, null);
+		assertEquals(1.0F, new Vector3(twisted[0], twisted[1], twisted[2]).length(), 1.0E-5F, "The dual quaternion mode doesn't preserve the volume!");
+
+		twist.setMode(Mode.LINEAR_BLEND);
+		twist.skin(joint, twisted, null);
+		assertTrue(new Vector3(twisted[0], twisted[1], twisted[2]).length() < 0.2F, "The joint doesn't collapse with linear blending!");
+	}
+
+	/**
+	 * Tests that the parallel variants calculate the same as the sequential ones.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testParallel() {
+
+		Mesh mesh = new Mesh(Skinning.PARALLEL_THRESHOLD * 3 + 17, 5);
+		float[] palette = toArray(createPalette(6));
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+
+			for(Mode mode : Mode.values()) {
+
+				Skinning skinning = new Skinning(mesh.positions, mesh.normals, mesh.indices, mesh.weights, INFLUENCES, BONES, mode);
+				float[] positions = new float[mesh.positions.length];
+				float[] normals = new float[mesh.normals.length];
+				float[] parallelPositions = new float[mesh.positions.length];
+				float[] parallelNormals = new float[mesh.normals.length];
+
+				skinning.skin(palette, 0, positions, normals);
+				skinning.skin(palette, 0, parallelPositions, parallelNormals, pool);
+
+				assertArrayEquals(positions, parallelPositions, "The parallel " + mode + " skinning doesn't work!");
+				assertArrayEquals(normals, parallelNormals, "The parallel " + mode + " skinning doesn't work!");
+			}
+
+		} finally {
+
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Tests the validation of the mesh.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testValidation() {
+
+		assertThrows(IllegalArgumentException.class, () -> new Skinning(new float[6], null, new int[2], new float[1], 1, 1, Mode.LINEAR_BLEND));
+		assertThrows(IllegalArgumentException.class, () -> new Skinning(new float[6], new float[3], new int[2], new float[2], 1, 1, Mode.LINEAR_BLEND));
+		assertThrows(IllegalArgumentException.class, () -> new Skinning(new float[3], null, new int[] {1}, new float[1], 1, 1, Mode.LINEAR_BLEND));
+	}
+}
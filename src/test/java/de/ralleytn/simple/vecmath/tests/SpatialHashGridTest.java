@@ -0,0 +1,220 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.SpatialHashGrid;
+import de.ralleytn.simple.vecmath.Vector2;
+import de.ralleytn.simple.vecmath.Vector3;
+
+/**
+ * Tests the queries of the {@linkplain SpatialHashGrid} class against brute force searches.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class SpatialHashGridTest {
+
+	private static final float[] createPoints(int count, int dimension, long seed) {
+
+		Random random = new Random(seed);
+		float[] points = new float[count * dimension];
+
+		for(int index = 0; index < points.length; index++) {
+
+			// rounded and partly negative, so that there are points on the borders of the cells
+			points[index] = Math.round(random.nextFloat() * 200.0F - 60.0F) * 0.5F;
+		}
+
+		return points;
+	}
+
+	private static final boolean[] bruteForce(float[] points, int offset, int count, int dimension, float[] query, float radius, int exclude) {
+
+		boolean[] inside = new boolean[count];
+
+		for(int index = 0; index < count; index++) {
+
+			float sum = 0.0F;
+
+			for(int axis = 0; axis < dimension; axis++) {
+
+				float delta = points[offset + index * dimension + axis] - query[axis];
+				sum += delta * delta;
+			}
+
+			inside[index] = index != exclude && sum <= radius * radius;
+		}
+
+		return inside;
+	}
+
+	private static final void reset(boolean[] found, int[] visits) {
+
+		Arrays.fill(found, false);
+		visits[0] = 0;
+	}
+
+	/**
+	 * Tests the queries of a two dimensional grid around positions and around its own points, with radii smaller and larger than a cell.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testQueries2() {
+
+		float[] points = createPoints(3001, 2, 1);
+		SpatialHashGrid grid = new SpatialHashGrid(4.0F, 2);
+		grid.rebuild(points, 2, 3000);
+		assertEquals(3000, grid.size());
+		Random random = new Random(2);
+		boolean[] actual = new boolean[3000];
+		int[] visits = new int[1];
+		float[] query = new float[2];
+		SpatialHashGrid.Visitor visitor = (index, distanceSquared) -> {
+
+			float dx = points[2 + index * 2] - query[0];
+			float dy = points[3 + index * 2] - query[1];
+			assertEquals(dx * dx + dy * dy, distanceSquared);
+			assertEquals(false, actual[index], "The point " + index + " was found twice!");
+			actual[index] = true;
+			visits[0]++;
+		};
+
+		for(int test = 0; test < 300; test++) {
+
+			float radius = new float[] {0.5F, 3.0F, 4.0F, 11.0F, 80.0F}[test % 5];
+			Vector2 point = new Vector2(random.nextFloat() * 120.0F - 40.0F, random.nextFloat() * 120.0F - 40.0F);
+			query[0] = point.x;
+			query[1] = point.y;
+			reset(actual, visits);
+			int found = grid.neighbors(point, radius, visitor);
+			boolean[] expected = bruteForce(points, 2, 3000, 2, query, radius, -1);
+			assertArrayEquals(expected, actual, "The method neighbors(Vector2, float, Visitor) doesn't work!");
+			assertEquals(visits[0], found);
+			assertEquals(found, grid.neighbors(point, radius, null));
+
+			int index = random.nextInt(3000);
+			query[0] = points[2 + index * 2];
+			query[1] = points[3 + index * 2];
+			reset(actual, visits);
+			found = grid.neighbors(index, radius, visitor);
+			assertArrayEquals(bruteForce(points, 2, 3000, 2, query, radius, index), actual, "The method neighbors(int, float, Visitor) doesn't work!");
+			assertEquals(visits[0], found);
+		}
+
+		assertThrows(IllegalStateException.class, () -> grid.neighbors(new Vector3(), 1.0F, null));
+		assertThrows(IndexOutOfBoundsException.class, () -> grid.neighbors(3000, 1.0F, null));
+		assertThrows(IllegalArgumentException.class, () -> grid.rebuild(points, 4, 3000));
+		assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(0.0F, 2));
+		assertThrows(IllegalArgumentException.class, () -> new SpatialHashGrid(1.0F, 4));
+	}
+
+	/**
+	 * Tests the queries of a three dimensional grid that is rebuilt with more and less points than before.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testRebuild3() {
+
+		SpatialHashGrid grid = new SpatialHashGrid(2.5F, 3);
+		Random random = new Random(3);
+		float[] query = new float[3];
+
+		for(int count : new int[] {500, 4000, 100, 0, 4000}) {
+
+			float[] points = createPoints(count, 3, count);
+			grid.rebuild(points, 0, count);
+			assertEquals(count, grid.size());
+
+			for(int test = 0; test < 100; test++) {
+
+				float radius = random.nextFloat() * 8.0F;
+				Vector3 point = new Vector3(random.nextFloat() * 100.0F - 30.0F, random.nextFloat() * 100.0F - 30.0F, random.nextFloat() * 100.0F - 30.0F);
+				query[0] = point.x;
+				query[1] = point.y;
+				query[2] = point.z;
+				boolean[] expected = bruteForce(points, 0, count, 3, query, radius, -1);
+				boolean[] actual = new boolean[count];
+				int found = grid.neighbors(point, radius, (index, distanceSquared) -> actual[index] = true);
+				assertArrayEquals(expected, actual, "The grid doesn't work after it was rebuilt with " + count + " points!");
+				int inside = 0;
+
+				for(boolean value : expected) {
+
+					inside += value ? 1 : 0;
+				}
+
+				assertEquals(inside, found);
+			}
+		}
+
+		assertThrows(IllegalStateException.class, () -> grid.neighbors(new Vector2(), 1.0F, null));
+	}
+
+	/**
+	 * Tests queries around points whose cells don't fit into an {@code int} and are therefore all in the same cell.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testHugeCoordinates() {
+
+		SpatialHashGrid grid = new SpatialHashGrid(1.0F, 2);
+		grid.rebuild(new float[] {3.0E9F, 0.0F, 3.0E9F, 0.5F, -3.0E9F, 0.0F, 3.0E9F, 5.0F}, 0, 4);
+
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+
+			assertEquals(2, grid.neighbors(new Vector2(3.0E9F, 0.0F), 1.0F, null));
+			assertEquals(1, grid.neighbors(new Vector2(-3.0E9F, 0.0F), 1.0F, null));
+			assertEquals(1, grid.neighbors(0, 1.0F, null));
+			assertEquals(0, grid.neighbors(new Vector2(0.0F, 0.0F), 1.0F, null));
+		}, "A query with cells that don't fit into an int doesn't terminate!");
+	}
+
+	/**
+	 * Tests that a grid that was rebuilt in parallel finds the same points in the same order as one that was rebuilt on the calling thread.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testParallel() {
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+
+			float[] points = createPoints(200000, 2, 4);
+			SpatialHashGrid sequential = new SpatialHashGrid(1.0F, 2);
+			SpatialHashGrid parallel = new SpatialHashGrid(1.0F, 2);
+			sequential.rebuild(points, 0, 200000);
+			parallel.rebuild(createPoints(1000, 2, 5), 0, 1000, pool);
+			parallel.rebuild(points, 0, 200000, pool);
+			Random random = new Random(6);
+			int[] expected = new int[1000];
+			int[] actual = new int[1000];
+			int[] counts = new int[2];
+
+			for(int test = 0; test < 200; test++) {
+
+				int index = random.nextInt(200000);
+				float radius = random.nextFloat() * 2.0F;
+				counts[0] = 0;
+				counts[1] = 0;
+				assertEquals(sequential.neighbors(index, radius, (neighbor, distanceSquared) -> expected[counts[0]++] = neighbor),
+							 parallel.neighbors(index, radius, (neighbor, distanceSquared) -> actual[counts[1]++] = neighbor));
+				assertArrayEquals(expected, actual, "The grid that was rebuilt in parallel doesn't work!");
+			}
+
+		} finally {
+
+			pool.shutdown();
+		}
+	}
+}
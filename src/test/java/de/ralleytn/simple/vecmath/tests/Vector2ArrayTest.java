@@ -0,0 +1,124 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Vector2;
+import de.ralleytn.simple.vecmath.Vector2Array;
+
+/**
+ * Tests the methods of the {@linkplain Vector2Array} class against the ones of the {@linkplain Vector2} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class Vector2ArrayTest {
+
+	private static final int SIZE = 37;
+
+	private static final Vector2Array createRandomArray(long seed) {
+
+		Random random = new Random(seed);
+		Vector2Array array = new Vector2Array(SIZE);
+
+		for(int index = 0; index < SIZE; index++) {
+
+			array.set(index, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Tests the constructors and the {@link Vector2Array#get(int, Vector2)} and {@link Vector2Array#set(int, Vector2)} methods.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testGetAndSet() {
+
+		Vector2Array array = new Vector2Array(2);
+		array.set(1, new Vector2(1, 2));
+
+		assertEquals(2, array.size());
+		assertEquals(new Vector2(), array.get(0, new Vector2(9, 9)));
+		assertEquals(new Vector2(1, 2), array.get(1, new Vector2()));
+		assertThrows(IllegalArgumentException.class, () -> new Vector2Array(new float[1], new float[2]));
+		assertThrows(IllegalArgumentException.class, () -> array.add(new Vector2Array(3)));
+		assertThrows(IllegalArgumentException.class, () -> array.subtract(new Vector2Array(1)));
+		assertThrows(IllegalArgumentException.class, () -> array.dot(new Vector2Array(3), new float[3]));
+		assertThrows(IllegalArgumentException.class, () -> array.cross(new Vector2Array(1), new float[2]));
+		assertThrows(IllegalArgumentException.class, () -> array.distance(new Vector2Array(1), new float[2]));
+		assertEquals(new Vector2(1, 2), array.get(1, new Vector2()), "An operation changed the array before it failed!");
+	}
+
+	/**
+	 * Tests the methods that manipulate the array.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testManipulation() {
+
+		Vector2Array a = createRandomArray(1);
+		Vector2Array b = createRandomArray(2);
+		Vector2 offset = new Vector2(1, -2);
+
+		Vector2Array sum = a.copy().add(b);
+		Vector2Array difference = a.copy().subtract(b);
+		Vector2Array scaled = a.copy().scale(0.5F);
+		Vector2Array normalized = a.copy().normalize();
+		Vector2Array translated = a.copy().add(offset);
+
+		Vector2 va = new Vector2();
+		Vector2 vb = new Vector2();
+		Vector2 result = new Vector2();
+
+		for(int index = 0; index < SIZE; index++) {
+
+			a.get(index, va);
+			b.get(index, vb);
+
+			assertEquals(va.copy().add(vb), sum.get(index, result), "The method add(Vector2Array) doesn't work!");
+			assertEquals(va.copy().subtract(vb), difference.get(index, result), "The method subtract(Vector2Array) doesn't work!");
+			assertEquals(va.copy().scale(0.5F), scaled.get(index, result), "The method scale(float) doesn't work!");
+			assertEquals(va.copy().add(offset), translated.get(index, result), "The method add(Vector2) doesn't work!");
+			assertTrue(va.copy().normalize().epsilonEquals(normalized.get(index, result), 0.000001F), "The method normalize() doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests the methods that write their results into a {@code float} array.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testReductions() {
+
+		Vector2Array a = createRandomArray(3);
+		Vector2Array b = createRandomArray(4);
+
+		float[] dot = a.dot(b, new float[SIZE]);
+		float[] cross = a.cross(b, new float[SIZE]);
+		float[] lengthSquared = a.lengthSquared(new float[SIZE]);
+		float[] distance = a.distance(b, new float[SIZE]);
+		float[] distanceSquared = a.distanceSquared(b, new float[SIZE]);
+
+		Vector2 va = new Vector2();
+		Vector2 vb = new Vector2();
+
+		for(int index = 0; index < SIZE; index++) {
+
+			a.get(index, va);
+			b.get(index, vb);
+
+			assertEquals(va.dot(vb), dot[index], "The method dot(Vector2Array, float[]) doesn't work!");
+			assertEquals(va.cross(vb), cross[index], "The method cross(Vector2Array, float[]) doesn't work!");
+			assertEquals(va.lengthSquared(), lengthSquared[index], "The method lengthSquared(float[]) doesn't work!");
+			assertEquals(va.distance(vb), distance[index], 0.0001F, "The method distance(Vector2Array, float[]) doesn't work!");
+			assertEquals(va.distanceSquared(vb), distanceSquared[index], 0.01F, "The method distanceSquared(Vector2Array, float[]) doesn't work!");
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Vector3;
+import de.ralleytn.simple.vecmath.Vector3Array;
+
+/**
+ * Tests the methods of the {@linkplain Vector3Array} class against the ones of the {@linkplain Vector3} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class Vector3ArrayTest {
+
+	private static final int SIZE = 37;
+
+	private static final Vector3Array createRandomArray(long seed) {
+
+		Random random = new Random(seed);
+		Vector3Array array = new Vector3Array(SIZE);
+
+		for(int index = 0; index < SIZE; index++) {
+
+			array.set(index, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Tests the constructors and the {@link Vector3Array#get(int, Vector3)} and {@link Vector3Array#set(int, Vector3)} methods.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testGetAndSet() {
+
+		Vector3Array array = new Vector3Array(2);
+		array.set(1, new Vector3(1, 2, 3));
+
+		assertEquals(2, array.size());
+		assertEquals(new Vector3(), array.get(0, new Vector3(9, 9, 9)));
+		assertEquals(new Vector3(1, 2, 3), array.get(1, new Vector3()));
+		assertThrows(IllegalArgumentException.class, () -> new Vector3Array(new float[1], new float[2], new float[1]));
+		assertThrows(IllegalArgumentException.class, () -> array.add(new Vector3Array(3)));
+		assertThrows(IllegalArgumentException.class, () -> array.subtract(new Vector3Array(1)));
+		assertThrows(IllegalArgumentException.class, () -> array.cross(new Vector3Array(1)));
+		assertThrows(IllegalArgumentException.class, () -> array.dot(new Vector3Array(3), new float[3]));
+		assertThrows(IllegalArgumentException.class, () -> array.distance(new Vector3Array(1), new float[2]));
+		assertEquals(new Vector3(1, 2, 3), array.get(1, new Vector3()), "An operation changed the array before it failed!");
+	}
+
+	/**
+	 * Tests the methods that manipulate the array.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testManipulation() {
+
+		Vector3Array a = createRandomArray(1);
+		Vector3Array b = createRandomArray(2);
+		Vector3 offset = new Vector3(1, -2, 3);
+
+		Vector3Array sum = a.copy().add(b);
+		Vector3Array difference = a.copy().subtract(b);
+		Vector3Array scaled = a.copy().scale(0.5F);
+		Vector3Array cross = a.copy().cross(b);
+		Vector3Array normalized = a.copy().normalize();
+		Vector3Array translated = a.copy().add(offset);
+
+		Vector3 va = new Vector3();
+		Vector3 vb = new Vector3();
+		Vector3 result = new Vector3();
+
+		for(int index = 0; index < SIZE; index++) {
+
+			a.get(index, va);
+			b.get(index, vb);
+
+			assertEquals(va.copy().add(vb), sum.get(index, result), "The method add(Vector3Array) doesn't work!");
+			assertEquals(va.copy().subtract(vb), difference.get(index, result), "The method subtract(Vector3Array) doesn't work!");
+			assertEquals(va.copy().scale(0.5F), scaled.get(index, result), "The method scale(float) doesn't work!");
+			assertEquals(va.copy().cross(vb), cross.get(index, result), "The method cross(Vector3Array) doesn't work!");
+			assertEquals(va.copy().add(offset), translated.get(index, result), "The method add(Vector3) doesn't work!");
+			assertTrue(va.copy().normalize().epsilonEquals(normalized.get(index, result), 0.000001F), "The method normalize() doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests the methods that manipulate the array with the array itself as the argument.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSelf() {
+
+		Vector3Array a = createRandomArray(5);
+		Vector3Array cross = a.copy();
+		Vector3Array sum = a.copy();
+		Vector3Array difference = a.copy();
+		cross.cross(cross);
+		sum.add(sum);
+		difference.subtract(difference);
+
+		Vector3 va = new Vector3();
+		Vector3 result = new Vector3();
+
+		for(int index = 0; index < SIZE; index++) {
+
+			a.get(index, va);
+
+			assertEquals(new Vector3(), cross.get(index, result), "The method cross(Vector3Array) doesn't work with itself!");
+			assertEquals(va.copy().add(va), sum.get(index, result), "The method add(Vector3Array) doesn't work with itself!");
+			assertEquals(new Vector3(), difference.get(index, result), "The method subtract(Vector3Array) doesn't work with itself!");
+		}
+	}
+
+	/**
+	 * Tests the methods that write their results into a {@code float} array.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testReductions() {
+
+		Vector3Array a = createRandomArray(3);
+		Vector3Array b = createRandomArray(4);
+
+		float[] dot = a.dot(b, new float[SIZE]);
+		float[] lengthSquared = a.lengthSquared(new float[SIZE]);
+		float[] distance = a.distance(b, new float[SIZE]);
+		float[] distanceSquared = a.distanceSquared(b, new float[SIZE]);
+
+		Vector3 va = new Vector3();
+		Vector3 vb = new Vector3();
+
+		for(int index = 0; index < SIZE; index++) {
+
+			a.get(index, va);
+			b.get(index, vb);
+
+			assertEquals(va.dot(vb), dot[index], "The method dot(Vector3Array, float[]) doesn't work!");
+			assertEquals(va.lengthSquared(), lengthSquared[index], "The method lengthSquared(float[]) doesn't work!");
+			assertEquals(va.distance(vb), distance[index], 0.0001F, "The method distance(Vector3Array, float[]) doesn't work!");
+			assertEquals(va.distanceSquared(vb), distanceSquared[index], 0.01F, "The method distanceSquared(Vector3Array, float[]) doesn't work!");
+		}
+	}
+}
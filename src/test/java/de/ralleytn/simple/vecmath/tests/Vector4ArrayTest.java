@@ -0,0 +1,121 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.Vector4;
+import de.ralleytn.simple.vecmath.Vector4Array;
+
+/**
+ * Tests the methods of the {@linkplain Vector4Array} class against the ones of the {@linkplain Vector4} class.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class Vector4ArrayTest {
+
+	private static final int SIZE = 37;
+
+	private static final Vector4Array createRandomArray(long seed) {
+
+		Random random = new Random(seed);
+		Vector4Array array = new Vector4Array(SIZE);
+
+		for(int index = 0; index < SIZE; index++) {
+
+			array.set(index, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Tests the constructors and the {@link Vector4Array#get(int, Vector4)} and {@link Vector4Array#set(int, Vector4)} methods.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testGetAndSet() {
+
+		Vector4Array array = new Vector4Array(2);
+		array.set(1, new Vector4(1, 2, 3, 4));
+
+		assertEquals(2, array.size());
+		assertEquals(new Vector4(), array.get(0, new Vector4(9, 9, 9, 9)));
+		assertEquals(new Vector4(1, 2, 3, 4), array.get(1, new Vector4()));
+		assertThrows(IllegalArgumentException.class, () -> new Vector4Array(new float[1], new float[1], new float[2], new float[1]));
+		assertThrows(IllegalArgumentException.class, () -> array.add(new Vector4Array(3)));
+		assertThrows(IllegalArgumentException.class, () -> array.subtract(new Vector4Array(1)));
+		assertThrows(IllegalArgumentException.class, () -> array.dot(new Vector4Array(3), new float[3]));
+		assertThrows(IllegalArgumentException.class, () -> array.distance(new Vector4Array(1), new float[2]));
+		assertEquals(new Vector4(1, 2, 3, 4), array.get(1, new Vector4()), "An operation changed the array before it failed!");
+	}
+
+	/**
+	 * Tests the methods that manipulate the array.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testManipulation() {
+
+		Vector4Array a = createRandomArray(1);
+		Vector4Array b = createRandomArray(2);
+		Vector4 offset = new Vector4(1, -2, 3, -4);
+
+		Vector4Array sum = a.copy().add(b);
+		Vector4Array difference = a.copy().subtract(b);
+		Vector4Array scaled = a.copy().scale(0.5F);
+		Vector4Array normalized = a.copy().normalize();
+		Vector4Array translated = a.copy().add(offset);
+
+		Vector4 va = new Vector4();
+		Vector4 vb = new Vector4();
+		Vector4 result = new Vector4();
+
+		for(int index = 0; index < SIZE; index++) {
+
+			a.get(index, va);
+			b.get(index, vb);
+
+			assertEquals(va.copy().add(vb), sum.get(index, result), "The method add(Vector4Array) doesn't work!");
+			assertEquals(va.copy().subtract(vb), difference.get(index, result), "The method subtract(Vector4Array) doesn't work!");
+			assertEquals(va.copy().scale(0.5F), scaled.get(index, result), "The method scale(float) doesn't work!");
+			assertEquals(va.copy().add(offset), translated.get(index, result), "The method add(Vector4) doesn't work!");
+			assertTrue(va.copy().normalize().epsilonEquals(normalized.get(index, result), 0.000001F), "The method normalize() doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests the methods that write their results into a {@code float} array.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testReductions() {
+
+		Vector4Array a = createRandomArray(3);
+		Vector4Array b = createRandomArray(4);
+
+		float[] dot = a.dot(b, new float[SIZE]);
+		float[] lengthSquared = a.lengthSquared(new float[SIZE]);
+		float[] distance = a.distance(b, new float[SIZE]);
+		float[] distanceSquared = a.distanceSquared(b, new float[SIZE]);
+
+		Vector4 va = new Vector4();
+		Vector4 vb = new Vector4();
+
+		for(int index = 0; index < SIZE; index++) {
+
+			a.get(index, va);
+			b.get(index, vb);
+
+			assertEquals(va.dot(vb), dot[index], "The method dot(Vector4Array, float[]) doesn't work!");
+			assertEquals(va.lengthSquared(), lengthSquared[index], "The method lengthSquared(float[]) doesn't work!");
+			assertEquals(va.distance(vb), distance[index], 0.0001F, "The method distance(Vector4Array, float[]) doesn't work!");
+			assertEquals(va.distanceSquared(vb), distanceSquared[index], 0.01F, "The method distanceSquared(Vector4Array, float[]) doesn't work!");
+		}
+	}
+}
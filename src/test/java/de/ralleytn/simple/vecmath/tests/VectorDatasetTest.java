@@ -0,0 +1,192 @@
+package de.ralleytn.simple.vecmath.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.MatrixN;
+import de.ralleytn.simple.vecmath.VectorDataset;
+import de.ralleytn.simple.vecmath.VectorDatasetWriter;
+import de.ralleytn.simple.vecmath.VectorN;
+
+/**
+ * Tests the {@linkplain VectorDataset} and {@linkplain VectorDatasetWriter} classes.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.1.0
+ */
+class VectorDatasetTest {
+
+	private static final int DIMENSION = 7;
+	private static final int COUNT = 1000;
+
+	private static final float element(int vector, int index) {
+
+		return vector * 0.5F - index;
+	}
+
+	private static final Path write() throws IOException {
+
+		Path path = Files.createTempFile("dataset", ".svmd");
+
+		try(VectorDatasetWriter writer = new VectorDatasetWriter(path, DIMENSION)) {
+
+			float[] packed = new float[DIMENSION * 10];
+
+			for(int vector = 0; vector < COUNT; vector += 10) {
+
+				for(int index = 0; index < packed.length; index++) {
+
+					packed[index] = element(vector + index / DIMENSION, index % DIMENSION);
+				}
+
+				// half of the vectors as VectorN, the other half packed in an array
+				if(vector % 20 == 0) {
+
+					for(int offset = 0; offset < 10; offset++) {
+
+						writer.write(new VectorN(packed, DIMENSION, offset * DIMENSION));
+					}
+
+				} else {
+
+					writer.write(packed, 0, 10);
+				}
+			}
+
+			assertEquals(COUNT, writer.size());
+		}
+
+		return path;
+	}
+
+	/**
+	 * Tests that the vectors are read back from the file with views and chunks.
+	 * @throws IOException if the file cannot be written or read
+	 * @since 1.1.0
+	 */
+	@Test
+	void testReadWrite() throws IOException {
+
+		Path path = write();
+
+		try {
+
+			assertEquals(VectorDataset.HEADER_SIZE + COUNT * DIMENSION * 4, Files.size(path));
+
+			// 64 vectors per chunk, so the last chunk is smaller than the others
+			try(VectorDataset dataset = VectorDataset.open(path, 64 * DIMENSION * 4 + 5)) {
+
+				assertEquals(DIMENSION, dataset.getDimension());
+				assertEquals(COUNT, dataset.size());
+				assertEquals(64, dataset.getVectorsPerChunk());
+				assertEquals(16, dataset.getChunkCount());
+
+				for(int vector = 0; vector < COUNT; vector++) {
+
+					VectorN view = dataset.get(vector);
+					assertEquals(DIMENSION, view.size());
+
+					for(int index = 0; index < DIMENSION; index++) {
+
+						assertEquals(element(vector, index), view.get(index), "The vector " + vector + " was not read correctly!");
+					}
+				}
+
+				MatrixN last = dataset.getChunk(15);
+				assertEquals(COUNT - 15 * 64, last.getHeight());
+				assertEquals(DIMENSION, last.getWidth());
+				assertEquals(dataset.get(999), last.row(last.getHeight() - 1));
+				assertEquals(dataset.get(70).dot(dataset.get(3)), dataset.getChunk(1).transform(dataset.get(3)).get(6));
+
+				assertThrows(ReadOnlyBufferException.class, () -> dataset.get(0).scale(2.0F));
+				assertThrows(IndexOutOfBoundsException.class, () -> dataset.get(COUNT));
+				assertThrows(IndexOutOfBoundsException.class, () -> dataset.get(-1));
+
+				VectorN view = dataset.get(5);
+				dataset.close();
+				assertThrows(IllegalStateException.class, () -> view.get(0));
+				assertThrows(IllegalStateException.class, () -> dataset.get(5));
+			}
+
+			try(VectorDataset dataset = VectorDataset.open(path)) {
+
+				assertEquals(1, dataset.getChunkCount());
+				assertEquals(element(321, 4), dataset.get(321).get(4));
+			}
+
+		} finally {
+
+			Files.delete(path);
+		}
+	}
+
+	/**
+	 * Tests that files which are not datasets, are truncated or were not closed by their writer are rejected.
+	 * @throws IOException if the file cannot be written
+	 * @since 1.1.0
+	 */
+	@Test
+	void testInvalid() throws IOException {
+
+		Path path = write();
+
+		try {
+
+			try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+
+				channel.truncate(VectorDataset.HEADER_SIZE + 999 * DIMENSION * 4);
+			}
+
+			assertThrows(IOException.class, () -> VectorDataset.open(path));
+
+			try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+
+				channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 42), 0);
+			}
+
+			assertThrows(IOException.class, () -> VectorDataset.open(path));
+
+			Files.write(path, new byte[] {'S', 'V', 'M', 'D'});
+			assertThrows(IOException.class, () -> VectorDataset.open(path));
+
+			try(VectorDatasetWriter writer = new VectorDatasetWriter(path, 3)) {
+
+				assertThrows(IllegalArgumentException.class, () -> writer.write(new VectorN(4)));
+			}
+
+			// more vectors than fit into the buffer of the writer, so the header is already in the file
+			VectorDatasetWriter unclosed = new VectorDatasetWriter(path, DIMENSION);
+
+			try {
+
+				unclosed.write(new float[20000 * DIMENSION], 0, 20000);
+				assertEquals(true, Files.size(path) > VectorDataset.HEADER_SIZE);
+				assertThrows(IOException.class, () -> VectorDataset.open(path));
+
+			} finally {
+
+				unclosed.close();
+			}
+
+			try(VectorDataset dataset = VectorDataset.open(path)) {
+
+				assertEquals(20000, dataset.size());
+			}
+
+		} finally {
+
+			Files.delete(path);
+		}
+	}
+}
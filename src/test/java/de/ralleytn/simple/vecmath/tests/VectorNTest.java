@@ -1,6 +1,116 @@
 package de.ralleytn.simple.vecmath.tests;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.ralleytn.simple.vecmath.VectorN;
+import de.ralleytn.simple.vecmath.internal.FloatKernels;
+
+/**
+ * Tests the methods of the {@linkplain VectorN} class.
+ * Sizes that are not a multiple of any vector width are used so that the tail loops are covered.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 1.1.0
+ * @since 1.0.0
+ */
 class VectorNTest {
 
-	
+	private static final int SIZE = 771;
+
+	private static final float[] createRandomData(long seed) {
+
+		Random random = new Random(seed);
+		float[] data = new float[SIZE];
+
+		for(int index = 0; index < SIZE; index++) {
+
+			data[index] = random.nextFloat() * 2.0F - 1.0F;
+		}
+
+		return data;
+	}
+
+	/**
+	 * Tests that the expected kernels are used. The Java 17 build runs this class a second time with the vector API
+	 * and sets the system property {@code de.ralleytn.simple.vecmath.expectSimd}, so that it cannot fall back to the scalar kernels unnoticed.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testKernels() {
+
+		assertEquals(Boolean.getBoolean("de.ralleytn.simple.vecmath.expectSimd"), FloatKernels.isSimd(), "The wrong kernels are used!");
+	}
+
+	/**
+	 * Tests the element wise operations.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testElementWise() {
+
+		float[] a = createRandomData(1);
+		float[] b = createRandomData(2);
+
+		VectorN scaled = new VectorN(a).scale(3.0F);
+		VectorN absolute = new VectorN(a).absolute();
+		VectorN clampedMin = new VectorN(a).clampMin(-0.25F);
+		VectorN clampedMax = new VectorN(a).clampMax(0.25F);
+		VectorN sum = new VectorN(a).add(new VectorN(b));
+		VectorN difference = new VectorN(a).subtract(new VectorN(b));
+		VectorN axpy = new VectorN(a).axpy(0.5F, new VectorN(b));
+
+		for(int index = 0; index < SIZE; index++) {
+
+			assertEquals(a[index] * 3.0F, scaled.get(index), "The method scale(float) doesn't work!");
+			assertEquals(Math.abs(a[index]), absolute.get(index), "The method absolute() doesn't work!");
+			assertEquals(Math.max(a[index], -0.25F), clampedMin.get(index), "The method clampMin(float) doesn't work!");
+			assertEquals(Math.min(a[index], 0.25F), clampedMax.get(index), "The method clampMax(float) doesn't work!");
+			assertEquals(a[index] + b[index], sum.get(index), "The method add(VectorN) doesn't work!");
+			assertEquals(a[index] - b[index], difference.get(index), "The method subtract(VectorN) doesn't work!");
+			assertEquals(a[index] + 0.5F * b[index], axpy.get(index), 1.0E-6F, "The method axpy(float, VectorN) doesn't work!");
+		}
+	}
+
+	/**
+	 * Tests the methods that reduce a vector to a single value.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testReductions() {
+
+		float[] a = createRandomData(3);
+		float[] b = createRandomData(4);
+		double lengthSquared = 0.0;
+		double dot = 0.0;
+
+		for(int index = 0; index < SIZE; index++) {
+
+			lengthSquared += a[index] * (double)a[index];
+			dot += a[index] * (double)b[index];
+		}
+
+		assertEquals(lengthSquared, new VectorN(a).lengthSquared(), 1.0E-3, "The method lengthSquared() doesn't work!");
+		assertEquals(dot, new VectorN(a).dot(new VectorN(b)), 1.0E-3, "The method dot(VectorN) doesn't work!");
+		assertEquals(0.0F, new VectorN(0).lengthSquared(), "The method lengthSquared() doesn't work for empty vectors!");
+	}
+
+	/**
+	 * Tests that vectors of different sizes are rejected.
+	 * @since 1.1.0
+	 */
+	@Test
+	void testSizeMismatch() {
+
+		VectorN a = new VectorN(4);
+		VectorN b = new VectorN(5);
+
+		assertThrows(IllegalArgumentException.class, () -> a.dot(b));
+		assertThrows(IllegalArgumentException.class, () -> a.add(b));
+		assertThrows(IllegalArgumentException.class, () -> a.subtract(b));
+		assertThrows(IllegalArgumentException.class, () -> a.axpy(1.0F, b));
+	}
 }